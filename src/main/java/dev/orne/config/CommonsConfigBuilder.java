@@ -47,6 +47,20 @@ extends MutableCapableConfigBuilder<CommonsConfigBuilder, CommonsMutableConfigBu
     CommonsConfigBuilder ofDelegate(
             ImmutableConfiguration delegate);
 
+    /**
+     * Sets this configuration to cache the property keys and resolved
+     * values of the delegated configuration in a snapshot.
+     * <p>
+     * The resulting configuration is a {@link WatchableConfig}. If the
+     * delegated configuration is an {@code EventSource} the snapshot is
+     * updated from the configuration events. Otherwise it is only rebuilt
+     * through {@link CommonsSnapshotConfig#refresh()}.
+     * 
+     * @return Next builder, for method chaining.
+     * @since 1.2
+     */
+    CommonsSnapshotConfigBuilder withSnapshot();
+
     /**
      * {@inheritDoc}
      */
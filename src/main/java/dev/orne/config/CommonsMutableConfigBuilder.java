@@ -48,6 +48,21 @@ extends MutableConfigBuilder<CommonsMutableConfigBuilder> {
     CommonsMutableConfigBuilder ofDelegate(
             Configuration delegate);
 
+    /**
+     * Sets this configuration to cache the property keys and resolved
+     * values of the delegated configuration in a snapshot.
+     * <p>
+     * If the delegated configuration is an {@code EventSource} the snapshot
+     * is updated from the configuration events, including changes made
+     * directly in the delegated configuration. Otherwise it is only updated
+     * on changes made through the resulting configuration and rebuilt
+     * through {@link CommonsSnapshotConfig#refresh()}.
+     * 
+     * @return Next builder, for method chaining.
+     * @since 1.2
+     */
+    CommonsMutableSnapshotConfigBuilder withSnapshot();
+
     /**
      * {@inheritDoc}
      */
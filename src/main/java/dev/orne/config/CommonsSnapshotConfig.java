@@ -0,0 +1,54 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+
+/**
+ * Apache Commons {@code Configuration} based configuration that caches the
+ * property keys and resolved values of the delegated configuration in a
+ * snapshot.
+ * <p>
+ * If the delegated configuration is an {@code EventSource} the snapshot
+ * is updated per property from the configuration events, and rebuilt on
+ * configuration clear and reloading events. The snapshot can be rebuilt
+ * explicitly through {@link #refresh()}. The registered listeners are
+ * notified of the modified properties.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see CommonsConfigBuilder#withSnapshot()
+ * @see CommonsMutableConfigBuilder#withSnapshot()
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface CommonsSnapshotConfig
+extends WatchableConfig {
+
+    /**
+     * Rebuilds the snapshot from the current properties of the delegated
+     * Apache Commons configuration, notifying the registered listeners of
+     * the properties which values changed.
+     */
+    void refresh();
+}
@@ -22,6 +22,13 @@ package dev.orne.config;
  * #L%
  */
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -31,6 +38,8 @@ import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.impl.CommonsConfigBuilderImpl;
+import dev.orne.config.impl.ConfigKeyIndex;
+import dev.orne.config.impl.ConfigMapping;
 import dev.orne.config.impl.ConfigSubtype;
 import dev.orne.config.impl.ConfigSubset;
 import dev.orne.config.impl.EnvironmentConfigBuilderImpl;
@@ -159,6 +168,33 @@ public interface Config {
         }
     }
 
+    /**
+     * Creates a configuration mapping of the specified interface.
+     * <p>
+     * The abstract methods of the mapping interface must be annotated with
+     * {@code Key}, have no parameters and return a type supported by the
+     * default value converters. Their values are converted on first access
+     * and cached. Cached values of {@code WatchableConfig} instances are
+     * discarded when the mapped configuration keys change. Mutable
+     * configurations that do not notify changes are read on each call.
+     * Default methods are invoked directly on the interface.
+     * 
+     * @param <T> The mapping interface type.
+     * @param config The mapped configuration instance.
+     * @param type The mapping interface.
+     * @return The configuration mapping instance.
+     * @throws ConfigException If the interface is not a valid mapping
+     * interface.
+     * @see Key
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    static <T> T map(
+            final Config config,
+            final Class<T> type) {
+        return ConfigMapping.create(config, type);
+    }
+
     /**
      * Returns the parent configuration, if any.
      * 
@@ -235,6 +271,133 @@ public interface Config {
         return getKeys(key -> key.startsWith(prefix));
     }
 
+    /**
+     * Returns up to {@code limit} configuration property keys contained in
+     * this configuration, in ascending order, starting after the specified
+     * key.
+     * <p>
+     * Allows paging through the configuration property keys, passing the
+     * last key of each range as {@code after} argument to retrieve the next
+     * range.
+     * <p>
+     * The default implementation traverses all the keys returned by
+     * {@link #getKeys()}, keeping only the requested range in memory.
+     * 
+     * @param after The last key of the previous range, or {@code null} to
+     * start with the first key.
+     * @param limit The maximum number of keys to return.
+     * @return The range of configuration property keys.
+     * @throws IllegalArgumentException If the limit is negative.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default Stream<String> getKeys(
+            final @Nullable String after,
+            final int limit) {
+        return ConfigKeyIndex.extractKeys(getKeys(), after, limit);
+    }
+
+    /**
+     * Returns the names of the direct children of the specified key prefix,
+     * this is, the distinct first segments of the configuration property
+     * keys that start with the prefix, up to the next {@code .} separator.
+     * <p>
+     * For example, if the configuration contains the keys
+     * {@code services.a.host}, {@code services.a.port} and
+     * {@code services.b.host} the child names of prefix {@code services.}
+     * are {@code a} and {@code b}.
+     * <p>
+     * The default implementation traverses the keys returned by
+     * {@link #getKeys(String)}. Implementations with hierarchical storage
+     * or with property keys indexes can resolve the child names directly.
+     * 
+     * @param prefix The key prefix, including the trailing separator, or
+     * an empty string for the root properties.
+     * @return The names of the direct children of the prefix.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default Stream<String> getChildNames(
+            final String prefix) {
+        return ConfigKeyIndex.extractChildNames(
+                getKeys(prefix),
+                prefix,
+                ConfigKeyIndex.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * Returns {@code true} if the configuration contains property keys
+     * starting with the specified key prefix, other than the prefix itself.
+     * 
+     * @param prefix The key prefix, including the trailing separator.
+     * @return If the key prefix has children.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default boolean hasChildren(
+            final String prefix) {
+        Objects.requireNonNull(prefix);
+        try (Stream<String> keys = getKeys(prefix)) {
+            return keys.anyMatch(key -> key.length() > prefix.length());
+        }
+    }
+
+    /**
+     * Returns the configuration properties contained in this configuration
+     * as key/value pairs.
+     * <p>
+     * Each property is returned once, with the same value returned by
+     * {@link #get(String)}. Properties without value are not returned.
+     * <p>
+     * The default implementation retrieves the value of each key returned
+     * by {@link #getKeys()}. Implementations can override this method to
+     * retrieve the keys and values in a single traversal of the
+     * configuration.
+     * 
+     * @return The configuration property entries.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default Stream<Map.Entry<String, String>> getEntries() {
+        return getKeys()
+                .distinct()
+                .<Map.Entry<String, String>>map(key ->
+                    new AbstractMap.SimpleImmutableEntry<>(key, get(key)))
+                .filter(entry -> entry.getValue() != null);
+    }
+
+    /**
+     * Performs the specified action for each configuration property
+     * contained in this configuration, as returned by
+     * {@link #getEntries()}.
+     * 
+     * @param action The action to perform for each property key and value.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default void forEach(
+            final BiConsumer<? super String, ? super String> action) {
+        Objects.requireNonNull(action);
+        try (Stream<Map.Entry<String, String>> entries = getEntries()) {
+            entries.forEach(entry -> action.accept(entry.getKey(), entry.getValue()));
+        }
+    }
+
     /**
      * Returns the value of the configuration parameter as {@code String}.
      * 
@@ -439,6 +602,205 @@ public interface Config {
         return ObjectUtils.getFirstNonNull(() -> getLong(key), defaultValue);
     }
 
+    /**
+     * Returns the value of the configuration property converted to the
+     * specified type.
+     * <p>
+     * The value is converted with the converter of the type in the default
+     * {@code ValueConverterRegistry}. Primitive types are returned as their
+     * wrapper values.
+     * 
+     * @param <T> The target type
+     * @param key The configuration property.
+     * @param type The target type.
+     * @return The converted configuration property value, if any.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value, if the value cannot be converted or if the type is not
+     * supported
+     * @see ValueConverterRegistry#defaults()
+     * @since 1.2
+     */
+    default <T> @Nullable T get(
+            String key,
+            Class<T> type) {
+        final String value = get(key);
+        return value == null ? null : ValueConverterRegistry.defaults().get(type).convert(value);
+    }
+
+    /**
+     * Returns the value of the configuration property converted to the
+     * specified type.
+     * 
+     * @param <T> The target type
+     * @param key The configuration property.
+     * @param type The target type.
+     * @param defaultValue The default value to return if the configuration
+     * parameter is not set or is {@code null}.
+     * @return The converted configuration property value, or the default
+     * value.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value, if the value cannot be converted or if the type is not
+     * supported
+     * @see #get(String, Class)
+     * @since 1.2
+     */
+    default <T> T get(
+            String key,
+            Class<T> type,
+            T defaultValue) {
+        final T value = get(key, type);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Returns the values of the specified list configuration property.
+     * <p>
+     * JSON and YAML arrays, repeated XML elements and multiple valued
+     * Apache Commons properties are read natively. Other configurations
+     * store the list values as properties with consecutive indexes starting
+     * at zero ({@code key.0}, {@code key.1}, ...). A property with a single
+     * value is returned as a single value list.
+     * 
+     * @param key The configuration property.
+     * @return The unmodifiable list of values, empty if the property is not
+     * configured.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property values
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default List<String> getList(
+            final String key) {
+        final String value = get(key);
+        if (value != null) {
+            return Collections.singletonList(value);
+        }
+        final List<String> result = new ArrayList<>();
+        String element = get(key + ConfigKeyIndex.DEFAULT_SEPARATOR + 0);
+        while (element != null) {
+            result.add(element);
+            element = get(key + ConfigKeyIndex.DEFAULT_SEPARATOR + result.size());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the values of the specified list configuration property
+     * converted to the specified type.
+     * <p>
+     * Each value is converted with the converter of the type in the default
+     * {@code ValueConverterRegistry}.
+     * 
+     * @param <T> The target type
+     * @param key The configuration property.
+     * @param type The target type.
+     * @return The unmodifiable list of converted values, empty if the
+     * property is not configured.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property values, if any value cannot be converted or if the type is
+     * not supported
+     * @see #getList(String)
+     * @see ValueConverterRegistry#defaults()
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default <T> List<T> getList(
+            final String key,
+            final Class<T> type) {
+        final List<String> values = getList(key);
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final ValueConverter<T> converter = ValueConverterRegistry.defaults().get(type);
+        final List<T> result = new ArrayList<>(values.size());
+        for (final String value : values) {
+            result.add(converter.convert(value));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns {@code true} if the property with the precompiled key passed
+     * as argument has been configured.
+     * 
+     * @param key The configuration property key.
+     * @return Returns {@code true} if the property has been configured.
+     * @see ConfigKey
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default boolean containsKey(
+            final ConfigKey key) {
+        return contains(key.getName());
+    }
+
+    /**
+     * Returns the value of the configuration parameter with the precompiled
+     * key passed as argument as {@code String}.
+     * <p>
+     * Implementations can use the backend specific forms of the key cached
+     * in the key instance.
+     * 
+     * @param key The configuration property key.
+     * @return The configuration parameter value as {@code String}
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value
+     * @see ConfigKey
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default @Nullable String getValue(
+            final ConfigKey key) {
+        return get(key.getName());
+    }
+
+    /**
+     * Returns the value of the configuration property with the precompiled
+     * key passed as argument converted to the specified type.
+     * 
+     * @param <T> The target type
+     * @param key The configuration property key.
+     * @param type The target type.
+     * @return The converted configuration property value, if any.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value, if the value cannot be converted or if the type is not
+     * supported
+     * @see #get(String, Class)
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default <T> @Nullable T getValue(
+            final ConfigKey key,
+            final Class<T> type) {
+        return get(key.getName(), type);
+    }
+
+    /**
+     * Returns the value of the configuration property with the precompiled
+     * key passed as argument converted to the specified type.
+     * 
+     * @param <T> The target type
+     * @param key The configuration property key.
+     * @param type The target type.
+     * @param defaultValue The default value to return if the configuration
+     * parameter is not set or is {@code null}.
+     * @return The converted configuration property value, or the default
+     * value.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value, if the value cannot be converted or if the type is not
+     * supported
+     * @see #getValue(ConfigKey, Class)
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default <T> T getValue(
+            final ConfigKey key,
+            final Class<T> type,
+            final T defaultValue) {
+        final T value = getValue(key, type);
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Creates a configuration proxy of the specified type.
      * <p>
@@ -457,6 +819,23 @@ public interface Config {
         return Config.as(this, type);
     }
 
+    /**
+     * Creates a configuration mapping of the specified interface.
+     * 
+     * @param <T> The mapping interface type.
+     * @param type The mapping interface.
+     * @return The configuration mapping instance.
+     * @throws ConfigException If the interface is not a valid mapping
+     * interface.
+     * @see #map(Config, Class)
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default <T> T map(
+            final Class<T> type) {
+        return Config.map(this, type);
+    }
+
     /**
      * Creates a subset configuration containing only the properties
      * with the specified prefix.
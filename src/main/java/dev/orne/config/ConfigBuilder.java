@@ -84,6 +84,41 @@ public interface ConfigBuilder<S extends ConfigBuilder<S>> {
     S withEncryption(
             @Nullable ConfigCryptoProvider provider);
 
+    /**
+     * Enables eager decryption of configuration properties values.
+     * <p>
+     * All the property values contained in the builded configuration
+     * instance are decrypted in parallel when the configuration is built,
+     * instead of on each property access. If any value cannot be decrypted
+     * the configuration creation fails with an exception that lists the
+     * keys of all the failed properties.
+     * <p>
+     * The decrypted values are kept in memory while the configuration
+     * instance is in use, even if the cryptography transformations
+     * provider is destroyed. Decrypted values of properties modified or
+     * removed later are discarded.
+     * <p>
+     * As all the property values are decrypted, the configuration
+     * creation fails if the configuration mixes plain and encrypted
+     * values, as system properties configurations do.
+     * <p>
+     * Has no effect if no cryptography transformations provider is set or
+     * if the configuration properties cannot be iterated. The default
+     * implementation, for builders that do not support eager decryption,
+     * returns this instance unchanged.
+     * 
+     * @return This instance, for method chaining.
+     * @throws ConfigCryptoWrongKeyException From {@link #build()} if the
+     * failed values were encrypted with another secret key.
+     * @throws ConfigCryptoProviderException From {@link #build()} if any
+     * value cannot be decrypted.
+     * @since 1.2
+     */
+    @SuppressWarnings("unchecked")
+    default S withEagerDecryption() {
+        return (S) this;
+    }
+
     /**
      * Sets the configuration properties values decoder.
      * Applied to property values contained in the builded configuration
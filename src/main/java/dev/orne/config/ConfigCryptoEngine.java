@@ -22,6 +22,12 @@ package dev.orne.config;
  * #L%
  */
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 
@@ -51,6 +57,35 @@ public interface ConfigCryptoEngine {
             char[] password)
     throws ConfigCryptoProviderException;
 
+    /**
+     * Creates a new {@code SecretKey} for this engine for the
+     * specified password in the specified executor.
+     * <p>
+     * The password is copied before returning, so callers can clear
+     * the passed array as soon as this method returns. The copy is cleared
+     * once the {@code SecretKey} has been created.
+     * <p>
+     * Any {@code ConfigCryptoProviderException} thrown creating the
+     * {@code SecretKey} completes the returned future exceptionally.
+     * 
+     * @param password The password
+     * @param executor The executor to create the {@code SecretKey} in
+     * @return The future {@code SecretKey}
+     * @since 1.2
+     */
+    default CompletableFuture<SecretKey> createSecretKeyAsync(
+            final char[] password,
+            final Executor executor) {
+        final char[] passwordCopy = password.clone();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return createSecretKey(passwordCopy);
+            } finally {
+                Arrays.fill(passwordCopy, '\0');
+            }
+        }, executor);
+    }
+
     /**
      * Creates a new {@code Cipher} for this engine.
      * 
@@ -93,6 +128,74 @@ public interface ConfigCryptoEngine {
             Cipher cipher)
     throws ConfigCryptoProviderException;
 
+    /**
+     * Encrypts the specified plain configuration value bytes.
+     * <p>
+     * The plain bytes are the UTF-8 encoding of the configuration value.
+     * The buffer is read from its position to its limit.
+     * <p>
+     * Default implementation decodes the bytes to a {@code String} and
+     * delegates on {@link #encrypt(String, SecretKey, Cipher)}. Built-in
+     * engines encrypt the bytes directly, without intermediate
+     * {@code String} instances of the plain value.
+     * 
+     * @param value The plain configuration value bytes
+     * @param key The {@code SecretKey} to use
+     * @param cipher The {@code Cipher} to use
+     * @return The encrypted configuration value
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * encryption process
+     * @since 1.2
+     */
+    default String encryptBytes(
+            final ByteBuffer value,
+            final SecretKey key,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        final String result = encrypt(
+                StandardCharsets.UTF_8.decode(value).toString(),
+                key,
+                cipher);
+        if (result == null) {
+            throw new ConfigCryptoProviderException("Error encrypting secret value");
+        }
+        return result;
+    }
+
+    /**
+     * Decrypts the specified encrypted configuration value into the
+     * specified buffer.
+     * <p>
+     * The UTF-8 encoded bytes of the plain configuration value are written
+     * to the buffer from its current position.
+     * <p>
+     * Default implementation delegates on
+     * {@link #decrypt(String, SecretKey, Cipher)}. Built-in engines decode
+     * and decrypt the value directly into the buffer, without intermediate
+     * {@code String} or {@code byte[]} instances.
+     * 
+     * @param value The encrypted configuration value
+     * @param key The {@code SecretKey} to use
+     * @param cipher The {@code Cipher} to use
+     * @param output The buffer to write the plain value bytes to
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process or if the buffer has not enough space remaining
+     * @since 1.2
+     */
+    default void decryptInto(
+            final CharSequence value,
+            final SecretKey key,
+            final Cipher cipher,
+            final ByteBuffer output)
+    throws ConfigCryptoProviderException {
+        final String result = decrypt(value.toString(), key, cipher);
+        final byte[] bytes = result == null ? null : result.getBytes(StandardCharsets.UTF_8);
+        if (bytes == null || bytes.length > output.remaining()) {
+            throw new ConfigCryptoProviderException("Error decrypting secret value");
+        }
+        output.put(bytes);
+    }
+
     /**
      * Destroys all secret information.
      * Any further call to the instance will throw an
@@ -22,10 +22,18 @@ package dev.orne.config;
  * #L%
  */
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.impl.CryptoProviderBuilderImpl;
+import dev.orne.config.impl.CryptoUtils;
+import dev.orne.config.impl.MultiKeyCryptoProviderBuilderImpl;
 
 /**
  * Provider of cryptographic transformations for configuration values.
@@ -46,6 +54,54 @@ public interface ConfigCryptoProvider {
         return new CryptoProviderBuilderImpl();
     }
 
+    /**
+     * Creates a new multiple secret keys cryptography transformations
+     * provider builder.
+     * <p>
+     * Values encrypted by the built provider are prefixed with the
+     * identifier of the secret key used, allowing to decrypt values
+     * encrypted with any of the configured secret keys without trial
+     * decryption.
+     * 
+     * @return The provider builder.
+     * @since 1.2
+     */
+    static MultiKeyCryptoProviderBuilder multiKey() {
+        return new MultiKeyCryptoProviderBuilderImpl();
+    }
+
+    /**
+     * Re-encrypts all the property values of the specified configuration
+     * and saves the configuration to the specified destination.
+     * <p>
+     * The configuration must be built without cryptography transformations
+     * provider, decoders nor variable resolution, so its property values are
+     * the stored encrypted values. All the values are decrypted in bulk with
+     * the source provider and encrypted in bulk with the target provider
+     * before any value is modified, and the configuration is saved once.
+     * <p>
+     * The same multiple secret keys provider can be used as source and
+     * target to re-encrypt all the values with its primary secret key.
+     * 
+     * @param config The configuration to re-encrypt.
+     * @param source The provider to decrypt the current values with.
+     * @param target The provider to encrypt the new values with.
+     * @param destination The destination path.
+     * @throws ConfigCryptoProviderException If any value cannot be
+     * decrypted or encrypted. The configuration is not modified.
+     * @throws IOException If an I/O error occurs saving the configuration.
+     * @since 1.2
+     * @see #multiKey()
+     */
+    static void reencrypt(
+            final FileMutableConfig config,
+            final ConfigCryptoProvider source,
+            final ConfigCryptoProvider target,
+            final Path destination)
+    throws IOException {
+        CryptoUtils.reencrypt(config, source, target, destination);
+    }
+
     /**
      * Encrypts the specified plain configuration value.
      * 
@@ -70,6 +126,141 @@ public interface ConfigCryptoProvider {
             @Nullable String value)
     throws ConfigCryptoProviderException;
 
+    /**
+     * Encrypts the specified plain configuration value characters.
+     * <p>
+     * The passed array is not modified, so callers can clear it as soon as
+     * this method returns.
+     * <p>
+     * Default implementation delegates on {@link #encrypt(String)}.
+     * Built-in providers encrypt the UTF-8 encoded characters directly,
+     * without intermediate {@code String} instances of the plain value.
+     * 
+     * @param value The plain configuration value characters
+     * @return The encrypted configuration value
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * encryption process
+     * @since 1.2
+     */
+    default @Nullable String encryptChars(
+            final char @Nullable [] value)
+    throws ConfigCryptoProviderException {
+        if (value == null) {
+            return null;
+        }
+        return encrypt(new String(value));
+    }
+
+    /**
+     * Decrypts the specified encrypted configuration value into the
+     * specified buffer.
+     * <p>
+     * The UTF-8 encoded bytes of the plain configuration value are written
+     * to the buffer from its current position. The buffer can be wiped by
+     * the caller as soon as the plain value is no longer required.
+     * <p>
+     * Default implementation delegates on {@link #decrypt(String)}.
+     * Built-in providers decrypt the value directly into the buffer,
+     * without intermediate {@code String} instances of the plain value.
+     * 
+     * @param value The encrypted configuration value
+     * @param output The buffer to write the plain value bytes to
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process or if the buffer has not enough space remaining
+     * @since 1.2
+     */
+    default void decrypt(
+            final CharSequence value,
+            final ByteBuffer output)
+    throws ConfigCryptoProviderException {
+        final String result = decrypt(value.toString());
+        final byte[] bytes = result == null ? null : result.getBytes(StandardCharsets.UTF_8);
+        if (bytes == null || bytes.length > output.remaining()) {
+            throw new ConfigCryptoProviderException("Error decrypting secret value");
+        }
+        output.put(bytes);
+    }
+
+    /**
+     * Decrypts the specified encrypted configuration value into a new
+     * characters array.
+     * <p>
+     * The returned array can be cleared by the caller as soon as the plain
+     * value is no longer required.
+     * <p>
+     * Default implementation delegates on {@link #decrypt(String)}.
+     * Built-in providers decrypt the value into reusable buffers that are
+     * wiped before returning, without intermediate {@code String} instances
+     * of the plain value.
+     * 
+     * @param value The encrypted configuration value
+     * @return The plain configuration value characters
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process
+     * @since 1.2
+     */
+    default char @Nullable [] decryptChars(
+            final @Nullable CharSequence value)
+    throws ConfigCryptoProviderException {
+        if (value == null) {
+            return null;
+        }
+        final String result = decrypt(value.toString());
+        return result == null ? null : result.toCharArray();
+    }
+
+    /**
+     * Encrypts the specified plain configuration values.
+     * <p>
+     * All the values are encrypted before reporting any error, so the
+     * thrown exception message lists the keys of all the values that could
+     * not be encrypted.
+     * <p>
+     * Default implementation encrypts the values sequentially with
+     * {@link #encrypt(String)}. Implementations can encrypt the values
+     * in parallel.
+     * 
+     * @param <K> The type of the values keys.
+     * @param values The plain configuration values, by key.
+     * @return The encrypted configuration values, by key. Values encrypted
+     * to {@code null} are not included.
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * encryption process
+     * @since 1.2
+     */
+    default <K> Map<K, String> encryptAll(
+            final Map<K, String> values)
+    throws ConfigCryptoProviderException {
+        return CryptoUtils.encryptAll(values, this::encrypt, false);
+    }
+
+    /**
+     * Decrypts the specified encrypted configuration values.
+     * <p>
+     * All the values are decrypted before reporting any error, so the
+     * thrown exception message lists the keys of all the values that could
+     * not be decrypted.
+     * <p>
+     * Default implementation decrypts the values sequentially with
+     * {@link #decrypt(String)}. Implementations can decrypt the values
+     * in parallel.
+     * 
+     * @param <K> The type of the values keys.
+     * @param values The encrypted configuration values, by key.
+     * @return The plain configuration values, by key. Values decrypted
+     * to {@code null} are not included.
+     * @throws ConfigCryptoWrongKeyException If all the failed values were
+     * encrypted with another secret key.
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process
+     * @since 1.2
+     */
+    default <K> Map<K, String> decryptAll(
+            final Map<K, String> values)
+    throws ConfigCryptoProviderException {
+        return CryptoUtils.decryptAll(values, this::decrypt, false);
+    }
+
     /**
      * Destroys all secret information.
      * Any further call to the instance will throw an
@@ -0,0 +1,221 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Precompiled configuration property key.
+ * <p>
+ * Configuration keys carry the property name and a precomputed hash code,
+ * and lazily cache the backend specific forms of the name (JSON pointers,
+ * XML paths, prefixed subset keys...) resolved by the configuration
+ * implementations, so hot call sites holding {@code static final}
+ * instances do not derive them on each call.
+ * <pre>
+ * private static final ConfigKey POOL_MAX = ConfigKey.of("db.pool.max");
+ * ...
+ * Integer max = config.getValue(POOL_MAX, Integer.class);
+ * </pre>
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Config#getValue(ConfigKey)
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public final class ConfigKey {
+
+    /** The maximum number of cached backend specific forms. */
+    private static final int MAX_RESOLUTIONS = 4;
+    /** Empty backend specific forms. */
+    private static final Resolution[] NO_RESOLUTIONS = new Resolution[0];
+
+    /** The property name. */
+    private final String name;
+    /** The precomputed hash code. */
+    private final int hash;
+    /** The cached backend specific forms. */
+    private volatile Resolution[] resolutions = NO_RESOLUTIONS;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param name The property name.
+     */
+    private ConfigKey(
+            final String name) {
+        super();
+        this.name = name;
+        this.hash = name.hashCode();
+    }
+
+    /**
+     * Creates a new configuration key.
+     * 
+     * @param name The property name.
+     * @return The configuration key.
+     * @throws NullPointerException If the name is {@code null}.
+     * @throws IllegalArgumentException If the name is blank.
+     */
+    public static ConfigKey of(
+            final String name) {
+        Validate.notBlank(name, "Property key must be a non blank string");
+        return new ConfigKey(name);
+    }
+
+    /**
+     * Returns the property name.
+     * 
+     * @return The property name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the backend specific form of this key resolved by the
+     * specified resolver, resolving and caching it on first request.
+     * <p>
+     * Resolved forms are cached by resolver equality, so resolvers with the
+     * same behavior must be equal. Only the forms of the last few distinct
+     * resolvers are cached.
+     * 
+     * @param <T> The type of the resolved form.
+     * @param resolver The backend specific resolver.
+     * @return The resolved form of this key.
+     */
+    @API(status = API.Status.INTERNAL, since = "1.2")
+    public <T> T resolve(
+            final Resolver<T> resolver) {
+        final Resolution[] current = this.resolutions;
+        for (final Resolution resolution : current) {
+            if (resolution.resolver.equals(resolver)) {
+                @SuppressWarnings("unchecked")
+                final T result = (T) resolution.value;
+                return result;
+            }
+        }
+        final T result = Objects.requireNonNull(resolver.resolve(this.name));
+        final Resolution[] updated;
+        if (current.length < MAX_RESOLUTIONS) {
+            updated = Arrays.copyOf(current, current.length + 1);
+        } else {
+            updated = new Resolution[MAX_RESOLUTIONS];
+            System.arraycopy(current, 1, updated, 0, MAX_RESOLUTIONS - 1);
+        }
+        updated[updated.length - 1] = new Resolution(resolver, result);
+        this.resolutions = updated;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ConfigKey other = (ConfigKey) obj;
+        return this.hash == other.hash && this.name.equals(other.name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Resolver of backend specific forms of configuration keys.
+     * <p>
+     * Implementations must implement {@code equals()} and
+     * {@code hashCode()}, so resolvers with the same behavior share the
+     * cached forms.
+     * 
+     * @param <T> The type of the resolved form.
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 1.2
+     */
+    @FunctionalInterface
+    @API(status = API.Status.INTERNAL, since = "1.2")
+    public interface Resolver<T> {
+
+        /**
+         * Resolves the backend specific form of the specified property name.
+         * 
+         * @param name The property name.
+         * @return The resolved form.
+         */
+        T resolve(
+                String name);
+    }
+
+    /**
+     * Cached backend specific form of a configuration key.
+     * 
+     * @since 1.2
+     */
+    private static final class Resolution {
+
+        /** The resolver. */
+        private final Resolver<?> resolver;
+        /** The resolved form. */
+        private final Object value;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param resolver The resolver.
+         * @param value The resolved form.
+         */
+        Resolution(
+                final Resolver<?> resolver,
+                final Object value) {
+            super();
+            this.resolver = resolver;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reflection-free binder of the {@code ConfigurableProperty} annotated
+ * fields of a bean class.
+ * <p>
+ * Binders are usually generated at compile time by the
+ * {@code dev.orne.config.processor.ConfigurableBinderProcessor} annotation
+ * processor and registered as {@code java.util.ServiceLoader} services.
+ * The default {@code Configurer} implementation uses the binder registered
+ * for the exact class of each bean, if any, falling back to reflection
+ * otherwise.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The type of the configurable beans
+ * @since 1.2
+ * @see ConfigurableProperty
+ * @see Configurer
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface ConfigurableBinder<T> {
+
+    /**
+     * Returns the class of the beans supported by this binder.
+     * 
+     * @return The class of the supported beans.
+     */
+    Class<T> getBeanType();
+
+    /**
+     * Configures the {@code ConfigurableProperty} annotated properties of
+     * the specified bean with the specified configuration.
+     * <p>
+     * Errors configuring each property must be reported to the binding
+     * context and must not interrupt the configuration of the bean.
+     * 
+     * @param bean The bean to configure.
+     * @param config The configuration to use.
+     * @param context The binding context.
+     */
+    void bind(
+            T bean,
+            Config config,
+            Context context);
+
+    /**
+     * Binding context provided by the {@code Configurer} to the binders.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    interface Context {
+
+        /**
+         * Converts the specified configuration value to the specified type.
+         * 
+         * @param <V> The target type
+         * @param value The configuration value.
+         * @param type The target type.
+         * @return The converted value.
+         * @throws ConfigException If an error occurs converting the value.
+         */
+        <V> @Nullable V convert(
+                @Nullable String value,
+                Class<V> type);
+
+        /**
+         * Reports a {@code null} value for a primitive property.
+         * 
+         * @param key The configuration key.
+         * @param type The primitive property type.
+         */
+        void nullValue(
+                String key,
+                Class<?> type);
+
+        /**
+         * Reports an error configuring a property.
+         * 
+         * @param bean The bean being configured.
+         * @param property The property name.
+         * @param error The error thrown.
+         */
+        void error(
+                Object bean,
+                String property,
+                RuntimeException error);
+    }
+}
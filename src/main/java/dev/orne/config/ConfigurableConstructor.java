@@ -0,0 +1,53 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marks the constructor used to create instances of the annotated class
+ * from configuration properties.
+ * <p>
+ * The configuration key of each parameter is the value of its
+ * {@code ConfigurableProperty} annotation, or the parameter name if the
+ * class has been compiled with parameter names.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Configurer#bind(Config, Class)
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(CONSTRUCTOR)
+@API(status = API.Status.STABLE, since = "1.2")
+public @interface ConfigurableConstructor {
+    // Marker annotation
+}
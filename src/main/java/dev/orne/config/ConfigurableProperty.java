@@ -23,6 +23,7 @@ package dev.orne.config;
  */
 
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import java.lang.annotation.Documented;
@@ -33,6 +34,10 @@ import org.apiguardian.api.API;
 
 /**
  * Marks a property as automatically configurable.
+ * <p>
+ * Since 1.2 can be used in the parameters of
+ * {@code ConfigurableConstructor} annotated constructors and in record
+ * components to set their configuration key.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2019-07
@@ -40,7 +45,7 @@ import org.apiguardian.api.API;
  */
 @Documented
 @Retention(RUNTIME)
-@Target(FIELD)
+@Target({ FIELD, PARAMETER })
 @API(status = API.Status.STABLE, since = "1.0")
 public @interface ConfigurableProperty {
 
@@ -25,6 +25,7 @@ package dev.orne.config;
 import org.apiguardian.api.API;
 
 import dev.orne.config.impl.ConfigurerImpl;
+import dev.orne.config.impl.LiveConfigurerImpl;
 
 /**
  * Generic interface for configurable components configurer.
@@ -50,6 +51,27 @@ public interface Configurer {
         return new ConfigurerImpl(provider);
     }
 
+    /**
+     * Creates a new {@code LiveConfigurer} instance using the specified
+     * {@code ConfigProvider} that refreshes the {@code ConfigurableProperty}
+     * annotated properties of the configured beans when the values of their
+     * configuration properties change.
+     * <p>
+     * Only beans configured with a {@code WatchableConfig} are refreshed.
+     * Configured beans are weakly referenced, so live refresh does not
+     * prevent their garbage collection. Closing the returned instance stops
+     * the refresh of all the configured beans.
+     * 
+     * @param provider The {@code ConfigProvider} to use.
+     * @return A new {@code LiveConfigurer} instance.
+     * @since 1.2
+     * @see RefreshableConfigurable
+     */
+    static LiveConfigurer liveFromProvider(
+            final ConfigProvider provider) {
+        return new LiveConfigurerImpl(provider);
+    }
+
     /**
      * Configures the bean passed as argument.
      * 
@@ -57,4 +79,41 @@ public interface Configurer {
      */
     void configure(
             Configurable bean);
+
+    /**
+     * Creates an instance of the specified type from the configuration
+     * properties of the specified configuration, or subset.
+     * <p>
+     * Supports records, using the record component names as configuration
+     * keys, and classes with a {@code ConfigurableConstructor} annotated
+     * constructor. {@code ConfigurableProperty} annotations in record
+     * components and constructor parameters override the configuration keys.
+     * <p>
+     * {@code List} and {@code Collection} components are read from comma
+     * separated values or from indexed keys ({@code key.0}, {@code key.1}...).
+     * {@code Map} components with {@code String} keys are read from the
+     * keys with the component key as prefix ({@code key.name}). Components
+     * of supported types are created from the keys with the component key as
+     * prefix.
+     * <p>
+     * The default implementation delegates to a new default
+     * {@code Configurer} with the specified configuration as default
+     * configuration, so the construction plans are not reused between
+     * calls.
+     * 
+     * @param <T> The type of the instance to create.
+     * @param config The configuration to use.
+     * @param type The type of the instance to create.
+     * @return The created instance.
+     * @throws ConfigException If the type is not supported or an error
+     * occurs creating the instance.
+     * @since 1.2
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.2")
+    default <T> T bind(
+            final Config config,
+            final Class<T> type) {
+        return new ConfigurerImpl(ConfigProvider.builder(config).build())
+                .bind(config, type);
+    }
 }
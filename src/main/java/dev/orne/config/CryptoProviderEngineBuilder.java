@@ -86,4 +86,33 @@ public interface CryptoProviderEngineBuilder {
     CryptoProviderKeyBuilder withAesGcmEngine(
             byte[] salt,
             boolean destroyEngine);
+
+    /**
+     * Creates a new cryptography transformations provider builder
+     * based on Java Cryptography Architecture using ChaCha20 stream cipher
+     * with Poly1305 authenticator.
+     * 
+     * @param salt The salt to apply to password based secret keys.
+     * @return Next builder, for method chaining.
+     * @since 1.2
+     */
+    default CryptoProviderKeyBuilder withChaCha20Poly1305Engine(
+            byte[] salt) {
+        return withChaCha20Poly1305Engine(salt, true);
+    }
+
+    /**
+     * Creates a new cryptography transformations provider builder
+     * based on Java Cryptography Architecture using ChaCha20 stream cipher
+     * with Poly1305 authenticator.
+     * 
+     * @param salt The salt to apply to password based secret keys.
+     * @param destroyEngine If the cryptography engine must be destroyed on
+     * provider destruction.
+     * @return Next builder, for method chaining.
+     * @since 1.2
+     */
+    CryptoProviderKeyBuilder withChaCha20Poly1305Engine(
+            byte[] salt,
+            boolean destroyEngine);
 }
@@ -22,6 +22,10 @@ package dev.orne.config;
  * #L%
  */
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import javax.crypto.SecretKey;
 
 import org.apiguardian.api.API;
@@ -57,4 +61,57 @@ public interface CryptoProviderKeyBuilder {
      */
     CryptoProviderBuilder withSecretKey(
             SecretKey key);
+
+    /**
+     * Sets the password used as secret key, creating the secret key
+     * asynchronously in the common {@code ForkJoinPool}.
+     * <p>
+     * The built provider waits for the secret key creation on first
+     * encryption or decryption.
+     * 
+     * @param password The password.
+     * @return Next builder, for method chaining.
+     * @see #withSecretKeyAsync(char[], Executor)
+     * @since 1.2
+     */
+    default CryptoProviderBuilder withSecretKeyAsync(
+            final char[] password) {
+        return withSecretKeyAsync(password, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sets the password used as secret key, creating the secret key
+     * asynchronously in the specified executor.
+     * <p>
+     * The built provider waits for the secret key creation on first
+     * encryption or decryption.
+     * Secret keys of multiple providers are created in parallel if the
+     * executor allows it.
+     * 
+     * @param password The password.
+     * @param executor The executor to create the secret key in.
+     * @return Next builder, for method chaining.
+     * @see ConfigCryptoEngine#createSecretKeyAsync(char[], Executor)
+     * @since 1.2
+     */
+    CryptoProviderBuilder withSecretKeyAsync(
+            char[] password,
+            Executor executor);
+
+    /**
+     * Sets the future secret key.
+     * <p>
+     * Allows starting the secret key creation before the rest of the
+     * application setup, passing the result of
+     * {@link ConfigCryptoEngine#createSecretKeyAsync(char[], Executor)}
+     * or any other secret key source.
+     * The built provider waits for the secret key on first
+     * encryption or decryption.
+     * 
+     * @param key The future secret key.
+     * @return Next builder, for method chaining.
+     * @since 1.2
+     */
+    CryptoProviderBuilder withSecretKey(
+            CompletionStage<SecretKey> key);
 }
@@ -0,0 +1,247 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable data size, in bytes.
+ * <p>
+ * Data sizes are expressed in configuration values as a number of bytes
+ * followed by an optional unit: {@code B}, {@code KB}, {@code MB},
+ * {@code GB} or {@code TB}. Units are case insensitive and binary, so
+ * {@code 1KB} is {@code 1024} bytes.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ValueConverterRegistry
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public final class DataSize
+implements Comparable<DataSize>, Serializable {
+
+    /** The Serial Version UID. */
+    private static final long serialVersionUID = 1L;
+    /** Bytes per kilobyte. */
+    private static final long BYTES_PER_KB = 1024L;
+    /** Bytes per megabyte. */
+    private static final long BYTES_PER_MB = BYTES_PER_KB * 1024L;
+    /** Bytes per gigabyte. */
+    private static final long BYTES_PER_GB = BYTES_PER_MB * 1024L;
+    /** Bytes per terabyte. */
+    private static final long BYTES_PER_TB = BYTES_PER_GB * 1024L;
+    /** The invalid data size error message. */
+    private static final String INVALID_ERR = "Invalid data size: '%s'";
+
+    /** The size in bytes. */
+    private final long bytes;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param bytes The size in bytes.
+     */
+    private DataSize(
+            final long bytes) {
+        super();
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a data size of the specified number of bytes.
+     * 
+     * @param bytes The size in bytes.
+     * @return The data size.
+     */
+    public static DataSize ofBytes(
+            final long bytes) {
+        return new DataSize(bytes);
+    }
+
+    /**
+     * Creates a data size of the specified number of kilobytes.
+     * 
+     * @param kilobytes The size in kilobytes.
+     * @return The data size.
+     * @throws ArithmeticException If the size overflows.
+     */
+    public static DataSize ofKilobytes(
+            final long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, BYTES_PER_KB));
+    }
+
+    /**
+     * Creates a data size of the specified number of megabytes.
+     * 
+     * @param megabytes The size in megabytes.
+     * @return The data size.
+     * @throws ArithmeticException If the size overflows.
+     */
+    public static DataSize ofMegabytes(
+            final long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, BYTES_PER_MB));
+    }
+
+    /**
+     * Creates a data size of the specified number of gigabytes.
+     * 
+     * @param gigabytes The size in gigabytes.
+     * @return The data size.
+     * @throws ArithmeticException If the size overflows.
+     */
+    public static DataSize ofGigabytes(
+            final long gigabytes) {
+        return new DataSize(Math.multiplyExact(gigabytes, BYTES_PER_GB));
+    }
+
+    /**
+     * Parses the specified data size, as a number of bytes followed by
+     * an optional unit.
+     * 
+     * @param value The data size to parse.
+     * @return The parsed data size.
+     * @throws IllegalArgumentException If the value is not a valid data
+     * size.
+     */
+    public static DataSize parse(
+            final CharSequence value) {
+        Objects.requireNonNull(value);
+        final String text = value.toString().trim();
+        int end = 0;
+        if (end < text.length() && (text.charAt(end) == '-' || text.charAt(end) == '+')) {
+            end++;
+        }
+        while (end < text.length() && Character.isDigit(text.charAt(end))) {
+            end++;
+        }
+        final String unit = text.substring(end).trim().toUpperCase(Locale.ROOT);
+        final long multiplier;
+        switch (unit) {
+            case "":
+            case "B":
+                multiplier = 1L;
+                break;
+            case "KB":
+                multiplier = BYTES_PER_KB;
+                break;
+            case "MB":
+                multiplier = BYTES_PER_MB;
+                break;
+            case "GB":
+                multiplier = BYTES_PER_GB;
+                break;
+            case "TB":
+                multiplier = BYTES_PER_TB;
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(INVALID_ERR, value));
+        }
+        try {
+            return new DataSize(Math.multiplyExact(Long.parseLong(text.substring(0, end)), multiplier));
+        } catch (final NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException(String.format(INVALID_ERR, value), e);
+        }
+    }
+
+    /**
+     * Returns the size in bytes.
+     * 
+     * @return The size in bytes.
+     */
+    public long toBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Returns the size in whole kilobytes.
+     * 
+     * @return The size in kilobytes.
+     */
+    public long toKilobytes() {
+        return this.bytes / BYTES_PER_KB;
+    }
+
+    /**
+     * Returns the size in whole megabytes.
+     * 
+     * @return The size in megabytes.
+     */
+    public long toMegabytes() {
+        return this.bytes / BYTES_PER_MB;
+    }
+
+    /**
+     * Returns the size in whole gigabytes.
+     * 
+     * @return The size in gigabytes.
+     */
+    public long toGigabytes() {
+        return this.bytes / BYTES_PER_GB;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(
+            final DataSize other) {
+        return Long.compare(this.bytes, other.bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return this.bytes == ((DataSize) obj).bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.bytes + "B";
+    }
+}
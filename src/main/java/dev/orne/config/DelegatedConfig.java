@@ -22,7 +22,10 @@ package dev.orne.config;
  * #L%
  */
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -118,6 +121,51 @@ implements Config {
         return this.delegate.getKeys(prefix);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getKeys(
+            final @Nullable String after,
+            final int limit) {
+        return this.delegate.getKeys(after, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getChildNames(
+            final String prefix) {
+        return this.delegate.getChildNames(prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasChildren(
+            final String prefix) {
+        return this.delegate.hasChildren(prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Map.Entry<String, String>> getEntries() {
+        return this.delegate.getEntries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(
+            final BiConsumer<? super String, ? super String> action) {
+        this.delegate.forEach(action);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -242,4 +290,83 @@ implements Config {
             final Supplier<@Nullable Long> defaultValue) {
         return this.delegate.getLong(key, defaultValue);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @Nullable T get(
+            final String key,
+            final Class<T> type) {
+        return this.delegate.get(key, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(
+            final String key,
+            final Class<T> type,
+            final T defaultValue) {
+        return this.delegate.get(key, type, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getList(
+            final String key) {
+        return this.delegate.getList(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> List<T> getList(
+            final String key,
+            final Class<T> type) {
+        return this.delegate.getList(key, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(
+            final ConfigKey key) {
+        return this.delegate.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String getValue(
+            final ConfigKey key) {
+        return this.delegate.getValue(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @Nullable T getValue(
+            final ConfigKey key,
+            final Class<T> type) {
+        return this.delegate.getValue(key, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getValue(
+            final ConfigKey key,
+            final Class<T> type,
+            final T defaultValue) {
+        return this.delegate.getValue(key, type, defaultValue);
+    }
 }
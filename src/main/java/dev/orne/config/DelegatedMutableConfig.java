@@ -22,6 +22,8 @@ package dev.orne.config;
  * #L%
  */
 
+import java.util.List;
+
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 
@@ -99,6 +101,16 @@ implements MutableConfig {
         getDelegate().set(key, value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        getDelegate().setList(key, values);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,7 +74,8 @@ extends MutableConfig {
     throws IOException {
         try (final OutputStream output = Files.newOutputStream(
                 destination,
-                StandardOpenOption.WRITE)) {
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
             save(output);
         }
     }
@@ -0,0 +1,73 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Maps an abstract method of a configuration mapping interface, or a
+ * configuration subtype interface, to a configuration property.
+ * <p>
+ * Annotated methods must have no parameters. The configuration property
+ * value is converted to the method return type with the default
+ * {@code ValueConverterRegistry}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Config#map(Class)
+ * @see Config#as(Class)
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+@API(status = API.Status.STABLE, since = "1.2")
+public @interface Key {
+
+    /** Marker value for annotated methods without default value. */
+    String NO_DEFAULT = "\n\t\t\n\t\t\n\uE000\uE001\uE002\n\t\t\t\t\n";
+
+    /**
+     * Sets the configuration key mapped to the method.
+     * 
+     * @return The configuration key.
+     */
+    String value();
+
+    /**
+     * Sets the value used when the configuration property is missing.
+     * <p>
+     * If not set, missing properties are mapped to {@code null}, or the
+     * default value of primitive return types.
+     * 
+     * @return The default configuration property value.
+     */
+    String defaultValue() default NO_DEFAULT;
+}
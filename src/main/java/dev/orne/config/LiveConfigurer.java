@@ -0,0 +1,52 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code Configurer} that refreshes the {@code ConfigurableProperty}
+ * annotated properties of the configured beans when the values of their
+ * configuration properties change.
+ * <p>
+ * Only beans configured with a {@code WatchableConfig} are refreshed.
+ * Configured beans are weakly referenced, so live refresh does not prevent
+ * their garbage collection. Closing the instance stops the refresh of all
+ * the configured beans.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Configurer#liveFromProvider(ConfigProvider)
+ * @see RefreshableConfigurable
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface LiveConfigurer
+extends Configurer, AutoCloseable {
+
+    /**
+     * Stops the live refresh of the configured beans.
+     */
+    @Override
+    void close();
+}
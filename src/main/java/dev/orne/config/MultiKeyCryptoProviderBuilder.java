@@ -0,0 +1,86 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+
+/**
+ * Multiple secret keys configuration values cryptography transformations
+ * provider builder.
+ * <p>
+ * Each secret key is represented by a cryptography transformations provider
+ * identified by a short key identifier. Values are encrypted with the
+ * primary secret key and prefixed with its key identifier between braces
+ * (like {@code {k2}...}). Prefixed values are decrypted with the provider
+ * of the referenced secret key directly. Values without prefix, encrypted
+ * before adopting the multiple secret keys provider, are decrypted trying
+ * the providers in registration order, starting with the primary one.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigCryptoProvider#multiKey()
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface MultiKeyCryptoProviderBuilder {
+
+    /**
+     * Sets the primary secret key, used to encrypt values.
+     * <p>
+     * Key identifiers can contain only ASCII letters, digits,
+     * {@code '.'}, {@code '_'} and {@code '-'}.
+     * 
+     * @param id The secret key identifier.
+     * @param provider The provider of the secret key.
+     * @return This builder, for method chaining.
+     * @throws IllegalArgumentException If the key identifier is not valid
+     * or already registered.
+     */
+    MultiKeyCryptoProviderBuilder withPrimaryKey(
+            String id,
+            ConfigCryptoProvider provider);
+
+    /**
+     * Adds a secret key used only to decrypt values.
+     * <p>
+     * Key identifiers can contain only ASCII letters, digits,
+     * {@code '.'}, {@code '_'} and {@code '-'}.
+     * 
+     * @param id The secret key identifier.
+     * @param provider The provider of the secret key.
+     * @return This builder, for method chaining.
+     * @throws IllegalArgumentException If the key identifier is not valid
+     * or already registered.
+     */
+    MultiKeyCryptoProviderBuilder withKey(
+            String id,
+            ConfigCryptoProvider provider);
+
+    /**
+     * Creates a new cryptography transformations provider.
+     * 
+     * @return The cryptography transformations provider.
+     * @throws IllegalStateException If no primary secret key has been set.
+     */
+    ConfigCryptoProvider build();
+}
@@ -22,9 +22,13 @@ package dev.orne.config;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 
+import dev.orne.config.impl.ConfigKeyIndex;
 import dev.orne.config.impl.ConfigSubset;
 
 /**
@@ -94,6 +98,42 @@ extends Config {
         set(key, value == null ? null : String.valueOf(value));
     }
 
+    /**
+     * Sets the values of the specified list configuration property,
+     * replacing any previous values.
+     * <p>
+     * JSON and YAML configurations store the values as an array, XML
+     * configurations as repeated elements and Apache Commons configurations
+     * as a multiple valued property, replacing the previous values at once.
+     * Other configurations store the values as properties with consecutive
+     * indexes starting at zero ({@code key.0}, {@code key.1}, ...), removing
+     * the property value and the previous values with higher indexes.
+     * 
+     * @param key The configuration property.
+     * @param values The values to set, or {@code null} to remove them.
+     * @throws ConfigException If an error occurs setting the configuration
+     * property values
+     * @see #getList(String)
+     * @since 1.2
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    default void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        final int size = values == null ? 0 : values.size();
+        final List<String> obsolete = new ArrayList<>();
+        obsolete.add(key);
+        for (int i = size; contains(key + ConfigKeyIndex.DEFAULT_SEPARATOR + i); i++) {
+            obsolete.add(key + ConfigKeyIndex.DEFAULT_SEPARATOR + i);
+        }
+        remove(obsolete.toArray(new String[0]));
+        if (values != null) {
+            for (int i = 0; i < size; i++) {
+                set(key + ConfigKeyIndex.DEFAULT_SEPARATOR + i, values.get(i));
+            }
+        }
+    }
+
     /**
      * Removes the specified configuration properties.
      * 
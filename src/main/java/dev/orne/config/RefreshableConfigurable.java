@@ -0,0 +1,60 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Set;
+
+import org.apiguardian.api.API;
+
+/**
+ * Interface for configurable classes notified when their
+ * {@code ConfigurableProperty} annotated properties are refreshed after
+ * configuration changes.
+ * <p>
+ * Only {@code LiveConfigurer} instances, like the ones returned by
+ * {@link Configurer#liveFromProvider(ConfigProvider)}, refresh the
+ * properties of configured beans.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Configurable
+ * @see WatchableConfig
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface RefreshableConfigurable
+extends Configurable {
+
+    /**
+     * Called after the properties bound to the specified configuration
+     * keys have been refreshed with their new values.
+     * <p>
+     * Called from the thread that notified the configuration changes.
+     * 
+     * @param config The configuration used to configure this instance.
+     * @param keys The changed configuration properties bound to this instance.
+     */
+    void propertiesRefreshed(
+            Config config,
+            Set<String> keys);
+}
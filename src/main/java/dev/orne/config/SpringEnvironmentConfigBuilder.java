@@ -55,4 +55,21 @@ extends ConfigBuilder<SpringEnvironmentConfigBuilder> {
      * @see Config#getKeys()
      */
     SpringEnvironmentConfigBuilder withIterableKeys();
+
+    /**
+     * Sets this configuration to cache the property keys and resolved
+     * values of the environment in a snapshot.
+     * <p>
+     * The resulting configuration supports property keys iteration
+     * and is a {@link WatchableConfig}. The snapshot is rebuilt through
+     * {@link SpringEnvironmentSnapshotConfig#refresh()} and, when the
+     * configuration is registered as a Spring bean, on application events
+     * published after changes in the property sources of the environment.
+     * <p>
+     * Note that snapshot mode requires a {@link ConfigurableEnvironment}.
+     * 
+     * @return Next builder, for method chaining.
+     * @since 1.2
+     */
+    SpringEnvironmentSnapshotConfigBuilder withSnapshot();
 }
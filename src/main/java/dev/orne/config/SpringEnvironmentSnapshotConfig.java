@@ -0,0 +1,56 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+
+/**
+ * Spring {@code Environment} based configuration that caches the property
+ * keys and resolved values of the environment in a snapshot.
+ * <p>
+ * The snapshot is rebuilt through {@link #refresh()}, notifying the
+ * registered listeners of the modified properties. Properties cannot be
+ * modified through this configuration.
+ * <p>
+ * Property values are resolved by Spring when the snapshot is captured,
+ * including their {@code ${...}} placeholders. Changes of the properties
+ * referenced by a placeholder are not visible until the snapshot is
+ * refreshed, and variable resolution of this configuration only applies
+ * to the placeholders left unresolved by Spring.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see SpringEnvironmentConfigBuilder#withSnapshot()
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface SpringEnvironmentSnapshotConfig
+extends WatchableConfig {
+
+    /**
+     * Rebuilds the snapshot from the current property sources of the
+     * Spring environment, notifying the registered listeners of the
+     * properties which values changed.
+     */
+    void refresh();
+}
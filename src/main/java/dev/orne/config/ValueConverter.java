@@ -0,0 +1,53 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+
+/**
+ * Interface of configuration property values converters to typed values.
+ * <p>
+ * Converters are resolved once per type through a
+ * {@code ValueConverterRegistry} and reused for every conversion, so
+ * implementations must be thread safe.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The type of the converted values
+ * @since 1.2
+ * @see ValueConverterRegistry
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+@FunctionalInterface
+public interface ValueConverter<T> {
+
+    /**
+     * Converts the configuration property value.
+     * 
+     * @param value The configuration property value.
+     * @return The converted value.
+     * @throws ConfigException If the value cannot be converted.
+     */
+    T convert(
+            String value);
+}
@@ -0,0 +1,127 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.reflect.Type;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.impl.ValueConverterRegistryImpl;
+
+/**
+ * Registry of configuration property values converters.
+ * <p>
+ * Converters are resolved once per type and cached, so converting values
+ * requires no type lookup nor reflection. The default registry provides
+ * converters for:
+ * <ul>
+ * <li>{@code String}, primitives and their wrappers</li>
+ * <li>{@code BigInteger} and {@code BigDecimal}</li>
+ * <li>Enumerations, by constant name, ignoring case if no exact match</li>
+ * <li>{@code Duration}, in ISO-8601 format or as a number followed by
+ * an optional unit ({@code ns}, {@code us}, {@code ms}, {@code s},
+ * {@code m}, {@code h}, {@code d}), in milliseconds by default</li>
+ * <li>{@code DataSize}</li>
+ * <li>{@code URI}, {@code URL}, {@code Path}, {@code File},
+ * {@code Charset}, {@code Locale} and {@code UUID}</li>
+ * <li>Arrays of supported types, as comma separated values</li>
+ * <li>{@code Collection}, {@code List}, {@code Set} and
+ * {@code SortedSet} of supported types, as comma separated values,
+ * when resolved by generic type</li>
+ * </ul>
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ValueConverter
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public interface ValueConverterRegistry {
+
+    /**
+     * Returns the shared default value converters registry.
+     * 
+     * @return The default value converters registry.
+     */
+    static ValueConverterRegistry defaults() {
+        return ValueConverterRegistryImpl.DEFAULT;
+    }
+
+    /**
+     * Returns the value converter for the specified type, if supported.
+     * <p>
+     * Converters of primitive types return the wrapper values.
+     * 
+     * @param <T> The target type
+     * @param type The target type.
+     * @return The value converter, or {@code null} if the type is not
+     * supported.
+     */
+    <T> @Nullable ValueConverter<T> find(
+            Class<T> type);
+
+    /**
+     * Returns the value converter for the specified generic type, if
+     * supported.
+     * <p>
+     * Supports classes and parameterized collection types.
+     * 
+     * @param type The target generic type.
+     * @return The value converter, or {@code null} if the type is not
+     * supported.
+     */
+    @Nullable ValueConverter<?> find(
+            Type type);
+
+    /**
+     * Returns the value converter for the specified type.
+     * 
+     * @param <T> The target type
+     * @param type The target type.
+     * @return The value converter.
+     * @throws ConfigException If the type is not supported.
+     */
+    default <T> ValueConverter<T> get(
+            final Class<T> type) {
+        final ValueConverter<T> result = find(type);
+        if (result == null) {
+            throw new ConfigException("No value converter registered for type " + type.getName());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new registry with the converters of this registry and the
+     * specified converter for the specified type, which takes precedence
+     * over the converters of this registry.
+     * 
+     * @param <T> The target type
+     * @param type The target type.
+     * @param converter The value converter.
+     * @return The new value converters registry.
+     */
+    <T> ValueConverterRegistry with(
+            Class<T> type,
+            ValueConverter<? extends T> converter);
+}
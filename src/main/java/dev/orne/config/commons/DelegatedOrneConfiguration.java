@@ -22,20 +22,38 @@ package dev.orne.config.commons;
  * #L%
  */
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.commons.configuration2.AbstractConfiguration;
+import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.configuration2.ImmutableConfiguration;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigException;
+import dev.orne.config.impl.ConfigChangeTrackedIndex;
 
 /**
 * Implementation of Apache Commons {@code ImmutableConfiguration} based on
 * {@code Config}.
+* <p>
+* Read operations do not use the configured {@code Synchronizer}, as the
+* delegated configuration cannot be modified through this instance.
+* Prefixed keys iteration and subsets are delegated to the native
+* {@code Config.getKeys(String)} and {@code Config.subset(String)}
+* operations.
+* <p>
+* Optionally, the configuration property values can be indexed to answer
+* {@code containsValue()} without retrieving all the property values.
+* Values are only indexed if the delegated configuration and its parents
+* are either immutable or {@code WatchableConfig} instances, and the index
+* is rebuilt after configuration change events. Note that the index holds
+* the decoded values of the configuration properties.
 * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
 * @version 1.0, 2020-20
@@ -51,8 +69,16 @@ implements ImmutableConfiguration {
     private static final String WRITE_OP_EX_MSG =
             "The underlaying configuration is inmutable.";
 
+    /** The configuration keys delimiter used by Apache Commons. */
+    private static final String KEY_DELIMITER = ".";
+
     /** The delegated Orne configuration. */
     private final Config config;
+    /** If the configuration property values must be indexed. */
+    private final boolean valuesIndexed;
+    /** The configuration property values index. */
+    private final ConfigChangeTrackedIndex<Set<String>> valuesIndex =
+            new ConfigChangeTrackedIndex<>();
 
     /**
      * Creates a new instance.
@@ -61,8 +87,23 @@ implements ImmutableConfiguration {
      */
     public DelegatedOrneConfiguration(
             final Config config) {
+        this(config, false);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param config The delegated Orne configuration
+     * @param valuesIndexed If the configuration property values must be
+     * indexed
+     * @since 1.2
+     */
+    public DelegatedOrneConfiguration(
+            final Config config,
+            final boolean valuesIndexed) {
         super();
         this.config = Objects.requireNonNull(config);
+        this.valuesIndexed = valuesIndexed;
     }
 
     /**
@@ -74,6 +115,49 @@ implements ImmutableConfiguration {
         return this.config;
     }
 
+    /**
+     * Returns {@code true} if the configuration property values must be
+     * indexed.
+     * 
+     * @return If the configuration property values must be indexed
+     * @since 1.2
+     */
+    protected boolean isValuesIndexed() {
+        return this.valuesIndexed;
+    }
+
+    /**
+     * Returns {@code true} if read operations must be coordinated through
+     * the configured {@code Synchronizer}.
+     * 
+     * @return If read operations must be synchronized
+     * @since 1.2
+     */
+    protected boolean isReadSynchronized() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void beginRead(
+            final boolean optimize) {
+        if (isReadSynchronized()) {
+            super.beginRead(optimize);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void endRead() {
+        if (isReadSynchronized()) {
+            super.endRead();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -105,10 +189,47 @@ implements ImmutableConfiguration {
     @Override
     protected boolean containsValueInternal(
             final @Nullable Object value) {
+        if (this.valuesIndexed) {
+            final Set<String> index = getValuesIndex();
+            if (index != null) {
+                return (value == null || value instanceof String)
+                        && index.contains(value);
+            }
+        }
         return this.config.getKeys()
                 .anyMatch(key -> Objects.equals(value, getProperty(key)));
     }
 
+    /**
+     * Returns the configuration property values index, building it if
+     * required.
+     * 
+     * @return The configuration property values index, or {@code null} if
+     * the configuration cannot be indexed
+     * @since 1.2
+     */
+    protected @Nullable Set<String> getValuesIndex() {
+        return this.valuesIndex.get(this.config, this::buildValuesIndex);
+    }
+
+    /**
+     * Builds the configuration property values index.
+     * 
+     * @param indexed The indexed configuration
+     * @return The built index
+     * @since 1.2
+     */
+    protected Set<String> buildValuesIndex(
+            final Config indexed) {
+        final Set<String> values = new HashSet<>();
+        try {
+            indexed.forEach((key, value) -> values.add(value));
+        } catch (final ConfigException ce) {
+            throw new ConfigurationRuntimeException(ce);
+        }
+        return values;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -121,6 +242,75 @@ implements ImmutableConfiguration {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Iterator<String> getKeysInternal(
+            final String prefix) {
+        return getKeysInternal(prefix, KEY_DELIMITER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Iterator<String> getKeysInternal(
+            final String prefix,
+            final String delimiter) {
+        try {
+            final Stream<String> children = this.config.getKeys(prefix + delimiter);
+            if (this.config.contains(prefix)) {
+                return Stream.concat(Stream.of(prefix), children).iterator();
+            }
+            return children.iterator();
+        } catch (final ConfigException ce) {
+            throw new ConfigurationRuntimeException(ce);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned configuration delegates in the native subset of the
+     * delegated configuration, unless the prefix is empty or a property
+     * with the prefix as key exists.
+     */
+    @Override
+    public Configuration subset(
+            final String prefix) {
+        if (prefix.isEmpty() || containsKey(prefix)) {
+            return super.subset(prefix);
+        }
+        final DelegatedOrneConfiguration result;
+        try {
+            result = createSubset(prefix + KEY_DELIMITER);
+        } catch (final ConfigException ce) {
+            throw new ConfigurationRuntimeException(ce);
+        }
+        result.getInterpolator().setParentInterpolator(getInterpolator());
+        result.setListDelimiterHandler(getListDelimiterHandler());
+        result.setConversionHandler(getConversionHandler());
+        result.setThrowExceptionOnMissing(isThrowExceptionOnMissing());
+        result.setConfigurationDecoder(getConfigurationDecoder());
+        return result;
+    }
+
+    /**
+     * Creates a new instance delegating in the native subset of the
+     * delegated configuration with the specified prefix.
+     * 
+     * @param prefix The native subset prefix, including the keys delimiter
+     * @return The subset configuration
+     * @since 1.2
+     */
+    protected DelegatedOrneConfiguration createSubset(
+            final String prefix) {
+        return new DelegatedOrneConfiguration(
+                this.config.subset(prefix),
+                this.valuesIndexed);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -52,6 +52,20 @@ extends DelegatedOrneConfiguration {
         super(config);
     }
 
+    /**
+     * Creates a new instance.
+     * 
+     * @param config The delegated Orne configuration
+     * @param valuesIndexed If the configuration property values must be
+     * indexed
+     * @since 1.2
+     */
+    public DelegatedOrneMutableConfiguration(
+            final MutableConfig config,
+            final boolean valuesIndexed) {
+        super(config, valuesIndexed);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -60,6 +74,25 @@ extends DelegatedOrneConfiguration {
         return (MutableConfig) super.getConfig();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isReadSynchronized() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DelegatedOrneMutableConfiguration createSubset(
+            final String prefix) {
+        return new DelegatedOrneMutableConfiguration(
+                getConfig().subset(prefix),
+                isValuesIndexed());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -22,17 +22,36 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import dev.orne.config.Config;
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoProviderException;
 import dev.orne.config.ConfigException;
+import dev.orne.config.ConfigKey;
 import dev.orne.config.NonIterableConfigException;
+import dev.orne.config.ValueConverterRegistry;
 import dev.orne.config.ValueDecoder;
 import dev.orne.config.ValueDecorator;
 import dev.orne.config.WatchableConfig;
@@ -48,6 +67,9 @@ import dev.orne.config.WatchableConfig;
 public abstract class AbstractConfig
 implements Config {
 
+    /** The class logger. */
+    private static final Logger LOG =
+            LoggerFactory.getLogger(AbstractConfig.class);
     /** Error message for blank property keys. */
     protected static final String KEY_BLANK_ERR =
             "Property key must be a non blank string";
@@ -62,6 +84,18 @@ implements Config {
     private final ValueDecorator decorator;
     /** The configuration properties values variable resolver. */
     private final @Nullable VariableResolver resolver;
+    /** The cryptography transformations provider, if eager decryption is enabled. */
+    private final @Nullable ConfigCryptoProvider eagerCryptoProvider;
+    /** The eagerly decrypted property values, by encrypted value. */
+    private final ConcurrentMap<String, String> decryptedValues =
+            new ConcurrentHashMap<>();
+    /** The sorted index of the configuration property keys, if built. */
+    private volatile @Nullable ConfigKeyIndex keyIndex;
+    /** The property keys index build and discard lock. */
+    private final Object keyIndexLock = new Object();
+    /** The last converted property values, by key. */
+    private final ConcurrentMap<String, ConvertedValue> convertedValues =
+            new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance.
@@ -72,13 +106,24 @@ implements Config {
             final ConfigOptions options) {
         super();
         Objects.requireNonNull(options);
-        if (options.getCryptoProvider() != null) {
+        final ConfigCryptoProvider cryptoProvider = options.getCryptoProvider();
+        if (cryptoProvider != null) {
+            final ValueDecoder cryptoDecoder;
+            if (options.isEagerDecryption()) {
+                this.eagerCryptoProvider = cryptoProvider;
+                cryptoDecoder = this::decrypt;
+            } else {
+                this.eagerCryptoProvider = null;
+                cryptoDecoder = cryptoProvider::decrypt;
+            }
             if (options.getDecoder() == null) {
-                options.setDecoder(options.getCryptoProvider()::decrypt);
+                options.setDecoder(cryptoDecoder);
             } else {
                 options.setDecoder(
-                        options.getDecoder().compose(options.getCryptoProvider()::decrypt));
+                        options.getDecoder().compose(cryptoDecoder));
             }
+        } else {
+            this.eagerCryptoProvider = null;
         }
         if (options.getDecoder() == null) {
             options.setDecoder(ValueDecoder.DEFAULT);
@@ -156,6 +201,98 @@ implements Config {
         return Optional.ofNullable(this.resolver);
     }
 
+    /**
+     * Decrypts all the property values contained in this configuration
+     * instance if eager decryption is enabled.
+     * <p>
+     * The values are decrypted in bulk through
+     * {@link ConfigCryptoProvider#decryptAll(Map)}, which decrypts them in
+     * parallel when supported by the provider. The plain values are
+     * indexed by encrypted value, and the entries of modified or removed
+     * properties are dropped through {@link #discardDecryptedValues(String...)}.
+     * The rest of plain values are retained while the configuration
+     * instance is in use, even if the provider is destroyed.
+     * <p>
+     * If the configuration property keys cannot be iterated the values are
+     * decrypted on each property access.
+     * 
+     * @throws ConfigCryptoProviderException If any property value cannot
+     * be decrypted.
+     * @since 1.2
+     */
+    protected void decryptEagerly() {
+        if (this.eagerCryptoProvider == null) {
+            return;
+        }
+        final Map<String, String> values = new HashMap<>();
+        try (Stream<String> keys = getKeysInt()) {
+            keys.forEach(key -> {
+                final String value = getInt(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+        } catch (final NonIterableConfigException e) {
+            LOG.debug("Configuration properties not iterable. Eager decryption skipped.", e);
+            return;
+        }
+        final Map<String, String> plainValues =
+                this.eagerCryptoProvider.decryptAll(values);
+        plainValues.forEach((key, plain) -> this.decryptedValues.put(values.get(key), plain));
+    }
+
+    /**
+     * Returns the eagerly decrypted property values, by encrypted value.
+     * 
+     * @return The eagerly decrypted property values.
+     * @since 1.2
+     */
+    protected Map<String, String> getDecryptedValues() {
+        return Collections.unmodifiableMap(this.decryptedValues);
+    }
+
+    /**
+     * Drops the eagerly decrypted values of the current values of the
+     * specified configuration properties. Must be called before the
+     * properties are modified or removed.
+     * 
+     * @param keys The configuration properties.
+     * @since 1.2
+     */
+    protected void discardDecryptedValues(
+            final String... keys) {
+        if (this.decryptedValues.isEmpty()) {
+            return;
+        }
+        for (final String key : keys) {
+            final String value = getInt(key);
+            if (value != null) {
+                this.decryptedValues.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Decrypts the specified property value, using the eagerly decrypted
+     * values when available.
+     * 
+     * @param value The encrypted property value.
+     * @return The plain property value.
+     * @throws ConfigCryptoProviderException If the value cannot be
+     * decrypted.
+     */
+    private @Nullable String decrypt(
+            final @Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        final String plain = this.decryptedValues.get(value);
+        if (plain == null) {
+            return Objects.requireNonNull(this.eagerCryptoProvider).decrypt(value);
+        }
+        return plain;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -199,6 +336,32 @@ implements Config {
     protected abstract boolean containsInt(
             String key);
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(
+            final ConfigKey key) {
+        return containsInt(key) || 
+                (this.parent != null && this.parent.containsKey(key));
+    }
+
+    /**
+     * Returns {@code true} if the property with the precompiled key passed
+     * as argument has been configured in this configuration instance.
+     * <p>
+     * Implementations can override this method to use the backend specific
+     * forms of the key cached in the key instance.
+     * 
+     * @param key The configuration property key.
+     * @return Returns {@code true} if the property has been configured.
+     * @since 1.2
+     */
+    protected boolean containsInt(
+            final ConfigKey key) {
+        return containsInt(key.getName());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -226,6 +389,340 @@ implements Config {
      */
     protected abstract Stream<String> getKeysInt();
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys ranges of this configuration instance and its parent
+     * configuration are merged, so only up to {@code limit} keys of each
+     * configuration are retrieved.
+     */
+    @Override
+    public Stream<String> getKeys(
+            final @Nullable String after,
+            final int limit) {
+        final Stream<String> local = getKeysInt(after, limit);
+        if (this.parent == null) {
+            return local;
+        }
+        final Stream<String> inherited;
+        try {
+            inherited = this.parent.getKeys(after, limit);
+        } catch (final NonIterableConfigException e) {
+            return local;
+        }
+        final NavigableSet<String> range = new TreeSet<>();
+        try (Stream<String> localKeys = local; Stream<String> inheritedKeys = inherited) {
+            localKeys.forEach(range::add);
+            inheritedKeys.forEach(range::add);
+        }
+        return range.stream().limit(limit);
+    }
+
+    /**
+     * Returns up to {@code limit} configuration property keys contained in
+     * this configuration instance, in ascending order, starting after the
+     * specified key.
+     * <p>
+     * Uses the property keys index if enabled. Otherwise traverses all the
+     * keys returned by {@link #getKeysInt()}.
+     * 
+     * @param after The last key of the previous range, or {@code null} to
+     * start with the first key.
+     * @param limit The maximum number of keys to return.
+     * @return The range of configuration property keys.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    protected Stream<String> getKeysInt(
+            final @Nullable String after,
+            final int limit) {
+        final ConfigKeyIndex index = getKeyIndex();
+        if (index == null) {
+            return ConfigKeyIndex.extractKeys(getKeysInt(), after, limit);
+        }
+        return index.getKeys(after, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getChildNames(
+            final String prefix) {
+        Objects.requireNonNull(prefix);
+        final Stream<String> local = getChildNamesInt(prefix);
+        if (this.parent == null) {
+            return local;
+        }
+        try {
+            return Stream.concat(local, this.parent.getChildNames(prefix))
+                    .distinct();
+        } catch (final NonIterableConfigException e) {
+            return local;
+        }
+    }
+
+    /**
+     * Returns the names of the direct children of the specified key prefix
+     * in this configuration instance.
+     * <p>
+     * Uses the property keys index if enabled. Otherwise traverses all the
+     * keys returned by {@link #getKeysInt()}.
+     * 
+     * @param prefix The key prefix, including the trailing separator, or
+     * an empty string for the root properties.
+     * @return The names of the direct children of the prefix.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    protected Stream<String> getChildNamesInt(
+            final String prefix) {
+        final ConfigKeyIndex index = getKeyIndex();
+        if (index == null) {
+            return ConfigKeyIndex.extractChildNames(
+                    getKeysInt(),
+                    prefix,
+                    ConfigKeyIndex.DEFAULT_SEPARATOR);
+        }
+        return index.getChildNames(prefix, ConfigKeyIndex.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasChildren(
+            final String prefix) {
+        Objects.requireNonNull(prefix);
+        if (hasChildrenInt(prefix)) {
+            return true;
+        }
+        if (this.parent == null) {
+            return false;
+        }
+        try {
+            return this.parent.hasChildren(prefix);
+        } catch (final NonIterableConfigException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this configuration instance contains property
+     * keys starting with the specified key prefix, other than the prefix
+     * itself.
+     * <p>
+     * Uses the property keys index if enabled. Otherwise traverses the
+     * keys returned by {@link #getKeysInt()}.
+     * 
+     * @param prefix The key prefix, including the trailing separator.
+     * @return If the key prefix has children.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    protected boolean hasChildrenInt(
+            final String prefix) {
+        final ConfigKeyIndex index = getKeyIndex();
+        if (index == null) {
+            try (Stream<String> keys = getKeysInt()) {
+                return keys.anyMatch(key -> key.length() > prefix.length()
+                        && key.startsWith(prefix));
+            }
+        }
+        return index.hasChildren(prefix);
+    }
+
+    /**
+     * Returns {@code true} if the property keys of this configuration
+     * instance must be indexed to resolve child names and keys ranges.
+     * <p>
+     * Implementations must only enable the index if all the changes of the
+     * property keys are made through {@link AbstractMutableConfig}
+     * methods or followed by a call to {@link #discardKeyIndex()}.
+     * 
+     * @return If the property keys must be indexed.
+     * @since 1.2
+     */
+    protected boolean isKeyIndexEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the sorted index of the property keys of this configuration
+     * instance, building it if required.
+     * 
+     * @return The property keys index, or {@code null} if not enabled.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    protected @Nullable ConfigKeyIndex getKeyIndex() {
+        if (!isKeyIndexEnabled()) {
+            return null;
+        }
+        ConfigKeyIndex result = this.keyIndex;
+        if (result == null) {
+            synchronized (this.keyIndexLock) {
+                result = this.keyIndex;
+                if (result == null) {
+                    try (Stream<String> keys = getKeysInt()) {
+                        result = new ConfigKeyIndex(keys);
+                    }
+                    this.keyIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Discards the property keys index after changes in the property keys
+     * of this configuration instance. The index is rebuilt on next use.
+     * 
+     * @since 1.2
+     */
+    protected void discardKeyIndex() {
+        synchronized (this.keyIndexLock) {
+            this.keyIndex = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The property values are retrieved in a single traversal of this
+     * configuration instance and its parent configuration, resolving
+     * the parent properties overriding once per property. The values
+     * are decoded and decorated as in {@link #get(String)}.
+     */
+    @Override
+    public Stream<Map.Entry<String, String>> getEntries() {
+        return getUndecoredEntries()
+                .<Map.Entry<String, String>>map(entry -> entry(
+                        entry.getKey(),
+                        this.decorator.decorate(entry.getValue())))
+                .filter(entry -> entry.getValue() != null);
+    }
+
+    /**
+     * Returns the configuration properties contained in this configuration
+     * and its parent configuration as key/value pairs, without applying any
+     * decoration or transformation.
+     * <p>
+     * The returned values are the ones returned by
+     * {@link #getUndecored(String)}, including properties with
+     * {@code null} values.
+     * 
+     * @return The undecorated configuration property entries.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    protected Stream<Map.Entry<String, @Nullable String>> getUndecoredEntries() {
+        final Stream<Map.Entry<String, @Nullable String>> local = getEntriesInt()
+                .map(entry -> entry(
+                        entry.getKey(),
+                        this.decoder.decode(entry.getValue())));
+        if (this.parent == null) {
+            return local;
+        }
+        final Stream<Map.Entry<String, @Nullable String>> inherited;
+        try {
+            inherited = getUndecoredEntries(this.parent);
+        } catch (final NonIterableConfigException e) {
+            return local;
+        }
+        if (this.overrideParentProperties) {
+            final Map<String, @Nullable String> localValues = collect(local);
+            return Stream.concat(
+                    localValues.entrySet().stream(),
+                    inherited.filter(entry -> !localValues.containsKey(entry.getKey())));
+        } else {
+            final Map<String, @Nullable String> inheritedValues = collect(inherited);
+            return Stream.concat(
+                    local.filter(entry -> !inheritedValues.containsKey(entry.getKey())),
+                    inheritedValues.entrySet().stream());
+        }
+    }
+
+    /**
+     * Returns the configuration properties contained in this configuration
+     * instance as key/value pairs, as returned by {@link #getInt(String)}.
+     * <p>
+     * The default implementation retrieves the value of each key returned
+     * by {@link #getKeysInt()}. Implementations can override this method
+     * to retrieve the keys and values in a single traversal of the
+     * configuration backend.
+     * 
+     * @return The configuration property entries.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     * @throws ConfigException If an error occurs accessing the configuration.
+     * @since 1.2
+     */
+    protected Stream<Map.Entry<String, @Nullable String>> getEntriesInt() {
+        return getKeysInt().map(key -> entry(key, getInt(key)));
+    }
+
+    /**
+     * Returns the undecorated configuration properties contained in the
+     * specified configuration as key/value pairs.
+     * 
+     * @param config The configuration.
+     * @return The undecorated configuration property entries.
+     * @throws NonIterableConfigException If the configuration property keys
+     * cannot be iterated.
+     */
+    private static Stream<Map.Entry<String, @Nullable String>> getUndecoredEntries(
+            final Config config) {
+        if (config instanceof AbstractConfig) {
+            return ((AbstractConfig) config).getUndecoredEntries();
+        }
+        return config.getKeys()
+                .distinct()
+                .map(key -> entry(key, config.getUndecored(key)));
+    }
+
+    /**
+     * Collects the specified configuration property entries, keeping the
+     * first value of each property and the iteration order.
+     * 
+     * @param entries The configuration property entries.
+     * @return The configuration property values, by key.
+     */
+    private static Map<String, @Nullable String> collect(
+            final Stream<Map.Entry<String, @Nullable String>> entries) {
+        final Map<String, @Nullable String> result = new LinkedHashMap<>();
+        try (Stream<Map.Entry<String, @Nullable String>> stream = entries) {
+            stream.forEach(entry -> {
+                if (!result.containsKey(entry.getKey())) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new immutable configuration property entry.
+     * 
+     * @param key The configuration property key.
+     * @param value The configuration property value.
+     * @return The configuration property entry.
+     * @since 1.2
+     */
+    protected static Map.Entry<String, @Nullable String> entry(
+            final String key,
+            final @Nullable String value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -261,6 +758,259 @@ implements Config {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String getValue(
+            final ConfigKey key) {
+        return this.decorator.decorate(getUndecored(key));
+    }
+
+    /**
+     * Returns the value of the configuration parameter with the precompiled
+     * key passed as argument without applying any decoration or
+     * transformation.
+     * 
+     * @param key The configuration property key.
+     * @return The configuration parameter value.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value
+     * @since 1.2
+     */
+    protected @Nullable String getUndecored(
+            final ConfigKey key) {
+        final String value;
+        if (this.overrideParentProperties) {
+            if (containsInt(key)) {
+                value = this.decoder.decode(getInt(key));
+            } else if (this.parent != null) {
+                value = this.parent.getUndecored(key.getName());
+            } else {
+                value = null;
+            }
+        } else {
+            if (this.parent != null && this.parent.containsKey(key)) {
+                value = this.parent.getUndecored(key.getName());
+            } else {
+                value = this.decoder.decode(getInt(key));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The last converted value of each property is cached and reused while
+     * the property value does not change. Array values are not cached, as
+     * they are mutable.
+     */
+    @Override
+    public <T> @Nullable T get(
+            final String key,
+            final Class<T> type) {
+        final String value = get(key);
+        if (value == null) {
+            return null;
+        }
+        return convert(key, value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Converted values are cached as in {@link #get(String, Class)}.
+     */
+    @Override
+    public <T> @Nullable T getValue(
+            final ConfigKey key,
+            final Class<T> type) {
+        final String value = getValue(key);
+        if (value == null) {
+            return null;
+        }
+        return convert(key.getName(), value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are retrieved through {@link #getListInt(String)}, in a
+     * single access to the configuration storage when supported. The
+     * values are decoded and decorated as in {@link #get(String)}.
+     */
+    @Override
+    public List<String> getList(
+            final String key) {
+        Validate.notBlank(key, KEY_BLANK_ERR);
+        final List<@Nullable String> values = getUndecoredList(key);
+        final List<String> result = new ArrayList<>(values.size());
+        for (final String value : values) {
+            final String decorated = this.decorator.decorate(value);
+            if (decorated != null) {
+                result.add(decorated);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the values of the specified list configuration property
+     * without applying any decoration or transformation.
+     * <p>
+     * The values of this configuration instance and the parent
+     * configuration are not merged. The values of the parent configuration
+     * are returned if this instance does not override the parent properties
+     * and the parent contains any value, or if this instance does not
+     * contain the property.
+     * 
+     * @param key The configuration property.
+     * @return The undecorated values, empty if the property is not
+     * configured.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property values
+     * @since 1.2
+     */
+    protected List<@Nullable String> getUndecoredList(
+            final String key) {
+        if (!this.overrideParentProperties && this.parent != null) {
+            final List<@Nullable String> inherited = getUndecoredList(this.parent, key);
+            if (!inherited.isEmpty()) {
+                return inherited;
+            }
+        }
+        final List<String> local = getListInt(key);
+        if (local != null) {
+            final List<@Nullable String> result = new ArrayList<>(local.size());
+            for (final String value : local) {
+                result.add(this.decoder.decode(value));
+            }
+            return result;
+        } else if (this.overrideParentProperties && this.parent != null) {
+            return getUndecoredList(this.parent, key);
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the values of the specified list configuration property in
+     * this configuration instance, as returned by {@link #getInt(String)}.
+     * <p>
+     * The default implementation returns the property value, if any, or the
+     * values of the properties with consecutive indexes starting at zero,
+     * as returned by {@link #getListElementKey(String, int)}.
+     * Implementations can override this method to retrieve the values in a
+     * single access to the configuration backend.
+     * 
+     * @param key The configuration property.
+     * @return The property values, or {@code null} if the property is not
+     * configured in this configuration instance.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property values
+     * @since 1.2
+     */
+    protected @Nullable List<String> getListInt(
+            final String key) {
+        return readList(key, this::getInt, index -> getListElementKey(key, index));
+    }
+
+    /**
+     * Returns the key of the property with the specified index of the
+     * specified list configuration property, for configurations that
+     * store list values as indexed properties.
+     * 
+     * @param key The list configuration property.
+     * @param index The index of the value.
+     * @return The key of the indexed property.
+     * @since 1.2
+     */
+    protected String getListElementKey(
+            final String key,
+            final int index) {
+        return key + ConfigKeyIndex.DEFAULT_SEPARATOR + index;
+    }
+
+    /**
+     * Returns the undecorated values of the specified list configuration
+     * property in the specified configuration.
+     * 
+     * @param config The configuration.
+     * @param key The configuration property.
+     * @return The undecorated values, empty if the property is not
+     * configured.
+     */
+    private static List<@Nullable String> getUndecoredList(
+            final Config config,
+            final String key) {
+        if (config instanceof AbstractConfig) {
+            return ((AbstractConfig) config).getUndecoredList(key);
+        }
+        final List<String> result = readList(
+                key,
+                config::getUndecored,
+                index -> key + ConfigKeyIndex.DEFAULT_SEPARATOR + index);
+        return result == null ? Collections.emptyList() : new ArrayList<>(result);
+    }
+
+    /**
+     * Reads the values of the specified list configuration property, stored
+     * as a single property value or as properties with consecutive indexes
+     * starting at zero.
+     * 
+     * @param key The configuration property.
+     * @param values The configuration property values retrieval function.
+     * @param elementKeys The indexed properties keys, by index.
+     * @return The property values, or {@code null} if the property is not
+     * configured.
+     */
+    private static @Nullable List<String> readList(
+            final String key,
+            final Function<String, @Nullable String> values,
+            final IntFunction<String> elementKeys) {
+        final String value = values.apply(key);
+        if (value != null) {
+            return Collections.singletonList(value);
+        }
+        String element = values.apply(elementKeys.apply(0));
+        if (element == null) {
+            return null;
+        }
+        final List<String> result = new ArrayList<>();
+        while (element != null) {
+            result.add(element);
+            element = values.apply(elementKeys.apply(result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Converts the specified property value to the specified type, reusing
+     * the last converted value of the property if the value has not changed.
+     * 
+     * @param <T> The target type
+     * @param key The configuration property.
+     * @param value The configuration property value.
+     * @param type The target type.
+     * @return The converted configuration property value.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T convert(
+            final String key,
+            final String value,
+            final Class<T> type) {
+        final ConvertedValue cached = this.convertedValues.get(key);
+        if (cached != null && cached.type == type && cached.value.equals(value)) {
+            return (T) cached.converted;
+        }
+        final T converted = ValueConverterRegistry.defaults().get(type).convert(value);
+        if (!type.isArray()) {
+            this.convertedValues.put(key, new ConvertedValue(type, value, converted));
+        }
+        return converted;
+    }
+
     /**
      * Returns the value of the configuration property as {@code String}.
      * 
@@ -271,4 +1021,54 @@ implements Config {
      */
     protected abstract @Nullable String getInt(
             final String key);
+
+    /**
+     * Returns the value of the configuration property with the precompiled
+     * key passed as argument as {@code String}.
+     * <p>
+     * Implementations can override this method to use the backend specific
+     * forms of the key cached in the key instance.
+     * 
+     * @param key The configuration property key.
+     * @return The configuration parameter value.
+     * @throws ConfigException If an error occurs retrieving the configuration
+     * property value.
+     * @since 1.2
+     */
+    protected @Nullable String getInt(
+            final ConfigKey key) {
+        return getInt(key.getName());
+    }
+
+    /**
+     * Converted configuration property value.
+     * 
+     * @since 1.2
+     */
+    private static final class ConvertedValue {
+
+        /** The target type. */
+        private final Class<?> type;
+        /** The configuration property value. */
+        private final String value;
+        /** The converted value. */
+        private final @Nullable Object converted;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param type The target type
+         * @param value The configuration property value
+         * @param converted The converted value
+         */
+        ConvertedValue(
+                final Class<?> type,
+                final String value,
+                final @Nullable Object converted) {
+            super();
+            this.type = type;
+            this.value = value;
+            this.converted = converted;
+        }
+    }
 }
@@ -95,6 +95,15 @@ implements ConfigBuilder<S> {
         return thisBuilder();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public S withEagerDecryption() {
+        this.options.setEagerDecryption(true);
+        return thisBuilder();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -124,6 +133,21 @@ implements ConfigBuilder<S> {
         return thisBuilder();
     }
 
+    /**
+     * Completes the initialization of the builded configuration instance,
+     * applying the options that require a fully constructed instance.
+     * 
+     * @param <C> The type of the configuration instance.
+     * @param config The builded configuration instance.
+     * @return The configuration instance.
+     * @since 1.2
+     */
+    protected <C extends AbstractConfig> C initialize(
+            final C config) {
+        config.decryptEagerly();
+        return config;
+    }
+
     /**
      * Returns this builder instance.
      * 
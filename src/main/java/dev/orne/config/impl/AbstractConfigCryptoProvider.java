@@ -22,12 +22,21 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.security.auth.DestroyFailedException;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import dev.orne.config.ConfigCryptoEngine;
 import dev.orne.config.ConfigCryptoProvider;
@@ -47,12 +56,22 @@ import dev.orne.config.ConfigCryptoProviderException;
 public abstract class AbstractConfigCryptoProvider
 implements ConfigCryptoProvider {
 
+    /** The class logger. */
+    private static final Logger LOG =
+            LoggerFactory.getLogger(AbstractConfigCryptoProvider.class);
+    /** Message for secret key creation errors. */
+    private static final String SECRET_KEY_ERROR =
+            "Error creating secret key";
+    /** Message for secret key destruction errors. */
+    private static final String SECRET_KEY_DESTROY_ERROR =
+            "Error destroying secret key";
+
     /** The cryptographic engine. */
     private final ConfigCryptoEngine engine;
     /** If the engine must be destroyed with provider. */
     private final boolean destroyEngine;
-    /** The secret key to use. */
-    private final SecretKey secretKey;
+    /** The future secret key to use. */
+    private final CompletableFuture<SecretKey> secretKey;
     /** If the provider has been destroyed. */
     private boolean destroyed;
 
@@ -66,7 +85,7 @@ implements ConfigCryptoProvider {
             final CryptoProviderOptions options) {
         this.engine = options.getEngine();
         this.destroyEngine = options.isDestroyEngine();
-        this.secretKey = options.getKey();
+        this.secretKey = options.getKeyFuture();
     }
 
     /**
@@ -80,6 +99,22 @@ implements ConfigCryptoProvider {
             final ConfigCryptoEngine engine,
             final boolean destroyEngine,
             final SecretKey secretKey) {
+        this(engine, destroyEngine, CompletableFuture.completedFuture(secretKey));
+    }
+
+    /**
+     * Creates a new instance with a secret key that could still be
+     * being created.
+     * 
+     * @param engine The cryptographic engine to use.
+     * @param destroyEngine If the engine must be destroyed with provider.
+     * @param secretKey The future secret key to use.
+     * @since 1.2
+     */
+    protected AbstractConfigCryptoProvider(
+            final ConfigCryptoEngine engine,
+            final boolean destroyEngine,
+            final CompletableFuture<SecretKey> secretKey) {
         super();
         this.engine = engine;
         this.destroyEngine = destroyEngine;
@@ -97,11 +132,35 @@ implements ConfigCryptoProvider {
 
     /**
      * Returns the secret key to use during encryption and decryption.
+     * <p>
+     * Waits for the secret key if it is still being created.
      * 
      * @return The secret key.
+     * @throws ConfigCryptoProviderException If an error occurred creating
+     * the secret key.
      */
     protected SecretKey getSecretKey() {
-        return this.secretKey;
+        try {
+            return this.secretKey.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof ConfigCryptoProviderException) {
+                throw (ConfigCryptoProviderException) ce.getCause();
+            }
+            throw new ConfigCryptoProviderException(SECRET_KEY_ERROR, ce.getCause());
+        } catch (final CancellationException ce) {
+            throw new ConfigCryptoProviderException(SECRET_KEY_ERROR, ce);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the secret key creation has finished,
+     * successfully or not.
+     * 
+     * @return If the secret key creation has finished.
+     * @since 1.2
+     */
+    protected boolean isSecretKeyReady() {
+        return this.secretKey.isDone();
     }
 
     /**
@@ -130,7 +189,7 @@ implements ConfigCryptoProvider {
         if (value == null) {
             return value;
         }
-        return this.engine.encrypt(value, this.secretKey, cipher);
+        return this.engine.encrypt(value, getSecretKey(), cipher);
     }
 
     /**
@@ -147,19 +206,173 @@ implements ConfigCryptoProvider {
             final Cipher cipher)
     throws ConfigCryptoProviderException {
         checkDestroyed();
-        return this.engine.decrypt(value, this.secretKey, cipher);
+        return this.engine.decrypt(value, getSecretKey(), cipher);
+    }
+
+    /**
+     * Encrypts the specified plain configuration value characters.
+     * <p>
+     * The characters are encoded into a reusable per thread buffer that
+     * is wiped before returning.
+     * 
+     * @param value The plain configuration value characters
+     * @param cipher The cipher to use.
+     * @return The encrypted configuration value
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * encryption process
+     * @since 1.2
+     */
+    public @Nullable String encryptChars(
+            final char @Nullable [] value,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        if (value == null) {
+            return null;
+        }
+        final ByteBuffer valueBytes = CryptoUtils.plainBuffer(
+                CryptoUtils.utf8EncodedLength(value.length));
+        try {
+            CryptoUtils.encodeUtf8(value, valueBytes);
+            valueBytes.flip();
+            return this.engine.encryptBytes(valueBytes, getSecretKey(), cipher);
+        } finally {
+            CryptoUtils.wipe(valueBytes);
+        }
+    }
+
+    /**
+     * Decrypts the specified encrypted configuration value into the
+     * specified buffer.
+     * 
+     * @param value The encrypted configuration value
+     * @param output The buffer to write the plain value bytes to
+     * @param cipher The cipher to use.
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process or if the buffer has not enough space remaining
+     * @since 1.2
+     */
+    public void decrypt(
+            final CharSequence value,
+            final ByteBuffer output,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        this.engine.decryptInto(value, getSecretKey(), cipher, output);
+    }
+
+    /**
+     * Decrypts the specified encrypted configuration value into a new
+     * characters array.
+     * <p>
+     * The value is decrypted into a reusable per thread buffer that
+     * is wiped before returning.
+     * 
+     * @param value The encrypted configuration value
+     * @param cipher The cipher to use.
+     * @return The plain configuration value characters
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process
+     * @since 1.2
+     */
+    public char @Nullable [] decryptChars(
+            final @Nullable CharSequence value,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        if (value == null) {
+            return null;
+        }
+        // Encrypted values are longer than the plain bytes they contain
+        final ByteBuffer valueBytes = CryptoUtils.plainBuffer(value.length());
+        try {
+            this.engine.decryptInto(value, getSecretKey(), cipher, valueBytes);
+            valueBytes.flip();
+            return CryptoUtils.decodeUtf8(valueBytes);
+        } finally {
+            CryptoUtils.wipe(valueBytes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are encrypted in parallel in the common fork-join pool,
+     * with a cipher per worker thread. The secret key is obtained once
+     * before starting the encryption.
+     */
+    @Override
+    public <K> Map<K, String> encryptAll(
+            final Map<K, String> values)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final SecretKey key = getSecretKey();
+        final Map<Thread, Cipher> ciphers = new ConcurrentHashMap<>();
+        return CryptoUtils.encryptAll(
+                values,
+                value -> this.engine.encrypt(value, key, workerCipher(ciphers)),
+                true);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The values are decrypted in parallel in the common fork-join pool,
+     * with a cipher per worker thread. The secret key is obtained once
+     * before starting the decryption.
+     */
+    @Override
+    public <K> Map<K, String> decryptAll(
+            final Map<K, String> values)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final SecretKey key = getSecretKey();
+        final Map<Thread, Cipher> ciphers = new ConcurrentHashMap<>();
+        return CryptoUtils.decryptAll(
+                values,
+                value -> this.engine.decrypt(value, key, workerCipher(ciphers)),
+                true);
+    }
+
+    /**
+     * Returns the cipher of the current thread for a bulk operation,
+     * creating it if required.
+     * 
+     * @param ciphers The ciphers of the bulk operation, by thread.
+     * @return The cipher of the current thread.
+     */
+    private Cipher workerCipher(
+            final Map<Thread, Cipher> ciphers) {
+        return ciphers.computeIfAbsent(
+                Thread.currentThread(),
+                t -> this.engine.createCipher());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the secret key is still being created it is destroyed as soon as
+     * its creation finishes.
      */
     @Override
     public void destroy() {
         this.destroyed = true;
-        try {
-            this.secretKey.destroy();
-        } catch (DestroyFailedException e) {
-            throw new ConfigCryptoProviderException("Error destroying secret key", e);
+        if (this.secretKey.isDone()) {
+            if (!this.secretKey.isCompletedExceptionally()) {
+                try {
+                    this.secretKey.join().destroy();
+                } catch (final DestroyFailedException e) {
+                    throw new ConfigCryptoProviderException(SECRET_KEY_DESTROY_ERROR, e);
+                }
+            }
+        } else {
+            this.secretKey.thenAccept(key -> {
+                try {
+                    key.destroy();
+                } catch (final DestroyFailedException e) {
+                    LOG.warn(SECRET_KEY_DESTROY_ERROR, e);
+                }
+            });
         }
         if (this.destroyEngine) {
             this.engine.destroy();
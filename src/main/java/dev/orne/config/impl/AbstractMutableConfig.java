@@ -22,6 +22,8 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.commons.lang3.Validate;
@@ -108,11 +110,13 @@ extends AbstractConfig {
             final @Nullable String value) {
         Validate.notBlank(key, KEY_BLANK_ERR);
         String encoded = this.encoder.encode(value);
+        discardDecryptedValues(key);
         if (encoded == null) {
             removeInt(key);
         } else {
             setInt(key, encoded);
         }
+        discardKeyIndex();
         getResolver().ifPresent(r -> r.clearCache());
     }
 
@@ -131,6 +135,75 @@ extends AbstractConfig {
                 "Configuration instance is not mutable");
     }
 
+    /**
+     * Sets the values of the specified list configuration property,
+     * replacing any previous values.
+     * 
+     * @param key The configuration property.
+     * @param values The values to set, or {@code null} to remove them.
+     * @throws ConfigException If an error occurs setting the configuration
+     * property values
+     * @see MutableConfig#setList(String, List)
+     * @since 1.2
+     */
+    protected void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        Validate.notBlank(key, KEY_BLANK_ERR);
+        final List<String> encoded;
+        if (values == null) {
+            encoded = new ArrayList<>(0);
+        } else {
+            Validate.noNullElements(values);
+            encoded = new ArrayList<>(values.size());
+            for (final String value : values) {
+                final String encodedValue = this.encoder.encode(value);
+                if (encodedValue != null) {
+                    encoded.add(encodedValue);
+                }
+            }
+        }
+        final List<String> current = new ArrayList<>();
+        current.add(key);
+        for (int i = 0; containsInt(getListElementKey(key, i)); i++) {
+            current.add(getListElementKey(key, i));
+        }
+        discardDecryptedValues(current.toArray(new String[0]));
+        setListInt(key, encoded);
+        discardKeyIndex();
+        getResolver().ifPresent(r -> r.clearCache());
+    }
+
+    /**
+     * Sets the values of the specified list configuration property,
+     * replacing any previous values.
+     * <p>
+     * The default implementation removes the property value and stores
+     * the values as properties with consecutive indexes starting at zero,
+     * as returned by {@link #getListElementKey(String, int)}, removing the
+     * previous values with higher indexes. Implementations can override
+     * this method to replace the values at once.
+     * 
+     * @param key The configuration property.
+     * @param values The encoded values to set.
+     * @throws ConfigException If an error occurs setting the configuration
+     * property values
+     * @since 1.2
+     */
+    protected void setListInt(
+            final String key,
+            final List<String> values) {
+        final List<String> obsolete = new ArrayList<>();
+        obsolete.add(key);
+        for (int i = values.size(); containsInt(getListElementKey(key, i)); i++) {
+            obsolete.add(getListElementKey(key, i));
+        }
+        removeInt(obsolete.toArray(new String[0]));
+        for (int i = 0; i < values.size(); i++) {
+            setInt(getListElementKey(key, i), values.get(i));
+        }
+    }
+
     /**
      * Removes the specified configuration properties.
      * 
@@ -144,7 +217,9 @@ extends AbstractConfig {
         for (final String key : keys) {
             Validate.notBlank(key, KEY_BLANK_ERR);
         }
+        discardDecryptedValues(keys);
         removeInt(keys);
+        discardKeyIndex();
         getResolver().ifPresent(r -> r.clearCache());
     }
 
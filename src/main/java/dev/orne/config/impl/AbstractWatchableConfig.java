@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
 import java.util.Set;
 
 import org.apiguardian.api.API;
@@ -99,6 +100,33 @@ extends AbstractMutableConfig {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Notifies the changes of the list property and of the indexed
+     * properties of its previous and new values.
+     */
+    @Override
+    protected void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        if (this instanceof WatchableConfig) {
+            final List<String> previous = getListInt(key);
+            super.setList(key, values);
+            final int size = Math.max(
+                    previous == null ? 0 : previous.size(),
+                    values == null ? 0 : values.size());
+            final String[] keys = new String[size + 1];
+            keys[0] = key;
+            for (int i = 0; i < size; i++) {
+                keys[i + 1] = getListElementKey(key, i);
+            }
+            notifyLocalChanges(keys);
+        } else {
+            super.setList(key, values);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
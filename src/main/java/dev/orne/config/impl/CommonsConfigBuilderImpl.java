@@ -65,6 +65,16 @@ implements CommonsConfigBuilder {
         return thisBuilder();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommonsSnapshotConfigBuilderImpl withSnapshot() {
+        return new CommonsSnapshotConfigBuilderImpl(
+                this.options,
+                this.commonsOptions);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -81,8 +91,8 @@ implements CommonsConfigBuilder {
      */
     @Override
     public CommonsConfigImpl build() {
-        return new CommonsConfigImpl(
+        return initialize(new CommonsConfigImpl(
                 this.options,
-                this.commonsOptions);
+                this.commonsOptions));
     }
 }
@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -117,4 +118,19 @@ extends AbstractWatchableConfig {
             final String key) {
         return this.config.getString(key);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads the values of multiple valued properties through
+     * {@code getList()}.
+     */
+    @Override
+    protected @Nullable List<String> getListInt(
+            final String key) {
+        if (!containsInt(key)) {
+            return null;
+        }
+        return this.config.getList(String.class, key);
+    }
 }
@@ -83,10 +83,21 @@ implements CommonsMutableConfigBuilder {
      * {@inheritDoc}
      */
     @Override
-    public CommonsMutableConfigImpl build() {
-        return new CommonsMutableConfigImpl(
+    public CommonsMutableSnapshotConfigBuilderImpl withSnapshot() {
+        return new CommonsMutableSnapshotConfigBuilderImpl(
                 this.options,
                 this.mutableOptions,
                 this.commonsOptions);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommonsMutableConfigImpl build() {
+        return initialize(new CommonsMutableConfigImpl(
+                this.options,
+                this.mutableOptions,
+                this.commonsOptions));
+    }
 }
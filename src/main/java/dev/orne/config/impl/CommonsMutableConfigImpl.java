@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.commons.configuration2.Configuration;
@@ -113,6 +114,28 @@ implements WatchableConfig {
         getConfig().setProperty(key, value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Sets the values as a single multiple valued property.
+     */
+    @Override
+    protected void setListInt(
+            final String key,
+            final List<String> values) {
+        getConfig().setProperty(key, values);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -193,10 +216,11 @@ implements WatchableConfig {
             final Event event) {
         if (event instanceof ConfigurationEvent) {
             final ConfigurationEvent propEvent = (ConfigurationEvent) event;
-            if (propEvent.isBeforeUpdate()) {
+            if (!propEvent.isBeforeUpdate()) {
                 getResolver().ifPresent(VariableResolver::clearCache);
-            } else if (propEvent.getPropertyName() != null) {
-                getEvents().notify(this, propEvent.getPropertyName());
+                if (propEvent.getPropertyName() != null) {
+                    getEvents().notify(this, propEvent.getPropertyName());
+                }
             }
         } else if (event instanceof ReloadingEvent) {
             getResolver().ifPresent(VariableResolver::clearCache);
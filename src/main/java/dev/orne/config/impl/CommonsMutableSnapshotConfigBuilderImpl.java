@@ -0,0 +1,81 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Objects;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apiguardian.api.API;
+
+import dev.orne.config.CommonsMutableSnapshotConfigBuilder;
+
+/**
+ * Implementation of Apache Commons {@code Configuration} based mutable
+ * snapshot configuration builder.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see CommonsMutableSnapshotConfigBuilder
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class CommonsMutableSnapshotConfigBuilderImpl
+extends AbstractMutableConfigBuilderImpl<CommonsMutableSnapshotConfigBuilder>
+implements CommonsMutableSnapshotConfigBuilder {
+
+    /** The Apache Commons based configuration options. */
+    protected final CommonsConfigOptions commonsOptions;
+
+    /**
+     * Copy constructor.
+     * 
+     * @param options The configuration options to copy.
+     * @param mutableOptions The mutable configuration options to copy.
+     * @param commonsOptions The Apache Commons based configuration options
+     * to copy.
+     */
+    protected CommonsMutableSnapshotConfigBuilderImpl(
+            final ConfigOptions options,
+            final MutableConfigOptions mutableOptions,
+            final CommonsConfigOptions commonsOptions) {
+        super(options, mutableOptions);
+        this.commonsOptions = new CommonsConfigOptions(Objects.requireNonNull(commonsOptions));
+        if (this.commonsOptions.getDelegated() != null
+                && !(this.commonsOptions.getDelegated() instanceof Configuration)) {
+            throw new IllegalArgumentException(
+                    "Delegated configuration must be an instance of "
+                            + "org.apache.commons.configuration2.Configuration");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommonsSnapshotConfigImpl build() {
+        return initialize(new CommonsSnapshotConfigImpl(
+                this.options,
+                this.mutableOptions,
+                this.commonsOptions));
+    }
+}
@@ -0,0 +1,71 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+
+import dev.orne.config.CommonsSnapshotConfigBuilder;
+
+/**
+ * Implementation of Apache Commons {@code ImmutableConfiguration} based
+ * snapshot configuration builder.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see CommonsSnapshotConfigBuilder
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class CommonsSnapshotConfigBuilderImpl
+extends AbstractConfigBuilderImpl<CommonsSnapshotConfigBuilder>
+implements CommonsSnapshotConfigBuilder {
+
+    /** The Apache Commons based configuration options. */
+    protected final CommonsConfigOptions commonsOptions;
+
+    /**
+     * Copy constructor.
+     * 
+     * @param options The configuration options to copy.
+     * @param commonsOptions The Apache Commons based configuration options
+     * to copy.
+     */
+    protected CommonsSnapshotConfigBuilderImpl(
+            final ConfigOptions options,
+            final CommonsConfigOptions commonsOptions) {
+        super(options);
+        this.commonsOptions = new CommonsConfigOptions(Objects.requireNonNull(commonsOptions));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommonsSnapshotConfigImpl build() {
+        return initialize(new CommonsSnapshotConfigImpl(
+                this.options,
+                this.commonsOptions));
+    }
+}
@@ -0,0 +1,514 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.configuration2.ImmutableConfiguration;
+import org.apache.commons.configuration2.event.ConfigurationEvent;
+import org.apache.commons.configuration2.event.Event;
+import org.apache.commons.configuration2.event.EventSource;
+import org.apache.commons.configuration2.event.EventType;
+import org.apache.commons.configuration2.reloading.ReloadingEvent;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.orne.config.CommonsSnapshotConfig;
+
+/**
+ * Implementation of {@code CommonsSnapshotConfig} based on Apache Commons
+ * {@code ImmutableConfiguration}.
+ * <p>
+ * The snapshot contains the property keys of the delegated configuration
+ * and their values, resolved through {@code getString()}. If the delegated
+ * configuration is an {@code EventSource} property change events update
+ * the modified property and the properties which values contain variables,
+ * while other configuration events and reloading events rebuild the
+ * snapshot. Values that cannot be resolved when captured are retrieved
+ * from the delegated configuration on each access.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see CommonsSnapshotConfig
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class CommonsSnapshotConfigImpl
+extends CommonsConfigImpl
+implements CommonsSnapshotConfig {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(CommonsSnapshotConfigImpl.class);
+    /** The cached value for properties resolved on each access. */
+    private static final Object UNRESOLVED = new Object();
+    /** The prefix of Apache Commons variables. */
+    private static final String VARIABLE_PREFIX = "${";
+
+    /** If the delegated configuration can be modified through this instance. */
+    private final boolean mutable;
+    /** If Apache Commons events are being listened. */
+    private final boolean commonsEvents;
+    /** The current snapshot. */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new immutable instance.
+     * 
+     * @param options The configuration builder options.
+     * @param commonsOptions The Apache Commons based configuration options.
+     */
+    public CommonsSnapshotConfigImpl(
+            final ConfigOptions options,
+            final CommonsConfigOptions commonsOptions) {
+        super(options, new MutableConfigOptions(), commonsOptions);
+        this.mutable = false;
+        this.snapshot = createSnapshot();
+        this.commonsEvents = configureCommonsEvents();
+    }
+
+    /**
+     * Creates a new mutable instance.
+     * 
+     * @param options The configuration builder options.
+     * @param mutableOptions The mutable configuration builder options.
+     * @param commonsOptions The Apache Commons based configuration options.
+     */
+    public CommonsSnapshotConfigImpl(
+            final ConfigOptions options,
+            final MutableConfigOptions mutableOptions,
+            final CommonsConfigOptions commonsOptions) {
+        super(options, mutableOptions, commonsOptions);
+        if (!(getConfig() instanceof Configuration)) {
+            throw new IllegalArgumentException(
+                    "The delegated configuration must be an mutable instance of Apache Commons Configuration");
+        }
+        this.mutable = true;
+        this.snapshot = createSnapshot();
+        this.commonsEvents = configureCommonsEvents();
+    }
+
+    /**
+     * Returns {@code true} if the delegated configuration can be modified
+     * through this instance.
+     * 
+     * @return If this instance is mutable.
+     */
+    protected boolean isMutable() {
+        return this.mutable;
+    }
+
+    /**
+     * Returns {@code true} if Apache Commons events are being listened.
+     * 
+     * @return If Apache Commons events are being listened.
+     */
+    protected boolean isCommonsEvents() {
+        return this.commonsEvents;
+    }
+
+    /**
+     * Configures reception of Apache Commons events, if supported by the
+     * delegated configuration.
+     * 
+     * @return If Apache Commons events are being listened.
+     */
+    protected boolean configureCommonsEvents() {
+        if (!(getConfig() instanceof EventSource)) {
+            return false;
+        }
+        final EventSource source = (EventSource) getConfig();
+        source.addEventListener(
+                ConfigurationEvent.ANY,
+                this::processCommonsEvent);
+        source.addEventListener(
+                ReloadingEvent.ANY,
+                this::processCommonsEvent);
+        return true;
+    }
+
+    /**
+     * Processes the specified Apache Commons event.
+     * 
+     * @param event The Apache Commons event.
+     */
+    protected void processCommonsEvent(
+            final Event event) {
+        if (event instanceof ConfigurationEvent) {
+            final ConfigurationEvent propEvent = (ConfigurationEvent) event;
+            if (propEvent.isBeforeUpdate()) {
+                return;
+            }
+            final EventType<?> type = propEvent.getEventType();
+            if (propEvent.getPropertyName() != null
+                    && (type == ConfigurationEvent.ADD_PROPERTY
+                        || type == ConfigurationEvent.SET_PROPERTY
+                        || type == ConfigurationEvent.CLEAR_PROPERTY)) {
+                update(propEvent.getPropertyName());
+            } else {
+                refresh();
+            }
+        } else if (event instanceof ReloadingEvent) {
+            LOG.debug("Apache Commons configuration reloaded. Refreshing snapshot...");
+            refresh();
+        }
+    }
+
+    /**
+     * Creates a new snapshot of the current properties of the delegated
+     * configuration.
+     * 
+     * @return The created snapshot.
+     */
+    protected Snapshot createSnapshot() {
+        final Snapshot result = new Snapshot();
+        final Iterator<String> keys = getConfig().getKeys();
+        while (keys.hasNext()) {
+            final String key = keys.next();
+            result.values.put(key, resolve(result, key));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh() {
+        final Set<String> changed = new HashSet<>();
+        synchronized (this) {
+            final Snapshot previous = this.snapshot;
+            final Snapshot current = createSnapshot();
+            addChanges(changed, previous, current);
+            addChanges(changed, current, previous);
+            this.snapshot = current;
+        }
+        notifyChanges(changed);
+    }
+
+    /**
+     * Updates the specified properties in the current snapshot, and the
+     * properties which values contain variables if any value changed.
+     * The registered listeners are notified of the specified properties
+     * and the modified properties.
+     * 
+     * @param keys The properties to update.
+     */
+    protected void update(
+            final String... keys) {
+        final Set<String> changed = new HashSet<>();
+        synchronized (this) {
+            final Snapshot current = this.snapshot;
+            for (final String key : keys) {
+                if (updateEntry(current, key)) {
+                    changed.add(key);
+                }
+            }
+            if (!changed.isEmpty()) {
+                for (final String key : current.dependents) {
+                    if (!changed.contains(key) && updateEntry(current, key)) {
+                        changed.add(key);
+                    }
+                }
+            }
+            Collections.addAll(changed, keys);
+        }
+        notifyChanges(changed);
+    }
+
+    /**
+     * Updates the specified property in the specified snapshot.
+     * 
+     * @param snapshot The snapshot.
+     * @param key The property to update.
+     * @return If the property value changed.
+     */
+    private boolean updateEntry(
+            final Snapshot snapshot,
+            final String key) {
+        final Object previous = snapshot.values.get(key);
+        if (getConfig().containsKey(key)) {
+            final Object value = resolve(snapshot, key);
+            snapshot.values.put(key, value);
+            return !value.equals(previous);
+        } else {
+            snapshot.values.remove(key);
+            snapshot.dependents.remove(key);
+            return previous != null;
+        }
+    }
+
+    /**
+     * Resolves the value of the specified existing property, registering
+     * it in the specified snapshot as dependent of other properties if its
+     * value contains variables.
+     * 
+     * @param snapshot The snapshot.
+     * @param key The configuration property.
+     * @return The resolved value, or {@code UNRESOLVED} if the value must be
+     * resolved on each access.
+     */
+    private Object resolve(
+            final Snapshot snapshot,
+            final String key) {
+        final ImmutableConfiguration config = getConfig();
+        final Object raw = config.getProperty(key);
+        if (raw != null && raw.toString().contains(VARIABLE_PREFIX)) {
+            snapshot.dependents.add(key);
+        } else {
+            snapshot.dependents.remove(key);
+        }
+        try {
+            final String value = config.getString(key);
+            return value == null ? UNRESOLVED : value;
+        } catch (final RuntimeException e) {
+            LOG.debug("Property '{}' cannot be resolved. Resolution delayed until accessed.", key, e);
+            return UNRESOLVED;
+        }
+    }
+
+    /**
+     * Adds the properties of the first snapshot which values differ in the
+     * second snapshot to the specified set of changed properties.
+     * 
+     * @param changed The changed properties.
+     * @param snapshot The snapshot to compare.
+     * @param other The snapshot to compare with.
+     */
+    private static void addChanges(
+            final Set<String> changed,
+            final Snapshot snapshot,
+            final Snapshot other) {
+        for (final Map.Entry<String, Object> entry : snapshot.values.entrySet()) {
+            final Object value = entry.getValue();
+            if (!value.equals(other.values.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Notifies the specified changed properties to the registered
+     * listeners.
+     * 
+     * @param changed The changed properties.
+     */
+    private void notifyChanges(
+            final Set<String> changed) {
+        if (!changed.isEmpty()) {
+            getResolver().ifPresent(VariableResolver::clearCache);
+            getEvents().notify(this, changed);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isEmptyInt() {
+        return this.snapshot.values.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean containsInt(
+            final String key) {
+        return this.snapshot.values.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Stream<String> getKeysInt() {
+        return this.snapshot.values.keySet().stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All the entries are retrieved from the same snapshot.
+     */
+    @Override
+    protected Stream<Map.Entry<String, @Nullable String>> getEntriesInt() {
+        return this.snapshot.values.entrySet().stream()
+                .map(entry -> {
+                    final Object value = entry.getValue();
+                    if (value == UNRESOLVED) {
+                        return entry(entry.getKey(), getConfig().getString(entry.getKey()));
+                    }
+                    return entry(entry.getKey(), (String) value);
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @Nullable String getInt(
+            final String key) {
+        final Object value = this.snapshot.values.get(key);
+        if (value == UNRESOLVED) {
+            return getConfig().getString(key);
+        }
+        return (String) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(
+            final String key,
+            final @Nullable String value) {
+        super.set(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void setInt(
+            final String key,
+            final String value) {
+        if (this.mutable) {
+            ((Configuration) getConfig()).setProperty(key, value);
+        } else {
+            super.setInt(key, value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Sets the values as a single multiple valued property.
+     */
+    @Override
+    protected void setListInt(
+            final String key,
+            final List<String> values) {
+        if (this.mutable) {
+            ((Configuration) getConfig()).setProperty(key, values);
+        } else {
+            super.setListInt(key, values);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(
+            final String... keys) {
+        super.remove(keys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void removeInt(
+            final String... keys) {
+        if (this.mutable) {
+            for (final String key : keys) {
+                ((Configuration) getConfig()).clearProperty(key);
+            }
+        } else {
+            super.removeInt(keys);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(
+            final Listener listener) {
+        super.addListener(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListener(
+            final Listener listener) {
+        super.removeListener(listener);
+    }
+
+    /**
+     * Updates the snapshot with the properties changed through this
+     * instance, unless updated from Apache Commons events.
+     * 
+     * {@inheritDoc}
+     */
+    @Override
+    protected void notifyLocalChanges(
+            final String... keys) {
+        if (!this.commonsEvents) {
+            update(keys);
+        }
+    }
+
+    /**
+     * Snapshot of the properties of the delegated Apache Commons
+     * configuration.
+     * 
+     * @since 1.2
+     */
+    protected static final class Snapshot {
+
+        /** The resolved values, by property key. */
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+        /** The properties which values contain variables. */
+        private final Set<String> dependents = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Creates a new instance.
+         */
+        Snapshot() {
+            super();
+        }
+    }
+}
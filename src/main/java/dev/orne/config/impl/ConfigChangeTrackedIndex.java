@@ -0,0 +1,227 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Index of a configuration contents discarded on configuration changes.
+ * <p>
+ * The index is only built if the configuration, and its parents, are
+ * either immutable or {@code WatchableConfig} instances. On first build
+ * a listener is registered in all the watchable configurations of the
+ * parent chain, and the index is discarded after every configuration
+ * change event. Indexes built while a change event is received are
+ * returned but not cached.
+ * <p>
+ * The registered listeners weakly reference this instance, so the
+ * configurations do not prevent the collection of discarded adapters,
+ * and unregister themselves on the next configuration change once this
+ * instance has been collected.
+ * 
+ * @param <T> The type of the index
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ConfigChangeTrackedIndex<T> {
+
+    /** The index, if built. */
+    private volatile @Nullable T index;
+    /** If the configuration can be indexed. */
+    private volatile boolean indexable = true;
+    /** If configuration change events are being listened. */
+    private boolean listening;
+    /** The configuration change events counter. */
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     */
+    public ConfigChangeTrackedIndex() {
+        super();
+    }
+
+    /**
+     * Checks if the contents of the specified configuration can be
+     * indexed: the configuration and its parents must be either immutable
+     * or {@code WatchableConfig} instances.
+     * 
+     * @param config The configuration.
+     * @return If the configuration can be indexed.
+     */
+    public static boolean isIndexable(
+            final Config config) {
+        for (Config cfg = config; cfg != null; cfg = cfg.getParent()) {
+            if (cfg instanceof MutableConfig && !(cfg instanceof WatchableConfig)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current index, without building it.
+     * 
+     * @return The current index, or {@code null} if not built or discarded.
+     */
+    public @Nullable T getCurrent() {
+        return this.index;
+    }
+
+    /**
+     * Returns {@code false} if the configuration has been found not to be
+     * indexable.
+     * 
+     * @return If the configuration can still be indexed.
+     */
+    public boolean isIndexable() {
+        return this.indexable;
+    }
+
+    /**
+     * Returns the current index, building it with the specified builder
+     * if required. If the configuration cannot be indexed, or the builder
+     * returns {@code null}, the configuration is marked as not indexable
+     * and {@code null} is returned from then on.
+     * 
+     * @param config The indexed configuration.
+     * @param builder The index builder.
+     * @return The index, or {@code null} if the configuration cannot be
+     * indexed.
+     */
+    public @Nullable T get(
+            final Config config,
+            final Function<? super Config, ? extends @Nullable T> builder) {
+        final T result = this.index;
+        if (result != null || !this.indexable) {
+            return result;
+        }
+        return build(config, builder);
+    }
+
+    /**
+     * Builds the index with the specified builder, if the configuration
+     * can be indexed.
+     * 
+     * @param config The indexed configuration.
+     * @param builder The index builder.
+     * @return The built index, or {@code null} if the configuration cannot
+     * be indexed.
+     */
+    protected synchronized @Nullable T build(
+            final Config config,
+            final Function<? super Config, ? extends @Nullable T> builder) {
+        T result = this.index;
+        if (result != null || !this.indexable) {
+            return result;
+        }
+        if (!this.listening) {
+            if (!isIndexable(config)) {
+                this.indexable = false;
+                return null;
+            }
+            for (Config cfg = config; cfg != null; cfg = cfg.getParent()) {
+                if (cfg instanceof WatchableConfig) {
+                    final WatchableConfig watchable = (WatchableConfig) cfg;
+                    watchable.addListener(new Invalidator(this, watchable));
+                }
+            }
+            this.listening = true;
+        }
+        final long version = this.changes.get();
+        result = builder.apply(config);
+        if (result == null) {
+            this.indexable = false;
+            return null;
+        }
+        if (this.changes.get() == version) {
+            this.index = result;
+        }
+        return result;
+    }
+
+    /**
+     * Discards the index.
+     */
+    public void invalidate() {
+        this.changes.incrementAndGet();
+        this.index = null;
+    }
+
+    /**
+     * Configuration changes listener that discards the index. Weakly
+     * references the index, and unregisters itself once the index has
+     * been collected.
+     * 
+     * @since 1.2
+     */
+    private static final class Invalidator
+    implements WatchableConfig.Listener {
+
+        /** The index. */
+        private final WeakReference<ConfigChangeTrackedIndex<?>> index;
+        /** The configuration this listener is registered in. */
+        private final WatchableConfig source;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param index The index.
+         * @param source The configuration this listener is registered in.
+         */
+        Invalidator(
+                final ConfigChangeTrackedIndex<?> index,
+                final WatchableConfig source) {
+            super();
+            this.index = new WeakReference<>(index);
+            this.source = source;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void configurationChanged(
+                final MutableConfig config,
+                final Set<String> keys) {
+            final ConfigChangeTrackedIndex<?> target = this.index.get();
+            if (target == null) {
+                this.source.removeListener(this);
+            } else {
+                target.invalidate();
+            }
+        }
+    }
+}
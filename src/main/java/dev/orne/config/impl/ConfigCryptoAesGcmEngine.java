@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.spec.KeySpec;
@@ -298,20 +299,39 @@ extends AbstractConfigCryptoEngine {
             final String value,
             final SecretKey key,
             final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        return encryptBytes(
+                ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)),
+                key,
+                cipher);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String encryptBytes(
+            final ByteBuffer value,
+            final SecretKey key,
+            final Cipher cipher)
     throws ConfigCryptoProviderException {
         checkDestroyed();
-        final byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
         final byte[] initVector = new byte[getGcmInitVectorLength()];
         getSecureRandom().nextBytes(initVector);
+        // GCM parameters are immutable and hold a copy of the initial
+        // vector, that must not be reused with the same key, so they
+        // cannot be shared between encryptions
         final GCMParameterSpec spec = new GCMParameterSpec(
                 getGcmTagLength() * java.lang.Byte.SIZE,
                 initVector);
         try {
             cipher.init(Cipher.ENCRYPT_MODE, key, spec, getSecureRandom());
-            final int resultBytes = initVector.length + cipher.getOutputSize(valueBytes.length);
+            final int resultBytes = initVector.length + cipher.getOutputSize(value.remaining());
             final byte[] ciphertext = new byte[resultBytes];
             System.arraycopy(initVector, 0, ciphertext, 0, initVector.length);
-            cipher.doFinal(valueBytes, 0, valueBytes.length, ciphertext, initVector.length);
+            cipher.doFinal(
+                    value,
+                    ByteBuffer.wrap(ciphertext, initVector.length, resultBytes - initVector.length));
             return Base64.getEncoder().encodeToString(ciphertext);
         } catch (final GeneralSecurityException gse) {
             throw new ConfigCryptoProviderException(ENCRYPTION_ERROR, gse);
@@ -326,21 +346,56 @@ extends AbstractConfigCryptoEngine {
             final String value,
             final SecretKey key,
             final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        final ByteBuffer valueBytes = CryptoUtils.plainBuffer(
+                CryptoUtils.base64DecodedLength(value));
+        try {
+            decryptInto(value, key, cipher, valueBytes);
+            valueBytes.flip();
+            return new String(
+                    valueBytes.array(),
+                    valueBytes.arrayOffset(),
+                    valueBytes.limit(),
+                    StandardCharsets.UTF_8);
+        } finally {
+            CryptoUtils.wipe(valueBytes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is decoded into a reusable per thread buffer and decrypted
+     * directly into the specified buffer.
+     */
+    @Override
+    public void decryptInto(
+            final CharSequence value,
+            final SecretKey key,
+            final Cipher cipher,
+            final ByteBuffer output)
     throws ConfigCryptoProviderException {
         checkDestroyed();
-        final byte[] cipherBytes = Base64.getDecoder().decode(value);
+        final ByteBuffer cipherBytes;
+        try {
+            cipherBytes = CryptoUtils.decodeBase64(value);
+        } catch (final IllegalArgumentException iae) {
+            throw new ConfigCryptoProviderException(DECRYPTION_ERROR, iae);
+        }
+        if (cipherBytes.remaining() < getGcmInitVectorLength()) {
+            throw new ConfigCryptoProviderException(DECRYPTION_ERROR);
+        }
+        // GCM parameters are immutable and copy the initial vector, so a
+        // new instance is required for each encrypted value
         final GCMParameterSpec gcmSpec = new GCMParameterSpec(
                 getGcmTagLength() * java.lang.Byte.SIZE,
-                cipherBytes,
-                0,
+                cipherBytes.array(),
+                cipherBytes.arrayOffset() + cipherBytes.position(),
                 getGcmInitVectorLength());
+        cipherBytes.position(cipherBytes.position() + getGcmInitVectorLength());
         try {
             cipher.init(Cipher.DECRYPT_MODE, key, gcmSpec, getSecureRandom());
-            final byte[] valueBytes = cipher.doFinal(
-                    cipherBytes,
-                    getGcmInitVectorLength(),
-                    cipherBytes.length - getGcmInitVectorLength());
-            return new String(valueBytes, StandardCharsets.UTF_8);
+            cipher.doFinal(cipherBytes, output);
         } catch (final AEADBadTagException bte) {
             throw new ConfigCryptoWrongKeyException(DECRYPTION_WRONG_KEY_ERROR, bte);
         } catch (final GeneralSecurityException gse) {
@@ -0,0 +1,359 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.spec.KeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apiguardian.api.API;
+
+import dev.orne.config.ConfigCryptoProviderException;
+import dev.orne.config.ConfigCryptoWrongKeyException;
+
+/**
+ * Implementation of {@code ConfigCryptoEngine} based on
+ * Java Cryptography Architecture using ChaCha20 stream cipher with
+ * Poly1305 authenticator.
+ * <p>
+ * Unlike AES, ChaCha20 does not rely on hardware acceleration, performing
+ * better than AES-GCM on platforms without AES instructions.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ConfigCryptoChaCha20Poly1305Engine
+extends AbstractConfigCryptoEngine {
+
+    /** The default {@code SecretKeyFactory} algorithm. */
+    public static final String DEFAULT_KEY_FACTORY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    /** The {@code SecretKey} algorithm. */
+    public static final String KEY_ALGORITHM = "ChaCha20";
+    /** The {@code Cipher} algorithm. */
+    public static final String CIPHER_ALGORITHM = "ChaCha20-Poly1305";
+    /** The default {@code SecretKey} salt iterations. */
+    public static final int DEFAULT_SECRET_KEY_ITERATIONS = 65536;
+    /** The {@code SecretKey} length, in bits. */
+    public static final int SECRET_KEY_LENGTH = 256;
+    /** The nonce length, in bytes. */
+    public static final int NONCE_LENGTH = 12;
+    /** The Poly1305 tag length, in bytes. */
+    public static final int TAG_LENGTH = 16;
+    /** Message for {@code SecretKey} creation errors. */
+    private static final String SECRET_KEY_CREATION_ERROR =
+            "Error creating secret key";
+    /** Message for encryption errors. */
+    private static final String ENCRYPTION_ERROR =
+            "Error encrypting secret value";
+    /** Message for decryption errors. */
+    private static final String DECRYPTION_ERROR =
+            "Error decrypting secret value";
+    /** Message for decryption errors caused by invalid Poly1305 tag validations. */
+    private static final String DECRYPTION_WRONG_KEY_ERROR = 
+            "Error decrypting secret value. Original value encrypted with another key?";
+
+    /** The {@code SecretKeyFactory} algorithm. */
+    private final String secretKeyFactoryAlgorithm;
+    /** The generated {@code SecretKey} salt iterations. */
+    private int secretKeyIterations = DEFAULT_SECRET_KEY_ITERATIONS;
+    /** The salt used for the {@code SecretKey} creations. */
+    private final byte[] secretKeySalt;
+
+    /**
+     * Creates a new instance with the default {@code SecretKeyFactory}
+     * algorithm.
+     * 
+     * @param secretKeySalt The salt used for the {@code SecretKey} creations.
+     */
+    public ConfigCryptoChaCha20Poly1305Engine(
+            final byte[] secretKeySalt) {
+        this(DEFAULT_KEY_FACTORY_ALGORITHM, secretKeySalt);
+    }
+
+    /**
+     * Creates a new instance with the specified {@code SecretKeyFactory}
+     * algorithm.
+     * 
+     * @param secretKeyFactoryAlgorithm The {@code SecretKeyFactory} algorithm
+     * @param secretKeySalt The salt used for the {@code SecretKey} creations.
+     */
+    public ConfigCryptoChaCha20Poly1305Engine(
+            final String secretKeyFactoryAlgorithm,
+            final byte[] secretKeySalt) {
+        super();
+        this.secretKeyFactoryAlgorithm = Objects.requireNonNull(secretKeyFactoryAlgorithm);
+        this.secretKeySalt = Objects.requireNonNull(secretKeySalt);
+        if (this.secretKeySalt.length == 0) {
+            throw new IllegalArgumentException("Secret key salt cannot be empty");
+        }
+    }
+
+    /**
+     * Returns the {@code SecretKeyFactory} algorithm.
+     * 
+     * @return The {@code SecretKeyFactory} algorithm.
+     */
+    public String getSecretKeyFactoryAlgorithm() {
+        return this.secretKeyFactoryAlgorithm;
+    }
+
+    /**
+     * Returns the {@code SecretKey} salt iterations.
+     * 
+     * @return The {@code SecretKey} salt iterations
+     */
+    public int getSecretKeyIterations() {
+        return this.secretKeyIterations;
+    }
+
+    /**
+     * Sets the generated {@code SecretKey} salt iterations.
+     * 
+     * @param iterations The generated {@code SecretKey} salt iterations
+     */
+    public void setSecretKeyIterations(
+            final int iterations) {
+        this.secretKeyIterations = iterations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SecretKey createSecretKey(
+            final char[] password)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        try {
+            final SecretKeyFactory factory = getSecretKeyFactory(
+                    getSecretKeyFactoryAlgorithm());
+            final KeySpec spec = createKeySpec(password);
+            final SecretKey tmp = factory.generateSecret(spec);
+            return new SecretKeySpec(tmp.getEncoded(), KEY_ALGORITHM);
+        } catch (final GeneralSecurityException gse) {
+            throw new ConfigCryptoProviderException(SECRET_KEY_CREATION_ERROR, gse);
+        }
+    }
+
+    /**
+     * Generates the secret key specification for the specified password.
+     * 
+     * @param password The password
+     * @return The secret key specification
+     * @throws ConfigCryptoProviderException If an error occurs when creating
+     * the specification
+     */
+    protected KeySpec createKeySpec(
+            final char[] password)
+    throws ConfigCryptoProviderException {
+        try {
+            return new PBEKeySpec(
+                    password,
+                    this.secretKeySalt,
+                    getSecretKeyIterations(),
+                    SECRET_KEY_LENGTH);
+        } catch (final IllegalArgumentException iae) {
+            throw new ConfigCryptoProviderException(SECRET_KEY_CREATION_ERROR, iae);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cipher createCipher()
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        return createCipher(CIPHER_ALGORITHM);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encrypted value is the Base64 encoding of the random nonce
+     * followed by the cipher text and the Poly1305 tag.
+     */
+    @Override
+    public String encrypt(
+            final String value,
+            final SecretKey key,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        return encryptBytes(
+                ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)),
+                key,
+                cipher);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encrypted value is the Base64 encoding of the random nonce
+     * followed by the cipher text and the Poly1305 tag.
+     */
+    @Override
+    public String encryptBytes(
+            final ByteBuffer value,
+            final SecretKey key,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final byte[] nonce = new byte[NONCE_LENGTH];
+        getSecureRandom().nextBytes(nonce);
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(nonce));
+            final int resultBytes = nonce.length + cipher.getOutputSize(value.remaining());
+            final byte[] ciphertext = new byte[resultBytes];
+            System.arraycopy(nonce, 0, ciphertext, 0, nonce.length);
+            cipher.doFinal(
+                    value,
+                    ByteBuffer.wrap(ciphertext, nonce.length, resultBytes - nonce.length));
+            return Base64.getEncoder().encodeToString(ciphertext);
+        } catch (final GeneralSecurityException gse) {
+            throw new ConfigCryptoProviderException(ENCRYPTION_ERROR, gse);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String decrypt(
+            final String value,
+            final SecretKey key,
+            final Cipher cipher)
+    throws ConfigCryptoProviderException {
+        final ByteBuffer valueBytes = CryptoUtils.plainBuffer(
+                CryptoUtils.base64DecodedLength(value));
+        try {
+            decryptInto(value, key, cipher, valueBytes);
+            valueBytes.flip();
+            return new String(
+                    valueBytes.array(),
+                    valueBytes.arrayOffset(),
+                    valueBytes.limit(),
+                    StandardCharsets.UTF_8);
+        } finally {
+            CryptoUtils.wipe(valueBytes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is decoded into a reusable per thread buffer and decrypted
+     * directly into the specified buffer.
+     */
+    @Override
+    public void decryptInto(
+            final CharSequence value,
+            final SecretKey key,
+            final Cipher cipher,
+            final ByteBuffer output)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final ByteBuffer cipherBytes;
+        try {
+            cipherBytes = CryptoUtils.decodeBase64(value);
+        } catch (final IllegalArgumentException iae) {
+            throw new ConfigCryptoProviderException(DECRYPTION_ERROR, iae);
+        }
+        if (cipherBytes.remaining() < NONCE_LENGTH + TAG_LENGTH) {
+            throw new ConfigCryptoProviderException(DECRYPTION_ERROR);
+        }
+        try {
+            initDecryption(
+                    cipher,
+                    key,
+                    cipherBytes.array(),
+                    cipherBytes.arrayOffset() + cipherBytes.position());
+            cipherBytes.position(cipherBytes.position() + NONCE_LENGTH);
+            cipher.doFinal(cipherBytes, output);
+        } catch (final AEADBadTagException bte) {
+            throw new ConfigCryptoWrongKeyException(DECRYPTION_WRONG_KEY_ERROR, bte);
+        } catch (final GeneralSecurityException gse) {
+            throw new ConfigCryptoProviderException(DECRYPTION_ERROR, gse);
+        }
+    }
+
+    /**
+     * Initializes the cipher for the decryption of the specified encrypted
+     * bytes.
+     * <p>
+     * JDK ChaCha20 ciphers reject consecutive initializations with the same
+     * key and nonce, which happens when the same value is decrypted twice
+     * with the same cipher. The cipher is always reset first with a nonce
+     * different from the value's one, which is cheaper than recovering from
+     * the rejected initialization.
+     * 
+     * @param cipher The cipher to initialize.
+     * @param key The secret key.
+     * @param cipherBytes The array containing the encrypted bytes.
+     * @param offset The offset of the encrypted bytes, starting with the
+     * nonce, in the array.
+     * @throws GeneralSecurityException If the cipher cannot be initialized.
+     */
+    protected void initDecryption(
+            final Cipher cipher,
+            final SecretKey key,
+            final byte[] cipherBytes,
+            final int offset)
+    throws GeneralSecurityException {
+        final byte[] resetNonce = Arrays.copyOfRange(cipherBytes, offset, offset + NONCE_LENGTH);
+        resetNonce[0] ^= 1;
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new IvParameterSpec(resetNonce));
+        } catch (final InvalidKeyException ike) {
+            // Previous initialization used the reset nonce or the key is
+            // not valid, in which case next initialization fails too.
+        }
+        cipher.init(
+                Cipher.DECRYPT_MODE,
+                key,
+                new IvParameterSpec(cipherBytes, offset, NONCE_LENGTH));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        Arrays.fill(this.secretKeySalt, (byte) 0);
+        super.destroy();
+    }
+}
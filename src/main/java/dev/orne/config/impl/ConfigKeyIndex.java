@@ -0,0 +1,229 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sorted index of configuration property keys.
+ * <p>
+ * Resolves the child names of a key prefix with one lookup per child,
+ * and the ordered ranges of keys with one lookup per range, instead of
+ * scanning all the configuration property keys.
+ * <p>
+ * Instances are immutable. Configurations must discard and rebuild the
+ * index when the property keys change.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see AbstractConfig#getKeyIndex()
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigKeyIndex {
+
+    /** The default nested properties separator. */
+    public static final String DEFAULT_SEPARATOR = ".";
+    /** The invalid range limit error message. */
+    private static final String LIMIT_ERR = "Keys range limit must be non negative";
+
+    /** The sorted property keys. */
+    private final NavigableSet<String> keys;
+
+    /**
+     * Creates a new index of the specified property keys.
+     * 
+     * @param keys The configuration property keys.
+     */
+    public ConfigKeyIndex(
+            final Stream<String> keys) {
+        super();
+        this.keys = Collections.unmodifiableNavigableSet(
+                keys.collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    /**
+     * Returns the indexed property keys, in ascending order.
+     * 
+     * @return The indexed property keys.
+     */
+    public Stream<String> getKeys() {
+        return this.keys.stream();
+    }
+
+    /**
+     * Returns the names of the direct children of the specified key prefix.
+     * 
+     * @param prefix The key prefix, including the trailing separator, or
+     * an empty string for the root properties.
+     * @param separator The nested properties separator.
+     * @return The names of the direct children of the prefix.
+     * @see dev.orne.config.Config#getChildNames(String)
+     */
+    public Stream<String> getChildNames(
+            final String prefix,
+            final String separator) {
+        Objects.requireNonNull(prefix);
+        Validate.notEmpty(separator);
+        final Set<String> result = new LinkedHashSet<>();
+        String current = this.keys.higher(prefix);
+        while (current != null && current.startsWith(prefix)) {
+            final String name = getChildName(current, prefix, separator);
+            result.add(name);
+            if (current.length() == prefix.length() + name.length()) {
+                current = this.keys.higher(current);
+            } else {
+                current = this.keys.higher(prefix + name + separator + Character.MAX_VALUE);
+            }
+        }
+        return result.stream();
+    }
+
+    /**
+     * Returns {@code true} if there are property keys with the specified
+     * prefix, other than the prefix itself.
+     * 
+     * @param prefix The key prefix.
+     * @return If the prefix has children.
+     * @see dev.orne.config.Config#hasChildren(String)
+     */
+    public boolean hasChildren(
+            final String prefix) {
+        Objects.requireNonNull(prefix);
+        final String next = this.keys.higher(prefix);
+        return next != null && next.startsWith(prefix);
+    }
+
+    /**
+     * Returns up to {@code limit} property keys, in ascending order,
+     * starting after the specified key.
+     * 
+     * @param after The last key of the previous range, or {@code null} to
+     * start with the first key.
+     * @param limit The maximum number of keys to return.
+     * @return The range of property keys.
+     * @see dev.orne.config.Config#getKeys(String, int)
+     */
+    public Stream<String> getKeys(
+            final @Nullable String after,
+            final int limit) {
+        Validate.isTrue(limit >= 0, LIMIT_ERR);
+        final NavigableSet<String> range;
+        if (after == null) {
+            range = this.keys;
+        } else {
+            range = this.keys.tailSet(after, false);
+        }
+        return range.stream().limit(limit);
+    }
+
+    /**
+     * Returns the name of the direct child of the specified key prefix
+     * that contains the specified key.
+     * 
+     * @param key The property key, starting with the prefix.
+     * @param prefix The key prefix.
+     * @param separator The nested properties separator.
+     * @return The name of the child of the prefix.
+     */
+    public static String getChildName(
+            final String key,
+            final String prefix,
+            final String separator) {
+        final int end = key.indexOf(separator, prefix.length());
+        if (end == -1) {
+            return key.substring(prefix.length());
+        }
+        return key.substring(prefix.length(), end);
+    }
+
+    /**
+     * Extracts the names of the direct children of the specified key prefix
+     * from the specified property keys, without building an index.
+     * 
+     * @param keys The configuration property keys.
+     * @param prefix The key prefix, including the trailing separator, or
+     * an empty string for the root properties.
+     * @param separator The nested properties separator.
+     * @return The names of the direct children of the prefix.
+     */
+    public static Stream<String> extractChildNames(
+            final Stream<String> keys,
+            final String prefix,
+            final String separator) {
+        Objects.requireNonNull(prefix);
+        Validate.notEmpty(separator);
+        return keys
+                .filter(key -> key.length() > prefix.length() && key.startsWith(prefix))
+                .map(key -> getChildName(key, prefix, separator))
+                .distinct();
+    }
+
+    /**
+     * Extracts up to {@code limit} property keys, in ascending order,
+     * starting after the specified key from the specified property keys,
+     * without building an index.
+     * <p>
+     * Only the keys of the range are kept in memory while the keys are
+     * traversed.
+     * 
+     * @param keys The configuration property keys.
+     * @param after The last key of the previous range, or {@code null} to
+     * start with the first key.
+     * @param limit The maximum number of keys to return.
+     * @return The range of property keys.
+     */
+    public static Stream<String> extractKeys(
+            final Stream<String> keys,
+            final @Nullable String after,
+            final int limit) {
+        Validate.isTrue(limit >= 0, LIMIT_ERR);
+        final NavigableSet<String> range = new TreeSet<>();
+        if (limit == 0) {
+            keys.close();
+            return range.stream();
+        }
+        try (Stream<String> stream = keys) {
+            stream.filter(key -> after == null || key.compareTo(after) > 0)
+                    .forEach(key -> {
+                        if (range.size() < limit) {
+                            range.add(key);
+                        } else if (key.compareTo(range.last()) < 0 && range.add(key)) {
+                            range.pollLast();
+                        }
+                    });
+        }
+        return range.stream();
+    }
+}
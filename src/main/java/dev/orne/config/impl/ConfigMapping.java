@@ -0,0 +1,141 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigException;
+import dev.orne.config.Key;
+
+/**
+ * Invocation handler for configuration mapping proxies.
+ * Returns the cached converted values of the {@code Key} annotated methods
+ * and invokes the default methods directly on the mapping interface.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Key
+ * @see ConfigMappingPlan
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ConfigMapping
+extends AbstractProxyHandler {
+
+    /** The cached mapped values. */
+    private final ConfigMappingValues values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param instance The mapped configuration instance.
+     * @param plan The mapping plan.
+     */
+    protected ConfigMapping(
+            final Config instance,
+            final ConfigMappingPlan plan) {
+        super(instance);
+        this.values = ConfigMappingValues.of(instance, plan);
+    }
+
+    /**
+     * Creates a new configuration mapping proxy instance with the specified
+     * configuration.
+     *
+     * @param <T> The type of the mapping interface.
+     * @param config The mapped configuration instance.
+     * @param type The mapping interface.
+     * @return A new configuration mapping proxy instance.
+     * @throws ConfigException If the interface is not a valid mapping
+     * interface.
+     */
+    public static <T> T create(
+            final Config config,
+            final Class<T> type) {
+        Objects.requireNonNull(config, "The configuration instance must not be null");
+        Objects.requireNonNull(type, "The configuration mapping type must not be null");
+        final ConfigMapping handler = new ConfigMapping(config, ConfigMappingPlan.of(type));
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                handler));
+    }
+
+    /**
+     * {@inheritDoc}
+    */
+    @Override
+    public @Nullable Object invoke(
+            final @Nullable Object proxy,
+            final Method method,
+            final @Nullable Object[] args)
+    throws Throwable {
+        final int index = this.values.getPlan().indexOf(method);
+        if (index != -1) {
+            return this.values.get(index);
+        }
+        if (Object.class.equals(method.getDeclaringClass())) {
+            return handleObjectMethod(method, args);
+        }
+        return (Object) this.values.getPlan()
+                .getDefaultMethod(method)
+                .invokeExact(proxy, args);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                super.hashCode(),
+                this.values.getPlan().getType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final @Nullable Object obj) {
+        if (obj == null || !super.equals(obj)) {
+            return false;
+        }
+        final ConfigMapping other = (ConfigMapping) obj;
+        return Objects.equals(this.values.getPlan().getType(), other.values.getPlan().getType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ConfigMapping [instance=" + this.instance + ", type=" + this.values.getPlan().getType() + "]";
+    }
+}
@@ -0,0 +1,306 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigException;
+import dev.orne.config.Key;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.ValueConverter;
+import dev.orne.config.ValueConverterRegistry;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Precompiled plan of the {@code Key} annotated methods of a configuration
+ * mapping interface.
+ * <p>
+ * Plans are created once per interface and hold the configuration keys,
+ * the value converters and the default values of the mapped methods,
+ * indexed by method and by configuration key, and the method handles of the
+ * default methods of the interface.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see Key
+ * @see ConfigMappingValues
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigMappingPlan {
+
+    /** The interfaces which methods are not mapped. */
+    private static final List<Class<?>> CONFIG_TYPES = List.of(
+            Config.class,
+            MutableConfig.class,
+            WatchableConfig.class);
+    /** The type of the method invokers. */
+    public static final MethodType INVOKER_TYPE = MethodType.methodType(
+            Object.class,
+            Object.class,
+            Object[].class);
+    /** The cached plans, by interface. */
+    private static final ClassValue<ConfigMappingPlan> PLANS =
+            new ClassValue<ConfigMappingPlan>() {
+                @Override
+                protected ConfigMappingPlan computeValue(
+                        final Class<?> type) {
+                    return new ConfigMappingPlan(type);
+                }
+            };
+
+    /** The mapping interface. */
+    private final Class<?> type;
+    /** The mapped methods indexes, by method. */
+    private final Map<Method, Integer> indexes;
+    /** The configuration keys, by index. */
+    private final String[] keys;
+    /** The value converters, by index. */
+    private final ValueConverter<?>[] converters;
+    /** The default values, by index. */
+    private final @Nullable Object[] defaults;
+    /** The mapped methods indexes, by configuration key. */
+    private final Map<String, int[]> keyIndexes;
+    /** The method handles lookup for default methods. */
+    private final MethodHandles.Lookup lookup;
+    /** The default methods invokers, by method. */
+    private final ConcurrentMap<Method, MethodHandle> defaultMethods =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param type The mapping interface.
+     * @throws ConfigException If the interface is not a valid mapping
+     * interface.
+     */
+    private ConfigMappingPlan(
+            final Class<?> type) {
+        super();
+        if (!type.isInterface()) {
+            throw new ConfigException(
+                    "The configuration mapping type must be an interface.");
+        }
+        this.type = type;
+        final List<Method> methods = new ArrayList<>();
+        for (final Method method : type.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())
+                    && !method.isDefault()
+                    && !CONFIG_TYPES.contains(method.getDeclaringClass())) {
+                methods.add(method);
+            }
+        }
+        this.indexes = new HashMap<>(methods.size() * 2);
+        this.keys = new String[methods.size()];
+        this.converters = new ValueConverter<?>[methods.size()];
+        this.defaults = new Object[methods.size()];
+        final Map<String, List<Integer>> byKey = new HashMap<>();
+        for (int i = 0; i < methods.size(); i++) {
+            final Method method = methods.get(i);
+            final Key metadata = method.getAnnotation(Key.class);
+            if (metadata == null || method.getParameterCount() != 0
+                    || method.getReturnType() == void.class) {
+                throw new ConfigException(
+                        "Configuration mapping abstract methods must be annotated with @Key, "
+                        + "have no parameters and return a value. " + method);
+            }
+            final ValueConverter<?> converter = ValueConverterRegistry.defaults()
+                    .find(method.getGenericReturnType());
+            if (converter == null) {
+                throw new ConfigException(
+                        "Unsupported configuration mapping return type. " + method);
+            }
+            this.indexes.put(method, i);
+            this.keys[i] = metadata.value();
+            this.converters[i] = converter;
+            if (!Key.NO_DEFAULT.equals(metadata.defaultValue())) {
+                this.defaults[i] = converter.convert(metadata.defaultValue());
+            } else if (method.getReturnType().isPrimitive()) {
+                this.defaults[i] = Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+            }
+            byKey.computeIfAbsent(metadata.value(), k -> new ArrayList<>(1)).add(i);
+        }
+        final Map<String, int[]> keyIndexesMap = new HashMap<>(byKey.size() * 2);
+        for (final Map.Entry<String, List<Integer>> entry : byKey.entrySet()) {
+            keyIndexesMap.put(
+                    entry.getKey(),
+                    entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        this.keyIndexes = Collections.unmodifiableMap(keyIndexesMap);
+        MethodHandles.Lookup lookupInstance;
+        try {
+            lookupInstance = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (final IllegalAccessException e) {
+            lookupInstance = MethodHandles.lookup();
+        }
+        this.lookup = lookupInstance;
+    }
+
+    /**
+     * Returns the plan of the specified mapping interface, creating it on
+     * first request.
+     * 
+     * @param type The mapping interface.
+     * @return The plan of the interface.
+     * @throws ConfigException If the interface is not a valid mapping
+     * interface.
+     */
+    public static ConfigMappingPlan of(
+            final Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the mapping interface.
+     * 
+     * @return The mapping interface.
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the number of mapped methods.
+     * 
+     * @return The number of mapped methods.
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the index of the specified mapped method.
+     * 
+     * @param method The method.
+     * @return The index of the method, or {@code -1} if the method is not
+     * mapped.
+     */
+    public int indexOf(
+            final Method method) {
+        final Integer result = this.indexes.get(method);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * Returns the indexes of the methods mapped to the specified
+     * configuration key.
+     * 
+     * @param key The configuration key.
+     * @return The indexes of the mapped methods, or {@code null} if the key
+     * is not mapped.
+     */
+    public int @Nullable [] indexesOf(
+            final String key) {
+        return this.keyIndexes.get(key);
+    }
+
+    /**
+     * Returns the configuration key of the specified mapped method.
+     * 
+     * @param index The index of the mapped method.
+     * @return The configuration key.
+     */
+    public String getKey(
+            final int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Reads the value of the specified mapped method from the specified
+     * configuration.
+     * 
+     * @param config The configuration.
+     * @param index The index of the mapped method.
+     * @return The converted configuration property value, or the default
+     * value if missing.
+     */
+    public @Nullable Object read(
+            final Config config,
+            final int index) {
+        final String value = config.get(this.keys[index]);
+        if (value == null) {
+            return this.defaults[index];
+        }
+        return this.converters[index].convert(value);
+    }
+
+    /**
+     * Returns the invoker of the specified default method, resolving it on
+     * first request.
+     * <p>
+     * The returned method handle is of type {@link #INVOKER_TYPE}, taking
+     * the target instance and the array of invocation arguments, and can be
+     * invoked with {@code invokeExact()} without further adaptation.
+     * 
+     * @param method The default method.
+     * @return The method invoker.
+     * @throws ConfigException If the method cannot be accessed.
+     */
+    public MethodHandle getDefaultMethod(
+            final Method method) {
+        return this.defaultMethods.computeIfAbsent(method, m -> {
+            try {
+                return toInvoker(this.lookup.findSpecial(
+                        m.getDeclaringClass(),
+                        m.getName(),
+                        MethodType.methodType(m.getReturnType(), m.getParameterTypes()),
+                        this.type),
+                        m);
+            } catch (final ReflectiveOperationException e) {
+                throw new ConfigException("Cannot access configuration mapping default method " + m, e);
+            }
+        });
+    }
+
+    /**
+     * Adapts the specified method handle, with the target instance as first
+     * parameter, to an invoker of type {@link #INVOKER_TYPE}.
+     * 
+     * @param handle The method handle.
+     * @param method The invoked method.
+     * @return The method invoker.
+     */
+    static MethodHandle toInvoker(
+            final MethodHandle handle,
+            final Method method) {
+        return handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+    }
+}
@@ -0,0 +1,241 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Cached converted values of the mapped methods of a configuration mapping
+ * instance.
+ * <p>
+ * Values are converted on first access and cached until the configuration
+ * notifies changes of their configuration keys, so only the affected
+ * values are converted again. Values of configurations that can change
+ * without notification, mutable but not watchable, are not cached.
+ * <p>
+ * Instances for watchable configurations are shared by all the mappings
+ * of the same configuration and interface, created through
+ * {@link #of(Config, ConfigMappingPlan)}, so mapping a configuration
+ * repeatedly registers a single change listener. Listeners of collected
+ * instances unregister themselves on the next configuration change.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigMappingPlan
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ConfigMappingValues {
+
+    /** Marker for values not converted yet. */
+    private static final Object UNRESOLVED = new Object();
+    /** Marker for {@code null} values. */
+    private static final Object NULL = new Object();
+    /** The shared instances of watchable configurations, by configuration and plan. */
+    private static final Map<Config, Map<ConfigMappingPlan, WeakReference<ConfigMappingValues>>> SHARED =
+            new WeakHashMap<>();
+
+    /** The configuration. */
+    private final Config config;
+    /** The mapping plan. */
+    private final ConfigMappingPlan plan;
+    /** The cached values, or {@code null} if values are not cached. */
+    private final @Nullable AtomicReferenceArray<Object> values;
+    /** The invalidations counter. */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param config The configuration.
+     * @param plan The mapping plan.
+     */
+    public ConfigMappingValues(
+            final Config config,
+            final ConfigMappingPlan plan) {
+        super();
+        this.config = Objects.requireNonNull(config);
+        this.plan = Objects.requireNonNull(plan);
+        if (config instanceof WatchableConfig || !(config instanceof MutableConfig)) {
+            final AtomicReferenceArray<Object> cache = new AtomicReferenceArray<>(plan.size());
+            for (int i = 0; i < plan.size(); i++) {
+                cache.set(i, UNRESOLVED);
+            }
+            this.values = cache;
+            if (config instanceof WatchableConfig && plan.size() > 0) {
+                final WatchableConfig watchable = (WatchableConfig) config;
+                watchable.addListener(new Invalidator(this, watchable));
+            }
+        } else {
+            this.values = null;
+        }
+    }
+
+    /**
+     * Returns the cached values of the specified configuration and mapping
+     * plan. Watchable configurations share a single instance per
+     * configuration and plan while it is in use.
+     * 
+     * @param config The configuration.
+     * @param plan The mapping plan.
+     * @return The cached values.
+     */
+    public static ConfigMappingValues of(
+            final Config config,
+            final ConfigMappingPlan plan) {
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(plan);
+        if (!(config instanceof WatchableConfig) || plan.size() == 0) {
+            return new ConfigMappingValues(config, plan);
+        }
+        synchronized (SHARED) {
+            final Map<ConfigMappingPlan, WeakReference<ConfigMappingValues>> byPlan =
+                    SHARED.computeIfAbsent(config, k -> new HashMap<>());
+            final WeakReference<ConfigMappingValues> ref = byPlan.get(plan);
+            ConfigMappingValues result = ref == null ? null : ref.get();
+            if (result == null) {
+                result = new ConfigMappingValues(config, plan);
+                byPlan.put(plan, new WeakReference<>(result));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns the mapping plan.
+     * 
+     * @return The mapping plan.
+     */
+    public ConfigMappingPlan getPlan() {
+        return this.plan;
+    }
+
+    /**
+     * Returns the value of the specified mapped method.
+     * 
+     * @param index The index of the mapped method.
+     * @return The converted configuration property value.
+     */
+    public @Nullable Object get(
+            final int index) {
+        final AtomicReferenceArray<Object> cache = this.values;
+        if (cache == null) {
+            return this.plan.read(this.config, index);
+        }
+        final Object cached = cache.get(index);
+        if (cached != UNRESOLVED) {
+            return cached == NULL ? null : cached;
+        }
+        final long currentVersion = this.version.get();
+        final Object value = this.plan.read(this.config, index);
+        final Object stored = value == null ? NULL : value;
+        if (cache.compareAndSet(index, UNRESOLVED, stored)
+                && this.version.get() != currentVersion) {
+            cache.compareAndSet(index, stored, UNRESOLVED);
+        }
+        return value;
+    }
+
+    /**
+     * Discards the cached values of the methods mapped to the specified
+     * configuration keys.
+     * 
+     * @param keys The changed configuration keys.
+     */
+    protected void invalidate(
+            final Set<String> keys) {
+        final AtomicReferenceArray<Object> cache = this.values;
+        if (cache == null) {
+            return;
+        }
+        this.version.incrementAndGet();
+        for (final String key : keys) {
+            final int[] indexes = this.plan.indexesOf(key);
+            if (indexes != null) {
+                for (final int index : indexes) {
+                    cache.set(index, UNRESOLVED);
+                }
+            }
+        }
+    }
+
+    /**
+     * Configuration changes listener that discards the affected cached
+     * values. Weakly references the values, so the configuration does not
+     * prevent the collection of unused mapping instances, and unregisters
+     * itself once the values have been collected.
+     * 
+     * @since 1.2
+     */
+    private static final class Invalidator
+    implements WatchableConfig.Listener {
+
+        /** The cached values. */
+        private final WeakReference<ConfigMappingValues> values;
+        /** The configuration this listener is registered in. */
+        private final WatchableConfig source;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param values The cached values.
+         * @param source The configuration this listener is registered in.
+         */
+        Invalidator(
+                final ConfigMappingValues values,
+                final WatchableConfig source) {
+            super();
+            this.values = new WeakReference<>(values);
+            this.source = source;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void configurationChanged(
+                final MutableConfig config,
+                final Set<String> keys) {
+            final ConfigMappingValues target = this.values.get();
+            if (target == null) {
+                this.source.removeListener(this);
+            } else {
+                target.invalidate(keys);
+            }
+        }
+    }
+}
@@ -47,6 +47,8 @@ public class ConfigOptions {
     private boolean overrideParentProperties;
     /** The cryptography transformations provider. */
     private @Nullable ConfigCryptoProvider cryptoProvider;
+    /** If encrypted property values are decrypted when the configuration is built. */
+    private boolean eagerDecryption;
     /** The configuration values decoder. */
     private @Nullable ValueDecoder decoder;
     /** If configuration property values variable resolution is enabled. */
@@ -72,6 +74,7 @@ public class ConfigOptions {
         this.parent = copy.parent;
         this.overrideParentProperties = copy.overrideParentProperties;
         this.cryptoProvider = copy.cryptoProvider;
+        this.eagerDecryption = copy.eagerDecryption;
         this.decoder = copy.decoder;
         this.variableResolutionEnabled = copy.variableResolutionEnabled;
         this.decorator = copy.decorator;
@@ -142,6 +145,31 @@ public class ConfigOptions {
         this.cryptoProvider = provider;
     }
 
+    /**
+     * Returns {@code true} if encrypted property values are decrypted
+     * when the configuration is built.
+     * 
+     * @return If encrypted property values are decrypted when the
+     * configuration is built.
+     * @since 1.2
+     */
+    public boolean isEagerDecryption() {
+        return this.eagerDecryption;
+    }
+
+    /**
+     * Sets if encrypted property values are decrypted when the
+     * configuration is built.
+     * 
+     * @param eager If encrypted property values are decrypted when the
+     * configuration is built.
+     * @since 1.2
+     */
+    public void setEagerDecryption(
+            final boolean eager) {
+        this.eagerDecryption = eager;
+    }
+
     /**
      * Returns the configuration values decoder.
      * 
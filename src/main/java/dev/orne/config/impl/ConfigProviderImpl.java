@@ -23,9 +23,9 @@ package dev.orne.config.impl;
  */
 
 import java.lang.reflect.Proxy;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
@@ -37,6 +37,11 @@ import dev.orne.config.PreferredConfig;
 
 /**
  * Default implementation of {@code ConfigProvider}.
+ * <p>
+ * Configurations can be registered while other threads select
+ * configurations. Selections are resolved without locks and memoized
+ * per {@code PreferredConfig} annotation until a new configuration
+ * is registered.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2019-07
@@ -61,6 +66,8 @@ implements ConfigProvider {
     private final Config defaultConfig;
     /** The available configurations mappings. */
     private final Map<Class<?>, Config> mappings;
+    /** The memoized configuration selections. */
+    private volatile Map<PreferredConfig, Optional<Config>> selections;
 
     /**
      * Creates a new instance.
@@ -72,7 +79,8 @@ implements ConfigProvider {
         super();
         Validate.notNull(defaultConfig, NULL_DEFAULT_ERR);
         this.defaultConfig = defaultConfig;
-        this.mappings = new HashMap<>();
+        this.mappings = new ConcurrentHashMap<>();
+        this.selections = new ConcurrentHashMap<>();
         mapConfigType(defaultConfig.getClass(), defaultConfig);
     }
 
@@ -81,10 +89,11 @@ implements ConfigProvider {
      * 
      * @param config The configuration to register
      */
-    public void registerConfig(
+    public synchronized void registerConfig(
             final Config config) {
         Validate.notNull(config, NULL_CONFIG_ERR);
         mapConfigType(config.getClass(), config);
+        this.selections = new ConcurrentHashMap<>();
     }
 
     /**
@@ -132,14 +141,37 @@ implements ConfigProvider {
     @Override
     public @Nullable Config selectConfig(
             final @Nullable PreferredConfig preferences) {
+        if (preferences == null) {
+            return this.defaultConfig;
+        }
+        final Map<PreferredConfig, Optional<Config>> cache = this.selections;
+        Optional<Config> result = cache.get(preferences);
+        if (result == null) {
+            result = Optional.ofNullable(resolveConfig(preferences));
+            cache.putIfAbsent(preferences, result);
+        }
+        return result.orElse(null);
+    }
+
+    /**
+     * Resolves the configuration to use based on the specified
+     * preferences.
+     * 
+     * @param preferences The configuration preferences.
+     * @return The selected configuration, or {@code null} if no
+     * configuration matches the preferences.
+     * @see #selectConfig(PreferredConfig)
+     */
+    protected @Nullable Config resolveConfig(
+            final PreferredConfig preferences) {
         Config result = null;
-        if (preferences == null || preferences.value().length == 0) {
+        if (preferences.value().length == 0) {
             result = this.defaultConfig;
         } else {
             for (final Class<?> preferred : preferences.value()) {
                 Validate.notNull(preferred, NULL_PREFERRED_ERR);
-                if (this.mappings.containsKey(preferred)) {
-                    result = this.mappings.get(preferred);
+                result = this.mappings.get(preferred);
+                if (result != null) {
                     break;
                 }
             }
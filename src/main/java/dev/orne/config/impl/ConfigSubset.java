@@ -22,457 +22,227 @@ package dev.orne.config.impl;
  * #L%
  */
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
-import java.util.Arrays;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Objects;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.Config;
-import dev.orne.config.ConfigException;
 import dev.orne.config.MutableConfig;
 import dev.orne.config.WatchableConfig;
 
 /**
- * Invocation handler for configuration subsets.
- * Invokes configuration methods adding the specified prefix
- * to configuration keys.
+ * Factory of configuration subsets.
+ * <p>
+ * Subsets are concrete {@code SubsetConfig}, {@code SubsetMutableConfig}
+ * or {@code SubsetWatchableConfig} views, selected by the type of the
+ * underlying configuration instance, and are canonicalized per
+ * configuration instance and prefix. Subsets of subsets are created
+ * directly on the root configuration with the combined prefix.
+ * <p>
+ * Canonical subsets are weakly referenced, so unused subsets and
+ * configurations can be garbage collected.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2025-10
  * @since 1.0
+ * @see SubsetConfig
  */
 @API(status = API.Status.INTERNAL, since = "1.0")
-public class ConfigSubset
-extends AbstractProxyHandler {
+public final class ConfigSubset {
 
-    /** The name of the getKeys methods. */
-    private static final String GET_KEYS_METHOD = "getKeys";
-    /** The name of the subset methods. */
-    private static final String SUBSET_METHOD = "subset";
-
-    /** Cached {@code Config.isEmpty()} for performance optimization. */
-    private static final Method CONFIG_IS_EMPTY;
-    /** Cached {@code Config.getKeys(Predicate)} for performance optimization. */
-    private static final Method CONFIG_GET_KEYS_FILTERED;
-    /** Cached {@code Config.as(Class)} for performance optimization. */
-    private static final Method CONFIG_AS;
-    /** Cached {@code Config.subset(String)} for performance optimization. */
-    private static final Method CONFIG_SUBSET;
-    /** Cached {@code MutableConfig.subset(String)} for performance optimization. */
-    private static final Method MUTABLE_SUBSET;
-    /** Cached {@code WatchableConfig.addListener(Listener)} for performance optimization. */
-    private static final Method WATCHABLE_ADD_LISTENER;
-    /** Cached {@code WatchableConfig.removeListener(Listener)} for performance optimization. */
-    private static final Method WATCHABLE_REMOVE_LISTENER;
-    /** Cached {@code WatchableConfig.subset(String)} for performance optimization. */
-    private static final Method WATCHABLE_SUBSET;
-    static {
-        try {
-            CONFIG_IS_EMPTY = Config.class.getMethod(
-                    "isEmpty");
-            CONFIG_GET_KEYS_FILTERED = Config.class.getMethod(
-                    GET_KEYS_METHOD,
-                    Predicate.class);
-            CONFIG_AS = Config.class.getMethod(
-                    "as",
-                    Class.class);
-            CONFIG_SUBSET = MutableConfig.class.getMethod(
-                    SUBSET_METHOD,
-                    String.class);
-            MUTABLE_SUBSET = MutableConfig.class.getMethod(
-                    SUBSET_METHOD,
-                    String.class);
-            WATCHABLE_ADD_LISTENER = WatchableConfig.class.getMethod(
-                    "addListener",
-                    WatchableConfig.Listener.class);
-            WATCHABLE_REMOVE_LISTENER = WatchableConfig.class.getMethod(
-                    "removeListener",
-                    WatchableConfig.Listener.class);
-            WATCHABLE_SUBSET = WatchableConfig.class.getMethod(
-                    SUBSET_METHOD,
-                    String.class);
-        } catch (final NoSuchMethodException e) {
-            throw new ExceptionInInitializerError(e);
-        }
-    }
-
-    /** The prefix for configuration keys. */
-    private final String prefix;
-    /** The configuration change events handler. */
-    private final @Nullable EventsHandler events;
+    /** The queue of collected configuration instances. */
+    private static final ReferenceQueue<Config> COLLECTED =
+            new ReferenceQueue<>();
+    /** The canonical subsets, by configuration instance and prefix. */
+    private static final ConcurrentMap<InstanceKey, ConcurrentMap<String, WeakReference<SubsetConfig>>> SUBSETS =
+            new ConcurrentHashMap<>();
 
     /**
-     * Creates a new instance.
-     *
-     * @param instance The configuration instance to be proxied.
-     * @param prefix The prefix for configuration keys.
+     * Private constructor.
      */
-    protected ConfigSubset(
-            final Config instance,
-            final String prefix) {
-        super(instance);
-        this.prefix = Objects.requireNonNull(prefix);
-        if (instance instanceof WatchableConfig) {
-            this.events = new EventsHandler();
-        } else {
-            this.events = null;
-        }
+    private ConfigSubset() {
+        // Utility class
     }
 
     /**
-     * Creates a new configuration proxy instance with the specified configuration.
+     * Returns the subset of the specified configuration with the specified
+     * prefix.
      *
-     * @param config The proxied configuration instance.
+     * @param config The configuration instance.
      * @param prefix The prefix for configuration keys.
-     * @return A new configuration proxy instance.
+     * @return The configuration subset.
      */
     public static Config create(
             final Config config,
             final String prefix) {
-        return create(
-                config.getClass().getClassLoader(),
-                Config.class,
-                config,
-                prefix);
+        return intern(config, prefix);
     }
 
     /**
-     * Creates a new configuration proxy instance with the specified configuration.
+     * Returns the subset of the specified configuration with the specified
+     * prefix.
      *
-     * @param config The proxied configuration instance.
+     * @param config The configuration instance.
      * @param prefix The prefix for configuration keys.
-     * @return A new configuration proxy instance.
+     * @return The configuration subset.
      */
     public static MutableConfig create(
             final MutableConfig config,
             final String prefix) {
-        return create(
-                config.getClass().getClassLoader(),
-                MutableConfig.class,
-                config,
-                prefix);
+        return (MutableConfig) intern(config, prefix);
     }
 
     /**
-     * Creates a new configuration proxy instance with the specified configuration.
+     * Returns the subset of the specified configuration with the specified
+     * prefix.
      *
-     * @param config The proxied configuration instance.
+     * @param config The configuration instance.
      * @param prefix The prefix for configuration keys.
-     * @return A new configuration proxy instance.
+     * @return The configuration subset.
      */
     public static WatchableConfig create(
             final WatchableConfig config,
             final String prefix) {
-        return create(
-                config.getClass().getClassLoader(),
-                WatchableConfig.class,
-                config,
-                prefix);
+        return (WatchableConfig) intern(config, prefix);
     }
 
     /**
-     * Creates a new configuration proxy instance with the specified configuration.
+     * Returns the canonical subset of the specified configuration with the
+     * specified prefix, creating it if required.
      *
-     * @param <T> The configuration interface type.
-     * @param classLoader The class loader to be used for the proxy.
-     * @param type The configuration interface type.
-     * @param config The proxied configuration instance.
+     * @param config The configuration instance.
      * @param prefix The prefix for configuration keys.
-     * @return A new configuration proxy instance.
+     * @return The canonical configuration subset.
      */
-    protected static <T extends Config> T create(
-            final ClassLoader classLoader,
-            final Class<T> type,
-            final T config,
+    private static SubsetConfig intern(
+            final Config config,
             final String prefix) {
-        Objects.requireNonNull(classLoader, "The class loader must not be null");
         Objects.requireNonNull(config, "The configuration instance must not be null");
-        Objects.requireNonNull(classLoader, "The configuration subtype must be an interface.");
-        final ConfigSubset handler = new ConfigSubset(config, prefix);
-        final T proxy = type.cast(Proxy.newProxyInstance(
-                classLoader,
-                new Class<?>[] { type },
-                handler));
-        if (config instanceof WatchableConfig) {
-            final WatchableConfig original = (WatchableConfig) config;
-            final WatchableConfig proxyConfig = (WatchableConfig) proxy;
-            original.addListener((cfg, props) ->
-                handler.events.notify(proxyConfig, props.stream()
-                        .filter(handler::isSubsetKey)
-                        .map(handler::asSubsetKey)
-                        .collect(Collectors.toSet())));
+        Objects.requireNonNull(prefix, "The configuration subset prefix must not be null");
+        if (config instanceof SubsetConfig) {
+            final SubsetConfig parent = (SubsetConfig) config;
+            return intern(parent.getInstance(), parent.getPrefix() + prefix);
         }
-        return proxy;
-    }
-
-    /**
-     * Returns the proxied configuration instance.
-     * 
-     * @return The proxied configuration instance.
-     */
-    protected Config getInstance() {
-        return this.instance;
-    }
-
-    /**
-     * Returns the prefix for configuration keys.
-     * 
-     * @return The prefix for configuration keys.
-     */
-    protected String getPrefix() {
-        return this.prefix;
-    }
-
-    /**
-     * Returns the configuration change events handler.
-     * 
-     * @return The configuration change events handler.
-     */
-    protected @Nullable EventsHandler getEvents() {
-        return this.events;
-    }
-
-    /**
-     * Converts a property key of this sub-set to a delegated configuration
-     * key by adding the prefix.
-     * 
-     * @param key The sub-set property key.
-     * @return The delegated configuration key.
-     */
-    protected String asConfigKey(
-            final String key) {
-        return this.prefix + key;
-    }
-
-    /**
-     * Checks if the specified configuration key belongs to this sub-set by
-     * checking the prefix.
-     * 
-     * @param key The delegated configuration key.
-     * @return {@code true} if the key belongs to this sub-set,
-     *         {@code false} otherwise.
-     */
-    protected boolean isSubsetKey(
-            final String key) {
-        return key.startsWith(this.prefix);
-    }
-
-    /**
-     * Converts a delegated configuration key to a property key of this sub-set
-     * by removing the prefix.
-     * 
-     * @param key The delegated configuration key.
-     * @return The sub-set property key.
-     */
-    protected String asSubsetKey(
-            final String key) {
-        return key.substring(this.prefix.length());
-    }
-
-    /**
-     * {@inheritDoc}
-    */
-    @Override
-    public @Nullable Object invoke(
-            final @Nullable Object proxy,
-            final Method method,
-            final @Nullable Object[] args)
-    throws Throwable {
-        try {
-            final Class<?> declaringClass = method.getDeclaringClass();
-            final Object result;
-            if (Object.class.equals(declaringClass)) {
-                result = handleObjectMethod(method, args);
-            } else if (Config.class.equals(declaringClass)) {
-                result = handleConfigMethod((Config) proxy, method, args);
-            } else if (MutableConfig.class.equals(declaringClass)) {
-                result = handleMutableMethod(method, args);
-            } else  if (WatchableConfig.class.equals(declaringClass)) {
-                result = handleWatchableMethod(method, args);
-            } else {
-                result = method.invoke(this.instance, args);
-            }
-            return result;
-        } catch (final  ReflectiveOperationException e) {
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new ConfigException(e.getCause());
+        expungeCollected();
+        ConcurrentMap<String, WeakReference<SubsetConfig>> subsets =
+                SUBSETS.get(new InstanceKey(config, null));
+        if (subsets == null) {
+            subsets = SUBSETS.computeIfAbsent(
+                    new InstanceKey(config, COLLECTED),
+                    k -> new ConcurrentHashMap<>());
+        }
+        SubsetConfig result = get(subsets, prefix);
+        if (result == null) {
+            synchronized (subsets) {
+                result = get(subsets, prefix);
+                if (result == null) {
+                    result = newSubset(config, prefix);
+                    subsets.put(prefix, new WeakReference<>(result));
+                }
             }
         }
+        return result;
     }
 
     /**
-     * Handles {@code Config} methods invocations.
+     * Returns the canonical subset with the specified prefix, if any.
      * 
-     * @param proxy The proxy instance.
-     * @param method The invoked method.
-     * @param args The method arguments.
-     * @return The method invocation result.
-     * @throws ReflectiveOperationException If an error occurs during method
-     * invocation.
+     * @param subsets The canonical subsets of the configuration.
+     * @param prefix The prefix for configuration keys.
+     * @return The canonical subset, or {@code null} if none.
      */
-    protected @Nullable Object handleConfigMethod(
-            final Config proxy,
-            final Method method,
-            final @Nullable Object[] args)
-    throws ReflectiveOperationException {
-        final Object result;
-        if (CONFIG_IS_EMPTY.equals(method)
-                && method.getParameterCount() == 0) {
-            result = this.instance.getKeys(this.prefix)
-                    .findAny()
-                    .isEmpty();
-        } else if (CONFIG_AS.equals(method)) {
-            @SuppressWarnings("unchecked")
-            final Class<? extends Config> subtype =
-                    (Class<? extends Config>) args[0];
-            result = ConfigSubtype.create(
-                    proxy,
-                    subtype);
-        } else if (CONFIG_SUBSET.equals(method)) {
-            result = create(
-                    this.instance,
-                    asConfigKey((String) args[0]));
-        } else if (GET_KEYS_METHOD.equals(method.getName())) {
-            result = getKeys(method, args);
-        } else if (args != null && args.length > 0 && args[0] instanceof String) {
-            final Object[] modifiedArgs = Arrays.copyOf(args, args.length);
-            modifiedArgs[0] = asConfigKey((String) modifiedArgs[0]);
-            result = method.invoke(this.instance, modifiedArgs);
-        } else {
-            result = method.invoke(this.instance, args);
-        }
-        return result;
+    private static @Nullable SubsetConfig get(
+            final ConcurrentMap<String, WeakReference<SubsetConfig>> subsets,
+            final String prefix) {
+        final WeakReference<SubsetConfig> ref = subsets.get(prefix);
+        return ref == null ? null : ref.get();
     }
 
     /**
-     * Handles {@code MutableConfig} methods invocations.
+     * Creates a new subset of the specified configuration, of the type
+     * matching the configuration type.
      * 
-     * @param method The invoked method.
-     * @param args The method arguments.
-     * @return The method invocation result.
-     * @throws ReflectiveOperationException If an error occurs during method
-     * invocation.
+     * @param config The configuration instance.
+     * @param prefix The prefix for configuration keys.
+     * @return The new configuration subset.
      */
-    protected @Nullable Object handleMutableMethod(
-            final Method method,
-            final @Nullable Object[] args)
-    throws ReflectiveOperationException {
-        final Object result;
-        if (MUTABLE_SUBSET.equals(method)) {
-            result = create(
-                    (MutableConfig) this.instance,
-                    asConfigKey((String) args[0]));
-        } else if (args != null && args.length > 0 && args[0] instanceof String) {
-            final Object[] modifiedArgs = Arrays.copyOf(args, args.length);
-            modifiedArgs[0] = asConfigKey((String) modifiedArgs[0]);
-            result = method.invoke(this.instance, modifiedArgs);
+    private static SubsetConfig newSubset(
+            final Config config,
+            final String prefix) {
+        if (config instanceof WatchableConfig) {
+            return new SubsetWatchableConfig((WatchableConfig) config, prefix);
+        } else if (config instanceof MutableConfig) {
+            return new SubsetMutableConfig((MutableConfig) config, prefix);
         } else {
-            result = method.invoke(this.instance, args);
+            return new SubsetConfig(config, prefix);
         }
-        return result;
     }
 
     /**
-     * Handles {@code WatchableConfig} methods invocations.
-     * 
-     * @param method The invoked method.
-     * @param args The method arguments.
-     * @return The method invocation result.
-     * @throws ReflectiveOperationException If an error occurs during method
-     * invocation.
+     * Removes the canonical subsets of collected configuration instances.
      */
-    protected @Nullable Object handleWatchableMethod(
-            final Method method,
-            final @Nullable Object[] args)
-    throws ReflectiveOperationException {
-        final Object result;
-        if (WATCHABLE_ADD_LISTENER.equals(method)) {
-            this.events.add((WatchableConfig.Listener) args[0]);
-            result = null;
-        } else if (WATCHABLE_REMOVE_LISTENER.equals(method)) {
-            this.events.remove((WatchableConfig.Listener) args[0]);
-            result = null;
-        } else if (WATCHABLE_SUBSET.equals(method)) {
-            result = create(
-                    (WatchableConfig) this.instance,
-                    asConfigKey((String) args[0]));
-        } else {
-            result = method.invoke(this.instance, args);
+    private static void expungeCollected() {
+        Reference<? extends Config> ref = COLLECTED.poll();
+        while (ref != null) {
+            SUBSETS.remove(ref);
+            ref = COLLECTED.poll();
         }
-        return result;
     }
 
     /**
-     * Handles {@code Config.getKeys()} and
-     * {@code Config.getKeys(String)} and
-     * {@code Config.getKeys(Predicate)} method invocations.
+     * Weak reference to a configuration instance, with identity based
+     * equality.
      * 
-     * @param method The invoked method.
-     * @param args The method arguments.
-     * @return The method invocation result.
-     * @throws ReflectiveOperationException If an error occurs during method
-     * invocation.
-     */
-    protected @Nullable Object getKeys(
-            final Method method,
-            final @Nullable Object[] args)
-    throws ReflectiveOperationException {
-        Object result;
-        if (args == null || args.length == 0) {
-            result = this.instance.getKeys(this.prefix)
-                    .map(key -> key.substring(this.prefix.length()));
-        } else if (args.length == 1 && args[0] instanceof String) {
-            result = this.instance.getKeys(asConfigKey((String) args[0]))
-                    .map(key -> key.substring(this.prefix.length()));
-        } else if (CONFIG_GET_KEYS_FILTERED.equals(method)) {
-            @SuppressWarnings("unchecked")
-            final Predicate<String> predicate = (Predicate<String>) args[0];
-            result = this.instance.getKeys(this.prefix)
-                    .map(key -> key.substring(this.prefix.length()))
-                    .filter(predicate);
-        } else {
-            result = method.invoke(this.instance, args);
+     * @since 1.2
+     */
+    private static final class InstanceKey
+    extends WeakReference<Config> {
+
+        /** The identity hash code of the configuration instance. */
+        private final int hash;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param config The configuration instance.
+         * @param queue The queue of collected configuration instances, or
+         * {@code null} for lookup keys.
+         */
+        InstanceKey(
+                final Config config,
+                final @Nullable ReferenceQueue<Config> queue) {
+            super(config, queue);
+            this.hash = System.identityHashCode(config);
         }
-        return result;
-    }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                super.hashCode(),
-                this.prefix,
-                this.events);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean equals(
-            final @Nullable Object obj) {
-        if (obj == null || !super.equals(obj)) {
-            return false;
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
         }
-        final ConfigSubset other = (ConfigSubset) obj;
-        return Objects.equals(this.prefix, other.prefix)
-                && Objects.equals(this.events, other.events);
-    }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public String toString() {
-        return "ConfigSubset [instance=" + this.instance + ", prefix=" + this.prefix + "]";
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(
+                final @Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InstanceKey)) {
+                return false;
+            }
+            final Config config = get();
+            return config != null && config == ((InstanceKey) obj).get();
+        }
     }
 }
@@ -22,28 +22,35 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigException;
+import dev.orne.config.Key;
 import dev.orne.config.MutableConfig;
 import dev.orne.config.WatchableConfig;
 
 /**
  * Invocation handler for configuration proxies.
  * Invokes configuration subtype default methods directly on the extended
- * interface, delegating other method calls to the underlying configuration
+ * interface, returning the cached converted values of {@code Key} annotated
+ * methods and delegating other method calls to the underlying configuration
  * instance.
+ * <p>
+ * Interface validation, default method handles and delegated method handles
+ * are resolved once per interface and method and shared by all the proxies,
+ * so invocations do not perform method lookups nor reflective calls.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2025-08
@@ -58,11 +65,26 @@ extends AbstractProxyHandler {
             Config.class,
             MutableConfig.class,
             WatchableConfig.class);
+    /** The validated configuration subtype interfaces. */
+    private static final ClassValue<Boolean> VALIDATED_TYPES =
+            new ClassValue<Boolean>() {
+                @Override
+                protected Boolean computeValue(
+                        final Class<?> type) {
+                    validateSubtypeInterface(type);
+                    return Boolean.TRUE;
+                }
+            };
+    /** The invokers of the delegated configuration methods, by method. */
+    private static final ConcurrentMap<Method, MethodHandle> DELEGATED_METHODS =
+            new ConcurrentHashMap<>();
 
     /** The type of the extended configuration interface. */
     private final Class<? extends Config> extendedType;
-    /** The method handles lookup. */
-    private final MethodHandles.Lookup lookup;
+    /** The extended configuration interface plan. */
+    private final ConfigMappingPlan plan;
+    /** The cached values of {@code Key} annotated methods, if any. */
+    private final @Nullable ConfigMappingValues mappedValues;
 
     /**
      * Creates a new instance.
@@ -75,13 +97,8 @@ extends AbstractProxyHandler {
             final Class<? extends Config> extendedType) {
         super(instance);
         this.extendedType = extendedType;
-        MethodHandles.Lookup lookupInstance;
-        try {
-            lookupInstance = MethodHandles.privateLookupIn(extendedType, MethodHandles.lookup());
-        } catch (final IllegalAccessException e) {
-            lookupInstance = MethodHandles.lookup();
-        }
-        this.lookup = lookupInstance;
+        this.plan = ConfigMappingPlan.of(extendedType);
+        this.mappedValues = this.plan.size() == 0 ? null : ConfigMappingValues.of(instance, this.plan);
     }
 
     /**
@@ -117,7 +134,7 @@ extends AbstractProxyHandler {
         Objects.requireNonNull(classLoader, "The class loader must not be null");
         Objects.requireNonNull(config, "The configuration instance must not be null");
         Objects.requireNonNull(type, "The configuration subtype must be an interface.");
-        validateSubtypeInterface(type);
+        VALIDATED_TYPES.get(type);
         if (WatchableConfig.class.isAssignableFrom(type)
                 && !(config instanceof WatchableConfig)) {
             throw new ConfigException(
@@ -150,9 +167,10 @@ extends AbstractProxyHandler {
             if (Modifier.isStatic(method.getModifiers())) {
                 continue;
             }
-            if (!method.isDefault() && !method.isSynthetic()) {
+            if (!method.isDefault() && !method.isSynthetic()
+                    && !method.isAnnotationPresent(Key.class)) {
                 throw new ConfigException(
-                        "The configuration subtype must only contain default methods. " + method);
+                        "The configuration subtype must only contain default or @Key methods. " + method);
             }
         }
         for (final Class<?> iface : configInterface.getInterfaces()) {
@@ -177,27 +195,41 @@ extends AbstractProxyHandler {
         if (Object.class.equals(declaringClass)) {
             return handleObjectMethod(method, args);
         }
+        final ConfigMappingValues values = this.mappedValues;
+        if (values != null) {
+            final int index = values.getPlan().indexOf(method);
+            if (index != -1) {
+                return values.get(index);
+            }
+        }
         if (!PROXYED_TYPES.contains(declaringClass)) {
-            return this.lookup
-                    .findSpecial(
-                            declaringClass,
-                            method.getName(),
-                            MethodType.methodType(
-                                method.getReturnType(),
-                                method.getParameterTypes()),
-                            this.extendedType)
-                    .bindTo(proxy)
-                    .invokeWithArguments(args);
+            return (Object) this.plan
+                    .getDefaultMethod(method)
+                    .invokeExact(proxy, args);
         }
-        try {
-            return method.invoke(this.instance, args);
-        } catch (final  InvocationTargetException e) {
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new ConfigException(e.getCause());
+        return (Object) getDelegatedMethod(method)
+                .invokeExact((Object) this.instance, args);
+    }
+
+    /**
+     * Returns the invoker of the specified configuration method, resolving
+     * it on first request.
+     * 
+     * @param method The configuration method.
+     * @return The method invoker.
+     * @throws ConfigException If the method cannot be accessed.
+     */
+    private static MethodHandle getDelegatedMethod(
+            final Method method) {
+        return DELEGATED_METHODS.computeIfAbsent(method, m -> {
+            try {
+                return ConfigMappingPlan.toInvoker(
+                        MethodHandles.publicLookup().unreflect(m),
+                        m);
+            } catch (final IllegalAccessException e) {
+                throw new ConfigException("Cannot access configuration method " + m, e);
             }
-        }
+        });
     }
 
     /**
@@ -0,0 +1,156 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.ConfigurableBinder;
+import dev.orne.config.ConfigurationOptions;
+import dev.orne.config.PreferredConfig;
+
+/**
+ * Precompiled configuration plan of a {@code Configurable} bean class.
+ * <p>
+ * Holds the class level configuration annotations, the bindings of the
+ * configurable properties of the class and the accessors of the fields
+ * that can hold nested {@code Configurable} beans, so configuring beans
+ * of the class requires no reflection.
+ * <p>
+ * If a {@code ConfigurableBinder} is registered for the bean class it is
+ * used instead of the configurable properties bindings.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigurerImpl
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigurableBindingPlan {
+
+    /** The preferred configuration of the bean class. */
+    private final @Nullable PreferredConfig preferences;
+    /** The configuration options of the bean class. */
+    private final @Nullable ConfigurationOptions options;
+    /** The bindings of the configurable properties of the bean class. */
+    private final List<ConfigurablePropertyBinding> properties;
+    /** The accessors of the nested beans of the bean class. */
+    private final List<ConfigurableNestedBinding> nestedBeans;
+    /** The registered binder of the bean class. */
+    private final @Nullable ConfigurableBinder<Object> binder;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param preferences The preferred configuration of the bean class.
+     * @param options The configuration options of the bean class.
+     * @param properties The bindings of the configurable properties of the
+     * bean class.
+     * @param nestedBeans The accessors of the nested beans of the bean
+     * class.
+     * @param binder The registered binder of the bean class, if any.
+     */
+    @SuppressWarnings("unchecked")
+    public ConfigurableBindingPlan(
+            final @Nullable PreferredConfig preferences,
+            final @Nullable ConfigurationOptions options,
+            final List<ConfigurablePropertyBinding> properties,
+            final List<ConfigurableNestedBinding> nestedBeans,
+            final @Nullable ConfigurableBinder<?> binder) {
+        super();
+        this.preferences = preferences;
+        this.options = options;
+        this.properties = Collections.unmodifiableList(properties);
+        this.nestedBeans = Collections.unmodifiableList(nestedBeans);
+        this.binder = (ConfigurableBinder<Object>) binder;
+    }
+
+    /**
+     * Returns the preferred configuration of the bean class.
+     * 
+     * @return The preferred configuration of the bean class.
+     */
+    public @Nullable PreferredConfig getPreferences() {
+        return this.preferences;
+    }
+
+    /**
+     * Returns the configuration options of the bean class.
+     * 
+     * @return The configuration options of the bean class.
+     */
+    public @Nullable ConfigurationOptions getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Returns {@code true} if the configurable properties of the beans
+     * must be configured.
+     * 
+     * @return If the configurable properties must be configured.
+     */
+    public boolean isConfigureProperties() {
+        return this.options == null || this.options.configureProperties();
+    }
+
+    /**
+     * Returns {@code true} if the nested beans of the beans must be
+     * configured.
+     * 
+     * @return If the nested beans must be configured.
+     */
+    public boolean isConfigureNestedBeans() {
+        return this.options != null && this.options.configureNestedBeans();
+    }
+
+    /**
+     * Returns the bindings of the configurable properties of the bean class.
+     * 
+     * @return The bindings of the configurable properties.
+     */
+    public List<ConfigurablePropertyBinding> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * Returns the accessors of the fields of the bean class that can hold
+     * nested {@code Configurable} beans.
+     * 
+     * @return The accessors of the nested beans.
+     */
+    public List<ConfigurableNestedBinding> getNestedBeans() {
+        return this.nestedBeans;
+    }
+
+    /**
+     * Returns the registered binder of the bean class, if any.
+     * 
+     * @return The registered binder of the bean class.
+     */
+    public @Nullable ConfigurableBinder<Object> getBinder() {
+        return this.binder;
+    }
+}
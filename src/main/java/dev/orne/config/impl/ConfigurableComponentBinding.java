@@ -0,0 +1,143 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.ValueConverter;
+
+/**
+ * Precompiled binding of a record component or a constructor parameter to
+ * its configuration property.
+ * <p>
+ * Bindings hold the configuration property key, the kind of component and
+ * the value converter of the component type, or of the element type of
+ * {@code List} and {@code Map} components.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigurableConstructorPlan
+ * @see ConfigurerImpl
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigurableComponentBinding {
+
+    /** The configuration property key. */
+    private final String key;
+    /** The kind of component. */
+    private final Kind kind;
+    /** The value converter, or {@code null} for nested values. */
+    private final @Nullable ValueConverter<?> converter;
+    /** The nested values type, or {@code null} for converted values. */
+    private final @Nullable Class<?> nestedType;
+    /** The value of missing properties. */
+    private final @Nullable Object defaultValue;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param key The configuration property key.
+     * @param kind The kind of component.
+     * @param converter The value converter, or {@code null} for nested
+     * values.
+     * @param nestedType The nested values type, or {@code null} for
+     * converted values.
+     * @param defaultValue The value of missing properties.
+     */
+    public ConfigurableComponentBinding(
+            final String key,
+            final Kind kind,
+            final @Nullable ValueConverter<?> converter,
+            final @Nullable Class<?> nestedType,
+            final @Nullable Object defaultValue) {
+        super();
+        this.key = Objects.requireNonNull(key);
+        this.kind = Objects.requireNonNull(kind);
+        this.converter = converter;
+        this.nestedType = nestedType;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Returns the configuration property key.
+     * 
+     * @return The configuration property key.
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the kind of component.
+     * 
+     * @return The kind of component.
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the nested values type, if any.
+     * 
+     * @return The nested values type, or {@code null} for converted values.
+     */
+    public @Nullable Class<?> getNestedType() {
+        return this.nestedType;
+    }
+
+    /**
+     * Converts the specified configuration property value to the
+     * component type, or the component element type.
+     * 
+     * @param value The configuration property value.
+     * @return The converted value, or the default value if the value is
+     * {@code null}.
+     */
+    public @Nullable Object convert(
+            final @Nullable String value) {
+        if (value == null || this.converter == null) {
+            return this.defaultValue;
+        }
+        return this.converter.convert(value);
+    }
+
+    /**
+     * The kinds of components.
+     * 
+     * @since 1.2
+     */
+    public enum Kind {
+        /** Converted from a single configuration property. */
+        VALUE,
+        /** Created from the configuration properties with the key as prefix. */
+        NESTED,
+        /** Read from comma separated values or indexed keys. */
+        LIST,
+        /** Read from the configuration properties with the key as prefix. */
+        MAP,
+    }
+}
@@ -0,0 +1,303 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.ConfigException;
+import dev.orne.config.ConfigurableConstructor;
+
+/**
+ * Precompiled plan for creating instances of a record or a class with a
+ * {@code ConfigurableConstructor} annotated constructor from configuration
+ * properties.
+ * <p>
+ * Plans hold the spread constructor method handle and the bindings of the
+ * constructor parameters, so creating instances requires no reflection
+ * nor introspection.
+ * <p>
+ * Records are detected reflectively, so they are supported when running
+ * in Java 16 or later.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigurableConstructor
+ * @see ConfigurerImpl#bind(dev.orne.config.Config, Class)
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigurableConstructorPlan {
+
+    /** The generic type of the constructor method handles. */
+    private static final MethodType CONSTRUCTOR_TYPE =
+            MethodType.methodType(Object.class, Object[].class);
+    /** The {@code Class.isRecord()} method, if available. */
+    private static final @Nullable Method IS_RECORD;
+    /** The {@code Class.getRecordComponents()} method, if available. */
+    private static final @Nullable Method GET_RECORD_COMPONENTS;
+    /** The {@code RecordComponent.getName()} method, if available. */
+    private static final @Nullable Method GET_COMPONENT_NAME;
+    /** The {@code RecordComponent.getType()} method, if available. */
+    private static final @Nullable Method GET_COMPONENT_TYPE;
+    static {
+        Method isRecord = null;
+        Method getRecordComponents = null;
+        Method getComponentName = null;
+        Method getComponentType = null;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+            final Class<?> componentClass = getRecordComponents.getReturnType().getComponentType();
+            getComponentName = componentClass.getMethod("getName");
+            getComponentType = componentClass.getMethod("getType");
+        } catch (final NoSuchMethodException e) {
+            isRecord = null;
+            getRecordComponents = null;
+            getComponentName = null;
+            getComponentType = null;
+        }
+        IS_RECORD = isRecord;
+        GET_RECORD_COMPONENTS = getRecordComponents;
+        GET_COMPONENT_NAME = getComponentName;
+        GET_COMPONENT_TYPE = getComponentType;
+    }
+
+    /** The type of the created instances. */
+    private final Class<?> type;
+    /** The spread constructor method handle. */
+    private final MethodHandle constructor;
+    /** The bindings of the constructor parameters. */
+    private final List<ConfigurableComponentBinding> components;
+    /** If the plan has components that require the configuration keys. */
+    private final boolean keysRequired;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param type The type of the created instances.
+     * @param constructor The constructor method handle.
+     * @param components The bindings of the constructor parameters.
+     */
+    public ConfigurableConstructorPlan(
+            final Class<?> type,
+            final MethodHandle constructor,
+            final List<ConfigurableComponentBinding> components) {
+        super();
+        this.type = Objects.requireNonNull(type);
+        this.components = Collections.unmodifiableList(components);
+        this.constructor = constructor
+                .asSpreader(Object[].class, components.size())
+                .asType(CONSTRUCTOR_TYPE);
+        boolean required = false;
+        for (final ConfigurableComponentBinding component : components) {
+            required |= component.getKind() != ConfigurableComponentBinding.Kind.VALUE;
+        }
+        this.keysRequired = required;
+    }
+
+    /**
+     * Returns the type of the created instances.
+     * 
+     * @return The type of the created instances.
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the bindings of the constructor parameters.
+     * 
+     * @return The bindings of the constructor parameters.
+     */
+    public List<ConfigurableComponentBinding> getComponents() {
+        return this.components;
+    }
+
+    /**
+     * Returns {@code true} if the plan has components that require the
+     * configuration keys.
+     * 
+     * @return If the plan requires the configuration keys.
+     */
+    public boolean isKeysRequired() {
+        return this.keysRequired;
+    }
+
+    /**
+     * Creates a new instance with the specified constructor arguments.
+     * 
+     * @param args The constructor arguments.
+     * @return The created instance.
+     * @throws ConfigException If an error occurs creating the instance.
+     */
+    public Object newInstance(
+            final @Nullable Object[] args) {
+        try {
+            return this.constructor.invokeExact(args);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ConfigException(String.format(
+                    "Error creating instance of %s",
+                    this.type.getName()), e);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified type is a record.
+     * 
+     * @param type The type to check.
+     * @return If the type is a record.
+     */
+    public static boolean isRecord(
+            final Class<?> type) {
+        if (IS_RECORD == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_RECORD.invoke(type);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if instances of the specified type can be
+     * created from configuration properties.
+     * 
+     * @param type The type to check.
+     * @return If the type is a record or has a
+     * {@code ConfigurableConstructor} annotated constructor.
+     */
+    public static boolean isBindable(
+            final Class<?> type) {
+        return findAnnotatedConstructor(type) != null || isRecord(type);
+    }
+
+    /**
+     * Returns the {@code ConfigurableConstructor} annotated constructor of
+     * the specified type, if any.
+     * 
+     * @param type The type.
+     * @return The annotated constructor, or {@code null} if not found.
+     * @throws ConfigException If the type has multiple annotated
+     * constructors.
+     */
+    public static @Nullable Constructor<?> findAnnotatedConstructor(
+            final Class<?> type) {
+        Constructor<?> result = null;
+        for (final Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(ConfigurableConstructor.class)) {
+                if (result != null) {
+                    throw new ConfigException(String.format(
+                            "Multiple configurable constructors found in %s",
+                            type.getName()));
+                }
+                result = constructor;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the names of the components of the specified record type.
+     * 
+     * @param type The record type.
+     * @return The names of the record components.
+     */
+    public static String[] getRecordComponentNames(
+            final Class<?> type) {
+        final Object[] components = getRecordComponents(type);
+        final String[] result = new String[components.length];
+        for (int i = 0; i < components.length; i++) {
+            result[i] = (String) invoke(GET_COMPONENT_NAME, components[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the canonical constructor of the specified record type.
+     * 
+     * @param type The record type.
+     * @return The canonical constructor.
+     * @throws ConfigException If the constructor cannot be found.
+     */
+    public static Constructor<?> getCanonicalConstructor(
+            final Class<?> type) {
+        final Object[] components = getRecordComponents(type);
+        final Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = (Class<?>) invoke(GET_COMPONENT_TYPE, components[i]);
+        }
+        try {
+            return type.getDeclaredConstructor(types);
+        } catch (final NoSuchMethodException e) {
+            throw new ConfigException(String.format(
+                    "Canonical constructor not found in %s",
+                    type.getName()), e);
+        }
+    }
+
+    /**
+     * Returns the components of the specified record type.
+     * 
+     * @param type The record type.
+     * @return The record components.
+     */
+    private static Object[] getRecordComponents(
+            final Class<?> type) {
+        return (Object[]) invoke(GET_RECORD_COMPONENTS, type);
+    }
+
+    /**
+     * Invokes the specified records reflection method.
+     * 
+     * @param method The method to invoke.
+     * @param target The target instance.
+     * @return The method result.
+     * @throws ConfigException If records are not supported or the method
+     * fails.
+     */
+    private static Object invoke(
+            final @Nullable Method method,
+            final Object target) {
+        if (method == null) {
+            throw new ConfigException("Records are not supported by current runtime");
+        }
+        try {
+            return method.invoke(target);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new ConfigException("Error inspecting record type", e);
+        }
+    }
+}
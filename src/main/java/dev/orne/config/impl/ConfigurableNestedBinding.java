@@ -0,0 +1,130 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurationOptions;
+
+/**
+ * Precompiled accessor of a field that can hold a nested
+ * {@code Configurable} bean.
+ * <p>
+ * Accessors hold the field getter method handle of the field, so
+ * scanning a bean for nested beans requires no reflection nor
+ * introspection.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigurationOptions#configureNestedBeans()
+ * @see ConfigurerImpl
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigurableNestedBinding {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurableNestedBinding.class);
+    /** The generic type of the getter method handles. */
+    private static final MethodType GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    /** The nested bean field. */
+    private final Field field;
+    /** The field getter method handle. */
+    private final MethodHandle getter;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param field The nested bean field.
+     * @param getter The field getter method handle.
+     */
+    public ConfigurableNestedBinding(
+            final Field field,
+            final MethodHandle getter) {
+        super();
+        this.field = Objects.requireNonNull(field);
+        this.getter = getter.asType(GETTER_TYPE);
+    }
+
+    /**
+     * Returns the nested bean field.
+     * 
+     * @return The nested bean field.
+     */
+    public Field getField() {
+        return this.field;
+    }
+
+    /**
+     * Returns the value of the field in the specified bean, if it is
+     * a {@code Configurable} bean.
+     * <p>
+     * Errors are logged and do not interrupt the configuration of the bean.
+     * 
+     * @param bean The instance of the bean.
+     * @return The nested bean, or {@code null} if the property value is
+     * not a {@code Configurable} bean.
+     */
+    public @Nullable Configurable getValue(
+            final Object bean) {
+        try {
+            final Object value = this.getter.invokeExact(bean);
+            if (value instanceof Configurable) {
+                return (Configurable) value;
+            }
+        } catch (final RuntimeException e) {
+            logGetterError(bean, e);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            logGetterError(bean, e);
+        }
+        return null;
+    }
+
+    /**
+     * Logs an error thrown getting the field value.
+     * 
+     * @param bean The instance of the bean.
+     * @param error The error thrown.
+     */
+    private void logGetterError(
+            final Object bean,
+            final Throwable error) {
+        LOG.error(String.format(
+                "Error accessing field '%s' on bean of class %s",
+                this.field.getName(),
+                bean.getClass()), error);
+    }
+}
@@ -0,0 +1,240 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigException;
+import dev.orne.config.ConfigurableProperty;
+import dev.orne.config.ValueConverter;
+
+/**
+ * Precompiled binding of a field annotated with
+ * {@code ConfigurableProperty} to its configuration property.
+ * <p>
+ * Bindings hold the configuration property key, the converter to the
+ * property type and the setter method handle of the property, so
+ * configuring a bean requires no reflection nor introspection.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigurableProperty
+ * @see ConfigurerImpl
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class ConfigurablePropertyBinding {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurablePropertyBinding.class);
+    /** The generic type of the setter method handles. */
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** The configurable field. */
+    private final Field field;
+    /** The configuration property key. */
+    private final String key;
+    /** The type to convert the configuration property values to. */
+    private final Class<?> targetType;
+    /** The value converter for the target type. */
+    private final ValueConverter<?> converter;
+    /** If {@code null} values are passed to the value converter. */
+    private final boolean nullConversion;
+    /** The setter method handle, or {@code null} if no setter is available. */
+    private final @Nullable MethodHandle setter;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param field The configurable field.
+     * @param key The configuration property key.
+     * @param converter The value converter for the field type, or its
+     * wrapper type if the field is primitive.
+     * @param nullConversion If {@code null} values are passed to the value
+     * converter.
+     * @param setter The setter method handle, or {@code null} if no setter
+     * is available.
+     */
+    public ConfigurablePropertyBinding(
+            final Field field,
+            final String key,
+            final ValueConverter<?> converter,
+            final boolean nullConversion,
+            final @Nullable MethodHandle setter) {
+        super();
+        this.field = Objects.requireNonNull(field);
+        this.key = Objects.requireNonNull(key);
+        this.targetType = ClassUtils.primitiveToWrapper(field.getType());
+        this.converter = Objects.requireNonNull(converter);
+        this.nullConversion = nullConversion;
+        this.setter = setter == null ? null : setter.asType(SETTER_TYPE);
+    }
+
+    /**
+     * Returns the configurable field.
+     * 
+     * @return The configurable field.
+     */
+    public Field getField() {
+        return this.field;
+    }
+
+    /**
+     * Returns the configuration property key.
+     * 
+     * @return The configuration property key.
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns {@code true} if a setter is available for the property.
+     * 
+     * @return If a setter is available for the property.
+     */
+    public boolean hasSetter() {
+        return this.setter != null;
+    }
+
+    /**
+     * Configures the property in the specified bean with the value of the
+     * configuration property, if present in the specified configuration.
+     * <p>
+     * Errors are logged and do not interrupt the configuration of the bean.
+     * 
+     * @param bean The instance of the bean.
+     * @param config The configuration to use.
+     */
+    public void configure(
+            final Object bean,
+            final Config config) {
+        try {
+            if (config.contains(this.key)) {
+                assign(bean, convert(config.get(this.key)));
+            }
+        } catch (final ConfigException ce) {
+            LOG.error(String.format("Error configuring property '%s' on bean of class %s",
+                    this.field.getName(),
+                    bean.getClass()), ce);
+        }
+    }
+
+    /**
+     * Converts the configuration property value to the property type,
+     * or its wrapper type if the property is primitive.
+     * <p>
+     * {@code null} values are only passed to the value converter if
+     * {@code null} conversion is enabled, returning {@code null} otherwise.
+     * 
+     * @param value The configuration property value.
+     * @return The converted configuration value.
+     * @throws ConfigException If an error occurs converting the value.
+     */
+    public @Nullable Object convert(
+            final @Nullable String value) {
+        if (value == null && !this.nullConversion) {
+            return null;
+        }
+        try {
+            return this.targetType.cast(this.converter.convert(value));
+        } catch (final ClassCastException e) {
+            throw new ConfigException("Error converting configuration property value", e);
+        }
+    }
+
+    /**
+     * Assigns the specified converted configuration value to the property
+     * of the specified bean. {@code null} values are ignored for primitive
+     * properties.
+     * <p>
+     * Errors are logged and do not interrupt the configuration of the bean.
+     * 
+     * @param bean The instance of the bean.
+     * @param value The converted configuration value.
+     */
+    public void assign(
+            final Object bean,
+            final @Nullable Object value) {
+        if (value == null && this.field.getType().isPrimitive()) {
+            LOG.warn("Null value in key '{}' for type {}", this.key, this.field.getType());
+        } else {
+            setValue(bean, value);
+        }
+    }
+
+    /**
+     * Sets the property of the specified bean with the specified value.
+     * <p>
+     * Errors are logged and do not interrupt the configuration of the bean.
+     * 
+     * @param bean The instance of the bean.
+     * @param value The value to set.
+     */
+    public void setValue(
+            final Object bean,
+            final @Nullable Object value) {
+        if (this.setter == null) {
+            LOG.error(String.format(
+                    "Error setting property '%s' on bean of class %s: No accessible setter",
+                    this.field.getName(),
+                    bean.getClass()));
+            return;
+        }
+        try {
+            this.setter.invokeExact(bean, value);
+        } catch (final RuntimeException e) {
+            logSetterError(bean, e);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            logSetterError(bean, e);
+        }
+    }
+
+    /**
+     * Logs an error thrown setting the property value.
+     * 
+     * @param bean The instance of the bean.
+     * @param error The error thrown.
+     */
+    private void logSetterError(
+            final Object bean,
+            final Throwable error) {
+        LOG.error(String.format(
+                "Error setting property '%s' on bean of class %s",
+                this.field.getName(),
+                bean.getClass()), error);
+    }
+}
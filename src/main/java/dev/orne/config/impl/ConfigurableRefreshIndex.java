@@ -0,0 +1,291 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.orne.config.Config;
+import dev.orne.config.Configurable;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.RefreshableConfigurable;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Reverse index from configuration property keys to the properties of the
+ * beans configured with a {@code WatchableConfig}.
+ * <p>
+ * Registered as listener of the configuration, on configuration changes
+ * configures again, through the specified {@code Refresher}, only the
+ * properties bound to the changed keys, notifying the affected
+ * {@code RefreshableConfigurable} beans afterwards.
+ * Beans are weakly referenced, and the entries of collected beans are
+ * purged when the keys they are bound to are registered again or changed.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see LiveConfigurerImpl
+ * @see RefreshableConfigurable
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ConfigurableRefreshIndex
+implements WatchableConfig.Listener {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurableRefreshIndex.class);
+
+    /** The watched configuration. */
+    private final WatchableConfig config;
+    /** The bean properties refresher. */
+    private final Refresher refresher;
+    /** The bound bean properties, by configuration property key. */
+    private final Map<String, List<Target>> targets = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param config The watched configuration.
+     * @param refresher The bean properties refresher.
+     */
+    public ConfigurableRefreshIndex(
+            final WatchableConfig config,
+            final Refresher refresher) {
+        super();
+        this.config = Objects.requireNonNull(config);
+        this.refresher = Objects.requireNonNull(refresher);
+    }
+
+    /**
+     * Returns the watched configuration.
+     * 
+     * @return The watched configuration.
+     */
+    public WatchableConfig getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Registers the specified bean properties bindings. Bindings already
+     * registered for the same bean are ignored.
+     * 
+     * @param bean The configured bean.
+     * @param bindings The properties bindings of the bean.
+     */
+    public synchronized void register(
+            final Configurable bean,
+            final Collection<ConfigurablePropertyBinding> bindings) {
+        for (final ConfigurablePropertyBinding binding : bindings) {
+            final List<Target> keyTargets = this.targets.computeIfAbsent(
+                    binding.getKey(),
+                    key -> new ArrayList<>(2));
+            boolean registered = false;
+            final Iterator<Target> it = keyTargets.iterator();
+            while (it.hasNext()) {
+                final Target target = it.next();
+                final Configurable targetBean = target.bean.get();
+                if (targetBean == null) {
+                    it.remove();
+                } else if (targetBean == bean && target.binding == binding) {
+                    registered = true;
+                }
+            }
+            if (!registered) {
+                keyTargets.add(new Target(bean, binding));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of registered bean properties bindings, including
+     * the ones of collected beans not purged yet.
+     * 
+     * @return The number of registered bean properties bindings.
+     */
+    public synchronized int size() {
+        int result = 0;
+        for (final List<Target> keyTargets : this.targets.values()) {
+            result += keyTargets.size();
+        }
+        return result;
+    }
+
+    /**
+     * Unregisters all the bean properties bindings.
+     */
+    public synchronized void clear() {
+        this.targets.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Properties bound to removed configuration keys keep their current
+     * values.
+     */
+    @Override
+    public void configurationChanged(
+            final MutableConfig source,
+            final Set<String> keys) {
+        final Map<Configurable, List<ConfigurablePropertyBinding>> bindings = new IdentityHashMap<>();
+        for (final Map.Entry<Target, Configurable> entry : collectTargets(keys).entrySet()) {
+            bindings.computeIfAbsent(entry.getValue(), b -> new ArrayList<>(2))
+                    .add(entry.getKey().binding);
+        }
+        final Map<Configurable, Set<String>> refreshed = new IdentityHashMap<>();
+        for (final Map.Entry<Configurable, List<ConfigurablePropertyBinding>> entry : bindings.entrySet()) {
+            this.refresher.refresh(entry.getKey(), this.config, entry.getValue());
+            final Set<String> beanKeys = new LinkedHashSet<>();
+            for (final ConfigurablePropertyBinding binding : entry.getValue()) {
+                beanKeys.add(binding.getKey());
+            }
+            refreshed.put(entry.getKey(), beanKeys);
+        }
+        for (final Map.Entry<Configurable, Set<String>> entry : refreshed.entrySet()) {
+            if (entry.getKey() instanceof RefreshableConfigurable) {
+                notifyRefreshed(
+                        (RefreshableConfigurable) entry.getKey(),
+                        Collections.unmodifiableSet(entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Collects the live bean properties bindings of the specified
+     * configuration property keys, purging the ones of collected beans.
+     * <p>
+     * The beans are returned strongly referenced to prevent their collection
+     * while their properties are refreshed.
+     * 
+     * @param keys The changed configuration property keys.
+     * @return The beans, by bound property bindings.
+     */
+    private synchronized Map<Target, Configurable> collectTargets(
+            final Set<String> keys) {
+        final Map<Target, Configurable> result = new IdentityHashMap<>();
+        for (final String key : keys) {
+            final List<Target> keyTargets = this.targets.get(key);
+            if (keyTargets != null) {
+                final Iterator<Target> it = keyTargets.iterator();
+                while (it.hasNext()) {
+                    final Target target = it.next();
+                    final Configurable bean = target.bean.get();
+                    if (bean == null) {
+                        it.remove();
+                    } else {
+                        result.put(target, bean);
+                    }
+                }
+                if (keyTargets.isEmpty()) {
+                    this.targets.remove(key);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Notifies the specified bean that its properties have been refreshed.
+     * <p>
+     * Errors are logged and do not interrupt the notification of other
+     * beans.
+     * 
+     * @param bean The refreshed bean.
+     * @param keys The refreshed configuration property keys.
+     */
+    protected void notifyRefreshed(
+            final RefreshableConfigurable bean,
+            final Set<String> keys) {
+        try {
+            bean.propertiesRefreshed(this.config, keys);
+        } catch (final RuntimeException e) {
+            LOG.error(String.format("Error notifying properties refresh to bean of class %s",
+                    bean.getClass()), e);
+        }
+    }
+
+    /**
+     * Configures again the properties of the beans bound to changed
+     * configuration property keys.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 1.2
+     */
+    @FunctionalInterface
+    public interface Refresher {
+
+        /**
+         * Configures again the specified properties of the bean.
+         * 
+         * @param bean The bean which properties configure.
+         * @param config The configuration to use.
+         * @param bindings The properties bindings to configure.
+         */
+        void refresh(
+                Configurable bean,
+                Config config,
+                Collection<ConfigurablePropertyBinding> bindings);
+    }
+
+    /**
+     * Weakly referenced bean property binding.
+     * 
+     * @since 1.2
+     */
+    private static final class Target {
+
+        /** The bean reference. */
+        private final WeakReference<Configurable> bean;
+        /** The property binding. */
+        private final ConfigurablePropertyBinding binding;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param bean The bean.
+         * @param binding The property binding.
+         */
+        Target(
+                final Configurable bean,
+                final ConfigurablePropertyBinding binding) {
+            super();
+            this.bean = new WeakReference<>(bean);
+            this.binding = binding;
+        }
+    }
+}
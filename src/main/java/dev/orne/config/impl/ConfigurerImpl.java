@@ -22,17 +22,58 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.ConvertUtilsBean;
-import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.beanutils.Converter;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.reflect.TypeUtils;
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -43,13 +84,61 @@ import dev.orne.config.Config;
 import dev.orne.config.ConfigException;
 import dev.orne.config.ConfigProvider;
 import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurableBinder;
 import dev.orne.config.ConfigurableProperty;
 import dev.orne.config.ConfigurationOptions;
 import dev.orne.config.Configurer;
+import dev.orne.config.DataSize;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.NonIterableConfigException;
 import dev.orne.config.PreferredConfig;
+import dev.orne.config.ValueConverter;
+import dev.orne.config.ValueConverterRegistry;
+import dev.orne.config.WatchableConfig;
 
 /**
  * Default implementation of {@code Configurer}.
+ * <p>
+ * The fields annotated with {@code ConfigurableProperty} of each bean class
+ * are compiled once to a binding plan of {@code ConfigurablePropertyBinding}s,
+ * holding the property keys, the value converters and the setters method
+ * handles. The plans are cached per class, so configuring beans of an
+ * already configured class requires no reflection nor introspection.
+ * The value converters are looked up when the plan is compiled, so
+ * converters registered in the value converter after the first
+ * configuration of a bean class are not used for that class.
+ * <p>
+ * Subclasses overriding {@code configureProperty()}, {@code convertValue()}
+ * or {@code setPropertyValue()} have each property configured through
+ * those methods, as in previous versions, still using the cached plans to
+ * discover the configurable properties.
+ * <p>
+ * Values are converted with the converters of the
+ * {@code ValueConverterRegistry} passed to the constructor, if any, falling
+ * back to the BeanUtils value converter for types not supported by the
+ * registry. Instances created without registry use only the BeanUtils value
+ * converter, with the semantics of previous versions: values that cannot
+ * be converted are set as {@code null} by the default BeanUtils value
+ * converter, and {@code null} values are passed to the BeanUtils value
+ * converter, so array properties are set to empty arrays.
+ * <p>
+ * The plans also hold the accessors of the fields that can hold nested
+ * {@code Configurable} beans, ignoring fields which declared type cannot
+ * hold them. The fields are read through private field getter method
+ * handles. Nested beans are configured iteratively in depth first order,
+ * with identity based cycle detection, so deep or cyclic beans graphs can
+ * be configured without deep recursion.
+ * <p>
+ * The {@code ConfigurableBinder}s registered as {@code ServiceLoader}
+ * services, usually generated at compile time, are used to configure the
+ * properties of the beans of their exact class. Reflection based property
+ * bindings are used for beans without registered binder.
+ * <p>
+ * Records and classes with a {@code ConfigurableConstructor} annotated
+ * constructor are created through construction plans cached per type,
+ * holding the constructor method handle and the converters of each
+ * component. The configuration keys are enumerated at most once per
+ * created instance, including its nested components.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2019-07
@@ -63,16 +152,68 @@ implements Configurer {
 
     /** The class logger. */
     private static final Logger LOG = LoggerFactory.getLogger(ConfigurerImpl.class);
+    /** The value conversion error message. */
+    private static final String CONVERSION_ERR = "Error converting configuration property value";
 
     /** The configuration provider. */
     private final ConfigProvider configProvider;
+    /** The typed value converters registry. */
+    private final @Nullable ValueConverterRegistry converters;
     /** The value converter. */
     private final ConvertUtilsBean converter;
+    /** The resolved value converters, by type. */
+    private final ClassValue<ValueConverter<?>> valueConverters =
+            new ClassValue<ValueConverter<?>>() {
+                @Override
+                protected ValueConverter<?> computeValue(
+                        final Class<?> type) {
+                    return createValueConverter(type, type);
+                }
+            };
+    /** The configuration plans, by bean class. */
+    private final ClassValue<ConfigurableBindingPlan> bindingPlans =
+            new ClassValue<ConfigurableBindingPlan>() {
+                @Override
+                protected ConfigurableBindingPlan computeValue(
+                        final Class<?> type) {
+                    return createBindingPlan(type);
+                }
+            };
+    /** The cached construction plans, by type. */
+    private final ClassValue<ConfigurableConstructorPlan> constructorPlans =
+            new ClassValue<ConfigurableConstructorPlan>() {
+                @Override
+                protected ConfigurableConstructorPlan computeValue(
+                        final Class<?> type) {
+                    return createConstructorPlan(type);
+                }
+            };
+    /** The binding context of the registered binders. */
+    private final ConfigurableBinder.Context binderContext = new BinderContext();
+    /** The registered binders, by bean class. */
+    private volatile @Nullable Map<Class<?>, ConfigurableBinder<?>> binders;
+    /** The prepared property values, by bean class. */
+    private final Map<Class<?>, PreparedValues> preparedValues =
+            new ConcurrentHashMap<>();
+    /** The watched configurations of the prepared property values. */
+    private final Set<WatchableConfig> preparedConfigs =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The number of changes of the watched configurations. */
+    private final AtomicLong preparedConfigsChanges = new AtomicLong();
+    /** The nested beans configuration in progress in each thread. */
+    private final ThreadLocal<NestedBeansTraversal> nestedTraversal =
+            new ThreadLocal<>();
+    /** If the property configuration hooks are overridden. */
+    private final boolean propertyHooks;
+    /** If the value conversion or assignment hooks are overridden. */
+    private final boolean valueHooks;
 
     /**
-     * Creates a new instance.
+     * Creates a new instance that converts configurable properties values
+     * with the default BeanUtils value converter.
      * 
      * @param configProvider The configuration provider
+     * @see #defaultConverter()
      */
     public ConfigurerImpl(
             final ConfigProvider configProvider) {
@@ -88,10 +229,94 @@ implements Configurer {
     public ConfigurerImpl(
             final ConfigProvider configProvider,
             final ConvertUtilsBean converter) {
+        this(configProvider, null, converter);
+    }
+
+    /**
+     * Creates a new instance that converts configurable properties values
+     * with the specified typed value converters registry, falling back to
+     * the default BeanUtils value converter for types not supported by the
+     * registry.
+     * <p>
+     * Note that values that cannot be converted by the registry converters
+     * are not set, leaving the previous property value, and {@code null}
+     * values are set as {@code null}.
+     * 
+     * @param configProvider The configuration provider
+     * @param converters The typed value converters registry.
+     * @since 1.2
+     */
+    public ConfigurerImpl(
+            final ConfigProvider configProvider,
+            final ValueConverterRegistry converters) {
+        this(configProvider, Validate.notNull(converters, "A valid value converters registry is required."),
+                defaultConverter());
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param configProvider The configuration provider
+     * @param converters The typed value converters registry, if any.
+     * @param converter The value converter.
+     */
+    private ConfigurerImpl(
+            final ConfigProvider configProvider,
+            final @Nullable ValueConverterRegistry converters,
+            final ConvertUtilsBean converter) {
         Validate.notNull(configProvider, "A valid configuration provider is required.");
         this.configProvider = configProvider;
-        Validate.notNull(configProvider, "A valid value converter is required.");
+        this.converters = converters;
+        Validate.notNull(converter, "A valid value converter is required.");
         this.converter = converter;
+        this.valueHooks = isOverridden(getClass(), "convertValue", String.class, Class.class)
+                || isOverridden(getClass(), "setPropertyValue", Object.class, Field.class, Object.class);
+        this.propertyHooks = this.valueHooks
+                || isOverridden(getClass(), "configureProperty", Object.class, Field.class, Config.class);
+    }
+
+    /**
+     * Returns {@code true} if the specified method of this class is
+     * overridden in the specified subclass.
+     * 
+     * @param type The subclass
+     * @param name The method name
+     * @param parameterTypes The method parameter types
+     * @return If the method is overridden
+     */
+    private static boolean isOverridden(
+            final Class<?> type,
+            final String name,
+            final Class<?>... parameterTypes) {
+        return isOverridden(type, ConfigurerImpl.class, name, parameterTypes);
+    }
+
+    /**
+     * Returns {@code true} if the specified method of the specified base
+     * class is overridden in the specified subclass.
+     * 
+     * @param type The subclass
+     * @param base The base class
+     * @param name The method name
+     * @param parameterTypes The method parameter types
+     * @return If the method is overridden
+     * @since 1.2
+     */
+    static boolean isOverridden(
+            final Class<?> type,
+            final Class<?> base,
+            final String name,
+            final Class<?>... parameterTypes) {
+        Class<?> currentClass = type;
+        while (currentClass != null && currentClass != base) {
+            try {
+                currentClass.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                currentClass = currentClass.getSuperclass();
+            }
+        }
+        return false;
     }
 
     /**
@@ -120,18 +345,29 @@ implements Configurer {
     public void configure(
             final Configurable bean) {
         Validate.notNull(bean, "A not null bean is required.");
-        final Class<?> componentClass = bean.getClass();
-        final PreferredConfig preferences = componentClass.getAnnotation(
-                PreferredConfig.class);
-        final ConfigurationOptions options = componentClass.getAnnotation(
-                ConfigurationOptions.class);
-        final Config config = this.configProvider.selectConfig(preferences);
+        final NestedBeansTraversal traversal = this.nestedTraversal.get();
+        if (traversal != null && traversal.isCollecting()) {
+            traversal.add(bean);
+        } else {
+            configureBean(bean);
+        }
+    }
+
+    /**
+     * Configures the bean passed as argument.
+     * 
+     * @param bean The bean to configure
+     */
+    private void configureBean(
+            final Configurable bean) {
+        final ConfigurableBindingPlan plan = getBindingPlan(bean.getClass());
+        final Config config = this.configProvider.selectConfig(plan.getPreferences());
         if (config != null) {
-            if (options == null || options.configureProperties()) {
+            if (plan.isConfigureProperties()) {
                 configureProperties(bean, config);
             }
             bean.configure(config);
-            if (options != null && options.configureNestedBeans()) {
+            if (plan.isConfigureNestedBeans()) {
                 configureNestedBeans(bean, config);
             }
         }
@@ -140,6 +376,13 @@ implements Configurer {
     /**
      * Configures the properties of the bean passed as argument with the
      * selected configuration.
+     * <p>
+     * If {@link #configureProperty(Object, Field, Config)},
+     * {@link #convertValue(String, Class)} or
+     * {@link #setPropertyValue(Object, Field, Object)} are overridden
+     * each property of the binding plan is configured through
+     * {@code configureProperty()}, ignoring registered binders and prepared
+     * values.
      * 
      * @param bean The bean which properties configure
      * @param config The configuration to use
@@ -147,10 +390,825 @@ implements Configurer {
     protected void configureProperties(
             final Configurable bean,
             final Config config) {
-        final Collection<Field> fields = scanConfigurableProperties(bean.getClass());
+        final ConfigurableBindingPlan plan = getBindingPlan(bean.getClass());
+        final ConfigurableBinder<Object> binder = plan.getBinder();
+        if (this.propertyHooks) {
+            for (final ConfigurablePropertyBinding binding : plan.getProperties()) {
+                configureProperty(bean, binding.getField(), config);
+            }
+        } else if (binder == null) {
+            final PreparedValues prepared = this.preparedValues.isEmpty()
+                    ? null
+                    : this.preparedValues.get(bean.getClass());
+            if (prepared != null && prepared.config == config) {
+                prepared.assign(bean, plan.getProperties());
+            } else {
+                for (final ConfigurablePropertyBinding binding : plan.getProperties()) {
+                    binding.configure(bean, config);
+                }
+            }
+        } else {
+            binder.bind(bean, config, this.binderContext);
+        }
+    }
+
+    /**
+     * Configures again the specified properties of the bean passed as
+     * argument with the specified configuration, through the same
+     * configuration path used by
+     * {@link #configureProperties(Configurable, Config)}.
+     * <p>
+     * If {@link #configureProperty(Object, Field, Config)},
+     * {@link #convertValue(String, Class)} or
+     * {@link #setPropertyValue(Object, Field, Object)} are overridden
+     * each property is configured through {@code configureProperty()}.
+     * Otherwise, if a binder is registered for the bean class all the
+     * properties of the bean are configured by the binder, as binders
+     * cannot configure individual properties.
+     * 
+     * @param bean The bean which properties configure
+     * @param config The configuration to use
+     * @param bindings The properties bindings to configure
+     * @since 1.2
+     */
+    protected void refreshProperties(
+            final Configurable bean,
+            final Config config,
+            final Collection<ConfigurablePropertyBinding> bindings) {
+        final ConfigurableBinder<Object> binder = getBindingPlan(bean.getClass()).getBinder();
+        if (this.propertyHooks) {
+            for (final ConfigurablePropertyBinding binding : bindings) {
+                configureProperty(bean, binding.getField(), config);
+            }
+        } else if (binder == null) {
+            for (final ConfigurablePropertyBinding binding : bindings) {
+                binding.configure(bean, config);
+            }
+        } else {
+            binder.bind(bean, config, this.binderContext);
+        }
+    }
+
+    /**
+     * Resolves and converts in advance, in parallel, the values of the
+     * configurable properties of the specified bean classes.
+     * 
+     * @param types The bean classes
+     * @see #prepare(Class)
+     * @since 1.2
+     */
+    public void prepareAll(
+            final Collection<? extends Class<?>> types) {
+        types.parallelStream()
+            .distinct()
+            .forEach(this::prepare);
+    }
+
+    /**
+     * Resolves and converts in advance the values of the configurable
+     * properties of the specified bean class.
+     * <p>
+     * The prepared values are assigned to all the configured beans of the
+     * class. Only values of immutable types are shared between beans, the
+     * values of other types are converted for each bean. Values are only
+     * prepared for classes configured from immutable or watchable
+     * configurations without custom binders. The prepared values of
+     * watchable configurations are discarded when the configuration
+     * changes. Classes which values cannot be prepared are configured as
+     * usual. No values are prepared if the property configuration hooks
+     * are overridden.
+     * 
+     * @param type The bean class
+     * @since 1.2
+     */
+    public void prepare(
+            final Class<?> type) {
+        if (this.propertyHooks || !Configurable.class.isAssignableFrom(type)) {
+            return;
+        }
+        try {
+            final ConfigurableBindingPlan plan = getBindingPlan(type);
+            if (!plan.isConfigureProperties()
+                    || plan.getBinder() != null
+                    || plan.getProperties().isEmpty()) {
+                return;
+            }
+            final Config config = this.configProvider.selectConfig(plan.getPreferences());
+            if (config == null
+                    || config instanceof MutableConfig && !(config instanceof WatchableConfig)) {
+                return;
+            }
+            if (config instanceof WatchableConfig) {
+                watchPreparedConfig((WatchableConfig) config);
+            }
+            final long changes = this.preparedConfigsChanges.get();
+            final PreparedValues prepared = new PreparedValues(config, plan.getProperties());
+            this.preparedValues.put(type, prepared);
+            if (changes != this.preparedConfigsChanges.get()) {
+                this.preparedValues.remove(type, prepared);
+            }
+        } catch (final RuntimeException e) {
+            LOG.debug("Cannot prepare configurable properties of {}", type, e);
+        }
+    }
+
+    /**
+     * Registers a listener in the specified configuration, on first call,
+     * that discards the prepared values of the configuration when it
+     * changes.
+     * 
+     * @param config The watchable configuration
+     */
+    private void watchPreparedConfig(
+            final WatchableConfig config) {
+        synchronized (this.preparedConfigs) {
+            if (this.preparedConfigs.add(config)) {
+                config.addListener((source, keys) -> {
+                    this.preparedConfigsChanges.incrementAndGet();
+                    this.preparedValues.values().removeIf(prepared -> prepared.config == config);
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the configuration plan of the specified bean class, compiling
+     * it on first request.
+     * 
+     * @param targetClass The bean class
+     * @return The configuration plan of the class
+     * @since 1.2
+     */
+    protected ConfigurableBindingPlan getBindingPlan(
+            final Class<?> targetClass) {
+        return this.bindingPlans.get(targetClass);
+    }
+
+    /**
+     * Compiles the configuration plan of the specified bean class.
+     * <p>
+     * The setters are resolved with the same Java Beans introspection rules
+     * used by previous versions, so only public setters are used.
+     * 
+     * @param targetClass The bean class
+     * @return The configuration plan of the class
+     * @since 1.2
+     */
+    protected ConfigurableBindingPlan createBindingPlan(
+            final Class<?> targetClass) {
+        final Map<String, PropertyDescriptor> descriptors = scanProperties(targetClass);
+        final Collection<Field> fields = scanConfigurableProperties(targetClass);
+        final List<ConfigurablePropertyBinding> properties = new ArrayList<>(fields.size());
         for (final Field field : fields) {
-            configureProperty(bean, field, config);
+            properties.add(createPropertyBinding(field, getWriteMethod(descriptors, field)));
+        }
+        final List<ConfigurableNestedBinding> nestedBeans = new ArrayList<>();
+        Class<?> currentClass = targetClass;
+        while (currentClass != null) {
+            for (final Field field : currentClass.getDeclaredFields()) {
+                if (!field.isSynthetic()
+                        && !Modifier.isStatic(field.getModifiers())
+                        && canHoldConfigurable(field.getType())) {
+                    final ConfigurableNestedBinding binding = createNestedBinding(field);
+                    if (binding != null) {
+                        nestedBeans.add(binding);
+                    }
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return new ConfigurableBindingPlan(
+                targetClass.getAnnotation(PreferredConfig.class),
+                targetClass.getAnnotation(ConfigurationOptions.class),
+                properties,
+                nestedBeans,
+                getBinders().get(targetClass));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The construction plans are cached per type.
+     */
+    @Override
+    public <T> T bind(
+            final Config config,
+            final Class<T> type) {
+        Validate.notNull(config, "A valid configuration is required.");
+        Validate.notNull(type, "A valid type is required.");
+        return type.cast(bindInstance(
+                config,
+                "",
+                getConstructorPlan(type),
+                new ConfigKeys(config)));
+    }
+
+    /**
+     * Returns the construction plan of the specified type, compiling it
+     * on first request.
+     * 
+     * @param type The type
+     * @return The construction plan of the type
+     * @throws ConfigException If the type is not supported
+     * @since 1.2
+     */
+    protected ConfigurableConstructorPlan getConstructorPlan(
+            final Class<?> type) {
+        return this.constructorPlans.get(type);
+    }
+
+    /**
+     * Compiles the construction plan of the specified type.
+     * <p>
+     * The {@code ConfigurableConstructor} annotated constructor is used,
+     * if any. The canonical constructor of records is used otherwise.
+     * 
+     * @param type The type
+     * @return The construction plan of the type
+     * @throws ConfigException If the type is not supported
+     * @since 1.2
+     */
+    protected ConfigurableConstructorPlan createConstructorPlan(
+            final Class<?> type) {
+        Constructor<?> constructor = ConfigurableConstructorPlan.findAnnotatedConstructor(type);
+        String[] names = null;
+        if (constructor == null) {
+            if (!ConfigurableConstructorPlan.isRecord(type)) {
+                throw new ConfigException(String.format(
+                        "Type %s is not a record nor has a configurable constructor",
+                        type.getName()));
+            }
+            constructor = ConfigurableConstructorPlan.getCanonicalConstructor(type);
+            names = ConfigurableConstructorPlan.getRecordComponentNames(type);
+        }
+        final Parameter[] parameters = constructor.getParameters();
+        final List<ConfigurableComponentBinding> components = new ArrayList<>(parameters.length);
+        for (int i = 0; i < parameters.length; i++) {
+            final Parameter parameter = parameters[i];
+            final ConfigurableProperty metadata = parameter.getAnnotation(ConfigurableProperty.class);
+            final String key;
+            if (metadata != null) {
+                key = metadata.value();
+            } else if (names != null) {
+                key = names[i];
+            } else if (parameter.isNamePresent()) {
+                key = parameter.getName();
+            } else {
+                throw new ConfigException(String.format(
+                        "No configuration key for parameter %d of configurable constructor of %s",
+                        i,
+                        type.getName()));
+            }
+            components.add(createComponentBinding(
+                    key,
+                    parameter.getType(),
+                    parameter.getParameterizedType()));
+        }
+        try {
+            return new ConfigurableConstructorPlan(
+                    type,
+                    MethodHandles.publicLookup().unreflectConstructor(constructor),
+                    components);
+        } catch (final IllegalAccessException e) {
+            throw new ConfigException(String.format(
+                    "Configurable constructor of %s is not accessible",
+                    type.getName()), e);
+        }
+    }
+
+    /**
+     * Creates the binding of a record component or constructor parameter.
+     * 
+     * @param key The configuration property key
+     * @param type The component type
+     * @param genericType The component generic type
+     * @return The binding of the component
+     */
+    private ConfigurableComponentBinding createComponentBinding(
+            final String key,
+            final Class<?> type,
+            final Type genericType) {
+        if (type == List.class || type == Collection.class) {
+            return createAggregateBinding(
+                    key,
+                    ConfigurableComponentBinding.Kind.LIST,
+                    getTypeArgument(genericType, 0));
+        } else if (type == Map.class && getTypeArgument(genericType, 0) == String.class) {
+            return createAggregateBinding(
+                    key,
+                    ConfigurableComponentBinding.Kind.MAP,
+                    getTypeArgument(genericType, 1));
+        } else if (ConfigurableConstructorPlan.isBindable(type)) {
+            return new ConfigurableComponentBinding(
+                    key,
+                    ConfigurableComponentBinding.Kind.NESTED,
+                    null,
+                    type,
+                    null);
+        }
+        final Object defaultValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        return new ConfigurableComponentBinding(
+                key,
+                ConfigurableComponentBinding.Kind.VALUE,
+                createComponentConverter(type, genericType),
+                null,
+                defaultValue);
+    }
+
+    /**
+     * Creates the binding of a {@code List} or {@code Map} component.
+     * 
+     * @param key The configuration property key
+     * @param kind The kind of component
+     * @param elementType The element generic type
+     * @return The binding of the component
+     */
+    private ConfigurableComponentBinding createAggregateBinding(
+            final String key,
+            final ConfigurableComponentBinding.Kind kind,
+            final Type elementType) {
+        final Class<?> elementClass = TypeUtils.getRawType(elementType, null);
+        final Class<?> rawElement = elementClass == null ? Object.class : elementClass;
+        if (ConfigurableConstructorPlan.isBindable(rawElement)) {
+            return new ConfigurableComponentBinding(key, kind, null, rawElement, null);
+        }
+        return new ConfigurableComponentBinding(
+                key,
+                kind,
+                createComponentConverter(rawElement, elementType),
+                null,
+                null);
+    }
+
+    /**
+     * Returns the specified type argument of the specified generic type,
+     * resolving wildcards to their upper bound.
+     * 
+     * @param type The generic type
+     * @param index The type argument index
+     * @return The type argument, or {@code Object} if not available
+     */
+    private static Type getTypeArgument(
+            final Type type,
+            final int index) {
+        if (type instanceof ParameterizedType) {
+            final Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                final Type argument = arguments[index];
+                if (argument instanceof WildcardType) {
+                    return ((WildcardType) argument).getUpperBounds()[0];
+                }
+                return argument;
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Creates an instance with the specified construction plan from the
+     * configuration properties with the specified prefix.
+     * 
+     * @param config The configuration to use
+     * @param prefix The configuration keys prefix
+     * @param plan The construction plan
+     * @param keys The lazily enumerated configuration keys
+     * @return The created instance
+     */
+    private Object bindInstance(
+            final Config config,
+            final String prefix,
+            final ConfigurableConstructorPlan plan,
+            final ConfigKeys keys) {
+        final List<ConfigurableComponentBinding> components = plan.getComponents();
+        final @Nullable Object[] args = new Object[components.size()];
+        for (int i = 0; i < args.length; i++) {
+            final ConfigurableComponentBinding component = components.get(i);
+            final String key = prefix + component.getKey();
+            switch (component.getKind()) {
+                case NESTED:
+                    args[i] = bindNested(config, key + ".", getNestedType(component), keys);
+                    break;
+                case LIST:
+                    args[i] = bindList(config, key, component, keys);
+                    break;
+                case MAP:
+                    args[i] = bindMap(config, key + ".", component, keys);
+                    break;
+                case VALUE:
+                default:
+                    args[i] = component.convert(config.get(key));
+                    break;
+            }
+        }
+        return plan.newInstance(args);
+    }
+
+    /**
+     * Creates a nested instance from the configuration properties with the
+     * specified prefix, if any.
+     * 
+     * @param config The configuration to use
+     * @param prefix The configuration keys prefix
+     * @param type The nested instance type
+     * @param keys The lazily enumerated configuration keys
+     * @return The created instance, or {@code null} if no configuration
+     * property has the prefix
+     */
+    private @Nullable Object bindNested(
+            final Config config,
+            final String prefix,
+            final Class<?> type,
+            final ConfigKeys keys) {
+        final List<String> allKeys = keys.get();
+        if (allKeys != null && allKeys.stream().noneMatch(key -> key.startsWith(prefix))) {
+            return null;
+        }
+        return bindInstance(config, prefix, getConstructorPlan(type), keys);
+    }
+
+    /**
+     * Creates the {@code List} value of the specified component from comma
+     * separated values or indexed keys.
+     * 
+     * @param config The configuration to use
+     * @param key The configuration key
+     * @param component The component binding
+     * @param keys The lazily enumerated configuration keys
+     * @return The unmodifiable list
+     */
+    private List<@Nullable Object> bindList(
+            final Config config,
+            final String key,
+            final ConfigurableComponentBinding component,
+            final ConfigKeys keys) {
+        final Class<?> nestedType = component.getNestedType();
+        if (nestedType == null) {
+            final String value = config.get(key);
+            if (value != null) {
+                final List<String> values = ValueConverterRegistryImpl.split(value);
+                final List<@Nullable Object> result = new ArrayList<>(values.size());
+                for (final String element : values) {
+                    result.add(component.convert(element));
+                }
+                return Collections.unmodifiableList(result);
+            }
+        }
+        final List<String> allKeys = keys.get();
+        if (allKeys == null) {
+            return Collections.emptyList();
+        }
+        final String prefix = key + ".";
+        final SortedSet<Integer> indexes = new TreeSet<>();
+        for (final String candidate : allKeys) {
+            if (candidate.startsWith(prefix)) {
+                final int end = candidate.indexOf('.', prefix.length());
+                if ((end == -1) == (nestedType == null)) {
+                    final String index = end == -1
+                            ? candidate.substring(prefix.length())
+                            : candidate.substring(prefix.length(), end);
+                    if (isListIndex(index)) {
+                        indexes.add(Integer.valueOf(index));
+                    }
+                }
+            }
+        }
+        final List<@Nullable Object> result = new ArrayList<>(indexes.size());
+        for (final Integer index : indexes) {
+            if (nestedType == null) {
+                result.add(component.convert(config.get(prefix + index)));
+            } else {
+                result.add(bindInstance(config, prefix + index + ".", getConstructorPlan(nestedType), keys));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Creates the {@code Map} value of the specified component from the
+     * configuration properties with the specified prefix.
+     * 
+     * @param config The configuration to use
+     * @param prefix The configuration keys prefix
+     * @param component The component binding
+     * @param keys The lazily enumerated configuration keys
+     * @return The unmodifiable map
+     */
+    private Map<String, @Nullable Object> bindMap(
+            final Config config,
+            final String prefix,
+            final ConfigurableComponentBinding component,
+            final ConfigKeys keys) {
+        final List<String> allKeys = keys.get();
+        if (allKeys == null) {
+            return Collections.emptyMap();
+        }
+        final Class<?> nestedType = component.getNestedType();
+        final Map<String, @Nullable Object> result = new LinkedHashMap<>();
+        for (final String candidate : allKeys) {
+            if (candidate.startsWith(prefix) && candidate.length() > prefix.length()) {
+                if (nestedType == null) {
+                    result.put(
+                            candidate.substring(prefix.length()),
+                            component.convert(config.get(candidate)));
+                } else {
+                    final int end = candidate.indexOf('.', prefix.length());
+                    if (end != -1) {
+                        final String name = candidate.substring(prefix.length(), end);
+                        if (!result.containsKey(name)) {
+                            result.put(name, bindInstance(
+                                    config,
+                                    prefix + name + ".",
+                                    getConstructorPlan(nestedType),
+                                    keys));
+                        }
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the nested type of the specified component.
+     * 
+     * @param component The component binding
+     * @return The nested type
+     */
+    private static Class<?> getNestedType(
+            final ConfigurableComponentBinding component) {
+        return Objects.requireNonNull(component.getNestedType());
+    }
+
+    /**
+     * Returns {@code true} if the specified value is a valid list index.
+     * 
+     * @param value The value to check
+     * @return If the value is a valid list index
+     */
+    private static boolean isListIndex(
+            final String value) {
+        if (value.isEmpty() || value.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the registered binders, by bean class, loading them on first
+     * request.
+     * 
+     * @return The registered binders, by bean class
+     * @since 1.2
+     */
+    protected Map<Class<?>, ConfigurableBinder<?>> getBinders() {
+        Map<Class<?>, ConfigurableBinder<?>> result = this.binders;
+        if (result == null) {
+            result = loadBinders();
+            this.binders = result;
+        }
+        return result;
+    }
+
+    /**
+     * Loads the {@code ConfigurableBinder}s registered as
+     * {@code ServiceLoader} services in the context class loader.
+     * <p>
+     * Binders that cannot be loaded are logged and ignored.
+     * 
+     * @return The registered binders, by bean class
+     * @since 1.2
+     */
+    protected Map<Class<?>, ConfigurableBinder<?>> loadBinders() {
+        final Map<Class<?>, ConfigurableBinder<?>> result = new HashMap<>();
+        final Iterator<?> it = ServiceLoader.load(ConfigurableBinder.class).iterator();
+        try {
+            while (it.hasNext()) {
+                try {
+                    final ConfigurableBinder<?> binder = (ConfigurableBinder<?>) it.next();
+                    result.put(binder.getBeanType(), binder);
+                } catch (final ServiceConfigurationError e) {
+                    LOG.error("Error loading configurable binder", e);
+                }
+            }
+        } catch (final ServiceConfigurationError e) {
+            LOG.error("Error loading configurable binders", e);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value converter for the specified type, resolving it on
+     * first request.
+     * 
+     * @param <T> The target type
+     * @param type The target type
+     * @return The value converter for the type
+     * @since 1.2
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> ValueConverter<T> getValueConverter(
+            final Class<T> type) {
+        return (ValueConverter<T>) this.valueConverters.get(type);
+    }
+
+    /**
+     * Creates the value converter for the specified type.
+     * <p>
+     * The converter of the typed value converters registry is used, if
+     * any. Otherwise the BeanUtils value converter of the wrapper type is
+     * adapted, falling back to the {@code String} converter.
+     * 
+     * @param type The target type
+     * @param genericType The target generic type
+     * @return The value converter for the type
+     * @since 1.2
+     */
+    protected ValueConverter<?> createValueConverter(
+            final Class<?> type,
+            final Type genericType) {
+        if (this.converters != null) {
+            final ValueConverter<?> result = this.converters.find(genericType);
+            if (result != null) {
+                return result;
+            }
+        }
+        final Class<?> targetType = ClassUtils.primitiveToWrapper(type);
+        Converter beanConverter = this.converter.lookup(targetType);
+        if (beanConverter == null) {
+            beanConverter = this.converter.lookup(String.class);
+        }
+        return new BeanUtilsValueConverter(targetType, beanConverter);
+    }
+
+    /**
+     * Creates the value converter for the specified record component or
+     * constructor parameter type.
+     * <p>
+     * Components are always converted with typed value converters. The
+     * default typed value converters registry is used if no registry has
+     * been configured.
+     * 
+     * @param type The target type
+     * @param genericType The target generic type
+     * @return The value converter for the type
+     */
+    private ValueConverter<?> createComponentConverter(
+            final Class<?> type,
+            final Type genericType) {
+        if (this.converters == null) {
+            final ValueConverter<?> result = ValueConverterRegistry.defaults().find(genericType);
+            if (result != null) {
+                return result;
+            }
+        }
+        return createValueConverter(type, genericType);
+    }
+
+    /**
+     * Scans the Java Beans properties of the specified bean class.
+     * 
+     * @param targetClass The bean class
+     * @return The property descriptors, by property name
+     */
+    private static Map<String, PropertyDescriptor> scanProperties(
+            final Class<?> targetClass) {
+        final Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+        try {
+            for (final PropertyDescriptor property :
+                    Introspector.getBeanInfo(targetClass).getPropertyDescriptors()) {
+                descriptors.put(property.getName(), property);
+            }
+        } catch (final IntrospectionException e) {
+            LOG.error(MessageFormatter.format(
+                    "Error introspecting bean class {}",
+                    targetClass).getMessage(), e);
+        }
+        return descriptors;
+    }
+
+    /**
+     * Returns the public setter of the property of the specified field.
+     * 
+     * @param descriptors The property descriptors, by property name
+     * @param field The field
+     * @return The public setter of the property, if any
+     */
+    private static @Nullable Method getWriteMethod(
+            final Map<String, PropertyDescriptor> descriptors,
+            final Field field) {
+        final PropertyDescriptor descriptor = descriptors.get(field.getName());
+        return descriptor == null ? null : descriptor.getWriteMethod();
+    }
+
+    /**
+     * Returns {@code true} if a field of the specified declared type can
+     * hold a {@code Configurable} bean.
+     * <p>
+     * Primitives, arrays, enumerations and final classes not implementing
+     * {@code Configurable} cannot hold them.
+     * 
+     * @param type The declared type of the field
+     * @return If the field can hold a {@code Configurable} bean
+     */
+    protected static boolean canHoldConfigurable(
+            final Class<?> type) {
+        if (Configurable.class.isAssignableFrom(type)
+                || type.isAssignableFrom(Configurable.class)
+                || type.isInterface()) {
+            return true;
+        }
+        return !type.isPrimitive()
+                && !type.isArray()
+                && !type.isEnum()
+                && !Modifier.isFinal(type.getModifiers());
+    }
+
+    /**
+     * Creates the accessor of the specified field that can hold nested
+     * beans.
+     * <p>
+     * The field is read directly through a field getter method handle,
+     * regardless of its visibility, as the fields were read by previous
+     * versions. Fields of classes in modules not open to this library
+     * are not scanned for nested beans.
+     * 
+     * @param field The field that can hold nested beans
+     * @return The accessor of the field, or {@code null} if the field is
+     * not accessible
+     */
+    private static @Nullable ConfigurableNestedBinding createNestedBinding(
+            final Field field) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                    field.getDeclaringClass(),
+                    MethodHandles.lookup());
+            return new ConfigurableNestedBinding(
+                    field,
+                    lookup.unreflectGetter(field));
+        } catch (final IllegalAccessException | SecurityException e) {
+            LOG.debug("Field '{}' of class {} is not accessible",
+                    field.getName(),
+                    field.getDeclaringClass(),
+                    e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates the binding of the specified configurable field.
+     * 
+     * @param field The configurable field
+     * @param setter The public setter of the property, if any
+     * @return The binding of the configurable field
+     */
+    private ConfigurablePropertyBinding createPropertyBinding(
+            final Field field,
+            final @Nullable Method setter) {
+        final ConfigurableProperty metadata = field.getAnnotation(ConfigurableProperty.class);
+        final ValueConverter<?> valueConverter = createValueConverter(
+                field.getType(),
+                field.getGenericType());
+        MethodHandle setterHandle = null;
+        if (setter != null) {
+            try {
+                setterHandle = MethodHandles.publicLookup().unreflect(setter);
+            } catch (final IllegalAccessException e) {
+                LOG.debug("Setter of property '{}' of class {} is not accessible",
+                        field.getName(),
+                        field.getDeclaringClass(),
+                        e);
+            }
+        }
+        return new ConfigurablePropertyBinding(
+                field,
+                metadata.value(),
+                valueConverter,
+                valueConverter instanceof BeanUtilsValueConverter,
+                setterHandle);
+    }
+
+    /**
+     * Returns the binding of the specified configurable field in the
+     * binding plan of the specified bean class.
+     * 
+     * @param beanClass The bean class
+     * @param field The configurable field
+     * @return The binding of the configurable field
+     */
+    private ConfigurablePropertyBinding getPropertyBinding(
+            final Class<?> beanClass,
+            final Field field) {
+        for (final ConfigurablePropertyBinding binding : getBindingPlan(beanClass).getProperties()) {
+            if (binding.getField().equals(field)) {
+                return binding;
+            }
         }
+        return createPropertyBinding(field, getWriteMethod(scanProperties(beanClass), field));
     }
 
     /**
@@ -178,6 +1236,11 @@ implements Configurer {
     /**
      * Configures the requested property in the bean with the provided
      * configuration.
+     * <p>
+     * If {@link #convertValue(String, Class)} or
+     * {@link #setPropertyValue(Object, Field, Object)} are overridden the
+     * value is converted and set through them. The precompiled property
+     * binding is used otherwise.
      * 
      * @param bean The instance of the bean
      * @param field The property of the bean to configure
@@ -187,22 +1250,20 @@ implements Configurer {
             final Object bean,
             final Field field,
             final Config config) {
-        final ConfigurableProperty metadata = field.getAnnotation(ConfigurableProperty.class);
-        final String key = metadata.value();
+        final ConfigurablePropertyBinding binding = getPropertyBinding(bean.getClass(), field);
+        if (!this.valueHooks) {
+            binding.configure(bean, config);
+            return;
+        }
+        final String key = binding.getKey();
         final Class<?> type = field.getType();
         try {
             if (config.contains(key)) {
-                final String strValue = config.get(key);
-                if (type.isPrimitive()) {
-                    final Class<?> wrapperType = ClassUtils.primitiveToWrapper(type);
-                    final Object wrapperValue = convertValue(strValue, wrapperType);
-                    if (wrapperValue == null) {
-                        LOG.warn("Null value in key '{}' for type {}", key, type);
-                    } else {
-                        setPropertyValue(bean, field, wrapperValue);
-                    }
+                final Object value = convertValue(config.get(key), ClassUtils.primitiveToWrapper(type));
+                if (value == null && type.isPrimitive()) {
+                    LOG.warn("Null value in key '{}' for type {}", key, type);
                 } else {
-                    setPropertyValue(bean, field, convertValue(strValue, type));
+                    setPropertyValue(bean, field, value);
                 }
             }
         } catch (final ConfigException ce) {
@@ -214,6 +1275,8 @@ implements Configurer {
 
     /**
      * Converts the configuration property value to the specified target type.
+     * <p>
+     * {@code null} values are converted only by BeanUtils value converters.
      * 
      * @param <T> The target type.
      * @param value The configuration property value.
@@ -221,14 +1284,14 @@ implements Configurer {
      * @return The converted configuration value.
      * throws ConfigException If an error occurs converting the value.
      */
-    protected <T> T convertValue(
-            final String value,
+    protected <T> @Nullable T convertValue(
+            final @Nullable String value,
             final Class<T> type) {
-        try {
-            return type.cast(this.converter.convert(value, type));
-        } catch (final ConversionException e) {
-            throw new ConfigException("Error converting configuration property value", e);
+        final ValueConverter<T> valueConverter = getValueConverter(type);
+        if (value == null && !(valueConverter instanceof BeanUtilsValueConverter)) {
+            return null;
         }
+        return valueConverter.convert(value);
     }
 
     /**
@@ -243,14 +1306,7 @@ implements Configurer {
             final Object bean,
             final Field field,
             final @Nullable Object value) {
-        try {
-            PropertyUtils.setProperty(bean, field.getName(), value);
-        } catch (final IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            LOG.error(String.format(
-                    "Error setting property '%s' on bean of class %s",
-                    field.getName(),
-                    bean.getClass()), e);
-        }
+        getPropertyBinding(bean.getClass(), field).setValue(bean, value);
     }
 
     /**
@@ -263,10 +1319,34 @@ implements Configurer {
     protected void configureNestedBeans(
             final Configurable bean,
             final Config config) {
-        final Collection<Configurable> nestedBeans = scanNestedComponents(bean);
-        for (final Configurable nestedBean : nestedBeans) {
-            if (!nestedBean.isConfigured()) {
-                configure(nestedBean);
+        NestedBeansTraversal traversal = this.nestedTraversal.get();
+        final boolean root = traversal == null;
+        if (traversal == null) {
+            traversal = new NestedBeansTraversal(bean);
+            this.nestedTraversal.set(traversal);
+        }
+        try {
+            traversal.startCollecting();
+            try {
+                final Collection<Configurable> nestedBeans = scanNestedComponents(bean);
+                for (final Configurable nestedBean : nestedBeans) {
+                    if (!nestedBean.isConfigured()) {
+                        configure(nestedBean);
+                    }
+                }
+            } finally {
+                traversal.endCollecting();
+            }
+            if (root) {
+                Configurable nestedBean = traversal.next();
+                while (nestedBean != null) {
+                    configureBean(nestedBean);
+                    nestedBean = traversal.next();
+                }
+            }
+        } finally {
+            if (root) {
+                this.nestedTraversal.remove();
             }
         }
     }
@@ -274,31 +1354,342 @@ implements Configurer {
     /**
      * Scans the fields of the bean passed as argument for instances of
      * {@code Configurable} not configured.
+     * <p>
+     * The nested beans are returned in the order of the fields that hold
+     * them, each bean once.
      * 
      * @param bean The bean to scan for unconfigured nested beans
      * @return The nested beans detected
      */
     protected Collection<Configurable> scanNestedComponents(
             final Object bean) {
-        final Set<Configurable> nestedComponents = new HashSet<>();
-        Class<?> currentClass = bean.getClass();
-        while (currentClass != null) {
-            for (final Field field : currentClass.getDeclaredFields()) {
+        final Set<Configurable> detected =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Configurable> nestedComponents = new ArrayList<>();
+        for (final ConfigurableNestedBinding binding : getBindingPlan(bean.getClass()).getNestedBeans()) {
+            final Configurable nestedComponent = binding.getValue(bean);
+            if (nestedComponent != null && detected.add(nestedComponent)) {
+                nestedComponents.add(nestedComponent);
+            }
+        }
+        return nestedComponents;
+    }
+
+    /**
+     * Value converter that delegates in a BeanUtils value converter.
+     * <p>
+     * Unlike other value converters, {@code null} values are converted too,
+     * so the BeanUtils converter default values for {@code null} values are
+     * honored.
+     * 
+     * @since 1.2
+     */
+    private static final class BeanUtilsValueConverter
+    implements ValueConverter<Object> {
+
+        /** The target type. */
+        private final Class<?> targetType;
+        /** The BeanUtils value converter. */
+        private final Converter converter;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param targetType The target type
+         * @param converter The BeanUtils value converter
+         */
+        BeanUtilsValueConverter(
+                final Class<?> targetType,
+                final Converter converter) {
+            super();
+            this.targetType = targetType;
+            this.converter = converter;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @Nullable Object convert(
+                final @Nullable String value) {
+            try {
+                return this.targetType.cast(this.converter.convert(this.targetType, value));
+            } catch (final ConversionException | ClassCastException e) {
+                throw new ConfigException(CONVERSION_ERR, e);
+            }
+        }
+    }
+
+    /**
+     * Binding context of the registered {@code ConfigurableBinder}s.
+     * 
+     * @since 1.2
+     */
+    private final class BinderContext
+    implements ConfigurableBinder.Context {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <V> @Nullable V convert(
+                final @Nullable String value,
+                final Class<V> type) {
+            return convertValue(value, type);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void nullValue(
+                final String key,
+                final Class<?> type) {
+            LOG.warn("Null value in key '{}' for type {}", key, type);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void error(
+                final Object bean,
+                final String property,
+                final RuntimeException error) {
+            LOG.error(String.format("Error configuring property '%s' on bean of class %s",
+                    property,
+                    bean.getClass()), error);
+        }
+    }
+
+    /**
+     * Nested beans configuration in progress.
+     * <p>
+     * Holds the nested beans pending of configuration and the beans already
+     * visited, compared by identity, so each bean of the graph is configured
+     * once even if the graph contains cycles.
+     * <p>
+     * The pending beans are held in a stack, so the beans are configured in
+     * the same depth first order of the recursive configuration of previous
+     * versions without deep object graphs overflowing the thread stack.
+     * 
+     * @since 1.2
+     */
+    private static final class NestedBeansTraversal {
+
+        /** The nested beans pending of configuration. */
+        private final ArrayDeque<Configurable> pending = new ArrayDeque<>();
+        /** The nested beans of the bean being scanned. */
+        private final List<Configurable> collected = new ArrayList<>();
+        /** The beans already visited. */
+        private final Set<Configurable> visited =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        /** If the beans to configure are being collected. */
+        private boolean collecting;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param root The root bean of the traversal
+         */
+        NestedBeansTraversal(
+                final Configurable root) {
+            super();
+            this.visited.add(root);
+        }
+
+        /**
+         * Returns {@code true} if the beans to configure are being
+         * collected.
+         * 
+         * @return If the beans to configure are being collected
+         */
+        boolean isCollecting() {
+            return this.collecting;
+        }
+
+        /**
+         * Starts collecting the nested beans of a bean.
+         */
+        void startCollecting() {
+            this.collecting = true;
+        }
+
+        /**
+         * Ends collecting the nested beans of a bean, pushing the
+         * collected beans to the pending beans so the first collected
+         * bean is the next one to configure.
+         */
+        void endCollecting() {
+            this.collecting = false;
+            for (int i = this.collected.size() - 1; i >= 0; i--) {
+                this.pending.push(this.collected.get(i));
+            }
+            this.collected.clear();
+        }
+
+        /**
+         * Adds the specified bean to the collected beans, if not visited
+         * yet.
+         * 
+         * @param bean The bean to configure
+         */
+        void add(
+                final Configurable bean) {
+            if (!this.visited.contains(bean)) {
+                this.collected.add(bean);
+            }
+        }
+
+        /**
+         * Returns the next pending bean to configure not visited yet,
+         * if any, marking it as visited.
+         * 
+         * @return The next pending bean, or {@code null}
+         */
+        @Nullable Configurable next() {
+            Configurable bean = this.pending.poll();
+            while (bean != null && !this.visited.add(bean)) {
+                bean = this.pending.poll();
+            }
+            return bean;
+        }
+    }
+
+    /**
+     * Lazily enumerated configuration keys, shared by all the components of
+     * an instance created from configuration properties.
+     * 
+     * @since 1.2
+     */
+    private static final class ConfigKeys {
+
+        /** The configuration. */
+        private final Config config;
+        /** If the keys have been enumerated. */
+        private boolean enumerated;
+        /** The configuration keys, or {@code null} if not iterable. */
+        private @Nullable List<String> keys;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param config The configuration.
+         */
+        ConfigKeys(
+                final Config config) {
+            super();
+            this.config = config;
+        }
+
+        /**
+         * Returns the configuration keys, enumerating them on first call.
+         * 
+         * @return The configuration keys, or {@code null} if the
+         * configuration is not iterable.
+         */
+        @Nullable List<String> get() {
+            if (!this.enumerated) {
+                this.enumerated = true;
                 try {
-                    final Object fieldValue = PropertyUtils.getProperty(bean, field.getName());
-                    if (fieldValue instanceof Configurable) {
-                        final Configurable nestedComponent = (Configurable) fieldValue;
-                        nestedComponents.add(nestedComponent);
+                    this.keys = this.config.getKeys().collect(Collectors.toList());
+                } catch (final NonIterableConfigException e) {
+                    LOG.debug("Binding with not iterable configuration", e);
+                    this.keys = null;
+                }
+            }
+            return this.keys;
+        }
+    }
+
+    /**
+     * Configurable properties values resolved and converted in advance.
+     * 
+     * @since 1.2
+     */
+    private static final class PreparedValues {
+
+        /** The marker of properties not present in the configuration. */
+        private static final Object ABSENT = new Object();
+        /** The marker of properties which value cannot be prepared. */
+        private static final Object FAILED = new Object();
+        /** The immutable value types that can be shared between beans. */
+        private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+                String.class, Boolean.class, Character.class, Byte.class,
+                Short.class, Integer.class, Long.class, Float.class,
+                Double.class, BigInteger.class, BigDecimal.class,
+                Duration.class, DataSize.class, URI.class, URL.class,
+                File.class, Locale.class, UUID.class));
+
+        /** The configuration used. */
+        private final Config config;
+        /** The prepared values, in binding order. */
+        private final Object[] values;
+
+        /**
+         * Creates a new instance, resolving and converting the values of the
+         * specified bindings.
+         * 
+         * @param config The configuration to use.
+         * @param bindings The properties bindings.
+         */
+        PreparedValues(
+                final Config config,
+                final List<ConfigurablePropertyBinding> bindings) {
+            super();
+            this.config = config;
+            this.values = new Object[bindings.size()];
+            for (int i = 0; i < this.values.length; i++) {
+                final ConfigurablePropertyBinding binding = bindings.get(i);
+                try {
+                    if (config.contains(binding.getKey())) {
+                        final Object value = binding.convert(config.get(binding.getKey()));
+                        this.values[i] = isShareable(value) ? value : FAILED;
+                    } else {
+                        this.values[i] = ABSENT;
                     }
-                } catch (final IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                    LOG.error(MessageFormatter.format(
-                            "Error accessing property '{}' on bean of class {}",
-                            field.getName(),
-                            currentClass).getMessage(), e);
+                } catch (final ConfigException e) {
+                    this.values[i] = FAILED;
+                }
+            }
+        }
+
+        /**
+         * Returns {@code true} if the specified converted value is immutable
+         * and can be shared between beans.
+         * 
+         * @param value The converted value.
+         * @return If the value can be shared between beans.
+         */
+        private static boolean isShareable(
+                final @Nullable Object value) {
+            return value == null
+                    || value instanceof Enum
+                    || value instanceof Path
+                    || value instanceof Charset
+                    || IMMUTABLE_TYPES.contains(value.getClass());
+        }
+
+        /**
+         * Assigns the prepared values to the properties of the specified
+         * bean. Properties which value could not be prepared are configured
+         * as usual.
+         * 
+         * @param bean The bean to configure.
+         * @param bindings The properties bindings.
+         */
+        void assign(
+                final Object bean,
+                final List<ConfigurablePropertyBinding> bindings) {
+            for (int i = 0; i < this.values.length; i++) {
+                final Object value = this.values[i];
+                final ConfigurablePropertyBinding binding = bindings.get(i);
+                if (value == FAILED) {
+                    binding.configure(bean, this.config);
+                } else if (value != ABSENT) {
+                    binding.assign(bean, value);
                 }
             }
-            currentClass = currentClass.getSuperclass();
         }
-        return nestedComponents;
     }
 }
@@ -22,6 +22,9 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 import javax.crypto.SecretKey;
 
 import org.apiguardian.api.API;
@@ -102,6 +105,18 @@ implements CryptoProviderEngineBuilder, CryptoProviderKeyBuilder, CryptoProvider
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CryptoProviderBuilderImpl withChaCha20Poly1305Engine(
+            final byte[] salt,
+            final boolean destroyEngine) {
+        this.options.setEngine(new ConfigCryptoChaCha20Poly1305Engine(salt));
+        this.options.setDestroyEngine(destroyEngine);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,6 +138,28 @@ implements CryptoProviderEngineBuilder, CryptoProviderKeyBuilder, CryptoProvider
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CryptoProviderBuilderImpl withSecretKeyAsync(
+            final char[] password,
+            final Executor executor) {
+        this.options.setKeyFuture(
+                this.options.engine.createSecretKeyAsync(password, executor));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CryptoProviderBuilderImpl withSecretKey(
+            final CompletionStage<SecretKey> key) {
+        this.options.setKeyFuture(key.toCompletableFuture());
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
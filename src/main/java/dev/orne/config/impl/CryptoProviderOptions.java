@@ -22,6 +22,8 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.concurrent.CompletableFuture;
+
 import javax.crypto.SecretKey;
 
 import org.apiguardian.api.API;
@@ -46,8 +48,8 @@ public class CryptoProviderOptions {
     protected ConfigCryptoEngine engine;
     /** If the cryptography engine must be destroyed on provider destruction. */
     protected boolean destroyEngine;
-    /** The secret key to use. */
-    protected SecretKey key;
+    /** The future secret key to use. */
+    protected CompletableFuture<SecretKey> key;
     /** If multiple pooled {@code Cipher} instances should be used. */
     protected boolean pooled;
 
@@ -116,11 +118,13 @@ public class CryptoProviderOptions {
 
     /**
      * Returns the secret key to use.
+     * <p>
+     * Waits for the secret key if it is still being created.
      * 
      * @return The secret key to use.
      */
     public SecretKey getKey() {
-        return key;
+        return this.key == null ? null : this.key.join();
     }
 
     /**
@@ -130,6 +134,27 @@ public class CryptoProviderOptions {
      */
     public void setKey(
             final SecretKey key) {
+        this.key = CompletableFuture.completedFuture(key);
+    }
+
+    /**
+     * Returns the future secret key to use.
+     * 
+     * @return The future secret key to use.
+     * @since 1.2
+     */
+    public CompletableFuture<SecretKey> getKeyFuture() {
+        return this.key;
+    }
+
+    /**
+     * Sets the future secret key to use.
+     * 
+     * @param key The future secret key to use.
+     * @since 1.2
+     */
+    public void setKeyFuture(
+            final CompletableFuture<SecretKey> key) {
         this.key = key;
     }
 
@@ -0,0 +1,566 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoProviderException;
+import dev.orne.config.ConfigCryptoWrongKeyException;
+import dev.orne.config.FileMutableConfig;
+
+/**
+ * Utility class for bulk cryptographic operations over configuration values
+ * and for allocation-lean handling of encrypted and plain value bytes.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public final class CryptoUtils {
+
+    /** Message for bulk encryption errors. */
+    private static final String ENCRYPT_ERROR =
+            "Error encrypting the values of properties %s";
+    /** Message for bulk decryption errors. */
+    private static final String DECRYPT_ERROR =
+            "Error decrypting the values of properties %s";
+    /** Message for bulk decryption wrong key errors. */
+    private static final String DECRYPT_WRONG_KEY_ERROR =
+            "Error decrypting the values of properties %s."
+            + " Values encrypted with other secret key?";
+    /** Message for invalid Base64 encoded values. */
+    private static final String BASE64_ERROR =
+            "Invalid Base64 encoded value";
+    /** Message for plain value encoding errors. */
+    private static final String UTF8_ERROR =
+            "Error encoding plain value characters";
+    /** The Base64 alphabet, as specified in RFC 4648. */
+    private static final String BASE64_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    /** The Base64 padding character. */
+    private static final char BASE64_PADDING = '=';
+    /** The Base64 value of each ASCII character, or {@code -1}. */
+    private static final byte[] BASE64_VALUES = new byte[128];
+    /** The maximum capacity of the reusable per thread buffers. */
+    private static final int MAX_REUSABLE_BUFFER_CAPACITY = 8192;
+    /** The minimum capacity of the reusable per thread buffers. */
+    private static final int MIN_REUSABLE_BUFFER_CAPACITY = 256;
+    /** The reusable per thread buffer for encrypted bytes. */
+    private static final ThreadLocal<ByteBuffer> ENCRYPTED_BUFFER =
+            new ThreadLocal<>();
+    /** The reusable per thread buffer for plain bytes. */
+    private static final ThreadLocal<ByteBuffer> PLAIN_BUFFER =
+            new ThreadLocal<>();
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        for (int i = 0; i < BASE64_ALPHABET.length(); i++) {
+            BASE64_VALUES[BASE64_ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private CryptoUtils() {
+        // Utility class
+    }
+
+    /**
+     * Encrypts the specified plain values with the specified encryption
+     * function.
+     * <p>
+     * Every value is encrypted before reporting any error, so the thrown
+     * exception lists the keys of all the values that could not be
+     * encrypted. The first error is used as cause and the rest are added as
+     * suppressed exceptions.
+     * <p>
+     * If {@code parallel} is {@code true} the values are encrypted in the
+     * common fork-join pool, so the encryption function must be thread safe.
+     * 
+     * @param <K> The type of the values keys.
+     * @param values The plain values, by key.
+     * @param encryptor The encryption function.
+     * @param parallel If the values must be encrypted in parallel.
+     * @return The unmodifiable map of encrypted values, by key. Values
+     * encrypted to {@code null} are not included.
+     * @throws ConfigCryptoProviderException If any value cannot be encrypted.
+     */
+    public static <K> Map<K, String> encryptAll(
+            final Map<K, String> values,
+            final UnaryOperator<String> encryptor,
+            final boolean parallel) {
+        return transformAll(values, encryptor, parallel, false);
+    }
+
+    /**
+     * Decrypts the specified encrypted values with the specified decryption
+     * function.
+     * <p>
+     * Every value is decrypted before reporting any error, so the thrown
+     * exception lists the keys of all the values that could not be
+     * decrypted. The first error is used as cause and the rest are added as
+     * suppressed exceptions.
+     * <p>
+     * If {@code parallel} is {@code true} the values are decrypted in the
+     * common fork-join pool, so the decryption function must be thread safe.
+     * 
+     * @param <K> The type of the values keys.
+     * @param values The encrypted values, by key.
+     * @param decryptor The decryption function.
+     * @param parallel If the values must be decrypted in parallel.
+     * @return The unmodifiable map of plain values, by key. Values
+     * decrypted to {@code null} are not included.
+     * @throws ConfigCryptoWrongKeyException If all the failed values were
+     * encrypted with another secret key.
+     * @throws ConfigCryptoProviderException If any value cannot be decrypted.
+     */
+    public static <K> Map<K, String> decryptAll(
+            final Map<K, String> values,
+            final UnaryOperator<String> decryptor,
+            final boolean parallel) {
+        return transformAll(values, decryptor, parallel, true);
+    }
+
+    /**
+     * Re-encrypts all the property values of the specified configuration,
+     * decrypting them with the source provider and encrypting them with
+     * the target provider, and saves the configuration to the specified
+     * destination.
+     * 
+     * @param config The configuration, with raw encrypted values.
+     * @param source The provider to decrypt the current values with.
+     * @param target The provider to encrypt the new values with.
+     * @param destination The destination path.
+     * @throws ConfigCryptoProviderException If any value cannot be
+     * decrypted or encrypted. The configuration is not modified.
+     * @throws IOException If an I/O error occurs saving the configuration.
+     */
+    public static void reencrypt(
+            final FileMutableConfig config,
+            final ConfigCryptoProvider source,
+            final ConfigCryptoProvider target,
+            final Path destination)
+    throws IOException {
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(destination);
+        final Map<String, String> values = new HashMap<>();
+        config.forEach(values::put);
+        final Map<String, String> reencrypted = target.encryptAll(
+                source.decryptAll(values));
+        reencrypted.forEach(config::set);
+        config.save(destination);
+    }
+
+    /**
+     * Transforms the specified values with the specified cryptographic
+     * function.
+     * 
+     * @param <K> The type of the values keys.
+     * @param values The values to transform, by key.
+     * @param transformation The cryptographic function.
+     * @param parallel If the values must be transformed in parallel.
+     * @param decryption If the transformation is a decryption.
+     * @return The unmodifiable map of transformed values, by key.
+     * @throws ConfigCryptoProviderException If any value cannot be
+     * transformed.
+     */
+    private static <K> Map<K, String> transformAll(
+            final Map<K, String> values,
+            final UnaryOperator<String> transformation,
+            final boolean parallel,
+            final boolean decryption) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(transformation);
+        final Map<K, String> result = new ConcurrentHashMap<>(values.size());
+        final Map<K, RuntimeException> errors = new ConcurrentHashMap<>();
+        Stream<Map.Entry<K, String>> entries = values.entrySet().stream();
+        if (parallel) {
+            entries = entries.parallel();
+        }
+        entries.filter(entry -> entry.getValue() != null)
+            .forEach(entry -> {
+                try {
+                    final String transformed = transformation.apply(entry.getValue());
+                    if (transformed != null) {
+                        result.put(entry.getKey(), transformed);
+                    }
+                } catch (final RuntimeException e) {
+                    errors.put(entry.getKey(), e);
+                }
+            });
+        if (!errors.isEmpty()) {
+            throw createBulkException(errors, decryption);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the maximum number of bytes the specified Base64 encoded
+     * value decodes to.
+     * 
+     * @param value The Base64 encoded value.
+     * @return The maximum number of decoded bytes.
+     * @since 1.2
+     */
+    public static int base64DecodedLength(
+            final CharSequence value) {
+        int length = value.length();
+        while (length > 0 && value.charAt(length - 1) == BASE64_PADDING) {
+            length--;
+        }
+        return (int) (length * 6L / Byte.SIZE);
+    }
+
+    /**
+     * Decodes the specified Base64 encoded value, as specified in RFC 4648,
+     * into the specified buffer.
+     * <p>
+     * The characters are decoded directly into the backing array of heap
+     * buffers, without creating intermediate {@code String} or
+     * {@code byte[]} instances. Padding is optional.
+     * 
+     * @param value The Base64 encoded value.
+     * @param output The buffer to write the decoded bytes to.
+     * @throws IllegalArgumentException If the value is not a valid Base64
+     * encoded value.
+     * @throws BufferOverflowException If the buffer has not enough space
+     * remaining for the decoded bytes.
+     * @since 1.2
+     */
+    public static void decodeBase64(
+            final CharSequence value,
+            final ByteBuffer output) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) == BASE64_PADDING) {
+            end--;
+        }
+        final int padding = value.length() - end;
+        if (padding > 2 || (padding > 0 && value.length() % 4 != 0) || end % 4 == 1) {
+            throw new IllegalArgumentException(BASE64_ERROR);
+        }
+        final int length = base64DecodedLength(value);
+        if (length > output.remaining()) {
+            throw new BufferOverflowException();
+        }
+        final byte[] bytes;
+        int index;
+        if (output.hasArray()) {
+            bytes = output.array();
+            index = output.arrayOffset() + output.position();
+        } else {
+            bytes = new byte[length];
+            index = 0;
+        }
+        final int quadsEnd = end - end % 4;
+        int i = 0;
+        while (i < quadsEnd) {
+            final int bits = base64Digit(value.charAt(i++)) << 18
+                    | base64Digit(value.charAt(i++)) << 12
+                    | base64Digit(value.charAt(i++)) << 6
+                    | base64Digit(value.charAt(i++));
+            bytes[index++] = (byte) (bits >> 16);
+            bytes[index++] = (byte) (bits >> 8);
+            bytes[index++] = (byte) bits;
+        }
+        if (i < end) {
+            int bits = base64Digit(value.charAt(i++)) << 18
+                    | base64Digit(value.charAt(i++)) << 12;
+            bytes[index++] = (byte) (bits >> 16);
+            if (i < end) {
+                bits |= base64Digit(value.charAt(i)) << 6;
+                bytes[index] = (byte) (bits >> 8);
+            }
+        }
+        if (output.hasArray()) {
+            output.position(output.position() + length);
+        } else {
+            output.put(bytes);
+        }
+    }
+
+    /**
+     * Returns the value of the specified Base64 alphabet character.
+     * 
+     * @param c The Base64 alphabet character.
+     * @return The value of the character.
+     * @throws IllegalArgumentException If the character is not part of the
+     * Base64 alphabet.
+     */
+    private static int base64Digit(
+            final char c) {
+        final int digit = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException(BASE64_ERROR);
+        }
+        return digit;
+    }
+
+    /**
+     * Decodes the specified Base64 encoded value into the reusable encrypted
+     * bytes buffer of the current thread.
+     * <p>
+     * The returned buffer is ready to be read, and is only valid until the
+     * next call to this method in the same thread.
+     * 
+     * @param value The Base64 encoded value.
+     * @return The buffer with the decoded bytes.
+     * @throws IllegalArgumentException If the value is not a valid Base64
+     * encoded value.
+     * @since 1.2
+     * @see #encryptedBuffer(int)
+     */
+    public static ByteBuffer decodeBase64(
+            final CharSequence value) {
+        final ByteBuffer result = encryptedBuffer(base64DecodedLength(value));
+        decodeBase64(value, result);
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Returns the maximum number of bytes the UTF-8 encoding of the
+     * specified number of characters can have.
+     * 
+     * @param length The number of characters.
+     * @return The maximum number of UTF-8 encoded bytes.
+     * @since 1.2
+     */
+    public static int utf8EncodedLength(
+            final int length) {
+        return (int) Math.min(Integer.MAX_VALUE, length * 3L);
+    }
+
+    /**
+     * Encodes the specified characters in UTF-8 into the specified buffer.
+     * <p>
+     * Malformed characters are replaced, as {@code String.getBytes()} does.
+     * 
+     * @param value The characters to encode.
+     * @param output The buffer to write the encoded bytes to.
+     * @throws ConfigCryptoProviderException If the buffer has not enough
+     * space remaining for the encoded bytes.
+     * @since 1.2
+     * @see #utf8EncodedLength(int)
+     */
+    public static void encodeUtf8(
+            final char[] value,
+            final ByteBuffer output) {
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try {
+            checkCoderResult(encoder.encode(CharBuffer.wrap(value), output, true));
+            checkCoderResult(encoder.flush(output));
+        } catch (final CharacterCodingException cce) {
+            throw new ConfigCryptoProviderException(UTF8_ERROR, cce);
+        }
+    }
+
+    /**
+     * Decodes the specified UTF-8 bytes into a new characters array.
+     * <p>
+     * Malformed bytes are replaced, as {@code new String(byte[], Charset)}
+     * does. The intermediate characters buffer is wiped before returning.
+     * 
+     * @param value The bytes to decode.
+     * @return The decoded characters.
+     * @since 1.2
+     */
+    public static char[] decodeUtf8(
+            final ByteBuffer value) {
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // UTF-8 never decodes to more characters than bytes
+        final CharBuffer chars = CharBuffer.allocate(value.remaining());
+        try {
+            decoder.decode(value, chars, true);
+            decoder.flush(chars);
+            chars.flip();
+            final char[] result = new char[chars.remaining()];
+            chars.get(result);
+            return result;
+        } finally {
+            Arrays.fill(chars.array(), '\0');
+        }
+    }
+
+    /**
+     * Checks that the specified encoding result is not an error.
+     * 
+     * @param result The encoding result.
+     * @throws CharacterCodingException If the result is an error.
+     */
+    private static void checkCoderResult(
+            final CoderResult result)
+    throws CharacterCodingException {
+        if (result.isError() || result.isOverflow()) {
+            result.throwException();
+        }
+    }
+
+    /**
+     * Returns the reusable buffer for encrypted bytes of the current thread,
+     * cleared and with at least the specified capacity.
+     * <p>
+     * Buffers bigger than {@value #MAX_REUSABLE_BUFFER_CAPACITY} bytes are
+     * not reused.
+     * 
+     * @param capacity The minimum capacity of the buffer.
+     * @return The reusable buffer.
+     * @since 1.2
+     */
+    public static ByteBuffer encryptedBuffer(
+            final int capacity) {
+        return reusableBuffer(ENCRYPTED_BUFFER, capacity);
+    }
+
+    /**
+     * Returns the reusable buffer for plain bytes of the current thread,
+     * cleared and with at least the specified capacity.
+     * <p>
+     * Buffers bigger than {@value #MAX_REUSABLE_BUFFER_CAPACITY} bytes are
+     * not reused. The buffer must be wiped with {@link #wipe(ByteBuffer)}
+     * once the plain bytes are no longer required.
+     * 
+     * @param capacity The minimum capacity of the buffer.
+     * @return The reusable buffer.
+     * @since 1.2
+     */
+    public static ByteBuffer plainBuffer(
+            final int capacity) {
+        return reusableBuffer(PLAIN_BUFFER, capacity);
+    }
+
+    /**
+     * Returns the reusable buffer of the current thread stored in the
+     * specified thread local, cleared and with at least the specified
+     * capacity.
+     * 
+     * @param cache The thread local storing the reusable buffer.
+     * @param capacity The minimum capacity of the buffer.
+     * @return The reusable buffer.
+     */
+    private static ByteBuffer reusableBuffer(
+            final ThreadLocal<ByteBuffer> cache,
+            final int capacity) {
+        if (capacity > MAX_REUSABLE_BUFFER_CAPACITY) {
+            return ByteBuffer.allocate(capacity);
+        }
+        ByteBuffer buffer = cache.get();
+        if (buffer == null || buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocate(Math.max(
+                    Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1,
+                    MIN_REUSABLE_BUFFER_CAPACITY));
+            cache.set(buffer);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Overwrites all the contents of the specified buffer with zeros
+     * and clears it.
+     * 
+     * @param buffer The buffer to wipe.
+     * @since 1.2
+     */
+    public static void wipe(
+            final ByteBuffer buffer) {
+        buffer.clear();
+        if (buffer.hasArray()) {
+            Arrays.fill(
+                    buffer.array(),
+                    buffer.arrayOffset(),
+                    buffer.arrayOffset() + buffer.capacity(),
+                    (byte) 0);
+        } else {
+            while (buffer.hasRemaining()) {
+                buffer.put((byte) 0);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Creates the exception to throw when some values of a bulk operation
+     * could not be transformed.
+     * 
+     * @param errors The transformation errors, by key.
+     * @param decryption If the transformation is a decryption.
+     * @return The exception to throw.
+     */
+    private static ConfigCryptoProviderException createBulkException(
+            final Map<?, RuntimeException> errors,
+            final boolean decryption) {
+        final List<String> keys = new ArrayList<>(errors.size());
+        errors.keySet().forEach(key -> keys.add(String.valueOf(key)));
+        Collections.sort(keys);
+        final List<RuntimeException> causes = new ArrayList<>(errors.values());
+        final ConfigCryptoProviderException result;
+        if (!decryption) {
+            result = new ConfigCryptoProviderException(
+                    String.format(ENCRYPT_ERROR, keys),
+                    causes.get(0));
+        } else if (causes.stream().allMatch(ConfigCryptoWrongKeyException.class::isInstance)) {
+            result = new ConfigCryptoWrongKeyException(
+                    String.format(DECRYPT_WRONG_KEY_ERROR, keys),
+                    causes.get(0));
+        } else {
+            result = new ConfigCryptoProviderException(
+                    String.format(DECRYPT_ERROR, keys),
+                    causes.get(0));
+        }
+        for (int i = 1; i < causes.size(); i++) {
+            result.addSuppressed(causes.get(i));
+        }
+        return result;
+    }
+}
@@ -22,7 +22,10 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.nio.ByteBuffer;
+
 import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -88,9 +91,10 @@ extends AbstractConfigCryptoProvider {
         if (value == null) {
             return value;
         }
+        final SecretKey key = getSecretKey();
         final Cipher opCipher = getCipher();
         synchronized (opCipher) {
-            return getEngine().encrypt(value, getSecretKey(), opCipher);
+            return getEngine().encrypt(value, key, opCipher);
         }
     }
 
@@ -105,9 +109,59 @@ extends AbstractConfigCryptoProvider {
         if (value == null) {
             return value;
         }
+        final SecretKey key = getSecretKey();
+        final Cipher opCipher = getCipher();
+        synchronized (opCipher) {
+            return getEngine().decrypt(value, key, opCipher);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String encryptChars(
+            final char @Nullable [] value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        if (value == null) {
+            return null;
+        }
+        final Cipher opCipher = getCipher();
+        synchronized (opCipher) {
+            return encryptChars(value, opCipher);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decrypt(
+            final CharSequence value,
+            final ByteBuffer output)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final Cipher opCipher = getCipher();
+        synchronized (opCipher) {
+            decrypt(value, output, opCipher);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char @Nullable [] decryptChars(
+            final @Nullable CharSequence value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        if (value == null) {
+            return null;
+        }
         final Cipher opCipher = getCipher();
         synchronized (opCipher) {
-            return getEngine().decrypt(value, getSecretKey(), opCipher);
+            return decryptChars(value, opCipher);
         }
     }
 
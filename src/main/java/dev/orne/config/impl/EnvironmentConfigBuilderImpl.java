@@ -51,6 +51,6 @@ implements EnvironmentConfigBuilder {
      */
     @Override
     public EnvironmentConfigImpl build() {
-        return new EnvironmentConfigImpl(this.options);
+        return initialize(new EnvironmentConfigImpl(this.options));
     }
 }
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.Config;
 
@@ -69,6 +70,16 @@ extends AbstractConfig {
         return getEnvironmentVariables().containsKey(key);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The environment variables cannot change during the process execution.
+     */
+    @Override
+    protected boolean isKeyIndexEnabled() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +89,15 @@ extends AbstractConfig {
                 .stream();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Stream<Map.Entry<String, @Nullable String>> getEntriesInt() {
+        return getEnvironmentVariables().entrySet()
+                .stream();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -22,10 +22,10 @@ package dev.orne.config.impl;
  * #L%
  */
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,9 +44,12 @@ import dev.orne.config.WatchableConfig.Listener;
 @API(status = API.Status.INTERNAL, since = "1.0")
 public class EventsHandler {
 
-    /** The listeners of configuration property changes. */
+    /**
+     * The listeners of configuration property changes. Listeners can
+     * unregister themselves while being notified.
+     */
     private final List<Listener> listeners =
-            new ArrayList<>();
+            new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new instance.
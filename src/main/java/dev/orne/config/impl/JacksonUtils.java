@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
 import java.util.Objects;
 
 import org.apiguardian.api.API;
@@ -34,6 +35,8 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import dev.orne.config.ConfigKey;
+
 /**
  * Utility class for JSON operations based on Jackson.
  * 
@@ -74,6 +77,63 @@ public final class JacksonUtils {
         return JsonPointer.compile(pointer);
     }
 
+    /**
+     * Resolver of configuration keys to JSON pointer expressions.
+     * Resolvers with the same properties separator are equal, so they share
+     * the JSON pointers cached in {@code ConfigKey} instances.
+     * 
+     * @since 1.2
+     */
+    static final class PointerResolver
+    implements ConfigKey.Resolver<JsonPointer> {
+
+        /** The properties separator. */
+        private final String separator;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param separator The properties separator.
+         */
+        PointerResolver(
+                final String separator) {
+            super();
+            this.separator = Objects.requireNonNull(separator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public JsonPointer resolve(
+                final String name) {
+            return propertyToPointer(name, this.separator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(PointerResolver.class, this.separator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(
+                final @Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return this.separator.equals(((PointerResolver) obj).separator);
+        }
+    }
+
     /**
      * Sets the value of a JSON node at the specified key.
      * 
@@ -102,8 +162,45 @@ public final class JacksonUtils {
             final ObjectNode jsonObject,
             final JsonPointer pointer,
             final @Nullable String value) {
+        setNode(
+                jsonObject,
+                pointer,
+                value == null ? NODE_FACTORY.nullNode() : NODE_FACTORY.textNode(value));
+    }
+
+    /**
+     * Sets the values of a JSON array node at the specified pointer,
+     * replacing the previous node at once.
+     * 
+     * @param jsonObject The JSON object to modify.
+     * @param pointer The JSON pointer to the node.
+     * @param values The values to set.
+     * @since 1.2
+     */
+    static void setNodeValues(
+            final ObjectNode jsonObject,
+            final JsonPointer pointer,
+            final List<String> values) {
+        final ArrayNode arrayNode = NODE_FACTORY.arrayNode(values.size());
+        for (final String value : values) {
+            arrayNode.add(value);
+        }
+        setNode(jsonObject, pointer, arrayNode);
+    }
+
+    /**
+     * Sets the JSON node at the specified pointer, creating the missing
+     * parent nodes.
+     * 
+     * @param jsonObject The JSON object to modify.
+     * @param pointer The JSON pointer to the node.
+     * @param valueNode The node to set.
+     */
+    private static void setNode(
+            final ObjectNode jsonObject,
+            final JsonPointer pointer,
+            final JsonNode valueNode) {
         final JsonPointer lastPointer = pointer.last();
-        final JsonNode valueNode = value == null ? NODE_FACTORY.nullNode() : NODE_FACTORY.textNode(value);
         if (lastPointer.mayMatchElement()) {
             final ArrayNode parent = jsonObject.withArray(pointer.head(), OverwriteMode.NULLS, true);
             final int index = lastPointer.getMatchingIndex();
@@ -142,6 +142,6 @@ implements JsonConfigBuilder {
      */
     @Override
     public JsonConfigImpl build() {
-        return new JsonConfigImpl(this.options, this.jsonOptions);
+        return initialize(new JsonConfigImpl(this.options, this.jsonOptions));
     }
 }
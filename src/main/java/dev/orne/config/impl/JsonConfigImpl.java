@@ -22,8 +22,13 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -36,6 +41,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import dev.orne.config.Config;
+import dev.orne.config.ConfigKey;
 
 /**
  * Jackson {@code ObjectNode} based configuration.
@@ -54,8 +60,13 @@ extends AbstractWatchableConfig {
     private final ObjectNode jsonObject;
     /** The configuration nested properties separator. */
     private final String propertySeparator;
+    /** The maximum number of cached JSON pointers. */
+    private static final int MAX_CACHED_POINTERS = 1024;
+
+    /** The configuration keys to JSON pointers resolver. */
+    private final JacksonUtils.PointerResolver pointerResolver;
     /** The property key to JSON pointers cache. */
-    private final WeakHashMap<String, JsonPointer> cache = new WeakHashMap<>();
+    private final ConcurrentMap<String, JsonPointer> cache = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance.
@@ -84,6 +95,7 @@ extends AbstractWatchableConfig {
         Objects.requireNonNull(jsonOptions);
         this.jsonObject = jsonOptions.getJsonObject();
         this.propertySeparator = jsonOptions.getPropertySeparator();
+        this.pointerResolver = new JacksonUtils.PointerResolver(this.propertySeparator);
     }
 
     /**
@@ -126,6 +138,105 @@ extends AbstractWatchableConfig {
                         entry.getValue()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Traverses the JSON object once, without resolving the JSON pointer
+     * of each property.
+     */
+    @Override
+    protected Stream<Map.Entry<String, @Nullable String>> getEntriesInt() {
+        return this.jsonObject.propertyStream()
+                .flatMap(entry ->
+                    entriesFlattener(
+                        this.propertySeparator,
+                        "",
+                        entry.getKey(),
+                        entry.getValue()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the field names or array indexes of the JSON node of the
+     * prefix, if the prefix ends with the properties separator.
+     */
+    @Override
+    protected Stream<String> getChildNamesInt(
+            final String prefix) {
+        final JsonNode node = getPrefixNode(prefix);
+        if (node == null) {
+            return ConfigKeyIndex.extractChildNames(getKeysInt(), prefix, this.propertySeparator);
+        } else if (node.isObject()) {
+            return node.propertyStream()
+                    .filter(entry -> hasProperties(entry.getValue()))
+                    .map(Map.Entry::getKey);
+        } else if (node.isArray()) {
+            return IntStream.range(0, node.size())
+                    .filter(index -> hasProperties(node.get(index)))
+                    .mapToObj(String::valueOf);
+        } else {
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Checks the JSON node of the prefix, if the prefix ends with the
+     * properties separator.
+     */
+    @Override
+    protected boolean hasChildrenInt(
+            final String prefix) {
+        final JsonNode node = getPrefixNode(prefix);
+        if (node == null) {
+            return super.hasChildrenInt(prefix);
+        }
+        return node.isContainerNode() && hasProperties(node);
+    }
+
+    /**
+     * Returns the JSON node of the specified key prefix.
+     * 
+     * @param prefix The key prefix.
+     * @return The JSON node of the prefix, missing node if the prefix
+     * does not exist, or {@code null} if the prefix does not end with the
+     * properties separator.
+     */
+    private @Nullable JsonNode getPrefixNode(
+            final String prefix) {
+        if (prefix.isEmpty()) {
+            return this.jsonObject;
+        } else if (prefix.endsWith(this.propertySeparator)
+                && prefix.length() > this.propertySeparator.length()) {
+            return this.jsonObject.at(propertyToPointer(
+                    prefix.substring(0, prefix.length() - this.propertySeparator.length())));
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified JSON node is a value node or
+     * contains any value node.
+     * 
+     * @param node The JSON node.
+     * @return If the node contains configuration properties.
+     */
+    private static boolean hasProperties(
+            final JsonNode node) {
+        if (node.isValueNode()) {
+            return true;
+        }
+        for (final JsonNode child : node) {
+            if (hasProperties(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -136,13 +247,85 @@ extends AbstractWatchableConfig {
         return !node.isMissingNode();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the JSON pointer cached in the key instance.
+     */
+    @Override
+    protected boolean containsInt(
+            final ConfigKey key) {
+        final JsonNode node = this.jsonObject.at(key.resolve(this.pointerResolver));
+        return !node.isMissingNode();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected @Nullable String getInt(
             final String key) {
+        return getValue(this.jsonObject.at(propertyToPointer(key)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the JSON pointer cached in the key instance.
+     */
+    @Override
+    protected @Nullable String getInt(
+            final ConfigKey key) {
+        return getValue(this.jsonObject.at(key.resolve(this.pointerResolver)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads the values of JSON arrays in a single JSON pointer resolution,
+     * ignoring nested objects and arrays.
+     */
+    @Override
+    protected @Nullable List<String> getListInt(
+            final String key) {
         final JsonNode node = this.jsonObject.at(propertyToPointer(key));
+        if (node.isArray()) {
+            final List<String> result = new ArrayList<>(node.size());
+            for (final JsonNode element : node) {
+                final String value = getValue(element);
+                if (value != null) {
+                    result.add(value);
+                }
+            }
+            return result;
+        } else if (node.isValueNode()) {
+            return Collections.singletonList(node.asText());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the configuration nested properties separator.
+     */
+    @Override
+    protected String getListElementKey(
+            final String key,
+            final int index) {
+        return key + this.propertySeparator + index;
+    }
+
+    /**
+     * Returns the configuration property value of the specified JSON node.
+     * 
+     * @param node The JSON node.
+     * @return The configuration property value, or {@code null} if the node
+     * is not a value node.
+     */
+    protected @Nullable String getValue(
+            final JsonNode node) {
         if (node.isValueNode()) {
             return node.asText();
         } else {
@@ -153,6 +336,8 @@ extends AbstractWatchableConfig {
     /**
      * Resolves configuration keys to JSON pointer expressions by replacing
      * properties separator with the JSON pointer segment separator.
+     * <p>
+     * Resolved JSON pointers are cached, up to a bounded number of keys.
      * 
      * @param key The configuration key.
      * @return The JSON pointer expression.
@@ -160,8 +345,14 @@ extends AbstractWatchableConfig {
     protected JsonPointer propertyToPointer(
             final String key) {
         Objects.requireNonNull(key);
-        return cache.computeIfAbsent(key, k ->
-                JacksonUtils.propertyToPointer(k, this.propertySeparator));
+        JsonPointer result = this.cache.get(key);
+        if (result == null) {
+            result = this.pointerResolver.resolve(key);
+            if (this.cache.size() < MAX_CACHED_POINTERS) {
+                this.cache.putIfAbsent(key, result);
+            }
+        }
+        return result;
     }
 
     /**
@@ -197,10 +388,41 @@ extends AbstractWatchableConfig {
                 nestedPrefix = prefix + key + separator;
             }
             return IntStream.range(0, obj.size())
-                    .mapToObj(String::valueOf)
-                    .flatMap(index -> keysFlattener(separator, nestedPrefix, index, obj.get(index)));
+                    .boxed()
+                    .flatMap(index -> keysFlattener(separator, nestedPrefix, String.valueOf(index), obj.get(index)));
         } else {
             return Stream.of(prefix + key);
         }
     }
+
+    /**
+     * Flattens the JSON object properties to a stream of key/value pairs.
+     * 
+     * @param separator The properties separator to use.
+     * @param prefix The prefix for the keys.
+     * @param key The current key being processed.
+     * @param node The JSON object node entry.
+     * @return A stream of flattened key/value pairs.
+     * @since 1.2
+     */
+    protected Stream<Map.Entry<String, @Nullable String>> entriesFlattener(
+            final String separator,
+            final String prefix,
+            final String key,
+            final JsonNode node) {
+        if (node.isObject()) {
+            final ObjectNode obj = (ObjectNode) node;
+            final String nestedPrefix = prefix + key + separator;
+            return obj.propertyStream()
+                    .flatMap(entry -> entriesFlattener(separator, nestedPrefix, entry.getKey(), entry.getValue()));
+        } else if (node.isArray()) {
+            final ArrayNode obj = (ArrayNode) node;
+            final String nestedPrefix = prefix + key + separator;
+            return IntStream.range(0, obj.size())
+                    .boxed()
+                    .flatMap(index -> entriesFlattener(separator, nestedPrefix, String.valueOf(index), obj.get(index)));
+        } else {
+            return Stream.of(entry(prefix + key, getValue(node)));
+        }
+    }
 }
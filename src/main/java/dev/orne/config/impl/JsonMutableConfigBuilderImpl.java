@@ -139,9 +139,9 @@ implements JsonMutableConfigBuilder {
      */
     @Override
     public JsonMutableConfigImpl build() {
-        return new JsonMutableConfigImpl(
+        return initialize(new JsonMutableConfigImpl(
                 this.options,
                 this.mutableOptions,
-                this.jsonOptions);
+                this.jsonOptions));
     }
 }
@@ -24,6 +24,7 @@ package dev.orne.config.impl;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.List;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -84,6 +85,33 @@ implements FileWatchableConfig {
         JacksonUtils.setNodeValue(getJsonObject(), pointer, value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Replaces the JSON node of the property with a JSON array of the
+     * values, or removes it if there are no values.
+     */
+    @Override
+    protected void setListInt(
+            final String key,
+            final List<String> values) {
+        if (values.isEmpty()) {
+            JacksonUtils.removeNode(getJsonObject(), propertyToPointer(key));
+        } else {
+            JacksonUtils.setNodeValues(getJsonObject(), propertyToPointer(key), values);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
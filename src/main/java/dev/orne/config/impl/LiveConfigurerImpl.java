@@ -0,0 +1,182 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigProvider;
+import dev.orne.config.Configurable;
+import dev.orne.config.Configurer;
+import dev.orne.config.LiveConfigurer;
+import dev.orne.config.RefreshableConfigurable;
+import dev.orne.config.ValueConverterRegistry;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Implementation of {@code LiveConfigurer} that refreshes the
+ * {@code ConfigurableProperty} annotated properties of the configured beans
+ * when the values of their configuration properties change.
+ * <p>
+ * The properties of beans configured with a {@code WatchableConfig} are
+ * recorded in a {@code ConfigurableRefreshIndex} per configuration, from
+ * configuration property key to weakly referenced bean and property binding.
+ * On configuration changes only the properties bound to the changed keys
+ * are configured again, and the affected {@code RefreshableConfigurable}
+ * beans are notified. Properties are refreshed through the same path used
+ * to configure them, honoring the registered binders and the overridden
+ * configuration methods. If a subclass overrides
+ * {@link #configureProperties(Configurable, Config)} all the properties of
+ * the affected beans are configured again through that method.
+ * <p>
+ * Properties are set from the thread that notifies the configuration
+ * changes, so beans should use thread safe properties, like
+ * {@code volatile} fields.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see LiveConfigurer
+ * @see Configurer#liveFromProvider(ConfigProvider)
+ * @see RefreshableConfigurable
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class LiveConfigurerImpl
+extends ConfigurerImpl
+implements LiveConfigurer {
+
+    /** The refresh indexes, by watched configuration. */
+    private final Map<WatchableConfig, ConfigurableRefreshIndex> indexes =
+            new IdentityHashMap<>();
+    /** If the properties configuration method is overridden. */
+    private final boolean configureHook = isOverridden(
+            getClass(),
+            LiveConfigurerImpl.class,
+            "configureProperties",
+            Configurable.class,
+            Config.class);
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param configProvider The configuration provider
+     */
+    public LiveConfigurerImpl(
+            final ConfigProvider configProvider) {
+        super(configProvider);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param configProvider The configuration provider
+     * @param converters The typed value converters registry.
+     */
+    public LiveConfigurerImpl(
+            final ConfigProvider configProvider,
+            final ValueConverterRegistry converters) {
+        super(configProvider, converters);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Records the bound properties of the bean if the configuration is
+     * watchable.
+     */
+    @Override
+    protected void configureProperties(
+            final Configurable bean,
+            final Config config) {
+        super.configureProperties(bean, config);
+        if (config instanceof WatchableConfig) {
+            final ConfigurableBindingPlan plan = getBindingPlan(bean.getClass());
+            if (!plan.getProperties().isEmpty()) {
+                getRefreshIndex((WatchableConfig) config).register(bean, plan.getProperties());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@link #configureProperties(Configurable, Config)} is overridden
+     * all the properties of the bean are configured again through it.
+     */
+    @Override
+    protected void refreshProperties(
+            final Configurable bean,
+            final Config config,
+            final Collection<ConfigurablePropertyBinding> bindings) {
+        if (this.configureHook) {
+            configureProperties(bean, config);
+        } else {
+            super.refreshProperties(bean, config, bindings);
+        }
+    }
+
+    /**
+     * Returns the refresh index of the specified configuration, creating
+     * it and registering it as configuration changes listener on first
+     * request.
+     * 
+     * @param config The watched configuration
+     * @return The refresh index of the configuration
+     */
+    protected ConfigurableRefreshIndex getRefreshIndex(
+            final WatchableConfig config) {
+        synchronized (this.indexes) {
+            ConfigurableRefreshIndex result = this.indexes.get(config);
+            if (result == null) {
+                result = new ConfigurableRefreshIndex(config, this::refreshProperties);
+                config.addListener(result);
+                this.indexes.put(config, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unregisters the configuration changes listeners.
+     */
+    @Override
+    public void close() {
+        final List<ConfigurableRefreshIndex> closed;
+        synchronized (this.indexes) {
+            closed = new ArrayList<>(this.indexes.values());
+            this.indexes.clear();
+        }
+        for (final ConfigurableRefreshIndex index : closed) {
+            index.getConfig().removeListener(index);
+            index.clear();
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoProviderException;
+import dev.orne.config.ConfigCryptoWrongKeyException;
+import dev.orne.config.MultiKeyCryptoProviderBuilder;
+
+/**
+ * Multiple secret keys implementation of {@code ConfigCryptoProvider}.
+ * <p>
+ * Values are encrypted with the provider of the primary secret key and
+ * prefixed with its key identifier between braces. Prefixed values are
+ * decrypted with the provider of the referenced secret key in a single
+ * lookup. Values without prefix are decrypted trying the providers
+ * in order, starting with the primary one, until one of them does not
+ * fail with {@code ConfigCryptoWrongKeyException}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see MultiKeyCryptoProviderBuilder
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public class MultiKeyConfigCryptoProvider
+implements ConfigCryptoProvider {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(MultiKeyConfigCryptoProvider.class);
+    /** The key identifier header prefix. */
+    public static final char KEY_ID_PREFIX = '{';
+    /** The key identifier header suffix. */
+    public static final char KEY_ID_SUFFIX = '}';
+    /** Message for unknown key identifiers. */
+    private static final String UNKNOWN_KEY_ID_ERROR =
+            "Error decrypting secret value. Unknown secret key identifier: '%s'";
+
+    /** The primary secret key identifier. */
+    private final String primaryKey;
+    /** The primary secret key provider. */
+    private final ConfigCryptoProvider primaryProvider;
+    /** The secret keys providers, by key identifier. */
+    private final Map<String, ConfigCryptoProvider> providers;
+    /** The secret keys providers, in trial decryption order. */
+    private final List<ConfigCryptoProvider> trialProviders;
+    /** If the provider has been destroyed. */
+    private boolean destroyed;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param primaryKey The primary secret key identifier.
+     * @param providers The secret keys providers, by key identifier, in
+     * trial decryption order.
+     */
+    @API(status = API.Status.INTERNAL, since = "1.2")
+    public MultiKeyConfigCryptoProvider(
+            final String primaryKey,
+            final Map<String, ConfigCryptoProvider> providers) {
+        super();
+        this.primaryKey = Objects.requireNonNull(primaryKey);
+        this.providers = Collections.unmodifiableMap(new HashMap<>(providers));
+        this.primaryProvider = this.providers.get(primaryKey);
+        if (this.primaryProvider == null) {
+            throw new IllegalArgumentException("No provider for primary secret key");
+        }
+        final List<ConfigCryptoProvider> trial = new ArrayList<>(providers.size());
+        trial.add(this.primaryProvider);
+        providers.forEach((id, provider) -> {
+            if (!primaryKey.equals(id)) {
+                trial.add(provider);
+            }
+        });
+        this.trialProviders = Collections.unmodifiableList(trial);
+    }
+
+    /**
+     * Returns the primary secret key identifier.
+     * 
+     * @return The primary secret key identifier.
+     */
+    public String getPrimaryKey() {
+        return this.primaryKey;
+    }
+
+    /**
+     * Returns the secret keys providers, by key identifier.
+     * 
+     * @return The secret keys providers, by key identifier.
+     */
+    public Map<String, ConfigCryptoProvider> getProviders() {
+        return this.providers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String encrypt(
+            final @Nullable String value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final String encrypted = this.primaryProvider.encrypt(value);
+        if (encrypted == null) {
+            return null;
+        }
+        return KEY_ID_PREFIX + this.primaryKey + KEY_ID_SUFFIX + encrypted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String decrypt(
+            final @Nullable String value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        if (value == null) {
+            return null;
+        }
+        final int headerEnd = headerEnd(value);
+        if (headerEnd < 0) {
+            return trialDecrypt(value);
+        }
+        return headerProvider(value, headerEnd).decrypt(value.substring(headerEnd + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String encryptChars(
+            final char @Nullable [] value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final String encrypted = this.primaryProvider.encryptChars(value);
+        if (encrypted == null) {
+            return null;
+        }
+        return KEY_ID_PREFIX + this.primaryKey + KEY_ID_SUFFIX + encrypted;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values without key identifier header are decrypted through
+     * {@link #decrypt(String)}.
+     */
+    @Override
+    public void decrypt(
+            final CharSequence value,
+            final ByteBuffer output)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final int headerEnd = headerEnd(value);
+        if (headerEnd < 0) {
+            ConfigCryptoProvider.super.decrypt(value, output);
+        } else {
+            headerProvider(value, headerEnd).decrypt(
+                    CharBuffer.wrap(value, headerEnd + 1, value.length()),
+                    output);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values without key identifier header are decrypted through
+     * {@link #decrypt(String)}.
+     */
+    @Override
+    public char @Nullable [] decryptChars(
+            final @Nullable CharSequence value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        if (value == null) {
+            return null;
+        }
+        final int headerEnd = headerEnd(value);
+        if (headerEnd < 0) {
+            return ConfigCryptoProvider.super.decryptChars(value);
+        }
+        return headerProvider(value, headerEnd).decryptChars(
+                CharBuffer.wrap(value, headerEnd + 1, value.length()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are encrypted in a single bulk operation of the provider
+     * of the primary secret key.
+     */
+    @Override
+    public <K> Map<K, String> encryptAll(
+            final Map<K, String> values)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final String header = KEY_ID_PREFIX + this.primaryKey + KEY_ID_SUFFIX;
+        final Map<K, String> result = new HashMap<>(values.size());
+        this.primaryProvider.encryptAll(values).forEach(
+                (key, encrypted) -> result.put(key, header + encrypted));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values with key identifier header are grouped by secret key and
+     * decrypted in a single bulk operation of the provider of each secret
+     * key. Values without header are decrypted in a single bulk operation
+     * of the first provider, in trial order, that can decrypt all of them,
+     * as values encrypted before the secret key rotation usually are.
+     * Values with unknown key identifiers, of groups that fail or without
+     * header that no provider can decrypt in bulk are trial decrypted in
+     * parallel through {@link #decrypt(String)}, to report the failed
+     * values.
+     */
+    @Override
+    public <K> Map<K, String> decryptAll(
+            final Map<K, String> values)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        final Map<ConfigCryptoProvider, Map<K, String>> groups = new IdentityHashMap<>();
+        final Map<K, String> untagged = new HashMap<>();
+        final Map<K, String> remaining = new HashMap<>();
+        values.forEach((key, value) -> {
+            if (value == null) {
+                return;
+            }
+            final int headerEnd = headerEnd(value);
+            final ConfigCryptoProvider provider = headerEnd < 0
+                    ? null
+                    : this.providers.get(value.substring(1, headerEnd));
+            if (headerEnd < 0) {
+                untagged.put(key, value);
+            } else if (provider == null) {
+                remaining.put(key, value);
+            } else {
+                groups.computeIfAbsent(provider, k -> new HashMap<>())
+                        .put(key, value.substring(headerEnd + 1));
+            }
+        });
+        final Map<K, String> result = new HashMap<>(values.size());
+        groups.forEach((provider, group) -> {
+            try {
+                result.putAll(provider.decryptAll(group));
+            } catch (final ConfigCryptoProviderException e) {
+                group.keySet().forEach(key -> remaining.put(key, values.get(key)));
+            }
+        });
+        if (!untagged.isEmpty()) {
+            final Map<K, String> plain = trialDecryptAll(untagged);
+            if (plain == null) {
+                remaining.putAll(untagged);
+            } else {
+                result.putAll(plain);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            result.putAll(CryptoUtils.decryptAll(remaining, this::decrypt, true));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Decrypts the specified values without key identifier header in a
+     * single bulk operation of the first provider, in trial order, that
+     * can decrypt all of them.
+     * 
+     * @param <K> The type of the values keys.
+     * @param values The encrypted values, by key.
+     * @return The plain values, by key, or {@code null} if no provider can
+     * decrypt all the values.
+     */
+    protected <K> @Nullable Map<K, String> trialDecryptAll(
+            final Map<K, String> values) {
+        for (final ConfigCryptoProvider provider : this.trialProviders) {
+            try {
+                return provider.decryptAll(values);
+            } catch (final ConfigCryptoWrongKeyException e) {
+                LOG.trace("Values not encrypted with trial secret key. Trying next key.", e);
+            } catch (final ConfigCryptoProviderException e) {
+                LOG.trace("Values cannot be decrypted in bulk.", e);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the key identifier header end of the specified
+     * value, or {@code -1} if the value has no key identifier header.
+     * 
+     * @param value The encrypted value.
+     * @return The index of the key identifier header suffix.
+     */
+    protected int headerEnd(
+            final CharSequence value) {
+        if (value.length() == 0 || value.charAt(0) != KEY_ID_PREFIX) {
+            return -1;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            if (value.charAt(i) == KEY_ID_SUFFIX) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the provider of the secret key referenced by the key
+     * identifier header of the specified value.
+     * 
+     * @param value The encrypted value.
+     * @param headerEnd The index of the key identifier header suffix.
+     * @return The provider of the referenced secret key.
+     * @throws ConfigCryptoWrongKeyException If the referenced secret key
+     * is unknown.
+     */
+    protected ConfigCryptoProvider headerProvider(
+            final CharSequence value,
+            final int headerEnd) {
+        final String id = value.subSequence(1, headerEnd).toString();
+        final ConfigCryptoProvider provider = this.providers.get(id);
+        if (provider == null) {
+            throw new ConfigCryptoWrongKeyException(String.format(UNKNOWN_KEY_ID_ERROR, id));
+        }
+        return provider;
+    }
+
+    /**
+     * Decrypts the specified value without key identifier header trying
+     * the secret keys providers in order.
+     * 
+     * @param value The encrypted value.
+     * @return The plain value.
+     * @throws ConfigCryptoWrongKeyException If no provider can decrypt the
+     * value.
+     * @throws ConfigCryptoProviderException If an exception occurs during the
+     * decryption process
+     */
+    protected @Nullable String trialDecrypt(
+            final String value)
+    throws ConfigCryptoProviderException {
+        ConfigCryptoWrongKeyException error = null;
+        for (final ConfigCryptoProvider provider : this.trialProviders) {
+            try {
+                return provider.decrypt(value);
+            } catch (final ConfigCryptoWrongKeyException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        throw Objects.requireNonNull(error);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Destroys the providers of all the secret keys.
+     */
+    @Override
+    public void destroy() {
+        this.destroyed = true;
+        this.trialProviders.forEach(ConfigCryptoProvider::destroy);
+    }
+
+    /**
+     * Returns {@code true} if the cryptographic provider has been destroyed.
+     * 
+     * @return If the cryptographic provider has been destroyed.
+     */
+    public boolean isDestroyed() {
+        return this.destroyed;
+    }
+
+    /**
+     * Checks if the cryptographic provider has been destroyed.
+     * 
+     * @throws IllegalStateException If the cryptographic provider has been
+     * destroyed.
+     */
+    protected void checkDestroyed() {
+        if (this.destroyed) {
+            throw new IllegalStateException("The cryptographic engine has been destroyed.");
+        }
+    }
+}
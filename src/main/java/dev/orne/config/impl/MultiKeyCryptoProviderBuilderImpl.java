@@ -0,0 +1,113 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.MultiKeyCryptoProviderBuilder;
+
+/**
+ * Implementation of multiple secret keys configuration values cryptography
+ * transformations provider builder.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see MultiKeyConfigCryptoProvider
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class MultiKeyCryptoProviderBuilderImpl
+implements MultiKeyCryptoProviderBuilder {
+
+    /** The valid key identifiers pattern. */
+    private static final Pattern KEY_ID_PATTERN =
+            Pattern.compile("[A-Za-z0-9._-]+");
+    /** Message for invalid key identifiers. */
+    private static final String INVALID_KEY_ID_ERROR =
+            "Invalid secret key identifier: '%s'";
+    /** Message for duplicated key identifiers. */
+    private static final String DUPLICATED_KEY_ID_ERROR =
+            "Secret key identifier already registered: '%s'";
+
+    /** The primary secret key identifier. */
+    private @Nullable String primaryKey;
+    /** The secret keys providers, by key identifier. */
+    private final Map<String, ConfigCryptoProvider> providers =
+            new LinkedHashMap<>();
+
+    /**
+     * Empty constructor.
+     */
+    public MultiKeyCryptoProviderBuilderImpl() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultiKeyCryptoProviderBuilderImpl withPrimaryKey(
+            final String id,
+            final ConfigCryptoProvider provider) {
+        withKey(id, provider);
+        this.primaryKey = id;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultiKeyCryptoProviderBuilderImpl withKey(
+            final String id,
+            final ConfigCryptoProvider provider) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(provider);
+        if (!KEY_ID_PATTERN.matcher(id).matches()) {
+            throw new IllegalArgumentException(String.format(INVALID_KEY_ID_ERROR, id));
+        }
+        if (this.providers.containsKey(id)) {
+            throw new IllegalArgumentException(String.format(DUPLICATED_KEY_ID_ERROR, id));
+        }
+        this.providers.put(id, provider);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultiKeyConfigCryptoProvider build() {
+        if (this.primaryKey == null) {
+            throw new IllegalStateException("No primary secret key set");
+        }
+        return new MultiKeyConfigCryptoProvider(this.primaryKey, this.providers);
+    }
+}
@@ -23,6 +23,7 @@ package dev.orne.config.impl;
  */
 
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
 import javax.crypto.Cipher;
@@ -119,15 +120,53 @@ extends AbstractConfigCryptoProvider {
         return withCipher(cipher -> decrypt(value, cipher));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String encryptChars(
+            final char @Nullable [] value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        return withCipher(cipher -> encryptChars(value, cipher));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decrypt(
+            final CharSequence value,
+            final ByteBuffer output)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        withCipher(cipher -> {
+            decrypt(value, output, cipher);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char @Nullable [] decryptChars(
+            final @Nullable CharSequence value)
+    throws ConfigCryptoProviderException {
+        checkDestroyed();
+        return withCipher(cipher -> decryptChars(value, cipher));
+    }
+
     /**
      * Performs the specified operation with a {@code Cipher} instance from the
      * pool, returning the instance to the pool after the operation is completed.
      * 
+     * @param <T> The type of the result of the operation.
      * @param operation The operation to perform with the {@code Cipher} instance.
      * @return The result of the operation.
      */
-    protected String withCipher(
-            final FailableFunction<Cipher, String, ConfigCryptoProviderException> operation) {
+    protected <T> T withCipher(
+            final FailableFunction<Cipher, T, ConfigCryptoProviderException> operation) {
         final Cipher cipher;
         try {
             cipher = this.ciphersPool.borrowObject();
@@ -139,7 +178,7 @@ extends AbstractConfigCryptoProvider {
                     "Error allocating cipher from pool", e);
         }
         ConfigCryptoProviderException operationException = null;
-        String result = null;
+        T result = null;
         try {
             result = operation.apply(cipher);
         } catch (final ConfigCryptoProviderException ccpe) {
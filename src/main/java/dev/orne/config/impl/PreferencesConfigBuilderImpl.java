@@ -161,8 +161,8 @@ implements PreferencesConfigInitialBuilder,
      */
     @Override
     public PreferencesConfigImpl build() {
-        return new PreferencesConfigImpl(
+        return initialize(new PreferencesConfigImpl(
                 this.options,
-                this.preferencesOptions);
+                this.preferencesOptions));
     }
 }
@@ -63,9 +63,9 @@ implements PreferencesMutableConfigBuilder {
      */
     @Override
     public PreferencesMutableConfigImpl build() {
-        return new PreferencesMutableConfigImpl(
+        return initialize(new PreferencesMutableConfigImpl(
                 this.options,
                 this.mutableOptions,
-                this.preferencesOptions);
+                this.preferencesOptions));
     }
 }
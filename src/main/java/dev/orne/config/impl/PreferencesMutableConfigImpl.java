@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.PreferenceChangeEvent;
 import java.util.prefs.PreferenceChangeListener;
@@ -87,6 +88,16 @@ implements PreferencesMutableConfig, PreferenceChangeListener {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -111,6 +122,17 @@ implements PreferencesMutableConfig, PreferenceChangeListener {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The index is discarded when the preferences node notifies changes
+     * made outside this instance.
+     */
+    @Override
+    protected boolean isKeyIndexEnabled() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -135,6 +157,7 @@ implements PreferencesMutableConfig, PreferenceChangeListener {
     @Override
     public void preferenceChange(
             final PreferenceChangeEvent evt) {
+        discardKeyIndex();
         getResolver().ifPresent(r -> r.clearCache());
         try {
             getEvents().notify(this, evt.getKey());
@@ -132,6 +132,6 @@ implements PropertiesConfigBuilder {
      */
     @Override
     public PropertiesConfigImpl build() {
-        return new PropertiesConfigImpl(this.options, this.propertyOptions);
+        return initialize(new PropertiesConfigImpl(this.options, this.propertyOptions));
     }
 }
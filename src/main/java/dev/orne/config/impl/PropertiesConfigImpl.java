@@ -22,6 +22,7 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.stream.Stream;
@@ -102,6 +103,16 @@ extends AbstractWatchableConfig {
         return this.config.containsKey(key);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The properties are only modified through this instance.
+     */
+    @Override
+    protected boolean isKeyIndexEnabled() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -110,6 +121,20 @@ extends AbstractWatchableConfig {
         return this.config.stringPropertyNames().stream();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are read holding the lock of the properties, so values
+     * set through {@code setList()} are read atomically.
+     */
+    @Override
+    protected @Nullable List<String> getListInt(
+            final String key) {
+        synchronized (this.config) {
+            return super.getListInt(key);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -129,9 +129,9 @@ implements PropertiesMutableConfigBuilder {
      */
     @Override
     public PropertiesMutableConfigImpl build() {
-        return new PropertiesMutableConfigImpl(
+        return initialize(new PropertiesMutableConfigImpl(
                 this.options,
                 this.mutableOptions,
-                this.propertyOptions);
+                this.propertyOptions));
     }
 }
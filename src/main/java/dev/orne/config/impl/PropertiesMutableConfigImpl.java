@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 
+import java.util.List;
 import java.util.Properties;
 
 import org.apiguardian.api.API;
@@ -82,6 +83,31 @@ implements FileWatchableConfig {
         getProperties().setProperty(key, value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are replaced holding the lock of the properties, so they
+     * are read atomically through {@code getList()}.
+     */
+    @Override
+    protected void setListInt(
+            final String key,
+            final List<String> values) {
+        synchronized (getProperties()) {
+            super.setListInt(key, values);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
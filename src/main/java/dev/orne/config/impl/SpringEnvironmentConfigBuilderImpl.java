@@ -31,6 +31,7 @@ import org.springframework.core.env.Environment;
 import dev.orne.config.ConfigException;
 import dev.orne.config.SpringEnvironmentConfigBuilder;
 import dev.orne.config.SpringEnvironmentConfigInitialBuilder;
+import dev.orne.config.SpringEnvironmentSnapshotConfigBuilder;
 
 /**
  * Implementation of Spring {@code Environment} based immutable configuration builder.
@@ -84,9 +85,20 @@ implements SpringEnvironmentConfigInitialBuilder,
      * {@inheritDoc}
      */
     @Override
-    public SpringEnvironmentConfigImpl build() {
-        return new SpringEnvironmentConfigImpl(
+    public SpringEnvironmentSnapshotConfigBuilder withSnapshot() {
+        withIterableKeys();
+        return new SpringEnvironmentSnapshotConfigBuilderImpl(
                 this.options,
                 this.springOptions);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpringEnvironmentConfigImpl build() {
+        return initialize(new SpringEnvironmentConfigImpl(
+                this.options,
+                this.springOptions));
+    }
 }
@@ -45,7 +45,7 @@ import dev.orne.config.NonIterableConfigException;
  */
 @API(status = API.Status.INTERNAL, since = "1.0")
 public class SpringEnvironmentConfigImpl
-extends AbstractConfig {
+extends AbstractWatchableConfig {
 
     /** The Spring environment to use as storage of configuration properties. */
     private final Environment environment;
@@ -0,0 +1,401 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.SpringEnvironmentSnapshotConfig;
+
+/**
+ * Implementation of {@code SpringEnvironmentSnapshotConfig} based on Spring
+ * {@code ConfigurableEnvironment}.
+ * <p>
+ * The snapshot contains the property keys of the
+ * {@code EnumerablePropertySource}s of the environment and their resolved
+ * values. Values of other properties are resolved on first access and
+ * cached in the snapshot. When registered as Spring bean the instance
+ * listens application events, rebuilding the snapshot if the property
+ * sources of the environment have been added, removed or replaced.
+ * Changes inside existing property sources require an explicit call to
+ * {@link #refresh()}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see SpringEnvironmentSnapshotConfig
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class SpringEnvironmentSnapshotConfigImpl
+extends SpringEnvironmentConfigImpl
+implements SpringEnvironmentSnapshotConfig, ApplicationListener<ApplicationEvent> {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(SpringEnvironmentSnapshotConfigImpl.class);
+    /** The maximum number of cached lookups of non enumerated properties. */
+    private static final int MAX_LOOKUPS = 4096;
+    /** The cached value for missing properties. */
+    private static final Object MISSING = new Object();
+
+    /** The current snapshot. */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param options The configuration builder options.
+     * @param springOptions The Spring environment based configuration options.
+     */
+    public SpringEnvironmentSnapshotConfigImpl(
+            final ConfigOptions options,
+            final SpringEnvironmentConfigOptions springOptions) {
+        super(options, springOptions);
+        this.snapshot = createSnapshot();
+    }
+
+    /**
+     * Returns the Spring environment used as storage of configuration
+     * properties.
+     * 
+     * @return The Spring environment.
+     */
+    @Override
+    public ConfigurableEnvironment getEnvironment() {
+        return (ConfigurableEnvironment) super.getEnvironment();
+    }
+
+    /**
+     * Creates a new snapshot of the current property sources of the
+     * Spring environment.
+     * 
+     * @return The created snapshot.
+     */
+    protected Snapshot createSnapshot() {
+        final ConfigurableEnvironment environment = getEnvironment();
+        final List<PropertySource<?>> sources = new ArrayList<>();
+        final Set<String> keys = new LinkedHashSet<>();
+        for (final PropertySource<?> source : environment.getPropertySources()) {
+            sources.add(source);
+            if (source instanceof EnumerablePropertySource) {
+                Collections.addAll(keys, ((EnumerablePropertySource<?>) source).getPropertyNames());
+            }
+        }
+        final Map<String, String> values = new HashMap<>();
+        for (final String key : keys) {
+            try {
+                final String value = environment.getProperty(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            } catch (final IllegalArgumentException e) {
+                LOG.debug("Property '{}' cannot be resolved. Resolution delayed until accessed.", key, e);
+            }
+        }
+        return new Snapshot(sources, keys, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh() {
+        final Set<String> changed;
+        synchronized (this) {
+            final Snapshot previous = this.snapshot;
+            final Snapshot current = createSnapshot();
+            changed = new HashSet<>();
+            addChanges(changed, previous, current, previous.keys);
+            addChanges(changed, previous, current, current.keys);
+            addChanges(changed, previous, current, previous.lookups.keySet());
+            this.snapshot = current;
+        }
+        if (!changed.isEmpty()) {
+            getResolver().ifPresent(r -> r.clearCache());
+            getEvents().notify(this, changed);
+        }
+    }
+
+    /**
+     * Adds the properties which values differ between the specified
+     * snapshots to the specified set of changed properties.
+     * <p>
+     * Properties which value was not resolved in the previous snapshot are
+     * considered changed.
+     * 
+     * @param changed The changed properties.
+     * @param previous The previous snapshot.
+     * @param current The current snapshot.
+     * @param keys The properties to compare.
+     */
+    private void addChanges(
+            final Set<String> changed,
+            final Snapshot previous,
+            final Snapshot current,
+            final Set<String> keys) {
+        for (final String key : keys) {
+            if (!changed.contains(key)) {
+                final Object previousValue = previous.getCached(key);
+                if (previousValue == null
+                        || previous.keys.contains(key) != current.keys.contains(key)
+                        || !Objects.equals(
+                                previousValue == MISSING ? null : previousValue,
+                                getComparableValue(current, key))) {
+                    changed.add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the specified property in the specified snapshot,
+     * or an unique marker if the value cannot be resolved.
+     * 
+     * @param snapshot The snapshot.
+     * @param key The configuration property.
+     * @return The property value.
+     */
+    private @Nullable Object getComparableValue(
+            final Snapshot snapshot,
+            final String key) {
+        try {
+            return getValue(snapshot, key);
+        } catch (final IllegalArgumentException e) {
+            return new Object();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the property sources of the Spring environment
+     * are not the property sources of the current snapshot.
+     * 
+     * @return If the property sources of the environment changed.
+     */
+    protected boolean isPropertySourcesChanged() {
+        final List<PropertySource<?>> sources = this.snapshot.sources;
+        int index = 0;
+        for (final PropertySource<?> source : getEnvironment().getPropertySources()) {
+            if (index >= sources.size() || sources.get(index) != source) {
+                return true;
+            }
+            index++;
+        }
+        return index != sources.size();
+    }
+
+    /**
+     * Rebuilds the snapshot if the property sources of the Spring
+     * environment changed.
+     * 
+     * {@inheritDoc}
+     */
+    @Override
+    public void onApplicationEvent(
+            final ApplicationEvent event) {
+        if (isPropertySourcesChanged()) {
+            LOG.debug("Spring environment property sources changed. Refreshing snapshot...");
+            refresh();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean containsInt(
+            final String key) {
+        final Snapshot current = this.snapshot;
+        return current.keys.contains(key) || getValue(current, key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Stream<String> getKeysInt() {
+        return this.snapshot.keys.stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All the entries are retrieved from the same snapshot.
+     */
+    @Override
+    protected Stream<Map.Entry<String, @Nullable String>> getEntriesInt() {
+        final Snapshot current = this.snapshot;
+        return current.keys.stream()
+                .map(key -> entry(key, getValue(current, key)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @Nullable String getInt(
+            final String key) {
+        return getValue(this.snapshot, key);
+    }
+
+    /**
+     * Returns the value of the specified property in the specified snapshot,
+     * resolving it from the Spring environment if not cached.
+     * 
+     * @param snapshot The snapshot.
+     * @param key The configuration property.
+     * @return The property value, or {@code null} if not found.
+     */
+    private @Nullable String getValue(
+            final Snapshot snapshot,
+            final String key) {
+        final String value = snapshot.values.get(key);
+        if (value != null) {
+            return value;
+        }
+        final Object cached = snapshot.lookups.get(key);
+        if (cached != null) {
+            return cached == MISSING ? null : (String) cached;
+        }
+        final String result = getEnvironment().getProperty(key);
+        if (snapshot.lookups.size() < MAX_LOOKUPS) {
+            snapshot.lookups.put(key, result == null ? MISSING : result);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(
+            final String key,
+            final @Nullable String value) {
+        super.set(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(
+            final String... keys) {
+        super.remove(keys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(
+            final Listener listener) {
+        super.addListener(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListener(
+            final Listener listener) {
+        super.removeListener(listener);
+    }
+
+    /**
+     * Snapshot of the property sources of the Spring environment.
+     * 
+     * @since 1.2
+     */
+    protected static final class Snapshot {
+
+        /** The property sources of the environment. */
+        private final List<PropertySource<?>> sources;
+        /** The property keys of the enumerable property sources. */
+        private final Set<String> keys;
+        /** The resolved values of the enumerable property sources. */
+        private final Map<String, String> values;
+        /** The cached lookups of non enumerated properties. */
+        private final Map<String, Object> lookups = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param sources The property sources of the environment.
+         * @param keys The property keys of the enumerable property sources.
+         * @param values The resolved values of the enumerable property
+         * sources.
+         */
+        Snapshot(
+                final List<PropertySource<?>> sources,
+                final Set<String> keys,
+                final Map<String, String> values) {
+            super();
+            this.sources = Collections.unmodifiableList(sources);
+            this.keys = Collections.unmodifiableSet(keys);
+            this.values = Collections.unmodifiableMap(values);
+        }
+
+        /**
+         * Returns the cached value of the specified property.
+         * 
+         * @param key The configuration property.
+         * @return The cached value, {@code MISSING} for cached missing
+         * properties, or {@code null} if not cached.
+         */
+        @Nullable Object getCached(
+                final String key) {
+            final String value = this.values.get(key);
+            if (value != null) {
+                return value;
+            }
+            return this.lookups.get(key);
+        }
+    }
+}
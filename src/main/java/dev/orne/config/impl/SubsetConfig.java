@@ -0,0 +1,573 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigKey;
+
+/**
+ * Configuration subset view. Delegates all the calls to the underlying
+ * configuration adding the subset prefix to the configuration keys.
+ * <p>
+ * Instances are canonicalized per configuration and prefix by
+ * {@code ConfigSubset}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigSubset
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class SubsetConfig
+implements Config {
+
+    /** The maximum number of cached prefixed configuration keys. */
+    private static final int MAX_CACHED_KEYS = 256;
+
+    /** The underlying configuration. */
+    private final Config instance;
+    /** The prefix for configuration keys. */
+    private final String prefix;
+    /** The cached prefixed configuration keys, by subset key. */
+    private final ConcurrentMap<String, String> configKeys =
+            new ConcurrentHashMap<>();
+    /** The precompiled keys to prefixed precompiled keys resolver. */
+    private final PrefixResolver prefixResolver;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param instance The underlying configuration.
+     * @param prefix The prefix for configuration keys.
+     */
+    protected SubsetConfig(
+            final Config instance,
+            final String prefix) {
+        super();
+        this.instance = Objects.requireNonNull(instance);
+        this.prefix = Objects.requireNonNull(prefix);
+        this.prefixResolver = new PrefixResolver(prefix);
+    }
+
+    /**
+     * Returns the underlying configuration.
+     * 
+     * @return The underlying configuration.
+     */
+    protected Config getInstance() {
+        return this.instance;
+    }
+
+    /**
+     * Returns the prefix for configuration keys.
+     * 
+     * @return The prefix for configuration keys.
+     */
+    protected String getPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Converts a property key of this sub-set to a delegated configuration
+     * key by adding the prefix. The most used keys are cached to avoid
+     * repeated concatenations.
+     * 
+     * @param key The sub-set property key.
+     * @return The delegated configuration key.
+     */
+    protected String asConfigKey(
+            final String key) {
+        String result = this.configKeys.get(key);
+        if (result == null) {
+            result = this.prefix + key;
+            if (this.configKeys.size() < MAX_CACHED_KEYS) {
+                this.configKeys.putIfAbsent(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts a precompiled property key of this sub-set to a precompiled
+     * delegated configuration key by adding the prefix. The delegated key
+     * is cached in the key instance.
+     * 
+     * @param key The sub-set property key.
+     * @return The delegated configuration key.
+     */
+    protected ConfigKey asConfigKey(
+            final ConfigKey key) {
+        return key.resolve(this.prefixResolver);
+    }
+
+    /**
+     * Converts the specified property keys of this sub-set to delegated
+     * configuration keys by adding the prefix.
+     * 
+     * @param keys The sub-set property keys.
+     * @return The delegated configuration keys.
+     */
+    protected String[] asConfigKeys(
+            final String... keys) {
+        final String[] result = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = asConfigKey(keys[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the specified configuration key belongs to this sub-set by
+     * checking the prefix.
+     * 
+     * @param key The delegated configuration key.
+     * @return {@code true} if the key belongs to this sub-set,
+     *         {@code false} otherwise.
+     */
+    protected boolean isSubsetKey(
+            final String key) {
+        return key.startsWith(this.prefix);
+    }
+
+    /**
+     * Converts a delegated configuration key to a property key of this sub-set
+     * by removing the prefix.
+     * 
+     * @param key The delegated configuration key.
+     * @return The sub-set property key.
+     */
+    protected String asSubsetKey(
+            final String key) {
+        return key.substring(this.prefix.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Config getParent() {
+        return this.instance.getParent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.instance.getKeys(this.prefix)
+                .findAny()
+                .isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(
+            final String key) {
+        return this.instance.contains(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(
+            final ConfigKey key) {
+        return this.instance.containsKey(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getKeys() {
+        return this.instance.getKeys(this.prefix)
+                .map(this::asSubsetKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getKeys(
+            final Predicate<String> filter) {
+        return getKeys().filter(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getKeys(
+            final String keysPrefix) {
+        return this.instance.getKeys(this.prefix + keysPrefix)
+                .map(this::asSubsetKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys of the subset are contiguous in the ordered keys of the
+     * underlying configuration, so the range is resolved by the
+     * underlying configuration.
+     */
+    @Override
+    public Stream<String> getKeys(
+            final @Nullable String after,
+            final int limit) {
+        final String start = after == null ? this.prefix : this.prefix + after;
+        return this.instance.getKeys(start, limit)
+                .takeWhile(this::isSubsetKey)
+                .map(this::asSubsetKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> getChildNames(
+            final String childPrefix) {
+        return this.instance.getChildNames(this.prefix + childPrefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasChildren(
+            final String childPrefix) {
+        return this.instance.hasChildren(this.prefix + childPrefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Map.Entry<String, String>> getEntries() {
+        return this.instance.getEntries()
+                .filter(entry -> isSubsetKey(entry.getKey()))
+                .<Map.Entry<String, String>>map(entry -> new AbstractMap.SimpleImmutableEntry<>(
+                        asSubsetKey(entry.getKey()),
+                        entry.getValue()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String get(
+            final String key) {
+        return this.instance.get(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String getValue(
+            final ConfigKey key) {
+        return this.instance.getValue(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String getUndecored(
+            final String key) {
+        return this.instance.getUndecored(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String get(
+            final String key,
+            final @Nullable String defaultValue) {
+        return this.instance.get(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String get(
+            final String key,
+            final Supplier<@Nullable String> defaultValue) {
+        return this.instance.get(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Boolean getBoolean(
+            final String key) {
+        return this.instance.getBoolean(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(
+            final String key,
+            final boolean defaultValue) {
+        return this.instance.getBoolean(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Boolean getBoolean(
+            final String key,
+            final Supplier<@Nullable Boolean> defaultValue) {
+        return this.instance.getBoolean(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Integer getInteger(
+            final String key) {
+        return this.instance.getInteger(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInteger(
+            final String key,
+            final int defaultValue) {
+        return this.instance.getInteger(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Integer getInteger(
+            final String key,
+            final Supplier<@Nullable Integer> defaultValue) {
+        return this.instance.getInteger(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Long getLong(
+            final String key) {
+        return this.instance.getLong(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(
+            final String key,
+            final long defaultValue) {
+        return this.instance.getLong(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Long getLong(
+            final String key,
+            final Supplier<@Nullable Long> defaultValue) {
+        return this.instance.getLong(asConfigKey(key), defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @Nullable T get(
+            final String key,
+            final Class<T> type) {
+        return this.instance.get(asConfigKey(key), type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(
+            final String key,
+            final Class<T> type,
+            final T defaultValue) {
+        return this.instance.get(asConfigKey(key), type, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getList(
+            final String key) {
+        return this.instance.getList(asConfigKey(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> List<T> getList(
+            final String key,
+            final Class<T> type) {
+        return this.instance.getList(asConfigKey(key), type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @Nullable T getValue(
+            final ConfigKey key,
+            final Class<T> type) {
+        return this.instance.getValue(asConfigKey(key), type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Config subset(
+            final String subsetPrefix) {
+        return ConfigSubset.create(this.instance, this.prefix + subsetPrefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                getClass(),
+                this.instance,
+                this.prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SubsetConfig other = (SubsetConfig) obj;
+        return Objects.equals(this.instance, other.instance)
+                && Objects.equals(this.prefix, other.prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [instance=" + this.instance + ", prefix=" + this.prefix + "]";
+    }
+
+    /**
+     * Resolver of precompiled keys to prefixed precompiled keys.
+     * Resolvers with the same prefix are equal, so they share the prefixed
+     * keys cached in {@code ConfigKey} instances.
+     * 
+     * @since 1.2
+     */
+    private static final class PrefixResolver
+    implements ConfigKey.Resolver<ConfigKey> {
+
+        /** The prefix for configuration keys. */
+        private final String prefix;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param prefix The prefix for configuration keys.
+         */
+        PrefixResolver(
+                final String prefix) {
+            super();
+            this.prefix = prefix;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConfigKey resolve(
+                final String name) {
+            return ConfigKey.of(this.prefix + name);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(PrefixResolver.class, this.prefix);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(
+                final @Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return this.prefix.equals(((PrefixResolver) obj).prefix);
+        }
+    }
+}
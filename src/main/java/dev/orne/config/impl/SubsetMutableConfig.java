@@ -0,0 +1,134 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.MutableConfig;
+
+/**
+ * Mutable configuration subset view. Delegates all the calls to the
+ * underlying configuration adding the subset prefix to the configuration
+ * keys.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigSubset
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class SubsetMutableConfig
+extends SubsetConfig
+implements MutableConfig {
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param instance The underlying configuration.
+     * @param prefix The prefix for configuration keys.
+     */
+    protected SubsetMutableConfig(
+            final MutableConfig instance,
+            final String prefix) {
+        super(instance, prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected MutableConfig getInstance() {
+        return (MutableConfig) super.getInstance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(
+            final String key,
+            final @Nullable String value) {
+        getInstance().set(asConfigKey(key), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(
+            final String key,
+            final @Nullable Boolean value) {
+        getInstance().set(asConfigKey(key), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(
+            final String key,
+            final @Nullable Integer value) {
+        getInstance().set(asConfigKey(key), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(
+            final String key,
+            final @Nullable Long value) {
+        getInstance().set(asConfigKey(key), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        getInstance().setList(asConfigKey(key), values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(
+            final String... keys) {
+        getInstance().remove(asConfigKeys(keys));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MutableConfig subset(
+            final String subsetPrefix) {
+        return ConfigSubset.create(getInstance(), getPrefix() + subsetPrefix);
+    }
+}
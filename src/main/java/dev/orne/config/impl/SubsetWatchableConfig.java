@@ -0,0 +1,141 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+
+import dev.orne.config.MutableConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Watchable configuration subset view. Delegates all the calls to the
+ * underlying configuration adding the subset prefix to the configuration
+ * keys.
+ * <p>
+ * The subset listens to the underlying configuration changes only after the
+ * first listener is registered, notifying its listeners of the changes of
+ * the subset properties only.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigSubset
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class SubsetWatchableConfig
+extends SubsetMutableConfig
+implements WatchableConfig {
+
+    /** The configuration change events handler. */
+    private final EventsHandler events = new EventsHandler();
+    /** If the underlying configuration changes are being listened. */
+    private boolean listening;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param instance The underlying configuration.
+     * @param prefix The prefix for configuration keys.
+     */
+    protected SubsetWatchableConfig(
+            final WatchableConfig instance,
+            final String prefix) {
+        super(instance, prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected WatchableConfig getInstance() {
+        return (WatchableConfig) super.getInstance();
+    }
+
+    /**
+     * Returns the configuration change events handler.
+     * 
+     * @return The configuration change events handler.
+     */
+    protected EventsHandler getEvents() {
+        return this.events;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(
+            final Listener listener) {
+        synchronized (this.events) {
+            if (!this.listening) {
+                getInstance().addListener(this::instanceChanged);
+                this.listening = true;
+            }
+            this.events.add(listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListener(
+            final Listener listener) {
+        synchronized (this.events) {
+            this.events.remove(listener);
+        }
+    }
+
+    /**
+     * Notifies the registered listeners of the changes of the subset
+     * properties in the underlying configuration.
+     * 
+     * @param config The modified configuration instance.
+     * @param keys The modified configuration properties.
+     */
+    protected void instanceChanged(
+            final MutableConfig config,
+            final Set<String> keys) {
+        final Set<String> subsetKeys = new HashSet<>();
+        for (final String key : keys) {
+            if (isSubsetKey(key)) {
+                subsetKeys.add(asSubsetKey(key));
+            }
+        }
+        if (!subsetKeys.isEmpty()) {
+            this.events.notify(this, subsetKeys);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WatchableConfig subset(
+            final String subsetPrefix) {
+        return ConfigSubset.create(getInstance(), getPrefix() + subsetPrefix);
+    }
+}
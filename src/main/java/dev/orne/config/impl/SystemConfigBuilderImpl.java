@@ -51,6 +51,6 @@ implements SystemConfigBuilder {
      */
     @Override
     public SystemConfigImpl build() {
-        return new SystemConfigImpl(this.options);
+        return initialize(new SystemConfigImpl(this.options));
     }
 }
@@ -0,0 +1,530 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.ConfigException;
+import dev.orne.config.DataSize;
+import dev.orne.config.ValueConverter;
+import dev.orne.config.ValueConverterRegistry;
+
+/**
+ * Default implementation of {@code ValueConverterRegistry}.
+ * <p>
+ * Converters are resolved on first request of each type, checking the
+ * registered custom converters, the built-in converters and the enumeration,
+ * array and collection converters, in that order. Resolved converters,
+ * including unsupported types, are cached per type.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ValueConverterRegistry
+ */
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ValueConverterRegistryImpl
+implements ValueConverterRegistry {
+
+    /** The shared default registry. */
+    public static final ValueConverterRegistryImpl DEFAULT =
+            new ValueConverterRegistryImpl(Collections.emptyMap());
+    /** The conversion error message. */
+    private static final String CONVERSION_ERR = "Cannot convert configuration value to %s";
+    /** The values separator of arrays and collections. */
+    private static final char SEPARATOR = ',';
+    /** The built-in converters, by wrapper type. */
+    private static final Map<Class<?>, ValueConverter<?>> BUILTIN = createBuiltinConverters();
+    /** The marker of unsupported types. */
+    private static final ValueConverter<Object> UNSUPPORTED = value -> {
+        throw new ConfigException("Unsupported type");
+    };
+
+    /** The custom converters, by type. */
+    private final Map<Class<?>, ValueConverter<?>> custom;
+    /** The resolved converters, by type. */
+    private final ClassValue<ValueConverter<?>> converters =
+            new ClassValue<ValueConverter<?>>() {
+                @Override
+                protected ValueConverter<?> computeValue(
+                        final Class<?> type) {
+                    final ValueConverter<?> result = resolve(type);
+                    return result == null ? UNSUPPORTED : result;
+                }
+            };
+    /** The resolved converters, by generic type. */
+    private final ConcurrentMap<Type, ValueConverter<?>> genericConverters =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param custom The custom converters, by type.
+     */
+    public ValueConverterRegistryImpl(
+            final Map<Class<?>, ValueConverter<?>> custom) {
+        super();
+        this.custom = Collections.unmodifiableMap(new HashMap<>(custom));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable ValueConverter<T> find(
+            final Class<T> type) {
+        final ValueConverter<?> result = this.converters.get(type);
+        return result == UNSUPPORTED ? null : (ValueConverter<T>) result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ValueConverter<?> find(
+            final Type type) {
+        if (type instanceof Class) {
+            return find((Class<?>) type);
+        }
+        final ValueConverter<?> result = this.genericConverters.computeIfAbsent(type, key -> {
+            final ValueConverter<?> converter = resolve(key);
+            return converter == null ? UNSUPPORTED : converter;
+        });
+        return result == UNSUPPORTED ? null : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ValueConverterRegistry with(
+            final Class<T> type,
+            final ValueConverter<? extends T> converter) {
+        final Map<Class<?>, ValueConverter<?>> newCustom = new HashMap<>(this.custom);
+        newCustom.put(type, converter);
+        return new ValueConverterRegistryImpl(newCustom);
+    }
+
+    /**
+     * Resolves the converter for the specified type.
+     * 
+     * @param type The target type
+     * @return The converter, or {@code null} if the type is not supported
+     */
+    protected @Nullable ValueConverter<?> resolve(
+            final Class<?> type) {
+        final Class<?> target = ClassUtils.primitiveToWrapper(type);
+        ValueConverter<?> result = this.custom.get(type);
+        if (result == null) {
+            result = this.custom.get(target);
+        }
+        if (result == null) {
+            result = BUILTIN.get(target);
+        }
+        if (result == null && target.isEnum()) {
+            result = createEnumConverter(target);
+        }
+        if (result == null && target.isArray()) {
+            final ValueConverter<?> componentConverter = find(target.getComponentType());
+            if (componentConverter != null) {
+                result = new ArrayConverter(target.getComponentType(), componentConverter);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the converter for the specified generic type.
+     * 
+     * @param type The target generic type
+     * @return The converter, or {@code null} if the type is not supported
+     */
+    protected @Nullable ValueConverter<?> resolve(
+            final Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        final ParameterizedType parameterized = (ParameterizedType) type;
+        final Type[] arguments = parameterized.getActualTypeArguments();
+        if (arguments.length != 1) {
+            return null;
+        }
+        Type elementType = arguments[0];
+        if (elementType instanceof WildcardType) {
+            elementType = ((WildcardType) elementType).getUpperBounds()[0];
+        }
+        final ValueConverter<?> elementConverter = find(elementType);
+        if (elementConverter == null) {
+            return null;
+        }
+        final Type raw = parameterized.getRawType();
+        if (raw == List.class || raw == Collection.class || raw == Iterable.class) {
+            return new CollectionConverter(elementConverter, ArrayList::new);
+        } else if (raw == Set.class) {
+            return new CollectionConverter(elementConverter, LinkedHashSet::new);
+        } else if (raw == SortedSet.class || raw == NavigableSet.class) {
+            return new CollectionConverter(elementConverter, size -> new TreeSet<>());
+        }
+        return null;
+    }
+
+    /**
+     * Creates the built-in converters.
+     * 
+     * @return The built-in converters, by wrapper type
+     */
+    private static Map<Class<?>, ValueConverter<?>> createBuiltinConverters() {
+        final Map<Class<?>, ValueConverter<?>> result = new HashMap<>();
+        result.put(String.class, (ValueConverter<String>) value -> value);
+        register(result, Boolean.class, ValueConverterRegistryImpl::parseBoolean);
+        register(result, Character.class, value -> {
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("Empty value");
+            }
+            return value.charAt(0);
+        });
+        register(result, Byte.class, value -> Byte.valueOf(value.trim()));
+        register(result, Short.class, value -> Short.valueOf(value.trim()));
+        register(result, Integer.class, value -> Integer.valueOf(value.trim()));
+        register(result, Long.class, value -> Long.valueOf(value.trim()));
+        register(result, Float.class, value -> Float.valueOf(value.trim()));
+        register(result, Double.class, value -> Double.valueOf(value.trim()));
+        register(result, BigInteger.class, value -> new BigInteger(value.trim()));
+        register(result, BigDecimal.class, value -> new BigDecimal(value.trim()));
+        register(result, Duration.class, ValueConverterRegistryImpl::parseDuration);
+        register(result, DataSize.class, DataSize::parse);
+        register(result, URI.class, value -> URI.create(value.trim()));
+        register(result, URL.class, ValueConverterRegistryImpl::parseUrl);
+        register(result, Path.class, value -> Paths.get(value));
+        register(result, File.class, File::new);
+        register(result, Charset.class, value -> Charset.forName(value.trim()));
+        register(result, Locale.class, value -> Locale.forLanguageTag(value.trim().replace('_', '-')));
+        register(result, UUID.class, value -> UUID.fromString(value.trim()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Registers the specified built-in converter, wrapping the runtime
+     * exceptions thrown in {@code ConfigException}s.
+     * 
+     * @param <T> The target type
+     * @param converters The built-in converters
+     * @param type The target type
+     * @param converter The converter
+     */
+    private static <T> void register(
+            final Map<Class<?>, ValueConverter<?>> converters,
+            final Class<T> type,
+            final ValueConverter<T> converter) {
+        converters.put(type, (ValueConverter<T>) value -> {
+            try {
+                return converter.convert(value);
+            } catch (final ConfigException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                throw conversionError(type, e);
+            }
+        });
+    }
+
+    /**
+     * Creates the conversion error for the specified type.
+     * 
+     * @param type The target type
+     * @param cause The cause of the error
+     * @return The conversion error
+     */
+    private static ConfigException conversionError(
+            final Class<?> type,
+            final Throwable cause) {
+        return new ConfigException(String.format(CONVERSION_ERR, type.getName()), cause);
+    }
+
+    /**
+     * Parses the specified boolean value. Accepts {@code true}, {@code yes},
+     * {@code y}, {@code on} and {@code 1} as {@code true} and {@code false},
+     * {@code no}, {@code n}, {@code off} and {@code 0} as {@code false},
+     * ignoring case.
+     * 
+     * @param value The value to parse
+     * @return The parsed value
+     * @throws IllegalArgumentException If the value is not a valid boolean
+     */
+    static Boolean parseBoolean(
+            final String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "y":
+            case "on":
+            case "1":
+                return Boolean.TRUE;
+            case "false":
+            case "no":
+            case "n":
+            case "off":
+            case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("Invalid boolean value");
+        }
+    }
+
+    /**
+     * Parses the specified duration value, in ISO-8601 format or as a number
+     * followed by an optional unit ({@code ns}, {@code us}, {@code ms},
+     * {@code s}, {@code m}, {@code h}, {@code d}), in milliseconds by
+     * default.
+     * 
+     * @param value The value to parse
+     * @return The parsed value
+     * @throws IllegalArgumentException If the value is not a valid duration
+     */
+    static Duration parseDuration(
+            final String value) {
+        final String text = value.trim();
+        int end = 0;
+        if (end < text.length() && (text.charAt(end) == '-' || text.charAt(end) == '+')) {
+            end++;
+        }
+        if (end < text.length() && Character.toUpperCase(text.charAt(end)) == 'P') {
+            return Duration.parse(text);
+        }
+        while (end < text.length() && Character.isDigit(text.charAt(end))) {
+            end++;
+        }
+        final long amount = Long.parseLong(text.substring(0, end));
+        switch (text.substring(end).trim().toLowerCase(Locale.ROOT)) {
+            case "":
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "ns":
+                return Duration.ofNanos(amount);
+            case "us":
+                return Duration.of(amount, ChronoUnit.MICROS);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Invalid duration unit");
+        }
+    }
+
+    /**
+     * Parses the specified URL value.
+     * 
+     * @param value The value to parse
+     * @return The parsed value
+     * @throws IllegalArgumentException If the value is not a valid URL
+     */
+    private static URL parseUrl(
+            final String value) {
+        try {
+            return new URL(value.trim());
+        } catch (final MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Splits the specified comma separated values, trimming each value.
+     * 
+     * @param value The comma separated values
+     * @return The values
+     */
+    static List<String> split(
+            final String value) {
+        if (value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> result = new ArrayList<>();
+        int start = 0;
+        int end = value.indexOf(SEPARATOR);
+        while (end != -1) {
+            result.add(value.substring(start, end).trim());
+            start = end + 1;
+            end = value.indexOf(SEPARATOR, start);
+        }
+        result.add(value.substring(start).trim());
+        return result;
+    }
+
+    /**
+     * Creates the converter of the specified enumeration type.
+     * 
+     * @param type The enumeration type
+     * @return The converter
+     */
+    private static ValueConverter<Enum<?>> createEnumConverter(
+            final Class<?> type) {
+        final Object[] constants = type.getEnumConstants();
+        final Map<String, Enum<?>> byName = new HashMap<>(constants.length * 2);
+        final Map<String, Enum<?>> byUpperCaseName = new HashMap<>(constants.length * 2);
+        for (final Object value : constants) {
+            final Enum<?> constant = (Enum<?>) value;
+            byName.put(constant.name(), constant);
+            byUpperCaseName.putIfAbsent(constant.name().toUpperCase(Locale.ROOT), constant);
+        }
+        return value -> {
+            final String name = value.trim();
+            Enum<?> result = byName.get(name);
+            if (result == null) {
+                result = byUpperCaseName.get(name.toUpperCase(Locale.ROOT));
+            }
+            if (result == null) {
+                throw new ConfigException(String.format(CONVERSION_ERR, type.getName()));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Converter of comma separated values to arrays.
+     * 
+     * @since 1.2
+     */
+    private static final class ArrayConverter
+    implements ValueConverter<Object> {
+
+        /** The component type. */
+        private final Class<?> componentType;
+        /** The component converter. */
+        private final ValueConverter<?> componentConverter;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param componentType The component type
+         * @param componentConverter The component converter
+         */
+        ArrayConverter(
+                final Class<?> componentType,
+                final ValueConverter<?> componentConverter) {
+            super();
+            this.componentType = componentType;
+            this.componentConverter = componentConverter;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object convert(
+                final String value) {
+            final List<String> values = split(value);
+            final Object result = Array.newInstance(this.componentType, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Array.set(result, i, this.componentConverter.convert(values.get(i)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Converter of comma separated values to unmodifiable collections.
+     * 
+     * @since 1.2
+     */
+    private static final class CollectionConverter
+    implements ValueConverter<Collection<Object>> {
+
+        /** The element converter. */
+        private final ValueConverter<?> elementConverter;
+        /** The collection factory, by expected size. */
+        private final Function<Integer, Collection<Object>> factory;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param elementConverter The element converter
+         * @param factory The collection factory, by expected size
+         */
+        CollectionConverter(
+                final ValueConverter<?> elementConverter,
+                final Function<Integer, Collection<Object>> factory) {
+            super();
+            this.elementConverter = elementConverter;
+            this.factory = factory;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Collection<Object> convert(
+                final String value) {
+            final List<String> values = split(value);
+            final Collection<Object> result = this.factory.apply(values.size());
+            for (final String element : values) {
+                result.add(this.elementConverter.convert(element));
+            }
+            if (result instanceof List) {
+                return Collections.unmodifiableList((List<Object>) result);
+            } else if (result instanceof NavigableSet) {
+                return Collections.unmodifiableNavigableSet((NavigableSet<Object>) result);
+            } else {
+                return Collections.unmodifiableSet((Set<Object>) result);
+            }
+        }
+    }
+}
@@ -181,6 +181,6 @@ implements XmlConfigBuilder {
         if (this.xmlOptions.getDocument().getDocumentElement() == null) {
             this.xmlOptions.setRootElement(null, "config");
         }
-        return new XmlConfigImpl(this.options, this.xmlOptions);
+        return initialize(new XmlConfigImpl(this.options, this.xmlOptions));
     }
 }
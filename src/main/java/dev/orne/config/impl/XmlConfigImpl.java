@@ -22,6 +22,8 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -30,6 +32,7 @@ import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Document;
 
 import dev.orne.config.Config;
+import dev.orne.config.ConfigKey;
 
 /**
  * Implementation of {@code Config} based on a XML document.
@@ -49,6 +52,8 @@ extends AbstractWatchableConfig {
     private final String propertySeparator;
     /** The XML attributes references prefix. */
     private final String attributePrefix;
+    /** The configuration keys to XML property paths resolver. */
+    private final XmlUtils.PathResolver pathResolver;
 
     /**
      * Creates a new instance.
@@ -77,6 +82,7 @@ extends AbstractWatchableConfig {
         this.document = Objects.requireNonNull(xmlOptions.getDocument());
         this.propertySeparator = Objects.requireNonNull(xmlOptions.getPropertySeparator());
         this.attributePrefix = Objects.requireNonNull(xmlOptions.getAttributePrefix());
+        this.pathResolver = new XmlUtils.PathResolver(this.propertySeparator);
     }
 
     /**
@@ -128,6 +134,20 @@ extends AbstractWatchableConfig {
                 this.attributePrefix);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the XML property path cached in the key instance.
+     */
+    @Override
+    protected boolean containsInt(
+            final ConfigKey key) {
+        return XmlUtils.contains(
+                this.document,
+                key.resolve(this.pathResolver),
+                this.attributePrefix);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -139,6 +159,78 @@ extends AbstractWatchableConfig {
                 this.attributePrefix);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the attributes and child elements of the XML element of the
+     * prefix, if the prefix ends with the properties separator.
+     */
+    @Override
+    protected Stream<String> getChildNamesInt(
+            final String prefix) {
+        final String path = getPrefixPath(prefix);
+        if (path == null) {
+            return ConfigKeyIndex.extractChildNames(getKeysInt(), prefix, this.propertySeparator);
+        }
+        return XmlUtils.getChildNames(
+                this.document,
+                path,
+                this.propertySeparator,
+                this.attributePrefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Checks the XML element of the prefix, if the prefix ends with the
+     * properties separator.
+     */
+    @Override
+    protected boolean hasChildrenInt(
+            final String prefix) {
+        final String path = getPrefixPath(prefix);
+        if (path == null) {
+            return super.hasChildrenInt(prefix);
+        }
+        return XmlUtils.hasChildren(
+                this.document,
+                path,
+                this.propertySeparator);
+    }
+
+    /**
+     * Returns the XML element property path of the specified key prefix.
+     * 
+     * @param prefix The key prefix.
+     * @return The property path of the prefix, or {@code null} if the
+     * prefix does not end with the properties separator.
+     */
+    private @Nullable String getPrefixPath(
+            final String prefix) {
+        if (prefix.isEmpty()) {
+            return prefix;
+        } else if (prefix.endsWith(this.propertySeparator)
+                && prefix.length() > this.propertySeparator.length()) {
+            return prefix.substring(0, prefix.length() - this.propertySeparator.length());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Traverses the XML document once, without resolving the XML path
+     * of each property.
+     */
+    @Override
+    protected Stream<Map.Entry<String, @Nullable String>> getEntriesInt() {
+        return XmlUtils.extractEntries(
+                this.document,
+                this.propertySeparator,
+                this.attributePrefix);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -152,4 +244,34 @@ extends AbstractWatchableConfig {
                 attributePrefix)
                 .orElse(null);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads the text values of the sibling XML elements of the property.
+     */
+    @Override
+    protected @Nullable List<String> getListInt(
+            final String key) {
+        return XmlUtils.getValues(
+                this.document,
+                key,
+                this.propertySeparator,
+                this.attributePrefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the XML property path cached in the key instance.
+     */
+    @Override
+    protected @Nullable String getInt(
+            final ConfigKey key) {
+        return XmlUtils.getValue(
+                this.document,
+                key.resolve(this.pathResolver),
+                this.attributePrefix)
+                .orElse(null);
+    }
 }
@@ -176,9 +176,9 @@ implements XmlMutableConfigBuilder {
         if (this.xmlOptions.getDocument().getDocumentElement() == null) {
             this.xmlOptions.setRootElement(null, "config");
         }
-        return new XmlMutableConfigImpl(
+        return initialize(new XmlMutableConfigImpl(
                 this.options,
                 this.mutableOptions,
-                this.xmlOptions);
+                this.xmlOptions));
     }
 }
@@ -24,6 +24,7 @@ package dev.orne.config.impl;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.List;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.OutputKeys;
@@ -118,6 +119,34 @@ implements FileWatchableConfig {
                 value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setList(
+            final String key,
+            final @Nullable List<String> values) {
+        super.setList(key, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Replaces the sibling XML elements of the property with an element
+     * for each value.
+     */
+    @Override
+    protected void setListInt(
+            final String key,
+            final List<String> values) {
+        XmlUtils.setValues(
+                getDocument(),
+                key,
+                getPropertySeparator(),
+                getAttributePrefix(),
+                values);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -23,10 +23,15 @@ package dev.orne.config.impl;
  */
 
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -54,6 +59,7 @@ import org.w3c.dom.NodeList;
 import org.w3c.dom.Text;
 
 import dev.orne.config.ConfigException;
+import dev.orne.config.ConfigKey;
 
 /**
  * Utility class for XML operations.
@@ -109,11 +115,29 @@ public final class XmlUtils {
             final String property,
             final String propertySeparator,
             final String attributePrefix) {
+        return contains(
+                document,
+                splitProperty(property, propertySeparator),
+                attributePrefix);
+    }
+
+    /**
+     * Checks if the given XML document contains a specific property.
+     * 
+     * @param document The XML document to search within.
+     * @param path The split property, as returned by
+     * {@link #splitProperty(String, String)}.
+     * @param attributePrefix The prefix used for attributes.
+     * @return {@code true} if the property exists, {@code false} otherwise.
+     * @since 1.2
+     */
+    static boolean contains(
+            final Document document,
+            final Pair<List<String>, String> path,
+            final String attributePrefix) {
         final Element root = document.getDocumentElement();
-        final Pair<List<String>, String> split = splitProperty(property, propertySeparator);
-        final List<String> parts = split.getLeft();
-        final String leaf = split.getRight();
-        return findElement(root, parts)
+        final String leaf = path.getRight();
+        return findElement(root, path.getLeft())
                 .flatMap(n -> findLeaf(n, leaf, attributePrefix))
                 .isPresent();
     }
@@ -174,7 +198,7 @@ public final class XmlUtils {
         final Stream<String> attrKeys = IntStream.range(0, attributes.getLength())
                 .mapToObj(attributes::item)
                 .filter(Attr.class::isInstance)
-                .map(node -> childPrefix + attributePrefix + node.getLocalName());
+                .map(node -> childPrefix + attributePrefix + node.getNodeName());
         final NodeList children = element.getChildNodes();
         final Stream<String> childKeys = IntStream.range(0, children.getLength())
                 .mapToObj(children::item)
@@ -188,6 +212,193 @@ public final class XmlUtils {
                 childKeys);
     }
 
+    /**
+     * Extracts the key/value pairs from the XML document.
+     * <p>
+     * Traverses the XML document once, as
+     * {@link #extractKeys(Document, String, String)}, extracting
+     * each key with its value. Only the first child element with each
+     * tag name is traversed, as property values are resolved against
+     * the first matching element.
+     * 
+     * @param document The XML document to extract entries from.
+     * @param propertySeparator The separator used for nested properties.
+     * @param attributePrefix The prefix used for attributes.
+     * @return A stream of key/value pairs extracted from the document.
+     * @since 1.2
+     */
+    static Stream<Map.Entry<String, @Nullable String>> extractEntries(
+            final Document document,
+            final String propertySeparator,
+            final String attributePrefix) {
+        return firstChildElements(document.getDocumentElement())
+                .flatMap(child -> extractEntries(
+                        child,
+                        "",
+                        propertySeparator,
+                        attributePrefix));
+    }
+
+    /**
+     * Extracts the key/value pairs from the XML element and its children.
+     * 
+     * @param element The XML element to extract entries from.
+     * @param prefix The prefix to prepend to the keys.
+     * @param propertySeparator The separator used for nested properties.
+     * @param attributePrefix The prefix used for attributes.
+     * @return A stream of key/value pairs extracted from the element and
+     * its children.
+     * @since 1.2
+     */
+    static Stream<Map.Entry<String, @Nullable String>> extractEntries(
+            final Element element,
+            final String prefix,
+            final String propertySeparator,
+            final String attributePrefix) {
+        final String value = XmlUtils.getValue(element);
+        final Stream<Map.Entry<String, @Nullable String>> elementEntry;
+        if (value == null) {
+            elementEntry = Stream.of();
+        } else {
+            elementEntry = Stream.of(AbstractConfig.entry(prefix + element.getTagName(), value));
+        }
+        final String childPrefix = prefix + element.getTagName() + propertySeparator;
+        final NamedNodeMap attributes = element.getAttributes();
+        final Stream<Map.Entry<String, @Nullable String>> attrEntries = IntStream.range(0, attributes.getLength())
+                .mapToObj(attributes::item)
+                .filter(Attr.class::isInstance)
+                .map(Attr.class::cast)
+                .map(attr -> AbstractConfig.entry(
+                        childPrefix + attributePrefix + attr.getName(),
+                        attr.getValue()));
+        final Stream<Map.Entry<String, @Nullable String>> childEntries = firstChildElements(element)
+                .flatMap(child -> extractEntries(child, childPrefix, propertySeparator, attributePrefix));
+        return Stream.concat(
+                Stream.concat(
+                    elementEntry,
+                    attrEntries),
+                childEntries);
+    }
+
+    /**
+     * Returns the names of the direct children of the XML element of the
+     * given property path: its attributes, prefixed with the attribute
+     * prefix, and the tag names of its child elements that contain
+     * properties.
+     * 
+     * @param document The XML document to search within.
+     * @param path The property path of the parent element, or an empty
+     * string for the document element.
+     * @param propertySeparator The separator used for nested properties.
+     * @param attributePrefix The prefix used for attributes.
+     * @return The names of the children of the element.
+     * @since 1.2
+     */
+    static Stream<String> getChildNames(
+            final Document document,
+            final String path,
+            final String propertySeparator,
+            final String attributePrefix) {
+        final Optional<Element> parent = findPathElement(document, path, propertySeparator);
+        if (!parent.isPresent()) {
+            return Stream.empty();
+        }
+        final Element element = parent.get();
+        final Stream<String> attrNames;
+        if (element == document.getDocumentElement()) {
+            attrNames = Stream.empty();
+        } else {
+            final NamedNodeMap attributes = element.getAttributes();
+            attrNames = IntStream.range(0, attributes.getLength())
+                    .mapToObj(attributes::item)
+                    .filter(Attr.class::isInstance)
+                    .map(node -> attributePrefix + node.getNodeName());
+        }
+        return Stream.concat(
+                attrNames,
+                firstChildElements(element)
+                    .filter(XmlUtils::hasProperties)
+                    .map(Element::getTagName));
+    }
+
+    /**
+     * Returns {@code true} if the XML element of the given property path
+     * has attributes or child elements that contain properties.
+     * 
+     * @param document The XML document to search within.
+     * @param path The property path of the parent element, or an empty
+     * string for the document element.
+     * @param propertySeparator The separator used for nested properties.
+     * @return If the element has children.
+     * @since 1.2
+     */
+    static boolean hasChildren(
+            final Document document,
+            final String path,
+            final String propertySeparator) {
+        return findPathElement(document, path, propertySeparator)
+                .map(element -> (element != document.getDocumentElement()
+                        && element.hasAttributes())
+                        || firstChildElements(element).anyMatch(XmlUtils::hasProperties))
+                .orElse(false);
+    }
+
+    /**
+     * Returns the XML element of the given property path.
+     * 
+     * @param document The XML document to search within.
+     * @param path The property path of the element, or an empty string for
+     * the document element.
+     * @param propertySeparator The separator used for nested properties.
+     * @return The element, or empty if not found.
+     */
+    private static Optional<Element> findPathElement(
+            final Document document,
+            final String path,
+            final String propertySeparator) {
+        final Element root = document.getDocumentElement();
+        if (path.isEmpty()) {
+            return Optional.of(root);
+        }
+        return findElement(
+                root,
+                Arrays.asList(StringUtils.splitByWholeSeparator(path, propertySeparator)));
+    }
+
+    /**
+     * Returns {@code true} if the given XML element contains any property:
+     * a text value, an attribute or a child element that contains
+     * properties.
+     * 
+     * @param element The XML element.
+     * @return If the element contains properties.
+     */
+    private static boolean hasProperties(
+            final Element element) {
+        return element.hasAttributes()
+                || getValue(element) != null
+                || firstChildElements(element).anyMatch(XmlUtils::hasProperties);
+    }
+
+    /**
+     * Returns the first child element with each tag name of the given
+     * XML element.
+     * 
+     * @param parent The parent XML element.
+     * @return The first child element with each tag name.
+     * @since 1.2
+     */
+    private static Stream<Element> firstChildElements(
+            final Element parent) {
+        final NodeList children = parent.getChildNodes();
+        final Set<String> names = new HashSet<>();
+        return IntStream.range(0, children.getLength())
+                .mapToObj(children::item)
+                .filter(Element.class::isInstance)
+                .map(Element.class::cast)
+                .filter(child -> names.add(child.getTagName()));
+    }
+
     /**
      * Returns the value of a property in the given XML document.
      * 
@@ -202,14 +413,31 @@ public final class XmlUtils {
             final String property,
             final String propertySeparator,
             final String attributePrefix) {
+        return getValue(
+                document,
+                splitProperty(property, propertySeparator),
+                attributePrefix);
+    }
+
+    /**
+     * Returns the value of a property in the given XML document.
+     * 
+     * @param document The XML document to search within.
+     * @param path The split property, as returned by
+     * {@link #splitProperty(String, String)}.
+     * @param attributePrefix The prefix used for attributes.
+     * @return An Optional containing the value of the property, or empty if not found.
+     * @since 1.2
+     */
+    static Optional<String> getValue(
+            final Document document,
+            final Pair<List<String>, String> path,
+            final String attributePrefix) {
         final Element root = document.getDocumentElement();
-        final Pair<List<String>, String> split = splitProperty(property, propertySeparator);
-        final List<String> parts = split.getLeft();
-        final String leaf = split.getRight();
-        return findElement(root, parts)
+        final String leaf = path.getRight();
+        return findElement(root, path.getLeft())
                 .flatMap(n -> findLeaf(n, leaf, attributePrefix))
                 .map(XmlUtils::getLeafValue);
-        
     }
 
     /**
@@ -246,6 +474,119 @@ public final class XmlUtils {
         }
     }
 
+    /**
+     * Returns the values of a list property in the given XML document: the
+     * text values of the child elements with the leaf name, or the value of
+     * the leaf attribute.
+     * 
+     * @param document The XML document to search within.
+     * @param property The property name, which may include nested properties.
+     * @param propertySeparator The separator used for nested properties.
+     * @param attributePrefix The prefix used for attributes.
+     * @return The values of the property, or {@code null} if not found.
+     * @since 1.2
+     */
+    static @Nullable List<String> getValues(
+            final Document document,
+            final String property,
+            final String propertySeparator,
+            final String attributePrefix) {
+        final Pair<List<String>, String> split = splitProperty(property, propertySeparator);
+        final String leaf = split.getRight();
+        final Optional<Element> parent = findElement(document.getDocumentElement(), split.getLeft());
+        if (!parent.isPresent()) {
+            return null;
+        } else if (leaf.startsWith(attributePrefix)) {
+            return findLeaf(parent.get(), leaf, attributePrefix)
+                    .map(XmlUtils::getLeafValue)
+                    .map(Collections::singletonList)
+                    .orElse(null);
+        }
+        final List<Element> elements = getChildren(parent.get(), leaf);
+        if (elements.isEmpty()) {
+            return null;
+        }
+        final List<String> result = new ArrayList<>(elements.size());
+        for (final Element element : elements) {
+            final String value = getValue(element);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the values of a list property in the given XML document,
+     * replacing the child elements with the leaf name with a new element
+     * for each value, at the position of the first previous element.
+     * 
+     * @param document The XML document to set the property in.
+     * @param property The property name, which may include nested properties.
+     * @param propertySeparator The separator used for nested properties.
+     * @param attributePrefix The prefix used for attributes.
+     * @param values The values to set.
+     * @throws ConfigException If the property is an attribute and multiple
+     * values are set.
+     * @since 1.2
+     */
+    static void setValues(
+            final Document document,
+            final String property,
+            final String propertySeparator,
+            final String attributePrefix,
+            final List<String> values) {
+        final Pair<List<String>, String> split = splitProperty(property, propertySeparator);
+        final String leaf = split.getRight();
+        if (leaf.startsWith(attributePrefix)) {
+            if (values.size() > 1) {
+                throw new ConfigException("XML attribute property " + property
+                        + " cannot contain multiple values");
+            }
+            setValue(document, property, propertySeparator, attributePrefix,
+                    values.isEmpty() ? null : values.get(0));
+            return;
+        }
+        final Element root = document.getDocumentElement();
+        final List<Element> previous = findElement(root, split.getLeft())
+                .map(parent -> getChildren(parent, leaf))
+                .orElse(Collections.emptyList());
+        if (!values.isEmpty()) {
+            final Element parent = getElement(root, split.getLeft());
+            final Node position = previous.isEmpty() ? null : previous.get(0);
+            for (final String value : values) {
+                final Element child = createChild(parent, leaf);
+                setValue(child, value);
+                parent.insertBefore(child, position);
+            }
+        }
+        for (final Element element : previous) {
+            element.getParentNode().removeChild(element);
+        }
+    }
+
+    /**
+     * Returns the child elements with the specified name of the parent
+     * element.
+     * 
+     * @param parent The parent element.
+     * @param name The name of the child elements.
+     * @return The child elements, in document order.
+     */
+    private static List<Element> getChildren(
+            final Element parent,
+            final String name) {
+        final NodeList children = parent.getChildNodes();
+        final List<Element> result = new ArrayList<>();
+        for (int i = 0; i < children.getLength(); i++) {
+            final Node child = children.item(i);
+            if (child instanceof Element && ((Element) child).getTagName().equals(name)) {
+                result.add((Element) child);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns an Optional containing the element for the given parent and a
      * list of parts representing the path to the element.
@@ -516,6 +857,63 @@ public final class XmlUtils {
         return Pair.of(parts.subList(0, parts.size() - 1), leaf);
     }
 
+    /**
+     * Resolver of configuration keys to split XML property paths.
+     * Resolvers with the same properties separator are equal, so they share
+     * the paths cached in {@code ConfigKey} instances.
+     * 
+     * @since 1.2
+     */
+    static final class PathResolver
+    implements ConfigKey.Resolver<Pair<List<String>, String>> {
+
+        /** The properties separator. */
+        private final String separator;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param separator The properties separator.
+         */
+        PathResolver(
+                final String separator) {
+            super();
+            this.separator = Objects.requireNonNull(separator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Pair<List<String>, String> resolve(
+                final String name) {
+            return splitProperty(name, this.separator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(PathResolver.class, this.separator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(
+                final @Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return this.separator.equals(((PathResolver) obj).separator);
+        }
+    }
+
     /**
      * Converts the given XML document to its string representation.
      * 
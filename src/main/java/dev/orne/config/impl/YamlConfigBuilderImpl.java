@@ -142,6 +142,6 @@ implements YamlConfigBuilder {
      */
     @Override
     public YamlConfigImpl build() {
-        return new YamlConfigImpl(this.options, this.yamlOptions);
+        return initialize(new YamlConfigImpl(this.options, this.yamlOptions));
     }
 }
@@ -137,9 +137,9 @@ implements YamlMutableConfigBuilder {
      */
     @Override
     public YamlMutableConfigImpl build() {
-        return new YamlMutableConfigImpl(
+        return initialize(new YamlMutableConfigImpl(
                 this.options,
                 this.mutableOptions,
-                this.yamlOptions);
+                this.yamlOptions));
     }
 }
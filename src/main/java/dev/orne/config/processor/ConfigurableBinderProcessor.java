@@ -0,0 +1,499 @@
+package dev.orne.config.processor;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apiguardian.api.API;
+
+/**
+ * Annotation processor that generates reflection-free
+ * {@code ConfigurableBinder} implementations for the classes with
+ * {@code ConfigurableProperty} annotated fields.
+ * <p>
+ * For each concrete, accessible class declaring or inheriting
+ * {@code ConfigurableProperty} annotated fields a binder named
+ * {@code <ClassName>_ConfigurableBinder} is generated in the package of the
+ * class, and registered in the {@code ServiceLoader} services file of
+ * {@code ConfigurableBinder}.
+ * The generated binders use the public setters of the properties, following
+ * the Java Beans naming rules, as the reflection based configuration does.
+ * Properties without a suitable public setter are reported as warnings and
+ * not configured.
+ * <p>
+ * The processor is not registered automatically. It must be enabled
+ * explicitly with the {@code -processor} option of the compiler.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see dev.orne.config.ConfigurableBinder
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+@SupportedAnnotationTypes(ConfigurableBinderProcessor.ANNOTATION_NAME)
+public class ConfigurableBinderProcessor
+extends AbstractProcessor {
+
+    /** The configurable property annotation class name. */
+    public static final String ANNOTATION_NAME = "dev.orne.config.ConfigurableProperty";
+    /** The binder interface class name. */
+    public static final String BINDER_NAME = "dev.orne.config.ConfigurableBinder";
+    /** The generated binders class name suffix. */
+    public static final String BINDER_SUFFIX = "_ConfigurableBinder";
+    /** The binder services file. */
+    public static final String SERVICES_FILE = "META-INF/services/" + BINDER_NAME;
+    /** The generated code indentation. */
+    private static final String INDENT = "    ";
+
+    /** The generated binders class names. */
+    private final Set<String> binders = new TreeSet<>();
+    /** The fields already reported as not configurable. */
+    private final Set<VariableElement> reportedFields = new HashSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(
+            final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!this.binders.isEmpty()) {
+                writeServicesFile();
+            }
+            return false;
+        }
+        final Set<TypeElement> types = new LinkedHashSet<>();
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (final Element element : roundEnv.getRootElements()) {
+            collectSubtypes(element, types);
+        }
+        for (final TypeElement type : types) {
+            if (isSupported(type)) {
+                generateBinder(type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the specified class and its nested classes to the processed
+     * types if they inherit {@code ConfigurableProperty} annotated fields.
+     * 
+     * @param element The root element
+     * @param types The processed types
+     */
+    private void collectSubtypes(
+            final Element element,
+            final Set<TypeElement> types) {
+        if (element.getKind() == ElementKind.CLASS) {
+            final TypeElement type = (TypeElement) element;
+            if (!types.contains(type) && !collectProperties(type).isEmpty()) {
+                types.add(type);
+            }
+        }
+        for (final TypeElement nested : ElementFilter.typesIn(element.getEnclosedElements())) {
+            collectSubtypes(nested, types);
+        }
+    }
+
+    /**
+     * Returns {@code true} if a binder can be generated for the specified
+     * class.
+     * 
+     * @param type The class
+     * @return If a binder can be generated for the class
+     */
+    protected boolean isSupported(
+            final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)
+                    || currentType.getNestingKind() == NestingKind.LOCAL
+                    || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Collects the {@code ConfigurableProperty} annotated fields of the
+     * specified class and its superclasses, with their configuration keys.
+     * 
+     * @param type The class
+     * @return The configuration keys, by annotated field
+     */
+    protected Map<VariableElement, String> collectProperties(
+            final TypeElement type) {
+        final Map<VariableElement, String> properties = new LinkedHashMap<>();
+        TypeElement current = type;
+        while (current != null) {
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                final String key = getPropertyKey(field);
+                if (key != null) {
+                    properties.put(field, key);
+                }
+            }
+            final TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ?
+                    (TypeElement) ((DeclaredType) superclass).asElement() :
+                    null;
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the configuration key of the specified field, if annotated
+     * with {@code ConfigurableProperty}.
+     * 
+     * @param field The field
+     * @return The configuration key, or {@code null} if not annotated
+     */
+    private String getPropertyKey(
+            final VariableElement field) {
+        for (final AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (ANNOTATION_NAME.contentEquals(annotationType.getQualifiedName())) {
+                for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                        annotation.getElementValues().entrySet()) {
+                    if ("value".contentEquals(entry.getKey().getSimpleName())) {
+                        return String.valueOf(entry.getValue().getValue());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generates the binder of the specified class.
+     * 
+     * @param type The class
+     */
+    protected void generateBinder(
+            final TypeElement type) {
+        final Elements elements = this.processingEnv.getElementUtils();
+        final PackageElement pkg = elements.getPackageOf(type);
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String binderSimpleName = getBinderSimpleName(type);
+        final String binderName = packageName.isEmpty() ?
+                binderSimpleName :
+                packageName + "." + binderSimpleName;
+        final String beanName = type.getQualifiedName().toString();
+        final StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("@javax.annotation.processing.Generated(\"")
+            .append(getClass().getName()).append("\")\n")
+            .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+            .append("public final class ").append(binderSimpleName).append('\n')
+            .append("implements ").append(BINDER_NAME).append('<').append(beanName).append("> {\n\n")
+            .append(INDENT).append("@Override\n")
+            .append(INDENT).append("public Class<").append(beanName).append("> getBeanType() {\n")
+            .append(INDENT).append(INDENT).append("return ").append(beanName).append(".class;\n")
+            .append(INDENT).append("}\n\n")
+            .append(INDENT).append("@Override\n")
+            .append(INDENT).append("public void bind(\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("final ").append(beanName).append(" bean,\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("final dev.orne.config.Config config,\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("final ").append(BINDER_NAME).append(".Context context) {\n");
+        for (final Map.Entry<VariableElement, String> property : collectProperties(type).entrySet()) {
+            generatePropertyBinding(type, property.getKey(), property.getValue(), code);
+        }
+        code.append(INDENT).append("}\n")
+            .append("}\n");
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(binderName, type).openWriter()) {
+            writer.write(code.toString());
+            this.binders.add(binderName);
+        } catch (final IOException e) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Error generating configurable binder: " + e.getMessage(),
+                    type);
+        }
+    }
+
+    /**
+     * Generates the binding code of the specified property.
+     * 
+     * @param type The bean class
+     * @param field The {@code ConfigurableProperty} annotated field
+     * @param key The configuration key
+     * @param code The generated code
+     */
+    private void generatePropertyBinding(
+            final TypeElement type,
+            final VariableElement field,
+            final String key,
+            final StringBuilder code) {
+        final Types types = this.processingEnv.getTypeUtils();
+        final Elements elements = this.processingEnv.getElementUtils();
+        final TypeMirror fieldType = field.asType();
+        final boolean primitive = fieldType.getKind().isPrimitive();
+        final TypeMirror valueType = primitive ?
+                types.boxedClass(types.getPrimitiveType(fieldType.getKind())).asType() :
+                types.erasure(fieldType);
+        final ExecutableElement setter = findSetter(type, field, valueType);
+        if (setter == null) {
+            if (this.reportedFields.add(field)) {
+                this.processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.WARNING,
+                        "No accessible setter for configurable property '" + field.getSimpleName()
+                            + "'. Property will not be configured by generated binder.",
+                        field);
+            }
+            return;
+        }
+        final String valueTypeName = types.erasure(valueType).toString();
+        final String keyLiteral = elements.getConstantExpression(key);
+        final String indent2 = INDENT + INDENT;
+        final String indent3 = indent2 + INDENT;
+        final String indent4 = indent3 + INDENT;
+        code.append(indent2).append("if (config.contains(").append(keyLiteral).append(")) {\n")
+            .append(indent3).append("try {\n");
+        if (String.class.getName().equals(valueTypeName)) {
+            code.append(indent4).append("final java.lang.String value = config.get(")
+                .append(keyLiteral).append(");\n");
+        } else {
+            code.append(indent4).append("final ").append(valueTypeName).append(" value = context.convert(config.get(")
+                .append(keyLiteral).append("), ").append(valueTypeName).append(".class);\n");
+        }
+        if (primitive) {
+            code.append(indent4).append("if (value == null) {\n")
+                .append(indent4).append(INDENT).append("context.nullValue(").append(keyLiteral)
+                    .append(", ").append(fieldType.toString()).append(".class);\n")
+                .append(indent4).append("} else {\n")
+                .append(indent4).append(INDENT).append("bean.").append(setter.getSimpleName()).append("(value);\n")
+                .append(indent4).append("}\n");
+        } else {
+            code.append(indent4).append("bean.").append(setter.getSimpleName()).append("(value);\n");
+        }
+        code.append(indent3).append("} catch (final RuntimeException e) {\n")
+            .append(indent4).append("context.error(bean, ")
+                .append(elements.getConstantExpression(field.getSimpleName().toString())).append(", e);\n")
+            .append(indent3).append("}\n")
+            .append(indent2).append("}\n");
+    }
+
+    /**
+     * Finds the public setter of the property of the specified field,
+     * following the Java Beans naming rules.
+     * <p>
+     * Setters with the parameter type of the field are preferred.
+     * 
+     * @param type The bean class
+     * @param field The property field
+     * @param valueType The converted value type
+     * @return The setter, or {@code null} if no suitable setter is found
+     */
+    private ExecutableElement findSetter(
+            final TypeElement type,
+            final VariableElement field,
+            final TypeMirror valueType) {
+        final Types types = this.processingEnv.getTypeUtils();
+        final Elements elements = this.processingEnv.getElementUtils();
+        final String propertyName = field.getSimpleName().toString();
+        final TypeMirror fieldType = types.erasure(field.asType());
+        final List<ExecutableElement> candidates = new ArrayList<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            final String name = method.getSimpleName().toString();
+            if (name.length() > 3
+                    && name.startsWith("set")
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getReturnType().getKind() == TypeKind.VOID
+                    && method.getParameters().size() == 1
+                    && propertyName.equals(decapitalize(name.substring(3)))
+                    && isAccessible(type, (TypeElement) method.getEnclosingElement())
+                    && types.isAssignable(valueType, types.erasure(method.getParameters().get(0).asType()))) {
+                candidates.add(method);
+            }
+        }
+        for (final ExecutableElement candidate : candidates) {
+            if (types.isSameType(fieldType, types.erasure(candidate.getParameters().get(0).asType()))) {
+                return candidate;
+            }
+        }
+        return candidates.size() == 1 ? candidates.get(0) : null;
+    }
+
+    /**
+     * Returns {@code true} if the public members of the specified
+     * declaring class are accessible from the binder of the specified
+     * bean class.
+     * 
+     * @param type The bean class
+     * @param declaringType The declaring class
+     * @return If the public members are accessible
+     */
+    private boolean isAccessible(
+            final TypeElement type,
+            final TypeElement declaringType) {
+        final Elements elements = this.processingEnv.getElementUtils();
+        if (elements.getPackageOf(type).equals(elements.getPackageOf(declaringType))) {
+            return true;
+        }
+        Element current = declaringType;
+        while (current instanceof TypeElement) {
+            if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the simple name of the binder of the specified class.
+     * 
+     * @param type The class
+     * @return The simple name of the binder
+     */
+    public static String getBinderSimpleName(
+            final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element current = type.getEnclosingElement();
+        while (current instanceof TypeElement) {
+            name.insert(0, '_').insert(0, current.getSimpleName());
+            current = current.getEnclosingElement();
+        }
+        return name.append(BINDER_SUFFIX).toString();
+    }
+
+    /**
+     * Converts the specified name to a Java Beans property name, as
+     * {@code java.beans.Introspector.decapitalize()} does.
+     * 
+     * @param name The name to convert
+     * @return The property name
+     */
+    static String decapitalize(
+            final String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+        if (name.length() > 1
+                && Character.isUpperCase(name.charAt(1))
+                && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
+    }
+
+    /**
+     * Writes the {@code ServiceLoader} services file of the generated
+     * binders, keeping the binders registered by previous compilations.
+     */
+    private void writeServicesFile() {
+        final Filer filer = this.processingEnv.getFiler();
+        final Messager messager = this.processingEnv.getMessager();
+        final Set<String> services = new TreeSet<>(this.binders);
+        try {
+            final FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    final String service = line.trim();
+                    if (!service.isEmpty() && !service.startsWith("#")) {
+                        services.add(service);
+                    }
+                    line = reader.readLine();
+                }
+            }
+        } catch (final IOException ignored) {
+            // No previous services file
+        }
+        try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_FILE).openWriter()) {
+            for (final String service : services) {
+                writer.write(service);
+                writer.write('\n');
+            }
+        } catch (final IOException e) {
+            messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Error writing configurable binders services file: " + e.getMessage());
+        }
+    }
+}
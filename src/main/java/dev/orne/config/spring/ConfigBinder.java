@@ -0,0 +1,190 @@
+package dev.orne.config.spring;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.springframework.boot.context.properties.bind.BindResult;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Spring Boot configuration properties binder for the property sources of
+ * a Spring environment.
+ * <p>
+ * {@code Config} based property sources registered through
+ * {@code ConfigPropertySource} are adapted with native
+ * {@code ConfigurationPropertySource} instances, that answer property and
+ * descendant queries from an index of the configuration property names.
+ * The rest of property sources are adapted with the default Spring Boot
+ * adapters.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigConfigurationPropertySource
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public class ConfigBinder {
+
+    /** The Spring environment. */
+    private final ConfigurableEnvironment environment;
+    /** The adapted property sources. */
+    private final Map<PropertySource<?>, ConfigurationPropertySource> adapted =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param environment The Spring environment.
+     */
+    public ConfigBinder(
+            final ConfigurableEnvironment environment) {
+        super();
+        this.environment = Objects.requireNonNull(environment);
+    }
+
+    /**
+     * Returns the Spring environment.
+     * 
+     * @return The Spring environment.
+     */
+    protected ConfigurableEnvironment getEnvironment() {
+        return this.environment;
+    }
+
+    /**
+     * Returns the configuration property sources of the Spring environment,
+     * in order of precedence.
+     * 
+     * @return The configuration property sources.
+     */
+    public List<ConfigurationPropertySource> getConfigurationPropertySources() {
+        final List<ConfigurationPropertySource> result = new ArrayList<>();
+        for (final PropertySource<?> source : this.environment.getPropertySources()) {
+            final ConfigurationPropertySource adapter = adapt(source);
+            if (adapter != null) {
+                result.add(adapter);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adapts the specified property source, reusing previous adapters
+     * of the same property source.
+     * 
+     * @param source The property source.
+     * @return The configuration property source, or {@code null} if the
+     * property source must be ignored.
+     */
+    protected @Nullable ConfigurationPropertySource adapt(
+            final PropertySource<?> source) {
+        final ConfigurationPropertySource cached = this.adapted.get(source);
+        if (cached != null && isAdapterOf(cached, source)) {
+            return cached;
+        }
+        final ConfigurationPropertySource result;
+        if (source instanceof ConfigLazyPropertySource) {
+            result = ConfigConfigurationPropertySource.from(
+                    ((ConfigLazyPropertySource) source).getConfig());
+        } else {
+            result = ConfigurationPropertySource.from(source);
+        }
+        if (result == null) {
+            this.adapted.remove(source);
+        } else {
+            this.adapted.put(source, result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the specified adapter was created for the specified property
+     * source.
+     * 
+     * @param adapter The configuration property source.
+     * @param source The property source.
+     * @return If the adapter was created for the property source.
+     */
+    private static boolean isAdapterOf(
+            final ConfigurationPropertySource adapter,
+            final PropertySource<?> source) {
+        if (source instanceof ConfigLazyPropertySource) {
+            return adapter.getUnderlyingSource() == ((ConfigLazyPropertySource) source).getConfig();
+        }
+        return adapter.getUnderlyingSource() == source;
+    }
+
+    /**
+     * Returns a Spring Boot binder for the current property sources of the
+     * Spring environment.
+     * 
+     * @return The Spring Boot binder.
+     */
+    public Binder getBinder() {
+        return new Binder(
+                getConfigurationPropertySources(),
+                new PropertySourcesPlaceholdersResolver(this.environment));
+    }
+
+    /**
+     * Binds the specified target from the configuration properties with the
+     * specified name prefix.
+     * 
+     * @param <T> The target type.
+     * @param name The configuration properties name prefix.
+     * @param target The target bindable.
+     * @return The binding result.
+     */
+    public <T> BindResult<T> bind(
+            final String name,
+            final Bindable<T> target) {
+        return getBinder().bind(name, target);
+    }
+
+    /**
+     * Binds the specified target type from the configuration properties with
+     * the specified name prefix.
+     * 
+     * @param <T> The target type.
+     * @param name The configuration properties name prefix.
+     * @param target The target type.
+     * @return The binding result.
+     */
+    public <T> BindResult<T> bind(
+            final String name,
+            final Class<T> target) {
+        return bind(name, Bindable.of(target));
+    }
+}
@@ -0,0 +1,64 @@
+package dev.orne.config.spring;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Spring configuration for {@code ConfigBinder} based on Spring Boot
+ * auto configuration.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see SpringBootAutoConfigurer
+ */
+@Configuration
+@API(status = API.Status.INTERNAL, since = "1.2")
+public class ConfigBinderConfigurer {
+
+    /** The name of the {@code ConfigBinder} bean. */
+    public static final String BINDER = "orneConfigBinder";
+
+    /**
+     * Creates a new instance.
+     */
+    public ConfigBinderConfigurer() {
+        super();
+    }
+
+    /**
+     * Exposes the configuration properties binder of the Spring environment.
+     * 
+     * @param environment The Spring environment.
+     * @return The configuration properties binder.
+     */
+    @Bean(name=BINDER)
+    public ConfigBinder configBinder(
+            final ConfigurableEnvironment environment) {
+        return new ConfigBinder(environment);
+    }
+}
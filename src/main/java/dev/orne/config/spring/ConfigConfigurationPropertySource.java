@@ -0,0 +1,192 @@
+package dev.orne.config.spring;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.NonIterableConfigException;
+import dev.orne.config.impl.ConfigChangeTrackedIndex;
+
+/**
+ * Spring Boot {@code ConfigurationPropertySource} adapter for {@code Config}
+ * instances, for direct binding of configuration properties without the
+ * generic Spring {@code PropertySource} adapters.
+ * <p>
+ * This implementation is used for configurations which property keys cannot
+ * be indexed. Configuration properties are retrieved using the canonical
+ * form of the property names, and descendant properties are reported as
+ * {@code UNKNOWN}. Use {@link #from(Config)} to create the best adapter
+ * for a configuration.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigIterableConfigurationPropertySource
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public class ConfigConfigurationPropertySource
+implements ConfigurationPropertySource {
+
+    /** The configuration instance. */
+    private final Config config;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param config The configuration instance.
+     */
+    public ConfigConfigurationPropertySource(
+            final Config config) {
+        super();
+        this.config = Objects.requireNonNull(config);
+    }
+
+    /**
+     * Creates a new adapter for the specified configuration. If the
+     * configuration property keys can be indexed the returned adapter
+     * is a {@code IterableConfigurationPropertySource}.
+     * 
+     * @param config The configuration instance.
+     * @return The configuration property source adapter.
+     */
+    public static ConfigConfigurationPropertySource from(
+            final Config config) {
+        if (ConfigChangeTrackedIndex.isIndexable(config) && isIterable(config)) {
+            return new ConfigIterableConfigurationPropertySource(config);
+        }
+        return new ConfigConfigurationPropertySource(config);
+    }
+
+    /**
+     * Checks if the property keys of the specified configuration can be
+     * iterated.
+     * 
+     * @param config The configuration instance.
+     * @return If the property keys can be iterated.
+     */
+    private static boolean isIterable(
+            final Config config) {
+        try (Stream<String> keys = config.getKeys()) {
+            return keys != null;
+        } catch (final NonIterableConfigException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the configuration instance.
+     * 
+     * @return The configuration instance.
+     */
+    protected Config getConfig() {
+        return this.config;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ConfigurationProperty getConfigurationProperty(
+            final ConfigurationPropertyName name) {
+        return getConfigurationProperty(name, name.toString());
+    }
+
+    /**
+     * Returns the configuration property for the specified configuration
+     * property key.
+     * 
+     * @param name The configuration property name.
+     * @param key The configuration property key.
+     * @return The configuration property, or {@code null} if not found.
+     */
+    protected @Nullable ConfigurationProperty getConfigurationProperty(
+            final ConfigurationPropertyName name,
+            final String key) {
+        final String value = this.config.getUndecored(key);
+        if (value == null) {
+            return null;
+        }
+        return new ConfigurationProperty(name, value, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Descendants of configurations which keys cannot be indexed are always
+     * {@code UNKNOWN}.
+     */
+    @Override
+    public ConfigurationPropertyState containsDescendantOf(
+            final ConfigurationPropertyName name) {
+        return ConfigurationPropertyState.UNKNOWN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getUnderlyingSource() {
+        return this.config;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), this.config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ConfigConfigurationPropertySource other = (ConfigConfigurationPropertySource) obj;
+        return Objects.equals(this.config, other.config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [config=" + this.config + "]";
+    }
+}
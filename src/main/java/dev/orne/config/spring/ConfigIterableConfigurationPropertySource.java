@@ -0,0 +1,176 @@
+package dev.orne.config.spring;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.springframework.boot.context.properties.source.IterableConfigurationPropertySource;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.impl.ConfigChangeTrackedIndex;
+
+/**
+ * Spring Boot {@code IterableConfigurationPropertySource} adapter for
+ * {@code Config} instances which property keys can be indexed.
+ * <p>
+ * The configuration property keys are indexed by configuration property
+ * name, along with all the ancestors of the indexed names. Configuration
+ * properties and descendant queries are answered from the index, without
+ * iterating the configuration property keys. The configuration, and its
+ * parents, must be either immutable or {@code WatchableConfig} instances.
+ * The index is rebuilt after configuration change events.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 1.2
+ * @see ConfigConfigurationPropertySource#from(Config)
+ */
+@API(status = API.Status.STABLE, since = "1.2")
+public class ConfigIterableConfigurationPropertySource
+extends ConfigConfigurationPropertySource
+implements IterableConfigurationPropertySource {
+
+    /** The configuration property names index. */
+    private final ConfigChangeTrackedIndex<NameIndex> index =
+            new ConfigChangeTrackedIndex<>();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param config The configuration instance.
+     */
+    public ConfigIterableConfigurationPropertySource(
+            final Config config) {
+        super(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<ConfigurationPropertyName> stream() {
+        return getIndex().keys.keySet().stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ConfigurationProperty getConfigurationProperty(
+            final ConfigurationPropertyName name) {
+        final String key = getIndex().keys.get(name);
+        if (key == null) {
+            return null;
+        }
+        return getConfigurationProperty(name, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConfigurationPropertyState containsDescendantOf(
+            final ConfigurationPropertyName name) {
+        final NameIndex current = getIndex();
+        if (name.isEmpty()) {
+            return current.keys.isEmpty()
+                    ? ConfigurationPropertyState.ABSENT
+                    : ConfigurationPropertyState.PRESENT;
+        }
+        return current.ancestors.contains(name)
+                ? ConfigurationPropertyState.PRESENT
+                : ConfigurationPropertyState.ABSENT;
+    }
+
+    /**
+     * Returns the configuration property names index, building it if
+     * required. The index of configurations that cannot be indexed is
+     * built on every call.
+     * 
+     * @return The configuration property names index.
+     */
+    protected NameIndex getIndex() {
+        final NameIndex result = this.index.get(getConfig(), NameIndex::of);
+        return result == null ? NameIndex.of(getConfig()) : result;
+    }
+
+    /**
+     * Index of the configuration property names.
+     * 
+     * @since 1.2
+     */
+    protected static final class NameIndex {
+
+        /** The configuration property keys by property name. */
+        private final Map<ConfigurationPropertyName, String> keys;
+        /** The ancestors of the configuration property names. */
+        private final Set<ConfigurationPropertyName> ancestors;
+
+        /**
+         * Creates a new instance with the property keys of the specified
+         * configuration.
+         * 
+         * @param config The configuration instance.
+         * @return The created index.
+         */
+        static NameIndex of(
+                final Config config) {
+            try (Stream<String> keys = config.getKeys()) {
+                return new NameIndex(keys);
+            }
+        }
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param keys The configuration property keys.
+         */
+        NameIndex(
+                final Stream<String> keys) {
+            super();
+            final Map<ConfigurationPropertyName, String> names = new HashMap<>();
+            final Set<ConfigurationPropertyName> parents = new HashSet<>();
+            keys.forEach(key -> {
+                final ConfigurationPropertyName name = ConfigurationPropertyName.adapt(key, '.');
+                if (!name.isEmpty() && names.putIfAbsent(name, key) == null) {
+                    ConfigurationPropertyName parent = name.getParent();
+                    while (!parent.isEmpty() && parents.add(parent)) {
+                        parent = parent.getParent();
+                    }
+                }
+            });
+            this.keys = Collections.unmodifiableMap(names);
+            this.ancestors = Collections.unmodifiableSet(parents);
+        }
+    }
+}
@@ -22,16 +22,25 @@ package dev.orne.config.spring;
  * #L%
  */
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
-import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigException;
+import dev.orne.config.NonIterableConfigException;
+import dev.orne.config.impl.ConfigChangeTrackedIndex;
 
 /**
  * Spring {@code PropertySource} that uses a {@code Config} bean lazily loaded
@@ -39,6 +48,18 @@ import dev.orne.config.ConfigException;
  * <p>
  * Allows configuration of the property source during bean factory post
  * processing, before the configuration bean is available.
+ * <p>
+ * As the property source is usually the first one of the environment, it is
+ * queried for every placeholder of the application. On the first lookup of a
+ * missing property the property keys of the configuration are indexed, so
+ * following lookups of missing properties are rejected without querying the
+ * configuration and its parents. The index is only built if the keys of the
+ * configuration can be iterated and the configuration, and its parents, are
+ * either immutable or {@code WatchableConfig} instances. The index is
+ * rebuilt after configuration change events.
+ * <p>
+ * Property names of configurations which keys cannot be iterated are not
+ * enumerated.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2025-08
@@ -46,12 +67,20 @@ import dev.orne.config.ConfigException;
  */
 @API(status = API.Status.INTERNAL, since = "1.0")
 public class ConfigLazyPropertySource
-extends PropertySource<String> {
+extends EnumerablePropertySource<String> {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigLazyPropertySource.class);
+    /** The empty property names. */
+    private static final String[] NO_NAMES = new String[0];
 
     /** The bean factory. */
     private final BeanFactory beanFactory;
     /** The configuration instance. */
     private @Nullable Config config;
+    /** The configuration property keys index. */
+    private final ConfigChangeTrackedIndex<KeyIndex> index =
+            new ConfigChangeTrackedIndex<>();
 
     /**
      * Creates a new instance.
@@ -74,7 +103,15 @@ extends PropertySource<String> {
     @Override
     public boolean containsProperty(
             final String name) {
-        return getConfig().contains(name);
+        final KeyIndex current = this.index.getCurrent();
+        if (current != null) {
+            return current.keys.contains(name);
+        }
+        final boolean result = getConfig().contains(name);
+        if (!result) {
+            buildIndex();
+        }
+        return result;
     }
 
     /**
@@ -83,7 +120,62 @@ extends PropertySource<String> {
     @Override
     public @Nullable String getProperty(
             final String name) {
-        return getConfig().getUndecored(name);
+        final KeyIndex current = this.index.getCurrent();
+        if (current != null && !current.keys.contains(name)) {
+            return null;
+        }
+        final String result = getConfig().getUndecored(name);
+        if (result == null && current == null) {
+            buildIndex();
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns no property names if the configuration property keys cannot
+     * be iterated.
+     */
+    @Override
+    public String[] getPropertyNames() {
+        final KeyIndex current = buildIndex();
+        if (current == null) {
+            return getKeys()
+                    .map(keys -> keys.toArray(String[]::new))
+                    .orElse(NO_NAMES);
+        }
+        return current.names.clone();
+    }
+
+    /**
+     * Returns the configuration property keys, if they can be iterated.
+     * 
+     * @return The configuration property keys, or empty if the keys
+     * cannot be iterated.
+     */
+    protected Optional<Set<String>> getKeys() {
+        try (Stream<String> keys = getConfig().getKeys()) {
+            final Set<String> result = new HashSet<>();
+            keys.forEach(result::add);
+            return Optional.of(result);
+        } catch (final NonIterableConfigException e) {
+            LOG.debug("Configuration '{}' properties not iterable.", getSource(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the configuration property keys index, building it if the
+     * configuration can be indexed.
+     * 
+     * @return The built index, or {@code null} if the configuration cannot
+     * be indexed.
+     */
+    protected @Nullable KeyIndex buildIndex() {
+        return this.index.get(
+                getConfig(),
+                instance -> getKeys().map(KeyIndex::new).orElse(null));
     }
 
     /**
@@ -142,4 +234,29 @@ extends PropertySource<String> {
         final ConfigLazyPropertySource other = (ConfigLazyPropertySource) obj;
         return Objects.equals(this.beanFactory, other.beanFactory);
     }
+
+    /**
+     * Index of the configuration property keys.
+     * 
+     * @since 1.2
+     */
+    protected static final class KeyIndex {
+
+        /** The property keys. */
+        private final Set<String> keys;
+        /** The property names. */
+        private final String[] names;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param keys The property keys.
+         */
+        KeyIndex(
+                final Set<String> keys) {
+            super();
+            this.keys = Collections.unmodifiableSet(keys);
+            this.names = keys.toArray(String[]::new);
+        }
+    }
 }
@@ -24,11 +24,13 @@ package dev.orne.config.spring;
 
 import org.apiguardian.api.API;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.ImportAware;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotationMetadata;
 import org.jspecify.annotations.Nullable;
 
@@ -46,7 +48,7 @@ import dev.orne.config.Configurer;
 @Import(ConfigProviderConfigurer.class)
 @API(status = API.Status.INTERNAL, since = "1.0")
 public class ConfigurableComponentsConfigurer
-implements ImportAware {
+implements ImportAware, EnvironmentAware {
 
     /** The name of the {@code Configurer} bean. */
     public static final String CONFIGURER = "orneConfigConfigurableComponentsConfigurer";
@@ -55,6 +57,8 @@ implements ImportAware {
 
     /** The annotation data for the configuration. */
     protected @Nullable AnnotationAttributes annotationData;
+    /** The Spring environment. */
+    protected @Nullable Environment environment;
     /** The {@code ConfigProvider} supplier for current Spring context. */
     protected @Nullable ConfigProviderConfigurer springConfigProvider;
     /** The exposed configurable components {@code Configurer}, if any. */
@@ -77,6 +81,15 @@ implements ImportAware {
                 importMetadata.getAnnotationAttributes(EnableConfigurableComponents.class.getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnvironment(
+            final Environment environment) {
+        this.environment = environment;
+    }
+
     /**
      * Sets the {@code ConfigProvider} supplier for current Spring context.
      * 
@@ -111,6 +124,28 @@ implements ImportAware {
         if (this.annotationData != null && this.annotationData.getBoolean("exposeConfigurer")) {
             this.exposedConfigurer = configurer;
         }
-        return new ConfigurableComponentsPostProcessor(configurer);
+        return new ConfigurableComponentsPostProcessor(
+                configurer,
+                isParallelInitialization());
+    }
+
+    /**
+     * Returns {@code true} if the configurable components properties
+     * values must be prepared in parallel, either through the
+     * {@code EnableConfigurableComponents} annotation or the
+     * {@value SpringBootAutoConfigurer#CONFIGURABLE_PARALLEL} environment
+     * property.
+     * 
+     * @return If the properties values must be prepared in parallel.
+     * @since 1.2
+     */
+    protected boolean isParallelInitialization() {
+        if (this.annotationData != null
+                && this.annotationData.containsKey("parallelInitialization")
+                && this.annotationData.getBoolean("parallelInitialization")) {
+            return true;
+        }
+        return this.environment != null && Boolean.parseBoolean(
+                this.environment.getProperty(SpringBootAutoConfigurer.CONFIGURABLE_PARALLEL));
     }
 }
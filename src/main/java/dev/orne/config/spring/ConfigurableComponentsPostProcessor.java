@@ -22,16 +22,30 @@ package dev.orne.config.spring;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 
 import dev.orne.config.Configurer;
 import dev.orne.config.Configurable;
+import dev.orne.config.impl.ConfigurerImpl;
 
 /**
  * Spring bean post processor for automatic configuration of
  * {@code Configurable} beans.
+ * <p>
+ * If parallel initialization is enabled, the configurable properties values
+ * of the {@code Configurable} beans defined in the bean factory are resolved
+ * and converted in parallel when the post processor is registered, and only
+ * assigned when the beans are initialized.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2025-08
@@ -39,10 +53,15 @@ import dev.orne.config.Configurable;
  */
 @API(status = API.Status.INTERNAL, since = "1.0")
 public class ConfigurableComponentsPostProcessor
-implements BeanPostProcessor {
+implements BeanPostProcessor, BeanFactoryAware {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurableComponentsPostProcessor.class);
 
     /** The configurable components configurer. */
     private final Configurer configurer;
+    /** If the properties values must be prepared in parallel. */
+    private final boolean parallelInitialization;
 
     /**
      * Creates a new instance.
@@ -51,7 +70,22 @@ implements BeanPostProcessor {
      */
     public ConfigurableComponentsPostProcessor(
             final Configurer configurer) {
+        this(configurer, false);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param configurer The configurable components configurer.
+     * @param parallelInitialization If the properties values must be
+     * prepared in parallel.
+     * @since 1.2
+     */
+    public ConfigurableComponentsPostProcessor(
+            final Configurer configurer,
+            final boolean parallelInitialization) {
         this.configurer = configurer;
+        this.parallelInitialization = parallelInitialization;
     }
 
     /**
@@ -63,6 +97,61 @@ implements BeanPostProcessor {
         return this.configurer;
     }
 
+    /**
+     * Returns {@code true} if the properties values must be prepared in
+     * parallel.
+     * 
+     * @return If the properties values must be prepared in parallel.
+     * @since 1.2
+     */
+    protected boolean isParallelInitialization() {
+        return this.parallelInitialization;
+    }
+
+    /**
+     * Prepares the configurable properties values of the
+     * {@code Configurable} beans defined in the bean factory, if parallel
+     * initialization is enabled.
+     * 
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBeanFactory(
+            final BeanFactory beanFactory)
+    throws BeansException {
+        if (this.parallelInitialization
+                && this.configurer instanceof ConfigurerImpl
+                && beanFactory instanceof ConfigurableListableBeanFactory) {
+            final List<Class<?>> types = findConfigurableTypes(
+                    (ConfigurableListableBeanFactory) beanFactory);
+            LOG.debug("Preparing properties of {} configurable bean types...", types.size());
+            ((ConfigurerImpl) this.configurer).prepareAll(types);
+        }
+    }
+
+    /**
+     * Finds the types of the {@code Configurable} beans defined in the
+     * specified bean factory, without initializing any bean.
+     * 
+     * @param beanFactory The bean factory.
+     * @return The {@code Configurable} bean types.
+     * @since 1.2
+     */
+    protected List<Class<?>> findConfigurableTypes(
+            final ConfigurableListableBeanFactory beanFactory) {
+        final List<Class<?>> result = new ArrayList<>();
+        for (final String name : beanFactory.getBeanDefinitionNames()) {
+            if (beanFactory.getBeanDefinition(name).isAbstract()) {
+                continue;
+            }
+            final Class<?> type = beanFactory.getType(name, false);
+            if (type != null && Configurable.class.isAssignableFrom(type)) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -88,4 +88,20 @@ public @interface EnableConfigurableComponents {
      * @return Whether to expose the {@code Configurer} bean.
      */
     boolean exposeConfigurer() default false;
+
+    /**
+     * Whether to resolve and convert in advance, in parallel, the
+     * configurable properties values of the {@code Configurable} beans
+     * defined in the application context.
+     * <p>
+     * If {@code true}, the values are prepared when the post-processor is
+     * registered, and only assigned when the beans are initialized.
+     * <p>
+     * Default is {@code false}.
+     * 
+     * @return Whether to prepare the configurable properties values in
+     * parallel.
+     * @since 1.2
+     */
+    boolean parallelInitialization() default false;
 }
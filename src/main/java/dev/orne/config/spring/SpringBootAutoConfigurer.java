@@ -48,7 +48,11 @@ import org.jspecify.annotations.Nullable;
  *   injection.</li>
  *  <li>{@value #CONFIGURABLE_ENABLED}: Disable configurable components
  *  support.</li>
+ *  <li>{@value #BINDER_ENABLED}: Disable {@code ConfigBinder} bean.</li>
  * </ul>
+ * <p>
+ * Set environment property {@value #CONFIGURABLE_PARALLEL} to {@code true}
+ * to prepare configurable components properties values in parallel.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2025-11
@@ -78,6 +82,17 @@ public class SpringBootAutoConfigurer {
     @API(status = API.Status.STABLE, since = "1.0")
     public static final String CONFIGURABLE_ENABLED =
             PROPERTY_PREFIX + "configurable.enabled";
+    /**
+     * The property to enable or disable parallel initialization of
+     * configurable components.
+     */
+    @API(status = API.Status.STABLE, since = "1.2")
+    public static final String CONFIGURABLE_PARALLEL =
+            PROPERTY_PREFIX + "configurable.parallel";
+    /** The property to enable or disable the configuration properties binder. */
+    @API(status = API.Status.STABLE, since = "1.2")
+    public static final String BINDER_ENABLED =
+            PROPERTY_PREFIX + "binder.enabled";
 
     /**
      * Creates a new instance.
@@ -127,6 +142,8 @@ public class SpringBootAutoConfigurer {
                     environment.getProperty(INJECTION_ENABLED);
             final String configurableEnabled =
                     environment.getProperty(CONFIGURABLE_ENABLED);
+            final String binderEnabled =
+                    environment.getProperty(BINDER_ENABLED);
             final ArrayList<String> configurations = new ArrayList<>();
             if (injectionEnabled == null || Boolean.valueOf(injectionEnabled)) {
                 configurations.add(ConfigAutowireCandidateResolverConfigurer.class.getName());
@@ -134,6 +151,9 @@ public class SpringBootAutoConfigurer {
             if (configurableEnabled == null || Boolean.valueOf(configurableEnabled)) {
                 configurations.add(ConfigurableComponentsConfigurer.class.getName());
             }
+            if (binderEnabled == null || Boolean.valueOf(binderEnabled)) {
+                configurations.add(ConfigBinderConfigurer.class.getName());
+            }
             return configurations.toArray(new String[0]);
         }
     }
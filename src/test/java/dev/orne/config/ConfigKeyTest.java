@@ -0,0 +1,136 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ConfigKey}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see ConfigKey
+ */
+@Tag("ut")
+class ConfigKeyTest {
+
+    /**
+     * Test method for {@link ConfigKey#of(String)}.
+     */
+    @Test
+    void testOf() {
+        final ConfigKey key = ConfigKey.of("db.pool.max");
+        assertEquals("db.pool.max", key.getName());
+        assertEquals("db.pool.max", key.toString());
+        assertEquals(ConfigKey.of("db.pool.max"), key);
+        assertEquals(ConfigKey.of("db.pool.max").hashCode(), key.hashCode());
+        assertNotEquals(ConfigKey.of("db.pool.min"), key);
+        assertNotEquals(key, "db.pool.max");
+        assertThrows(NullPointerException.class, () -> ConfigKey.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ConfigKey.of(" "));
+    }
+
+    /**
+     * Test method for {@link ConfigKey#resolve(ConfigKey.Resolver)}.
+     */
+    @Test
+    void testResolve() {
+        final ConfigKey key = ConfigKey.of("db.pool.max");
+        final AtomicInteger calls = new AtomicInteger();
+        final TestResolver upper = new TestResolver("upper", calls);
+        assertEquals("DB.POOL.MAX", key.resolve(upper));
+        assertEquals("DB.POOL.MAX", key.resolve(upper));
+        assertEquals("DB.POOL.MAX", key.resolve(new TestResolver("upper", calls)));
+        assertEquals(1, calls.get());
+        assertEquals("db_pool_max", key.resolve(new TestResolver("under", calls)));
+        assertEquals(2, calls.get());
+        assertEquals("DB.POOL.MAX", key.resolve(upper));
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Test method for {@link ConfigKey#resolve(ConfigKey.Resolver)} with
+     * more resolvers than cached forms.
+     */
+    @Test
+    void testResolveEviction() {
+        final ConfigKey key = ConfigKey.of("key");
+        final AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("key", key.resolve(new TestResolver("r" + i, calls)));
+        }
+        assertEquals(10, calls.get());
+        assertEquals("key", key.resolve(new TestResolver("r9", calls)));
+        assertEquals(10, calls.get());
+        assertEquals("key", key.resolve(new TestResolver("r0", calls)));
+        assertEquals(11, calls.get());
+    }
+
+    /**
+     * Test resolver that counts resolutions.
+     */
+    private static final class TestResolver
+    implements ConfigKey.Resolver<String> {
+
+        private final String type;
+        private final AtomicInteger calls;
+
+        TestResolver(
+                final String type,
+                final AtomicInteger calls) {
+            super();
+            this.type = type;
+            this.calls = calls;
+        }
+
+        @Override
+        public String resolve(
+                final String name) {
+            this.calls.incrementAndGet();
+            if ("upper".equals(this.type)) {
+                return name.toUpperCase();
+            } else if ("under".equals(this.type)) {
+                return name.replace('.', '_');
+            }
+            return name;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.type.hashCode();
+        }
+
+        @Override
+        public boolean equals(
+                final Object obj) {
+            return obj instanceof TestResolver
+                    && this.type.equals(((TestResolver) obj).type);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -138,6 +139,108 @@ class ConfigTest {
         assertTrue(config.getKeys(key -> key.endsWith("lean.key")).collect(Collectors.toList()).isEmpty());
     }
 
+    /**
+     * Tests for default {@link Config#getEntries()} and
+     * {@link Config#forEach(java.util.function.BiConsumer)} implementations.
+     */
+    @Test
+    void testEntriesDefault() {
+        final Config config = key -> {
+            throw new AssertionError("Should not be called");
+        };
+        assertThrows(NonIterableConfigException.class, config::getEntries);
+        assertThrows(NonIterableConfigException.class, () -> config.forEach((key, value) -> {}));
+    }
+
+    /**
+     * Tests for default {@link Config#getEntries()} and
+     * {@link Config#forEach(java.util.function.BiConsumer)} implementations.
+     */
+    @Test
+    void testEntriesOverride() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, TEST_VALUE);
+        properties.put(NUMBER_KEY, NUMBER_VALUE);
+        final Config config = new Config() {
+            @Override
+            public String get(String key) {
+                return properties.get(key);
+            }
+            @Override
+            public Stream<String> getKeys() {
+                return Stream.of(TEST_KEY, NUMBER_KEY, TEST_KEY, TEST_MISSING_KEY);
+            }
+        };
+        assertEquals(
+                Arrays.asList(TEST_KEY, NUMBER_KEY),
+                config.getEntries().map(Map.Entry::getKey).collect(Collectors.toList()));
+        assertEquals(
+                properties,
+                config.getEntries().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        final Map<String, String> visited = new HashMap<>();
+        config.forEach(visited::put);
+        assertEquals(properties, visited);
+        assertThrows(NullPointerException.class, () -> config.forEach(null));
+    }
+
+    /**
+     * Tests for default {@link Config#getChildNames(String)},
+     * {@link Config#hasChildren(String)} and
+     * {@link Config#getKeys(String, int)} implementations.
+     */
+    @Test
+    void testNavigationDefault() {
+        final Config config = key -> {
+            throw new AssertionError("Should not be called");
+        };
+        assertThrows(NonIterableConfigException.class, () -> config.getChildNames("test."));
+        assertThrows(NonIterableConfigException.class, () -> config.hasChildren("test."));
+        assertThrows(NonIterableConfigException.class, () -> config.getKeys(null, 10));
+    }
+
+    /**
+     * Tests for default {@link Config#getChildNames(String)},
+     * {@link Config#hasChildren(String)} and
+     * {@link Config#getKeys(String, int)} implementations.
+     */
+    @Test
+    void testNavigationOverride() {
+        final Config config = new Config() {
+            @Override
+            public String get(String key) {
+                throw new AssertionError("Should not be called");
+            }
+            @Override
+            public Stream<String> getKeys() {
+                return Stream.of(TEST_KEY, NUMBER_KEY, BOOLEAN_KEY, TEST_MISSING_KEY, TEST_KEY);
+            }
+        };
+        assertEquals(
+                Arrays.asList("test", "number", "boolean"),
+                config.getChildNames("").collect(Collectors.toList()));
+        assertEquals(
+                Arrays.asList("key", "missing"),
+                config.getChildNames("test.").collect(Collectors.toList()));
+        assertEquals(0, config.getChildNames("test.key.").count());
+        assertTrue(config.hasChildren(""));
+        assertTrue(config.hasChildren("test."));
+        assertTrue(config.hasChildren("test.missing."));
+        assertFalse(config.hasChildren("test.key"));
+        assertFalse(config.hasChildren("other."));
+        assertEquals(
+                Arrays.asList(BOOLEAN_KEY, NUMBER_KEY, TEST_KEY, TEST_MISSING_KEY),
+                config.getKeys(null, 10).collect(Collectors.toList()));
+        assertEquals(
+                Arrays.asList(BOOLEAN_KEY, NUMBER_KEY),
+                config.getKeys(null, 2).collect(Collectors.toList()));
+        assertEquals(
+                Arrays.asList(TEST_KEY, TEST_MISSING_KEY),
+                config.getKeys(NUMBER_KEY, 2).collect(Collectors.toList()));
+        assertEquals(0, config.getKeys(TEST_MISSING_KEY, 2).count());
+        assertEquals(0, config.getKeys(null, 0).count());
+        assertThrows(IllegalArgumentException.class, () -> config.getKeys(null, -1));
+    }
+
     /**
      * Tests for default {@link Config#getUndecored(String)} implementation.
      */
@@ -253,4 +356,25 @@ class ConfigTest {
         assertThrows(NumberFormatException.class, () -> config.getLong(BOOLEAN_KEY, () -> 2000L));
         assertEquals(2000L, config.getLong(TEST_MISSING_KEY, () -> 2000L));
     }
+
+    /**
+     * Tests for default {@link Config#getList(String)} and typed list
+     * values related methods implementations.
+     */
+    @Test
+    void testGetList() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, TEST_VALUE);
+        properties.put("number.list.0", NUMBER_VALUE);
+        properties.put("number.list.1", "2000");
+        properties.put("number.list.3", "4000");
+        final Config config = properties::get;
+        assertEquals(List.of(TEST_VALUE), config.getList(TEST_KEY));
+        assertEquals(List.of(NUMBER_VALUE, "2000"), config.getList("number.list"));
+        assertEquals(List.of(1000, 2000), config.getList("number.list", Integer.class));
+        assertTrue(config.getList(TEST_MISSING_KEY).isEmpty());
+        assertTrue(config.getList(TEST_MISSING_KEY, Integer.class).isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> config.getList(TEST_KEY).add(DEFAULT_VALUE));
+    }
 }
@@ -0,0 +1,87 @@
+package dev.orne.config;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code DataSize}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see DataSize
+ */
+@Tag("ut")
+class DataSizeTest {
+
+    /**
+     * Test method for the {@code DataSize} factory methods.
+     */
+    @Test
+    void testFactories() {
+        assertEquals(512, DataSize.ofBytes(512).toBytes());
+        assertEquals(2048, DataSize.ofKilobytes(2).toBytes());
+        assertEquals(2L * 1024 * 1024, DataSize.ofMegabytes(2).toBytes());
+        assertEquals(2L * 1024 * 1024 * 1024, DataSize.ofGigabytes(2).toBytes());
+        assertEquals(2, DataSize.ofGigabytes(2).toGigabytes());
+        assertEquals(2048, DataSize.ofGigabytes(2).toMegabytes());
+        assertEquals(1, DataSize.ofBytes(2047).toKilobytes());
+        assertThrows(ArithmeticException.class, () -> DataSize.ofGigabytes(Long.MAX_VALUE));
+    }
+
+    /**
+     * Test method for {@link DataSize#parse(CharSequence)}.
+     */
+    @Test
+    void testParse() {
+        assertEquals(DataSize.ofBytes(10), DataSize.parse("10"));
+        assertEquals(DataSize.ofBytes(10), DataSize.parse(" 10 B "));
+        assertEquals(DataSize.ofKilobytes(10), DataSize.parse("10kb"));
+        assertEquals(DataSize.ofMegabytes(10), DataSize.parse("10MB"));
+        assertEquals(DataSize.ofGigabytes(10), DataSize.parse("10 GB"));
+        assertEquals(DataSize.ofGigabytes(10 * 1024), DataSize.parse("10TB"));
+        assertEquals(DataSize.ofBytes(-10), DataSize.parse("-10"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("MB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("10PB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("9999999999TB"));
+    }
+
+    /**
+     * Test method for {@code DataSize} equality, ordering and string
+     * representation.
+     */
+    @Test
+    void testEqualsCompareToString() {
+        assertEquals(DataSize.ofKilobytes(1), DataSize.ofBytes(1024));
+        assertEquals(DataSize.ofKilobytes(1).hashCode(), DataSize.ofBytes(1024).hashCode());
+        assertNotEquals(DataSize.ofKilobytes(1), DataSize.ofBytes(1023));
+        assertTrue(DataSize.ofKilobytes(1).compareTo(DataSize.ofBytes(1023)) > 0);
+        assertEquals(0, DataSize.ofKilobytes(1).compareTo(DataSize.ofBytes(1024)));
+        assertEquals("1024B", DataSize.ofKilobytes(1).toString());
+    }
+}
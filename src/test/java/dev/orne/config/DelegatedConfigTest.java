@@ -25,6 +25,10 @@ package dev.orne.config;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -133,6 +137,73 @@ class DelegatedConfigTest {
         then(delegate).should().getKeys("filter");
     }
 
+    /**
+     * Test of {@link DelegatedConfig#getEntries()}.
+     */
+    @Test
+    void testGetEntries() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        @SuppressWarnings("unchecked")
+        final Stream<Map.Entry<String, String>> entries = mock(Stream.class);
+        given(delegate.getEntries()).willReturn(entries);
+        final Stream<Map.Entry<String, String>> result = instance.getEntries();
+        assertSame(entries, result);
+        then(delegate).should().getEntries();
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#forEach(BiConsumer)}.
+     */
+    @Test
+    void testForEach() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final BiConsumer<String, String> action = (key, value) -> {};
+        instance.forEach(action);
+        then(delegate).should().forEach(action);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getKeys(String, int)}.
+     */
+    @Test
+    void testGetKeysRange() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final Stream<String> keys = Stream.of("key.a", "key.b");
+        given(delegate.getKeys("after", 2)).willReturn(keys);
+        final Stream<String> result = instance.getKeys("after", 2);
+        assertSame(keys, result);
+        then(delegate).should().getKeys("after", 2);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getChildNames(String)}.
+     */
+    @Test
+    void testGetChildNames() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final Stream<String> names = Stream.of("a", "b");
+        given(delegate.getChildNames("prefix.")).willReturn(names);
+        final Stream<String> result = instance.getChildNames("prefix.");
+        assertSame(names, result);
+        then(delegate).should().getChildNames("prefix.");
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#hasChildren(String)}.
+     */
+    @Test
+    void testHasChildren() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        given(delegate.hasChildren("prefix.")).willReturn(true);
+        assertTrue(instance.hasChildren("prefix."));
+        then(delegate).should().hasChildren("prefix.");
+    }
+
     /**
      * Test of {@link DelegatedConfig#get(String)}.
      */
@@ -305,4 +376,110 @@ class DelegatedConfigTest {
         assertEquals(20L, result);
         then(delegate).should().getLong("key", supplier);
     }
+
+    /**
+     * Test of {@link DelegatedConfig#get(String, Class)}.
+     */
+    @Test
+    void testGetTyped() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        given(delegate.get("key", Duration.class)).willReturn(Duration.ofSeconds(20));
+        final Duration result = instance.get("key", Duration.class);
+        assertEquals(Duration.ofSeconds(20), result);
+        then(delegate).should().get("key", Duration.class);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#get(String, Class, Object)}.
+     */
+    @Test
+    void testGetTypedDefault() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        given(delegate.get("key", Duration.class, Duration.ZERO)).willReturn(Duration.ofSeconds(20));
+        final Duration result = instance.get("key", Duration.class, Duration.ZERO);
+        assertEquals(Duration.ofSeconds(20), result);
+        then(delegate).should().get("key", Duration.class, Duration.ZERO);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getList(String)}.
+     */
+    @Test
+    void testGetList() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final List<String> values = List.of("a", "b");
+        given(delegate.getList("key")).willReturn(values);
+        final List<String> result = instance.getList("key");
+        assertSame(values, result);
+        then(delegate).should().getList("key");
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getList(String, Class)}.
+     */
+    @Test
+    void testGetListTyped() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final List<Duration> values = List.of(Duration.ofSeconds(20));
+        given(delegate.getList("key", Duration.class)).willReturn(values);
+        final List<Duration> result = instance.getList("key", Duration.class);
+        assertSame(values, result);
+        then(delegate).should().getList("key", Duration.class);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#containsKey(ConfigKey)}.
+     */
+    @Test
+    void testContainsConfigKey() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final ConfigKey key = ConfigKey.of("key");
+        given(delegate.containsKey(key)).willReturn(true);
+        assertTrue(instance.containsKey(key));
+        then(delegate).should().containsKey(key);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getValue(ConfigKey)}.
+     */
+    @Test
+    void testGetConfigKey() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final ConfigKey key = ConfigKey.of("key");
+        given(delegate.getValue(key)).willReturn("value");
+        assertEquals("value", instance.getValue(key));
+        then(delegate).should().getValue(key);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getValue(ConfigKey, Class)}.
+     */
+    @Test
+    void testGetConfigKeyTyped() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final ConfigKey key = ConfigKey.of("key");
+        given(delegate.getValue(key, Duration.class)).willReturn(Duration.ofSeconds(20));
+        assertEquals(Duration.ofSeconds(20), instance.getValue(key, Duration.class));
+        then(delegate).should().getValue(key, Duration.class);
+    }
+
+    /**
+     * Test of {@link DelegatedConfig#getValue(ConfigKey, Class, Object)}.
+     */
+    @Test
+    void testGetConfigKeyTypedDefault() {
+        final DelegatedConfig instance = createInstance();
+        final Config delegate = instance.getDelegate();
+        final ConfigKey key = ConfigKey.of("key");
+        given(delegate.getValue(key, Duration.class, Duration.ZERO)).willReturn(Duration.ofSeconds(20));
+        assertEquals(Duration.ofSeconds(20), instance.getValue(key, Duration.class, Duration.ZERO));
+        then(delegate).should().getValue(key, Duration.class, Duration.ZERO);
+    }
 }
@@ -24,6 +24,8 @@ package dev.orne.config;
 
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -87,6 +89,18 @@ extends DelegatedConfigTest {
         then(delegate).should().set("key", 20L);
     }
 
+    /**
+     * Test of {@link DelegatedMutableConfig#setList(String, List)}.
+     */
+    @Test
+    void testSetList() {
+        final DelegatedMutableConfig instance = createInstance();
+        final MutableConfig delegate = instance.getDelegate();
+        final List<String> values = List.of("a", "b");
+        instance.setList("key", values);
+        then(delegate).should().setList("key", values);
+    }
+
     /**
      * Test of {@link DelegatedMutableConfig#remove(String...)}.
      */
@@ -25,15 +25,23 @@ package dev.orne.config.commons;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigException;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.WatchableConfig;
 
 /**
  * Unit tests for {@code DelegatedOrneConfiguration}.
@@ -204,6 +212,145 @@ class DelegatedOrneConfigurationTest {
         assertFalse(config.containsValue("missing value"));
     }
 
+    /**
+     * Test method for {@link DelegatedOrneConfiguration#containsValue(Object)}
+     * with values index.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testContainsValueIndexed() throws ConfigException {
+        final Config delegated = mock(Config.class);
+        final DelegatedOrneConfiguration config = new DelegatedOrneConfiguration(delegated, true);
+        assertTrue(config.isValuesIndexed());
+        
+        final String value = "mock value";
+        willCallRealMethod().given(delegated).forEach(any());
+        willCallRealMethod().given(delegated).getEntries();
+        given(delegated.getKeys()).willAnswer(invocation -> Stream.of(TEST_KEY));
+        given(delegated.get(TEST_KEY)).willReturn(value);
+        
+        assertTrue(config.containsValue(value));
+        assertFalse(config.containsValue("missing value"));
+        assertFalse(config.containsValue(1));
+        
+        then(delegated).should(times(1)).getKeys();
+        then(delegated).should(times(1)).get(TEST_KEY);
+    }
+
+    /**
+     * Test method for {@link DelegatedOrneConfiguration#containsValue(Object)}
+     * with values index and mutable configuration.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testContainsValueIndexedMutable() throws ConfigException {
+        final MutableConfig delegated = mock(MutableConfig.class);
+        final DelegatedOrneConfiguration config = new DelegatedOrneConfiguration(delegated, true);
+        
+        final String value = "mock value";
+        given(delegated.getKeys()).willAnswer(invocation -> Stream.of(TEST_KEY));
+        given(delegated.get(TEST_KEY)).willReturn(value);
+        
+        assertTrue(config.containsValue(value));
+        assertTrue(config.containsValue(value));
+        assertNull(config.getValuesIndex());
+        
+        then(delegated).should(times(2)).get(TEST_KEY);
+    }
+
+    /**
+     * Test method for {@link DelegatedOrneConfiguration#containsValue(Object)}
+     * with values index and watchable configuration.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testContainsValueIndexedWatchable() throws ConfigException {
+        final WatchableConfig delegated = mock(WatchableConfig.class);
+        final DelegatedOrneConfiguration config = new DelegatedOrneConfiguration(delegated, true);
+        
+        willCallRealMethod().given(delegated).forEach(any());
+        willCallRealMethod().given(delegated).getEntries();
+        given(delegated.getKeys()).willAnswer(invocation -> Stream.of(TEST_KEY));
+        given(delegated.get(TEST_KEY)).willReturn("old value", "new value");
+        
+        assertTrue(config.containsValue("old value"));
+        assertFalse(config.containsValue("new value"));
+        final ArgumentCaptor<WatchableConfig.Listener> listener =
+                ArgumentCaptor.forClass(WatchableConfig.Listener.class);
+        then(delegated).should(times(1)).addListener(listener.capture());
+        listener.getValue().configurationChanged(delegated, Collections.singleton(TEST_KEY));
+        assertFalse(config.containsValue("old value"));
+        assertTrue(config.containsValue("new value"));
+        
+        then(delegated).should(times(2)).get(TEST_KEY);
+        then(delegated).should(times(1)).addListener(any());
+    }
+
+    /**
+     * Test method for {@link DelegatedOrneConfiguration#getKeys(String)}.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testGetKeysPrefix() throws ConfigException {
+        final Config delegated = mock(Config.class);
+        final DelegatedOrneConfiguration config = new DelegatedOrneConfiguration(delegated);
+        
+        given(delegated.contains("test")).willReturn(true);
+        given(delegated.getKeys("test.")).willAnswer(invocation -> Stream.of(TEST_KEY));
+        
+        final List<String> result = new ArrayList<>();
+        config.getKeys("test").forEachRemaining(result::add);
+        assertEquals(Arrays.asList("test", TEST_KEY), result);
+        
+        then(delegated).should(never()).getKeys();
+    }
+
+    /**
+     * Test method for {@link DelegatedOrneConfiguration#subset(String)}.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testSubset() throws ConfigException {
+        final Config delegated = mock(Config.class);
+        final Config subset = mock(Config.class);
+        final DelegatedOrneConfiguration config = new DelegatedOrneConfiguration(delegated, true);
+        config.setThrowExceptionOnMissing(true);
+        
+        given(delegated.contains("test")).willReturn(false);
+        given(delegated.subset("test.")).willReturn(subset);
+        given(subset.get("key")).willReturn("mock value");
+        
+        final Configuration result = config.subset("test");
+        final DelegatedOrneConfiguration delegatedResult =
+                assertInstanceOf(DelegatedOrneConfiguration.class, result);
+        assertSame(subset, delegatedResult.getConfig());
+        assertTrue(delegatedResult.isValuesIndexed());
+        assertTrue(delegatedResult.isThrowExceptionOnMissing());
+        assertEquals("mock value", result.getString("key"));
+        
+        then(delegated).should(never()).getKeys();
+    }
+
+    /**
+     * Test method for {@link DelegatedOrneConfiguration#subset(String)}
+     * when a property with the prefix as key exists.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testSubsetPrefixProperty() throws ConfigException {
+        final Config delegated = mock(Config.class);
+        final DelegatedOrneConfiguration config = new DelegatedOrneConfiguration(delegated);
+        
+        given(delegated.contains("test")).willReturn(true);
+        given(delegated.get("test")).willReturn("mock value");
+        
+        final Configuration result = config.subset("test");
+        assertFalse(result instanceof DelegatedOrneConfiguration);
+        assertEquals("mock value", result.getString(""));
+        
+        then(delegated).should(never()).subset(any());
+    }
+
     /**
      * Test method for {@link DelegatedOrneConfiguration#getProperty(String)}.
      * @throws ConfigException Shouldn't happen
@@ -28,6 +28,7 @@ import static org.mockito.BDDMockito.*;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
+import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -287,4 +288,27 @@ class DelegatedOrneMutableConfigurationTest {
         
         then(delegated).should(times(1)).remove(TEST_KEY);
     }
+
+    /**
+     * Test method for {@link DelegatedOrneMutableConfiguration#subset(String)}.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testSubset() throws ConfigException {
+        final MutableConfig delegated = mock(MutableConfig.class);
+        final MutableConfig subset = mock(MutableConfig.class);
+        final DelegatedOrneMutableConfiguration config = new DelegatedOrneMutableConfiguration(delegated);
+        assertTrue(config.isReadSynchronized());
+        
+        given(delegated.contains("test")).willReturn(false);
+        given(delegated.subset("test.")).willReturn(subset);
+        
+        final Configuration result = config.subset("test");
+        final DelegatedOrneMutableConfiguration delegatedResult =
+                assertInstanceOf(DelegatedOrneMutableConfiguration.class, result);
+        assertSame(subset, delegatedResult.getConfig());
+        result.setProperty("key", "mock value");
+        
+        then(subset).should(times(1)).set("key", "mock value");
+    }
 }
@@ -26,9 +26,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,6 +44,9 @@ import org.mockito.MockitoAnnotations;
 import dev.orne.config.Config;
 import dev.orne.config.ConfigBuilder;
 import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoWrongKeyException;
+import dev.orne.config.ConfigException;
+import dev.orne.config.ConfigKey;
 import dev.orne.config.NonIterableConfigException;
 import dev.orne.config.ValueDecoder;
 import dev.orne.config.ValueDecorator;
@@ -401,6 +408,73 @@ abstract class AbstractConfigTest {
         assertNull(config.getParent());
     }
 
+    /**
+     * Tests instance building with eager value decryption.
+     */
+    @Test
+    void testEagerDecryption() {
+        final ConfigCryptoProvider crypto = spy(ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("secretKey".toCharArray())
+                .build());
+        final HashMap<String, String> properties = new HashMap<>();
+        final String unencryptedValue = "testValue";
+        final String encryptedValue = crypto.encrypt(unencryptedValue);
+        properties.put(TEST_KEY, encryptedValue);
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withEncryption(crypto)
+                    .withEagerDecryption()
+                    .build());
+        if (isIterable()) {
+            then(crypto).should().decryptAll(any());
+        } else {
+            then(crypto).should(never()).decryptAll(any());
+        }
+        assertEquals(encryptedValue, config.getInt(TEST_KEY));
+        assertEquals(unencryptedValue, config.getUndecored(TEST_KEY));
+        assertEquals(unencryptedValue, config.get(TEST_KEY));
+        if (isIterable()) {
+            then(crypto).should(never()).decrypt(any());
+        } else {
+            then(crypto).should(atLeastOnce()).decrypt(encryptedValue);
+        }
+    }
+
+    /**
+     * Tests instance building with eager value decryption of values
+     * encrypted with other secret key.
+     */
+    @Test
+    void testEagerDecryptionWrongKey() {
+        final ConfigCryptoProvider crypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("secretKey".toCharArray())
+                .build();
+        final ConfigCryptoProvider otherCrypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("otherSecretKey".toCharArray())
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, otherCrypto.encrypt("testValue"));
+        properties.put(TEST_DERIVED_KEY, crypto.encrypt("testDerivedValue"));
+        final ConfigBuilder<?> builder = createBuilder(properties)
+                .withEncryption(crypto)
+                .withEagerDecryption();
+        if (isIterable()) {
+            final ConfigCryptoWrongKeyException result = assertThrows(
+                    ConfigCryptoWrongKeyException.class,
+                    builder::build);
+            assertTrue(result.getMessage().contains(TEST_KEY));
+            assertFalse(result.getMessage().contains(TEST_DERIVED_KEY));
+        } else {
+            final Config config = builder.build();
+            assertEquals("testDerivedValue", config.get(TEST_DERIVED_KEY));
+            assertThrows(ConfigCryptoWrongKeyException.class,
+                    () -> config.get(TEST_KEY));
+        }
+    }
+
     /**
      * Tests instance building with custom decoder and value encryption.
      */
@@ -690,4 +764,366 @@ abstract class AbstractConfigTest {
         assertEquals("testParentValue", config.get(TEST_PARENT_KEY));
         assertEquals("Derived parent value: testValue", config.get(TEST_PARENT_DERIVED_KEY));
     }
+
+    /**
+     * Tests typed configuration property values retrieval.
+     */
+    @Test
+    void testTypedGet() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "45s");
+        properties.put(TEST_DERIVED_KEY, "1, 2, 3");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .build());
+        final Duration result = config.get(TEST_KEY, Duration.class);
+        assertEquals(Duration.ofSeconds(45), result);
+        assertSame(result, config.get(TEST_KEY, Duration.class));
+        assertEquals("45s", config.get(TEST_KEY, String.class));
+        final int[] array = config.get(TEST_DERIVED_KEY, int[].class);
+        assertArrayEquals(new int[] { 1, 2, 3 }, array);
+        assertNotSame(array, config.get(TEST_DERIVED_KEY, int[].class));
+        assertNull(config.get(TEST_PARENT_KEY, Duration.class));
+        assertEquals(Duration.ZERO, config.get(TEST_PARENT_KEY, Duration.class, Duration.ZERO));
+        assertThrows(ConfigException.class, () -> config.get(TEST_DERIVED_KEY, Duration.class));
+        assertThrows(ConfigException.class, () -> config.get(TEST_KEY, Object.class));
+    }
+
+    /**
+     * Tests configuration property values retrieval with precompiled keys.
+     */
+    @Test
+    void testConfigKeyGet() {
+        final HashMap<String, String> parentProperties = new HashMap<>();
+        parentProperties.put(TEST_PARENT_KEY, "testParentValue");
+        final Config parent = Config.fromProperties()
+                .add(parentProperties)
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "45s");
+        properties.put(TEST_DERIVED_KEY, "testDerivedValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .build());
+        final ConfigKey key = ConfigKey.of(TEST_KEY);
+        final ConfigKey parentKey = ConfigKey.of(TEST_PARENT_KEY);
+        final ConfigKey missingKey = ConfigKey.of(TEST_PARENT_DERIVED_KEY);
+        for (int i = 0; i < 2; i++) {
+            assertTrue(config.containsKey(key));
+            assertEquals("45s", config.getValue(key));
+            assertEquals("testDerivedValue", config.getValue(ConfigKey.of(TEST_DERIVED_KEY)));
+            assertTrue(config.containsKey(parentKey));
+            assertEquals("testParentValue", config.getValue(parentKey));
+            assertFalse(config.containsKey(missingKey));
+            assertNull(config.getValue(missingKey));
+        }
+        final Duration result = config.getValue(key, Duration.class);
+        assertEquals(Duration.ofSeconds(45), result);
+        assertSame(result, config.get(TEST_KEY, Duration.class));
+        assertSame(result, config.getValue(key, Duration.class, Duration.ZERO));
+        assertNull(config.getValue(missingKey, Duration.class));
+        assertEquals(Duration.ZERO, config.getValue(missingKey, Duration.class, Duration.ZERO));
+    }
+
+    /**
+     * Tests configuration property entries retrieval.
+     */
+    @Test
+    void testEntries() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        properties.put(TEST_DERIVED_KEY, "testDerivedValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withDecoder(s -> "Decoded: " + s)
+                    .withDecorator(s -> "Decorated: " + s)
+                    .build());
+        if (isIterable()) {
+            final Map<String, String> entries = config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            assertEquals("Decorated: Decoded: testValue", entries.get(TEST_KEY));
+            assertEquals("Decorated: Decoded: testDerivedValue", entries.get(TEST_DERIVED_KEY));
+            entries.forEach((key, value) -> assertEquals(config.get(key), value));
+            final Map<String, String> visited = new HashMap<>();
+            config.forEach(visited::put);
+            assertEquals(entries, visited);
+        } else {
+            assertThrows(NonIterableConfigException.class, config::getEntries);
+        }
+    }
+
+    /**
+     * Tests configuration property entries retrieval with parent.
+     */
+    @Test
+    void testParentEntries() {
+        final HashMap<String, String> parentProperties = new HashMap<>();
+        parentProperties.put(TEST_PARENT_KEY, "testParentValue");
+        parentProperties.put(TEST_KEY, "testParentKeyValue");
+        final Config parent = Config.fromProperties()
+                .add(parentProperties)
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .withDecorator(s -> "Decorated: " + s)
+                    .build());
+        final AbstractConfig overrideConfig = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .withOverrideParentProperties()
+                    .build());
+        if (isIterable()) {
+            final Map<String, String> entries = config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            assertEquals("Decorated: testParentKeyValue", entries.get(TEST_KEY));
+            assertEquals("Decorated: testParentValue", entries.get(TEST_PARENT_KEY));
+            entries.forEach((key, value) -> assertEquals(config.get(key), value));
+            final Map<String, String> overrideEntries = overrideConfig.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            assertEquals("testValue", overrideEntries.get(TEST_KEY));
+            assertEquals("testParentValue", overrideEntries.get(TEST_PARENT_KEY));
+            overrideEntries.forEach((key, value) -> assertEquals(overrideConfig.get(key), value));
+        } else {
+            assertThrows(NonIterableConfigException.class, config::getEntries);
+            assertThrows(NonIterableConfigException.class, overrideConfig::getEntries);
+        }
+    }
+
+    /**
+     * Tests configuration property entries retrieval with a parent that
+     * does not extend {@code AbstractConfig}.
+     */
+    @Test
+    void testExternalParentEntries() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(mockParent)
+                    .withOverrideParentProperties()
+                    .build());
+        given(mockParent.getKeys()).will(mock -> Stream.of(TEST_PARENT_KEY, TEST_KEY, TEST_PARENT_KEY));
+        given(mockParent.getUndecored(TEST_PARENT_KEY)).willReturn("testParentValue");
+        given(mockParent.getUndecored(TEST_KEY)).willReturn("testParentKeyValue");
+        if (isIterable()) {
+            final Map<String, String> entries = config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            assertEquals("testValue", entries.get(TEST_KEY));
+            assertEquals("testParentValue", entries.get(TEST_PARENT_KEY));
+            then(mockParent).should(never()).get(any(String.class));
+            then(mockParent).should(times(1)).getUndecored(TEST_PARENT_KEY);
+        } else {
+            assertThrows(NonIterableConfigException.class, config::getEntries);
+        }
+    }
+
+    /**
+     * Tests configuration property entries retrieval with a parent
+     * which property keys cannot be iterated.
+     */
+    @Test
+    void testNonIterableParentEntries() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(mockParent)
+                    .build());
+        given(mockParent.getKeys()).willThrow(new NonIterableConfigException());
+        if (isIterable()) {
+            final Map<String, String> entries = config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            assertEquals("testValue", entries.get(TEST_KEY));
+            assertFalse(entries.containsKey(TEST_PARENT_KEY));
+        } else {
+            assertThrows(NonIterableConfigException.class, config::getEntries);
+        }
+    }
+
+    /**
+     * Tests child names and children checks of key prefixes.
+     */
+    @Test
+    void testChildNames() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        properties.put(TEST_DERIVED_KEY, "testDerivedValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .build());
+        if (isIterable()) {
+            assertTrue(config.getChildNames("").collect(Collectors.toSet()).contains("test"));
+            assertEquals(
+                    Set.of("key", "derived"),
+                    config.getChildNames("test.").collect(Collectors.toSet()));
+            assertEquals(
+                    Set.of("key"),
+                    config.getChildNames("test.derived.").collect(Collectors.toSet()));
+            assertTrue(config.getChildNames("test.key.").collect(Collectors.toSet()).isEmpty());
+            assertTrue(config.getChildNames("missing.").collect(Collectors.toSet()).isEmpty());
+            assertTrue(config.hasChildren("test."));
+            assertTrue(config.hasChildren("test.derived."));
+            assertFalse(config.hasChildren("test.key."));
+            assertFalse(config.hasChildren("missing."));
+        } else {
+            assertThrows(NonIterableConfigException.class, () -> config.getChildNames("test."));
+            assertThrows(NonIterableConfigException.class, () -> config.hasChildren("test."));
+        }
+    }
+
+    /**
+     * Tests child names and children checks of key prefixes with parent.
+     */
+    @Test
+    void testParentChildNames() {
+        final HashMap<String, String> parentProperties = new HashMap<>();
+        parentProperties.put(TEST_PARENT_KEY, "testParentValue");
+        parentProperties.put("other.key", "testOtherValue");
+        final Config parent = Config.fromProperties()
+                .add(parentProperties)
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .build());
+        if (isIterable()) {
+            assertEquals(
+                    Set.of("key", "parent"),
+                    config.getChildNames("test.").collect(Collectors.toSet()));
+            assertEquals(
+                    Set.of("key"),
+                    config.getChildNames("other.").collect(Collectors.toSet()));
+            assertTrue(config.hasChildren("test.parent."));
+            assertTrue(config.hasChildren("other."));
+        } else {
+            assertThrows(NonIterableConfigException.class, () -> config.getChildNames("test."));
+        }
+    }
+
+    /**
+     * Tests ordered configuration property keys ranges retrieval.
+     */
+    @Test
+    void testKeysRange() {
+        final HashMap<String, String> parentProperties = new HashMap<>();
+        parentProperties.put(TEST_PARENT_KEY, "testParentValue");
+        parentProperties.put(TEST_KEY, "testParentKeyValue");
+        final Config parent = Config.fromProperties()
+                .add(parentProperties)
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        properties.put(TEST_DERIVED_KEY, "testDerivedValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .build());
+        if (isIterable()) {
+            final List<String> expected = config.getKeys()
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.toList());
+            final List<String> result = new ArrayList<>();
+            String after = null;
+            List<String> range = config.getKeys(after, 2).collect(Collectors.toList());
+            while (!range.isEmpty()) {
+                assertTrue(range.size() <= 2);
+                result.addAll(range);
+                after = range.get(range.size() - 1);
+                range = config.getKeys(after, 2).collect(Collectors.toList());
+            }
+            assertEquals(expected, result);
+            assertTrue(config.getKeys(null, 0).collect(Collectors.toList()).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> config.getKeys(null, -1));
+        } else {
+            assertThrows(NonIterableConfigException.class, () -> config.getKeys(null, 2));
+        }
+    }
+
+    /**
+     * Tests configuration property list values retrieval.
+     */
+    @Test
+    void testList() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "45");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .build());
+        assertEquals(List.of("45"), config.getList(TEST_KEY));
+        assertEquals(List.of(45), config.getList(TEST_KEY, Integer.class));
+        assertTrue(config.getList(TEST_PARENT_KEY).isEmpty());
+        assertTrue(config.getList(TEST_PARENT_KEY, Integer.class).isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> config.getList(TEST_KEY).add("other"));
+        assertThrows(IllegalArgumentException.class, () -> config.getList(""));
+        final AbstractConfig decoratedConfig = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withDecorator(s -> "Decorated: " + s)
+                    .build());
+        assertEquals(List.of("Decorated: 45"), decoratedConfig.getList(TEST_KEY));
+    }
+
+    /**
+     * Tests configuration property list values retrieval with parent.
+     */
+    @Test
+    void testParentList() {
+        final HashMap<String, String> parentProperties = new HashMap<>();
+        parentProperties.put("test.list.0", "testParentValue0");
+        parentProperties.put("test.list.1", "testParentValue1");
+        parentProperties.put(TEST_KEY, "testParentKeyValue");
+        final Config parent = Config.fromProperties()
+                .add(parentProperties)
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .withDecorator(s -> "Decorated: " + s)
+                    .build());
+        final AbstractConfig overrideConfig = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(parent)
+                    .withOverrideParentProperties()
+                    .build());
+        assertEquals(
+                List.of("Decorated: testParentValue0", "Decorated: testParentValue1"),
+                config.getList("test.list"));
+        assertEquals(List.of("Decorated: testParentKeyValue"), config.getList(TEST_KEY));
+        assertEquals(
+                List.of("testParentValue0", "testParentValue1"),
+                overrideConfig.getList("test.list"));
+        assertEquals(List.of("testValue"), overrideConfig.getList(TEST_KEY));
+    }
+
+    /**
+     * Tests configuration property list values retrieval with a parent
+     * that does not extend {@code AbstractConfig}.
+     */
+    @Test
+    void testExternalParentList() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractConfig config = assertInstanceOf(AbstractConfig.class,
+                createBuilder(properties)
+                    .withParent(mockParent)
+                    .withOverrideParentProperties()
+                    .build());
+        given(mockParent.getUndecored("test.list.0")).willReturn("testParentValue0");
+        given(mockParent.getUndecored("test.list.1")).willReturn("testParentValue1");
+        assertEquals(
+                List.of("testParentValue0", "testParentValue1"),
+                config.getList("test.list"));
+        assertEquals(List.of("testValue"), config.getList(TEST_KEY));
+        then(mockParent).should(never()).get(any(String.class));
+        then(mockParent).should(never()).getList(any(String.class));
+    }
 }
@@ -26,9 +26,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -73,6 +76,40 @@ extends AbstractConfigTest {
         assertSame(ValueEncoder.DEFAULT, config.getEncoder());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Test
+    @Override
+    void testEagerDecryption() {
+        super.testEagerDecryption();
+        final ConfigCryptoProvider crypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("secretKey".toCharArray())
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, crypto.encrypt("testValue"));
+        properties.put(TEST_DERIVED_KEY, crypto.encrypt("testDerivedValue"));
+        final AbstractMutableConfig config = assertInstanceOf(AbstractMutableConfig.class,
+                createBuilder(properties)
+                    .withEncryption(crypto)
+                    .withEagerDecryption()
+                    .build());
+        if (!isIterable()) {
+            assertTrue(config.getDecryptedValues().isEmpty());
+            return;
+        }
+        final String derivedValue = config.getInt(TEST_DERIVED_KEY);
+        assertEquals(2, config.getDecryptedValues().size());
+        config.set(TEST_KEY, "newValue");
+        assertEquals(1, config.getDecryptedValues().size());
+        assertEquals("newValue", config.get(TEST_KEY));
+        assertEquals("testDerivedValue", config.getDecryptedValues().get(derivedValue));
+        config.remove(TEST_DERIVED_KEY);
+        assertTrue(config.getDecryptedValues().isEmpty());
+        assertNull(config.get(TEST_DERIVED_KEY));
+    }
+
     /**
      * Tests instance building with custom encoder.
      */
@@ -208,6 +245,24 @@ extends AbstractConfigTest {
         assertEquals("Derived parent value: newValue", config.get(TEST_PARENT_DERIVED_KEY));
     }
 
+    /**
+     * Tests typed configuration property values retrieval after
+     * property value changes.
+     */
+    @Test
+    void testSetTypedGet() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "45s");
+        final AbstractMutableConfig config = assertInstanceOf(AbstractMutableConfig.class,
+                createBuilder(properties)
+                    .build());
+        assertEquals(Duration.ofSeconds(45), config.get(TEST_KEY, Duration.class));
+        config.set(TEST_KEY, "2m");
+        assertEquals(Duration.ofMinutes(2), config.get(TEST_KEY, Duration.class));
+        config.remove(TEST_KEY);
+        assertNull(config.get(TEST_KEY, Duration.class));
+    }
+
     /**
      * Tests properties setting to null.
      */
@@ -525,4 +580,79 @@ extends AbstractConfigTest {
         assertEquals("testParentValue", config.get(TEST_PARENT_KEY));
         assertEquals("Derived parent value: ${" + TEST_KEY + "}", config.get(TEST_PARENT_DERIVED_KEY));
     }
+
+    /**
+     * Tests child names and keys ranges after configuration property
+     * changes.
+     */
+    @Test
+    void testSetChildNames() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractMutableConfig config = assertInstanceOf(AbstractMutableConfig.class,
+                createBuilder(properties)
+                    .build());
+        assertEquals(
+                Set.of("key"),
+                config.getChildNames("test.").collect(Collectors.toSet()));
+        assertFalse(config.hasChildren("test.derived."));
+        config.set(TEST_DERIVED_KEY, "testDerivedValue");
+        assertEquals(
+                Set.of("key", "derived"),
+                config.getChildNames("test.").collect(Collectors.toSet()));
+        assertTrue(config.hasChildren("test.derived."));
+        assertTrue(config.getKeys("test.d", 1)
+                .collect(Collectors.toList())
+                .contains(TEST_DERIVED_KEY));
+        config.remove(TEST_DERIVED_KEY);
+        assertEquals(
+                Set.of("key"),
+                config.getChildNames("test.").collect(Collectors.toSet()));
+        assertFalse(config.hasChildren("test.derived."));
+    }
+
+    /**
+     * Tests configuration property list values modification.
+     */
+    @Test
+    void testSetList() {
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, "testValue");
+        final AbstractMutableConfig config = assertInstanceOf(AbstractMutableConfig.class,
+                createBuilder(properties)
+                    .build());
+        assertTrue(config.getList("test.list").isEmpty());
+        config.setList("test.list", List.of("1", "2", "3"));
+        assertEquals(List.of("1", "2", "3"), config.getList("test.list"));
+        assertEquals(List.of(1, 2, 3), config.getList("test.list", Integer.class));
+        config.setList("test.list", List.of("4", "5"));
+        assertEquals(List.of("4", "5"), config.getList("test.list"));
+        config.setList("test.list", List.of());
+        assertTrue(config.getList("test.list").isEmpty());
+        config.setList("test.list", List.of("6"));
+        assertEquals(List.of("6"), config.getList("test.list"));
+        config.setList("test.list", null);
+        assertTrue(config.getList("test.list").isEmpty());
+        assertFalse(config.contains("test.list"));
+        assertEquals("testValue", config.get(TEST_KEY));
+        assertThrows(IllegalArgumentException.class,
+                () -> config.setList("test.list", Arrays.asList("1", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> config.setList("", List.of("1")));
+    }
+
+    /**
+     * Tests configuration property list values modification with custom
+     * encoder.
+     */
+    @Test
+    void testSetListEncoder() {
+        final HashMap<String, String> properties = new HashMap<>();
+        final AbstractMutableConfig config = assertInstanceOf(AbstractMutableConfig.class,
+                createBuilder(properties)
+                    .withEncoder(s -> "Encoded: " + s)
+                    .build());
+        config.setList("test.list", List.of("a", "b"));
+        assertEquals(List.of("Encoded: a", "Encoded: b"), config.getList("test.list"));
+    }
 }
@@ -0,0 +1,130 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.builder.fluent.Configurations;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.config.CommonsSnapshotConfig;
+import dev.orne.config.Config;
+import dev.orne.config.MutableConfigBuilder;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code CommonsMutableSnapshotConfigBuilderImpl} and
+ * mutable {@code CommonsSnapshotConfigImpl}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see CommonsSnapshotConfigImpl
+ */
+@Tag("ut")
+class CommonsMutableSnapshotConfigTest
+extends AbstractWatchableConfigTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected MutableConfigBuilder<?> createBuilder(
+            final Map<String, String> properties) {
+        final PropertiesConfiguration delegated;
+        try {
+            delegated = new Configurations()
+                    .propertiesBuilder()
+                    .getConfiguration();
+        } catch (final ConfigurationException e) {
+            throw new AssertionError("Error creating delegated configuration", e);
+        }
+        for (final Map.Entry<String, String> entry : properties.entrySet()) {
+            delegated.setProperty(entry.getKey(), entry.getValue());
+        }
+        final ConfigurationInterpolator interpolator = mock(ConfigurationInterpolator.class);
+        given(interpolator.interpolate(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        delegated.setInterpolator(interpolator);
+        return Config.fromApacheCommons()
+                .ofDelegate(delegated)
+                .mutable()
+                .withSnapshot();
+    }
+
+    /**
+     * Tests instance building from Apache Commons configuration.
+     */
+    @Test
+    void testSnapshotBuilder() {
+        final BaseConfiguration delegated = new BaseConfiguration();
+        final CommonsSnapshotConfigImpl config = assertInstanceOf(
+                CommonsSnapshotConfigImpl.class,
+                Config.fromApacheCommons()
+                    .ofDelegate(delegated)
+                    .mutable()
+                    .withSnapshot()
+                    .build());
+        assertSame(delegated, config.getConfig());
+        assertTrue(config.isMutable());
+        assertTrue(config.isCommonsEvents());
+    }
+
+    /**
+     * Tests that properties modified through the snapshot are updated in
+     * the delegated configuration and the snapshot, notifying listeners
+     * once per modification.
+     */
+    @Test
+    void testLocalChanges() {
+        final BaseConfiguration delegated = new BaseConfiguration();
+        delegated.setProperty("a", "1");
+        delegated.setProperty("b", "x${a}");
+        final CommonsSnapshotConfig config = Config.fromApacheCommons()
+                .ofDelegate(delegated)
+                .mutable()
+                .withSnapshot()
+                .build();
+        final WatchableConfig.Listener listener = mock(WatchableConfig.Listener.class);
+        config.addListener(listener);
+        config.set("a", "2");
+        assertEquals("2", delegated.getString("a"));
+        assertEquals("2", config.get("a"));
+        assertEquals("x2", config.get("b"));
+        then(listener).should(times(1)).configurationChanged(config, Set.of("a", "b"));
+        config.remove("b");
+        assertFalse(delegated.containsKey("b"));
+        assertFalse(config.contains("b"));
+        then(listener).should(times(1)).configurationChanged(config, Set.of("b"));
+        then(listener).shouldHaveNoMoreInteractions();
+    }
+}
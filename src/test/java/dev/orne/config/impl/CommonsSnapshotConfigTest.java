@@ -0,0 +1,243 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.ConfigurationUtils;
+import org.apache.commons.configuration2.MapConfiguration;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.builder.fluent.Configurations;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
+import org.apache.commons.configuration2.reloading.ReloadingController;
+import org.apache.commons.configuration2.reloading.ReloadingEvent;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.config.CommonsSnapshotConfig;
+import dev.orne.config.Config;
+import dev.orne.config.ConfigBuilder;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code CommonsSnapshotConfigBuilderImpl} and
+ * {@code CommonsSnapshotConfigImpl}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see CommonsSnapshotConfigImpl
+ */
+@Tag("ut")
+class CommonsSnapshotConfigTest
+extends AbstractConfigTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ConfigBuilder<?> createBuilder(
+            final Map<String, String> properties) {
+        final PropertiesConfiguration delegated;
+        try {
+            delegated = new Configurations()
+                    .propertiesBuilder()
+                    .getConfiguration();
+        } catch (final ConfigurationException e) {
+            throw new AssertionError("Error creating delegated configuration", e);
+        }
+        for (final Map.Entry<String, String> entry : properties.entrySet()) {
+            delegated.setProperty(entry.getKey(), entry.getValue());
+        }
+        final ConfigurationInterpolator interpolator = mock(ConfigurationInterpolator.class);
+        given(interpolator.interpolate(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        delegated.setInterpolator(interpolator);
+        return Config.fromApacheCommons()
+                .ofDelegate(delegated)
+                .withSnapshot();
+    }
+
+    /**
+     * Tests instance building from Apache Commons configuration.
+     */
+    @Test
+    void testSnapshotBuilder() {
+        final BaseConfiguration delegated = new BaseConfiguration();
+        final CommonsSnapshotConfigImpl config = assertInstanceOf(
+                CommonsSnapshotConfigImpl.class,
+                Config.fromApacheCommons()
+                    .ofDelegate(delegated)
+                    .withSnapshot()
+                    .build());
+        assertSame(delegated, config.getConfig());
+        assertFalse(config.isMutable());
+        assertTrue(config.isCommonsEvents());
+        assertInstanceOf(WatchableConfig.class, config);
+    }
+
+    /**
+     * Tests that property values are captured once and updated from the
+     * Apache Commons configuration events, including the values of the
+     * properties that contain variables.
+     */
+    @Test
+    void testCommonsEvents() {
+        final BaseConfiguration delegated = spy(new BaseConfiguration());
+        delegated.setProperty("a", "1");
+        delegated.setProperty("b", "x${a}");
+        delegated.setProperty("c", "3");
+        final CommonsSnapshotConfig config = Config.fromApacheCommons()
+                .ofDelegate(delegated)
+                .withSnapshot()
+                .build();
+        final WatchableConfig.Listener listener = mock(WatchableConfig.Listener.class);
+        config.addListener(listener);
+        clearInvocations(delegated);
+        assertEquals("1", config.get("a"));
+        assertEquals("x1", config.get("b"));
+        assertEquals("3", config.get("c"));
+        then(delegated).should(never()).getString(anyString());
+        delegated.setProperty("a", "2");
+        assertEquals("2", config.get("a"));
+        assertEquals("x2", config.get("b"));
+        then(listener).should().configurationChanged(config, Set.of("a", "b"));
+        delegated.clearProperty("c");
+        assertFalse(config.contains("c"));
+        then(listener).should().configurationChanged(config, Set.of("c"));
+        delegated.addProperty("d", "4");
+        assertEquals("4", config.get("d"));
+        assertEquals(
+                Set.of("a", "b", "d"),
+                config.getKeys().collect(Collectors.toSet()));
+        then(listener).should().configurationChanged(config, Set.of("d"));
+        delegated.clear();
+        assertTrue(config.isEmpty());
+        then(listener).should().configurationChanged(config, Set.of("a", "b", "d"));
+        then(listener).shouldHaveNoMoreInteractions();
+    }
+
+    /**
+     * Tests that property entries are read from the snapshot, resolving
+     * interpolated values, and updated on configuration events.
+     */
+    @Test
+    void testSnapshotEntries() {
+        final BaseConfiguration delegated = new BaseConfiguration();
+        delegated.setProperty("a", "1");
+        delegated.setProperty("b", "x${a}");
+        final CommonsSnapshotConfig config = Config.fromApacheCommons()
+                .ofDelegate(delegated)
+                .withSnapshot()
+                .build();
+        assertEquals(
+                Map.of("a", "1", "b", "x1"),
+                config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        delegated.setProperty("a", "2");
+        delegated.addProperty("c", "3");
+        final Map<String, String> visited = new HashMap<>();
+        config.forEach(visited::put);
+        assertEquals(Map.of("a", "2", "b", "x2", "c", "3"), visited);
+    }
+
+    /**
+     * Tests that reloading events rebuild the snapshot.
+     */
+    @Test
+    void testReloadingEvent() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("a", "1");
+        final MapConfiguration delegated = new MapConfiguration(properties);
+        final CommonsSnapshotConfigImpl config = assertInstanceOf(
+                CommonsSnapshotConfigImpl.class,
+                Config.fromApacheCommons()
+                    .ofDelegate(delegated)
+                    .withSnapshot()
+                    .build());
+        final WatchableConfig.Listener listener = mock(WatchableConfig.Listener.class);
+        config.addListener(listener);
+        properties.put("a", "2");
+        assertEquals("1", config.get("a"));
+        config.processCommonsEvent(new ReloadingEvent(
+                mock(ReloadingController.class),
+                null));
+        assertEquals("2", config.get("a"));
+        then(listener).should().configurationChanged(config, Set.of("a"));
+    }
+
+    /**
+     * Tests that property keys and values are cached until refreshed when
+     * the delegated configuration is not an event source.
+     */
+    @Test
+    void testRefresh() {
+        final BaseConfiguration delegated = new BaseConfiguration();
+        delegated.setProperty("a", "1");
+        final CommonsSnapshotConfigImpl config = assertInstanceOf(
+                CommonsSnapshotConfigImpl.class,
+                Config.fromApacheCommons()
+                    .ofDelegate(ConfigurationUtils.unmodifiableConfiguration(delegated))
+                    .withSnapshot()
+                    .build());
+        assertFalse(config.isCommonsEvents());
+        final WatchableConfig.Listener listener = mock(WatchableConfig.Listener.class);
+        config.addListener(listener);
+        delegated.setProperty("a", "2");
+        delegated.setProperty("b", "3");
+        assertEquals("1", config.get("a"));
+        assertFalse(config.contains("b"));
+        then(listener).shouldHaveNoInteractions();
+        config.refresh();
+        assertEquals("2", config.get("a"));
+        assertEquals("3", config.get("b"));
+        then(listener).should().configurationChanged(config, Set.of("a", "b"));
+        config.refresh();
+        then(listener).shouldHaveNoMoreInteractions();
+    }
+
+    /**
+     * Tests that properties cannot be modified through the immutable
+     * snapshot.
+     */
+    @Test
+    void testReadOnly() {
+        final BaseConfiguration delegated = new BaseConfiguration();
+        delegated.setProperty("a", "1");
+        final CommonsSnapshotConfig config = Config.fromApacheCommons()
+                .ofDelegate(delegated)
+                .withSnapshot()
+                .build();
+        assertThrows(UnsupportedOperationException.class, () -> config.set("a", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> config.remove("a"));
+        assertEquals("1", delegated.getString("a"));
+    }
+}
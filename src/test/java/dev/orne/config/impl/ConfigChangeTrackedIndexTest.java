@@ -0,0 +1,193 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.config.Config;
+import dev.orne.config.DelegatedMutableConfig;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code ConfigChangeTrackedIndex}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class ConfigChangeTrackedIndexTest {
+
+    private static final String TEST_KEY = "test.key";
+    private static final String TEST_OTHER_KEY = "test.other";
+
+    /**
+     * Builds an index with the keys of the specified configuration.
+     * 
+     * @param config The configuration.
+     * @return The configuration keys.
+     */
+    private static Set<String> keys(
+            final Config config) {
+        return config.getKeys().collect(Collectors.toSet());
+    }
+
+    /**
+     * Test method for {@link ConfigChangeTrackedIndex#isIndexable(Config)}.
+     */
+    @Test
+    void testIsIndexableConfig() {
+        final Config immutable = Config.fromProperties().build();
+        final WatchableConfig watchable = Config.fromProperties().mutable().build();
+        final MutableConfig mutable = new DelegatedMutableConfig(watchable);
+        assertTrue(ConfigChangeTrackedIndex.isIndexable(immutable));
+        assertTrue(ConfigChangeTrackedIndex.isIndexable(watchable));
+        assertFalse(ConfigChangeTrackedIndex.isIndexable(mutable));
+        assertFalse(ConfigChangeTrackedIndex.isIndexable(Config.fromProperties()
+                .withParent(mutable)
+                .build()));
+    }
+
+    /**
+     * Test method for {@link ConfigChangeTrackedIndex#get(Config, java.util.function.Function)}.
+     */
+    @Test
+    void testGetCached() {
+        final Config config = Config.fromProperties().add(Map.of(TEST_KEY, "a")).build();
+        final ConfigChangeTrackedIndex<Set<String>> index = new ConfigChangeTrackedIndex<>();
+        final AtomicInteger builds = new AtomicInteger();
+        assertNull(index.getCurrent());
+        final Set<String> result = index.get(config, cfg -> {
+            builds.incrementAndGet();
+            return keys(cfg);
+        });
+        assertEquals(Set.of(TEST_KEY), result);
+        assertSame(result, index.getCurrent());
+        assertSame(result, index.get(config, cfg -> {
+            builds.incrementAndGet();
+            return keys(cfg);
+        }));
+        assertEquals(1, builds.get());
+    }
+
+    /**
+     * Test method for {@link ConfigChangeTrackedIndex#get(Config, java.util.function.Function)}
+     * with configuration changes.
+     */
+    @Test
+    void testGetInvalidated() {
+        final WatchableConfig parent = Config.fromProperties().mutable().build();
+        final WatchableConfig config = Config.fromProperties()
+                .mutable()
+                .withParent(parent)
+                .add(Map.of(TEST_KEY, "a"))
+                .build();
+        final ConfigChangeTrackedIndex<Set<String>> index = new ConfigChangeTrackedIndex<>();
+        assertEquals(Set.of(TEST_KEY), index.get(config, ConfigChangeTrackedIndexTest::keys));
+        parent.set(TEST_OTHER_KEY, "b");
+        assertNull(index.getCurrent());
+        assertEquals(Set.of(TEST_KEY, TEST_OTHER_KEY), index.get(config, ConfigChangeTrackedIndexTest::keys));
+        config.remove(TEST_KEY);
+        assertNull(index.getCurrent());
+        assertEquals(Set.of(TEST_OTHER_KEY), index.get(config, ConfigChangeTrackedIndexTest::keys));
+    }
+
+    /**
+     * Test method for {@link ConfigChangeTrackedIndex#get(Config, java.util.function.Function)}
+     * with changes received while building the index.
+     */
+    @Test
+    void testGetConcurrentChange() {
+        final Config config = Config.fromProperties().add(Map.of(TEST_KEY, "a")).build();
+        final ConfigChangeTrackedIndex<Set<String>> index = new ConfigChangeTrackedIndex<>();
+        final Set<String> result = index.get(config, cfg -> {
+            index.invalidate();
+            return keys(cfg);
+        });
+        assertEquals(Set.of(TEST_KEY), result);
+        assertNull(index.getCurrent());
+        assertTrue(index.isIndexable());
+    }
+
+    /**
+     * Test method for {@link ConfigChangeTrackedIndex#get(Config, java.util.function.Function)}
+     * with configurations that cannot be indexed.
+     */
+    @Test
+    void testGetNotIndexable() {
+        final MutableConfig config = new DelegatedMutableConfig(
+                Config.fromProperties().mutable().build());
+        final ConfigChangeTrackedIndex<Set<String>> index = new ConfigChangeTrackedIndex<>();
+        final AtomicInteger builds = new AtomicInteger();
+        assertNull(index.get(config, cfg -> {
+            builds.incrementAndGet();
+            return keys(cfg);
+        }));
+        assertFalse(index.isIndexable());
+        assertEquals(0, builds.get());
+        final Config other = Config.fromProperties().build();
+        final ConfigChangeTrackedIndex<Set<String>> rejected = new ConfigChangeTrackedIndex<>();
+        assertNull(rejected.get(other, cfg -> {
+            builds.incrementAndGet();
+            return null;
+        }));
+        assertFalse(rejected.isIndexable());
+        assertNull(rejected.get(other, cfg -> {
+            builds.incrementAndGet();
+            return keys(cfg);
+        }));
+        assertEquals(1, builds.get());
+    }
+
+    /**
+     * Test method for {@link ConfigChangeTrackedIndex#get(Config, java.util.function.Function)}
+     * with collected indexes.
+     */
+    @Test
+    void testGetCollectedListeners() {
+        final WatchableConfig config = Config.fromProperties().mutable().build();
+        final EventsHandler events = ((AbstractWatchableConfig) config).getEvents();
+        final int initial = events.getListeners().size();
+        ConfigChangeTrackedIndex<Set<String>> index = new ConfigChangeTrackedIndex<>();
+        assertNotNull(index.get(config, ConfigChangeTrackedIndexTest::keys));
+        assertEquals(initial + 1, events.getListeners().size());
+        final WeakReference<ConfigChangeTrackedIndex<Set<String>>> ref = new WeakReference<>(index);
+        index = null;
+        for (int i = 0; i < 20 && ref.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(ref.get());
+        config.set(TEST_KEY, "a");
+        assertEquals(initial, events.getListeners().size());
+    }
+}
@@ -25,9 +25,16 @@ package dev.orne.config.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.spec.KeySpec;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
@@ -301,6 +308,46 @@ class ConfigCryptoAesGcmEngineTest {
         });
     }
 
+    /**
+     * Test for {@link ConfigCryptoAesGcmEngine#createSecretKeyAsync(char[], java.util.concurrent.Executor)}
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testCreateSecretKeyAsync()
+    throws Exception {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoAesGcmEngine engine = new ConfigCryptoAesGcmEngine(SALT);
+        engine.setSecretKeyIterations(100);
+        final SecretKey expected = engine.createSecretKey(password);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<SecretKey> future =
+                    engine.createSecretKeyAsync(password, executor);
+            Arrays.fill(password, '\0');
+            final SecretKey result = future.get(10, TimeUnit.SECONDS);
+            assertNotNull(result);
+            assertArrayEquals(expected.getEncoded(), result.getEncoded());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test for {@link ConfigCryptoAesGcmEngine#createSecretKeyAsync(char[], java.util.concurrent.Executor)}
+     */
+    @Test
+    void testCreateSecretKeyAsyncError() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoAesGcmEngine engine = spy(new ConfigCryptoAesGcmEngine(SALT));
+        willThrow(ConfigCryptoProviderException.class).given(engine).createSecretKey(any());
+        
+        final CompletableFuture<SecretKey> future =
+                engine.createSecretKeyAsync(password, Runnable::run);
+        
+        final CompletionException result = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(ConfigCryptoProviderException.class, result.getCause());
+    }
+
     /**
      * Test for {@link ConfigCryptoAesGcmEngine#createCipher()}
      */
@@ -408,6 +455,80 @@ class ConfigCryptoAesGcmEngineTest {
         });
     }
 
+    /**
+     * Test for {@link ConfigCryptoAesGcmEngine#decrypt(String, SecretKey, Cipher)}
+     */
+    @Test
+    void testDecryptInvalidValue() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoAesGcmEngine engine = new ConfigCryptoAesGcmEngine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.decrypt("not base 64!", key, cipher);
+        });
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.decrypt("c2hvcnQ=", key, cipher);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoAesGcmEngine#encryptBytes(ByteBuffer, SecretKey, Cipher)}
+     */
+    @Test
+    void testEncryptBuffer() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoAesGcmEngine engine = new ConfigCryptoAesGcmEngine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        final String plainText = "mock plain text";
+        final ByteBuffer value = ByteBuffer.wrap(plainText.getBytes(StandardCharsets.UTF_8));
+        
+        final String result = engine.encryptBytes(value, key, cipher);
+        
+        assertNotNull(result);
+        assertFalse(value.hasRemaining());
+        assertEquals(plainText, engine.decrypt(result, key, cipher));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoAesGcmEngine#decryptInto(CharSequence, SecretKey, Cipher, ByteBuffer)}
+     */
+    @Test
+    void testDecryptBuffer() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoAesGcmEngine engine = new ConfigCryptoAesGcmEngine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        final StringBuilder encryptedText = new StringBuilder(
+                "oWn2xhVxeNVK9iWUbfab+5Wo/j3TIWW6X1oYMu5ecaFgSmAfHr7VzAX3Qw==");
+        final ByteBuffer output = ByteBuffer.allocate(64);
+        output.put((byte) '>');
+        
+        engine.decryptInto(encryptedText, key, cipher, output);
+        
+        output.flip();
+        assertEquals(">mock plain text", StandardCharsets.UTF_8.decode(output).toString());
+    }
+
+    /**
+     * Test for {@link ConfigCryptoAesGcmEngine#decryptInto(CharSequence, SecretKey, Cipher, ByteBuffer)}
+     */
+    @Test
+    void testDecryptBufferOverflow() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoAesGcmEngine engine = new ConfigCryptoAesGcmEngine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        final String encryptedText = "oWn2xhVxeNVK9iWUbfab+5Wo/j3TIWW6X1oYMu5ecaFgSmAfHr7VzAX3Qw==";
+        final ByteBuffer output = ByteBuffer.allocate(4);
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.decryptInto(encryptedText, key, cipher, output);
+        });
+    }
+
     /**
      * Test for {@link ConfigCryptoAesGcmEngine#destroy()}
      */
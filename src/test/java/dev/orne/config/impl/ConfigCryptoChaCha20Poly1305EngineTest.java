@@ -0,0 +1,380 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.spec.KeySpec;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.DESKeySpec;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoProviderException;
+import dev.orne.config.ConfigCryptoWrongKeyException;
+
+/**
+ * Unit tests for {@code ConfigCryptoChaCha20Poly1305Engine}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class ConfigCryptoChaCha20Poly1305EngineTest {
+
+    private static final byte[] SALT = "mock salt bytes".getBytes(StandardCharsets.UTF_8);
+    private static final String ENCRYPTED_TEXT = "zZKhfgirIFOLwZDbm46fjcvrX7geP6bbt5z4lwVVb1VcEBBbMSN4qZm2OA==";
+    private static final String PLAIN_TEXT = "mock plain text";
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#ConfigCryptoChaCha20Poly1305Engine(byte[])}
+     */
+    @Test
+    void testConstructor() {
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        assertNotNull(engine);
+        assertEquals(ConfigCryptoChaCha20Poly1305Engine.DEFAULT_KEY_FACTORY_ALGORITHM, engine.getSecretKeyFactoryAlgorithm());
+        assertEquals(ConfigCryptoChaCha20Poly1305Engine.DEFAULT_SECRET_KEY_ITERATIONS, engine.getSecretKeyIterations());
+        assertThrows(NullPointerException.class, () -> {
+            new ConfigCryptoChaCha20Poly1305Engine(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConfigCryptoChaCha20Poly1305Engine(new byte[0]);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#ConfigCryptoChaCha20Poly1305Engine(String, byte[])}
+     */
+    @Test
+    void testConstructorAlgotithm() {
+        final String mockKeyFactoryAlg = "mock key factory algorithm";
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(
+                mockKeyFactoryAlg, SALT);
+        assertNotNull(engine);
+        assertEquals(mockKeyFactoryAlg, engine.getSecretKeyFactoryAlgorithm());
+        assertEquals(ConfigCryptoChaCha20Poly1305Engine.DEFAULT_SECRET_KEY_ITERATIONS, engine.getSecretKeyIterations());
+        assertThrows(NullPointerException.class, () -> {
+            new ConfigCryptoChaCha20Poly1305Engine(null, SALT);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            new ConfigCryptoChaCha20Poly1305Engine(mockKeyFactoryAlg, null);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoProvider#builder()}
+     */
+    @Test
+    void testBuilder() {
+        final DefaultConfigCryptoProvider provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withChaCha20Poly1305Engine(SALT)
+                    .withSecretKey("mock password".toCharArray())
+                    .build());
+        assertInstanceOf(ConfigCryptoChaCha20Poly1305Engine.class, provider.getEngine());
+        assertTrue(provider.isDestroyEngine());
+        assertEquals(PLAIN_TEXT, provider.decrypt(ENCRYPTED_TEXT));
+        assertEquals(PLAIN_TEXT, provider.decrypt(provider.encrypt(PLAIN_TEXT)));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#createKeySpec(char[])}
+     */
+    @Test
+    void testCreateKeySpec() {
+        final int iterations = 100;
+        final String password = "mock password";
+        
+        final ConfigCryptoChaCha20Poly1305Engine engine = spy(new ConfigCryptoChaCha20Poly1305Engine(SALT));
+        engine.setSecretKeyIterations(iterations);
+        
+        final KeySpec result = engine.createKeySpec(password.toCharArray());
+        
+        assertNotNull(result);
+        final PBEKeySpec pbeSpec = assertInstanceOf(PBEKeySpec.class, result);
+        assertArrayEquals(SALT, pbeSpec.getSalt());
+        assertEquals(iterations, pbeSpec.getIterationCount());
+        assertEquals(ConfigCryptoChaCha20Poly1305Engine.SECRET_KEY_LENGTH, pbeSpec.getKeyLength());
+        assertArrayEquals(password.toCharArray(), pbeSpec.getPassword());
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#createKeySpec(char[])}
+     */
+    @Test
+    void testCreateKeySpecNegativeIterations() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        engine.setSecretKeyIterations(-1);
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.createKeySpec(password);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#createSecretKey(char[])}
+     * @throws GeneralSecurityException Should not happen
+     */
+    @Test
+    void testCreateSecretKey()
+    throws GeneralSecurityException {
+        final ConfigCryptoChaCha20Poly1305Engine engine = spy(new ConfigCryptoChaCha20Poly1305Engine(SALT));
+        final int iterations = 100;
+        final char[] password = "mock password".toCharArray();
+        engine.setSecretKeyIterations(iterations);
+        final SecretKeyFactory mySKF = SecretKeyFactory.getInstance(
+                ConfigCryptoChaCha20Poly1305Engine.DEFAULT_KEY_FACTORY_ALGORITHM);
+        final SecretKey expectedSK = mySKF.generateSecret(new PBEKeySpec(
+                password, SALT, iterations, ConfigCryptoChaCha20Poly1305Engine.SECRET_KEY_LENGTH));
+        
+        final SecretKey result = engine.createSecretKey(password);
+        
+        assertNotNull(result);
+        assertEquals(ConfigCryptoChaCha20Poly1305Engine.KEY_ALGORITHM, result.getAlgorithm());
+        assertArrayEquals(expectedSK.getEncoded(), result.getEncoded());
+        then(engine).should(times(1)).getSecretKeyFactory(
+                ConfigCryptoChaCha20Poly1305Engine.DEFAULT_KEY_FACTORY_ALGORITHM);
+        then(engine).should(times(1)).createKeySpec(password);
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#createSecretKey(char[])}
+     */
+    @Test
+    void testCreateSecretKeyWrongSKFAlgorithm() {
+        final char[] password = "mock password".toCharArray();
+        final String mockSKFAlgorithm = "unknown SKF algorithm";
+        final ConfigCryptoChaCha20Poly1305Engine engine = spy(new ConfigCryptoChaCha20Poly1305Engine(
+                mockSKFAlgorithm, SALT));
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.createSecretKey(password);
+        });
+        
+        then(engine).should(times(1)).getSecretKeyFactory(mockSKFAlgorithm);
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#createCipher()}
+     */
+    @Test
+    void testCreateCipher() {
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        
+        final Cipher result = engine.createCipher();
+        
+        assertNotNull(result);
+        assertEquals(ConfigCryptoChaCha20Poly1305Engine.CIPHER_ALGORITHM, result.getAlgorithm());
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#encrypt(String, SecretKey, Cipher)}
+     */
+    @Test
+    void testEncrypt() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        
+        final String result = engine.encrypt(PLAIN_TEXT, key, cipher);
+        final String result2 = engine.encrypt(PLAIN_TEXT, key, cipher);
+        
+        assertNotNull(result);
+        assertNotEquals(result, result2);
+        assertEquals(PLAIN_TEXT, engine.decrypt(result, key, cipher));
+        assertEquals(PLAIN_TEXT, engine.decrypt(result2, key, cipher));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#encrypt(String, SecretKey, Cipher)}
+     * @throws GeneralSecurityException Should not happen
+     */
+    @Test
+    void testEncryptBadKey()
+    throws GeneralSecurityException {
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKeyFactory skf = SecretKeyFactory.getInstance("DES");
+        final SecretKey key = skf.generateSecret(new DESKeySpec("mock password".getBytes()));
+        final Cipher cipher = engine.createCipher();
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.encrypt(PLAIN_TEXT, key, cipher);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#decrypt(String, SecretKey, Cipher)}
+     */
+    @Test
+    void testDecrypt() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        
+        final String result = engine.decrypt(ENCRYPTED_TEXT, key, cipher);
+        
+        assertEquals(PLAIN_TEXT, result);
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#decrypt(String, SecretKey, Cipher)}
+     * decrypting the same value with the same cipher, rejected by default
+     * by JDK ChaCha20 ciphers.
+     */
+    @Test
+    void testDecryptRepeated() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        
+        assertEquals(PLAIN_TEXT, engine.decrypt(ENCRYPTED_TEXT, key, cipher));
+        assertEquals(PLAIN_TEXT, engine.decrypt(ENCRYPTED_TEXT, key, cipher));
+        assertEquals(PLAIN_TEXT, engine.decrypt(ENCRYPTED_TEXT, key, cipher));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#decrypt(String, SecretKey, Cipher)}
+     * @throws GeneralSecurityException Should not happen
+     */
+    @Test
+    void testDecryptBadKeyType()
+    throws GeneralSecurityException {
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKeyFactory skf = SecretKeyFactory.getInstance("DES");
+        final SecretKey key = skf.generateSecret(new DESKeySpec("mock password".getBytes()));
+        final Cipher cipher = engine.createCipher();
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.decrypt(ENCRYPTED_TEXT, key, cipher);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#decrypt(String, SecretKey, Cipher)}
+     */
+    @Test
+    void testDecryptInvalidValue() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.decrypt("not base 64!", key, cipher);
+        });
+        assertThrows(ConfigCryptoProviderException.class, () -> {
+            engine.decrypt("c2hvcnQ=", key, cipher);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#decrypt(String, SecretKey, Cipher)}
+     */
+    @Test
+    void testDecryptWrongPassword() {
+        final char[] password = "mock wrong password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        
+        assertThrows(ConfigCryptoWrongKeyException.class, () -> {
+            engine.decrypt(ENCRYPTED_TEXT, key, cipher);
+        });
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#encryptBytes(ByteBuffer, SecretKey, Cipher)}
+     */
+    @Test
+    void testEncryptBuffer() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        final ByteBuffer value = ByteBuffer.wrap(PLAIN_TEXT.getBytes(StandardCharsets.UTF_8));
+        
+        final String result = engine.encryptBytes(value, key, cipher);
+        
+        assertNotNull(result);
+        assertFalse(value.hasRemaining());
+        assertEquals(PLAIN_TEXT, engine.decrypt(result, key, cipher));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#decryptInto(CharSequence, SecretKey, Cipher, ByteBuffer)}
+     */
+    @Test
+    void testDecryptBuffer() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT);
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        final ByteBuffer output = ByteBuffer.allocate(64);
+        
+        engine.decryptInto(new StringBuilder(ENCRYPTED_TEXT), key, cipher, output);
+        engine.decryptInto(ENCRYPTED_TEXT, key, cipher, output);
+        
+        output.flip();
+        assertEquals(PLAIN_TEXT + PLAIN_TEXT, StandardCharsets.UTF_8.decode(output).toString());
+    }
+
+    /**
+     * Test for {@link ConfigCryptoChaCha20Poly1305Engine#destroy()}
+     */
+    @Test
+    void testDestroy() {
+        final char[] password = "mock password".toCharArray();
+        final ConfigCryptoChaCha20Poly1305Engine engine = new ConfigCryptoChaCha20Poly1305Engine(SALT.clone());
+        final SecretKey key = engine.createSecretKey(password);
+        final Cipher cipher = engine.createCipher();
+        engine.destroy();
+        assertTrue(engine.isDestroyed());
+        assertThrows(IllegalStateException.class, () -> {
+            engine.createSecretKey(password);
+        });
+        assertThrows(IllegalStateException.class, engine::createCipher);
+        assertThrows(IllegalStateException.class, () -> {
+            engine.encrypt(PLAIN_TEXT, key, cipher);
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            engine.decrypt(ENCRYPTED_TEXT, key, cipher);
+        });
+    }
+}
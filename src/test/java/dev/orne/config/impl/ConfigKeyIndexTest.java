@@ -0,0 +1,162 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ConfigKeyIndex}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class ConfigKeyIndexTest {
+
+    /** The test property keys. */
+    private static final List<String> KEYS = Arrays.asList(
+            "services.b.host",
+            "services.a",
+            "services.a.port",
+            "top",
+            "services.a.host",
+            "services.a-x",
+            "services.c/d");
+
+    /**
+     * Test method for {@link ConfigKeyIndex#getKeys()}.
+     */
+    @Test
+    void testGetKeys() {
+        final ConfigKeyIndex index = new ConfigKeyIndex(KEYS.stream());
+        assertEquals(
+                KEYS.stream().sorted().collect(Collectors.toList()),
+                index.getKeys().collect(Collectors.toList()));
+    }
+
+    /**
+     * Test method for {@link ConfigKeyIndex#getChildNames(String, String)}.
+     */
+    @Test
+    void testGetChildNames() {
+        final ConfigKeyIndex index = new ConfigKeyIndex(KEYS.stream());
+        assertEquals(
+                Arrays.asList("services", "top"),
+                index.getChildNames("", ".").collect(Collectors.toList()));
+        assertEquals(
+                Arrays.asList("a", "a-x", "b", "c/d"),
+                index.getChildNames("services.", ".").collect(Collectors.toList()));
+        assertEquals(
+                Arrays.asList("host", "port"),
+                index.getChildNames("services.a.", ".").collect(Collectors.toList()));
+        assertEquals(
+                Arrays.asList("a", "a-x", "a.host", "a.port", "b.host", "c"),
+                index.getChildNames("services.", "/").collect(Collectors.toList()));
+        assertTrue(index.getChildNames("top.", ".").collect(Collectors.toList()).isEmpty());
+        assertTrue(index.getChildNames("missing.", ".").collect(Collectors.toList()).isEmpty());
+    }
+
+    /**
+     * Test method for
+     * {@link ConfigKeyIndex#extractChildNames(Stream, String, String)}.
+     */
+    @Test
+    void testExtractChildNames() {
+        final ConfigKeyIndex index = new ConfigKeyIndex(KEYS.stream());
+        for (final String prefix : Arrays.asList("", "services.", "services.a.", "top.", "missing.")) {
+            assertEquals(
+                    index.getChildNames(prefix, ".").collect(Collectors.toSet()),
+                    ConfigKeyIndex.extractChildNames(KEYS.stream(), prefix, ".").collect(Collectors.toSet()));
+        }
+    }
+
+    /**
+     * Test method for {@link ConfigKeyIndex#hasChildren(String)}.
+     */
+    @Test
+    void testHasChildren() {
+        final ConfigKeyIndex index = new ConfigKeyIndex(KEYS.stream());
+        assertTrue(index.hasChildren(""));
+        assertTrue(index.hasChildren("services."));
+        assertTrue(index.hasChildren("services.a."));
+        assertTrue(index.hasChildren("services.a"));
+        assertFalse(index.hasChildren("services.b.host"));
+        assertFalse(index.hasChildren("top."));
+        assertFalse(index.hasChildren("missing."));
+    }
+
+    /**
+     * Test method for {@link ConfigKeyIndex#getKeys(String, int)}.
+     */
+    @Test
+    void testGetKeysRange() {
+        final ConfigKeyIndex index = new ConfigKeyIndex(KEYS.stream());
+        final List<String> sorted = KEYS.stream().sorted().collect(Collectors.toList());
+        assertEquals(
+                sorted.subList(0, 3),
+                index.getKeys(null, 3).collect(Collectors.toList()));
+        assertEquals(
+                sorted.subList(3, 6),
+                index.getKeys(sorted.get(2), 3).collect(Collectors.toList()));
+        assertEquals(
+                sorted.subList(6, 7),
+                index.getKeys(sorted.get(5), 3).collect(Collectors.toList()));
+        assertEquals(
+                sorted.subList(1, 3),
+                index.getKeys("services.a ", 2).collect(Collectors.toList()));
+        assertTrue(index.getKeys("top", 3).collect(Collectors.toList()).isEmpty());
+        assertTrue(index.getKeys(null, 0).collect(Collectors.toList()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.getKeys(null, -1));
+    }
+
+    /**
+     * Test method for {@link ConfigKeyIndex#extractKeys(Stream, String, int)}.
+     */
+    @Test
+    void testExtractKeys() {
+        final ConfigKeyIndex index = new ConfigKeyIndex(KEYS.stream());
+        for (final String after : Arrays.asList(null, "services.a", "services.a ", "services.b.host", "top")) {
+            for (int limit = 0; limit <= KEYS.size() + 1; limit++) {
+                assertEquals(
+                        index.getKeys(after, limit).collect(Collectors.toList()),
+                        ConfigKeyIndex.extractKeys(KEYS.stream(), after, limit).collect(Collectors.toList()));
+            }
+        }
+        assertEquals(
+                Arrays.asList("a", "b"),
+                ConfigKeyIndex.extractKeys(Stream.of("b", "a", "b", "c"), null, 2).collect(Collectors.toList()));
+        assertTrue(ConfigKeyIndex.extractKeys(Stream.empty(), null, 2).collect(Collectors.toList()).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConfigKeyIndex.extractKeys(Collections.<String>emptyList().stream(), null, -1));
+    }
+}
@@ -0,0 +1,284 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigException;
+import dev.orne.config.DelegatedMutableConfig;
+import dev.orne.config.Key;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code ConfigMapping}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see ConfigMapping
+ * @see ConfigMappingPlan
+ * @see ConfigMappingValues
+ */
+@Tag("ut")
+class ConfigMappingTest {
+
+    private static final String TEST_HOST_KEY = "test.mapping.host";
+    private static final String TEST_PORT_KEY = "test.mapping.port";
+    private static final String TEST_TIMEOUT_KEY = "test.mapping.timeout";
+    private static final String TEST_TAGS_KEY = "test.mapping.tags";
+
+    /**
+     * Creates a watchable configuration with the test values.
+     * 
+     * @return The watchable configuration.
+     */
+    private static WatchableConfig createConfig() {
+        final Map<String, String> values = new HashMap<>();
+        values.put(TEST_HOST_KEY, "localhost");
+        values.put(TEST_PORT_KEY, "8080");
+        values.put(TEST_TIMEOUT_KEY, "5s");
+        values.put(TEST_TAGS_KEY, "a, b");
+        return Config.fromProperties()
+                .mutable()
+                .add(values)
+                .build();
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)}.
+     */
+    @Test
+    void testMap() {
+        final WatchableConfig config = createConfig();
+        final TestMapping mapping = config.map(TestMapping.class);
+        assertEquals("localhost", mapping.host());
+        assertEquals(8080, mapping.port());
+        assertEquals(Duration.ofSeconds(5), mapping.timeout());
+        assertEquals(List.of("a", "b"), mapping.tags());
+        assertEquals("localhost:8080", mapping.address());
+        assertSame(mapping.timeout(), mapping.timeout());
+        assertSame(mapping.tags(), mapping.tags());
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} with missing values.
+     */
+    @Test
+    void testMapDefaults() {
+        final Config config = Config.fromProperties().build();
+        final TestMapping mapping = Config.map(config, TestMapping.class);
+        assertNull(mapping.host());
+        assertEquals(0, mapping.port());
+        assertEquals(Duration.ofSeconds(30), mapping.timeout());
+        assertNull(mapping.tags());
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} with configuration changes.
+     */
+    @Test
+    void testMapRefresh() {
+        final WatchableConfig config = createConfig();
+        final TestMapping mapping = config.map(TestMapping.class);
+        final List<String> tags = mapping.tags();
+        assertEquals(8080, mapping.port());
+        config.set(TEST_PORT_KEY, "9090");
+        assertEquals(9090, mapping.port());
+        assertSame(tags, mapping.tags());
+        config.remove(TEST_TIMEOUT_KEY);
+        assertEquals(Duration.ofSeconds(30), mapping.timeout());
+        config.set(TEST_TAGS_KEY, "c");
+        assertEquals(List.of("c"), mapping.tags());
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} called repeatedly on the
+     * same configuration.
+     */
+    @Test
+    void testMapRepeatedListeners() {
+        final WatchableConfig config = createConfig();
+        final EventsHandler events = ((AbstractWatchableConfig) config).getEvents();
+        final int initial = events.getListeners().size();
+        final List<TestMapping> mappings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            mappings.add(config.map(TestMapping.class));
+        }
+        assertEquals(initial + 1, events.getListeners().size());
+        config.as(TestSubtype.class).port();
+        assertEquals(initial + 2, events.getListeners().size());
+        config.set(TEST_PORT_KEY, "9090");
+        for (final TestMapping mapping : mappings) {
+            assertEquals(9090, mapping.port());
+        }
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} with collected mappings.
+     */
+    @Test
+    void testMapCollectedListeners() {
+        final WatchableConfig config = createConfig();
+        final EventsHandler events = ((AbstractWatchableConfig) config).getEvents();
+        final int initial = events.getListeners().size();
+        final WeakReference<TestMapping> ref = new WeakReference<>(
+                config.map(TestMapping.class));
+        assertEquals(initial + 1, events.getListeners().size());
+        for (int i = 0; i < 20 && ref.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(ref.get());
+        config.set(TEST_PORT_KEY, "9090");
+        assertEquals(initial, events.getListeners().size());
+        assertEquals(9090, config.map(TestMapping.class).port());
+        assertEquals(initial + 1, events.getListeners().size());
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} with mutable configurations
+     * that do not notify changes.
+     */
+    @Test
+    void testMapNotWatchable() {
+        final MutableConfig config = new DelegatedMutableConfig(createConfig());
+        assertFalse(config instanceof WatchableConfig);
+        final TestMapping mapping = config.map(TestMapping.class);
+        assertEquals(8080, mapping.port());
+        config.set(TEST_PORT_KEY, "9090");
+        assertEquals(9090, mapping.port());
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} with object methods.
+     */
+    @Test
+    void testMapObjectMethods() {
+        final WatchableConfig config = createConfig();
+        final TestMapping mapping = config.map(TestMapping.class);
+        final TestMapping other = config.map(TestMapping.class);
+        assertEquals(mapping, other);
+        assertEquals(mapping.hashCode(), other.hashCode());
+        assertNotNull(mapping.toString());
+    }
+
+    /**
+     * Test method for {@link Config#map(Class)} with invalid interfaces.
+     */
+    @Test
+    void testMapInvalid() {
+        final Config config = createConfig();
+        assertThrows(ConfigException.class, () -> config.map(String.class));
+        assertThrows(ConfigException.class, () -> config.map(NotAnnotatedMapping.class));
+        assertThrows(ConfigException.class, () -> config.map(ParameterMapping.class));
+        assertThrows(ConfigException.class, () -> config.map(UnsupportedMapping.class));
+    }
+
+    /**
+     * Test method for {@link Config#as(Class)} with {@code Key} annotated
+     * methods.
+     */
+    @Test
+    void testSubtype() {
+        final WatchableConfig config = createConfig();
+        final TestSubtype subtype = config.as(TestSubtype.class);
+        assertEquals(8080, subtype.port());
+        assertEquals("localhost", subtype.get(TEST_HOST_KEY));
+        assertEquals("localhost:8080", subtype.address());
+        subtype.set(TEST_PORT_KEY, "9090");
+        assertEquals(9090, subtype.port());
+    }
+
+    /**
+     * Test configuration mapping interface.
+     */
+    public interface TestMapping {
+
+        @Key(TEST_HOST_KEY)
+        String host();
+
+        @Key(TEST_PORT_KEY)
+        int port();
+
+        @Key(value = TEST_TIMEOUT_KEY, defaultValue = "30s")
+        Duration timeout();
+
+        @Key(TEST_TAGS_KEY)
+        List<String> tags();
+
+        default String address() {
+            return host() + ":" + port();
+        }
+    }
+
+    /**
+     * Test configuration subtype with mapped methods.
+     */
+    public interface TestSubtype
+    extends WatchableConfig {
+
+        @Key(TEST_PORT_KEY)
+        int port();
+
+        default String address() {
+            return get(TEST_HOST_KEY) + ":" + port();
+        }
+    }
+
+    /**
+     * Test invalid mapping interface with not annotated methods.
+     */
+    public interface NotAnnotatedMapping {
+
+        String host();
+    }
+
+    /**
+     * Test invalid mapping interface with parameters.
+     */
+    public interface ParameterMapping {
+
+        @Key(TEST_HOST_KEY)
+        String host(String defaultValue);
+    }
+
+    /**
+     * Test invalid mapping interface with unsupported types.
+     */
+    public interface UnsupportedMapping {
+
+        @Key(TEST_HOST_KEY)
+        Object host();
+    }
+}
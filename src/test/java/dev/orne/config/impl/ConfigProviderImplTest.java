@@ -244,6 +244,50 @@ class ConfigProviderImplTest {
         then(defaultConfig).shouldHaveNoInteractions();
     }
 
+    /**
+     * Test method for
+     * {@link ConfigProviderImpl#selectConfig(PreferredConfig)
+     * memoization of resolved selections.
+     */
+    @Test
+    void testSelectMemoized() {
+        final Config defaultConfig = mock(Level1Config.class);
+        final Config testConfig = spy(new Level2ConfigImpl());
+        final ConfigProviderImpl provider = new ConfigProviderImpl(defaultConfig);
+        provider.registerConfig(testConfig);
+        final PreferredConfig options = mock(PreferredConfig.class);
+        given(options.value()).willAnswer(invocation -> new Class<?>[] { Level2Config.class });
+
+        assertSame(testConfig, provider.selectConfig(options));
+        clearInvocations(options);
+        assertSame(testConfig, provider.selectConfig(options));
+
+        then(options).shouldHaveNoInteractions();
+        then(defaultConfig).shouldHaveNoInteractions();
+        then(testConfig).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Test method for
+     * {@link ConfigProviderImpl#selectConfig(PreferredConfig)
+     * after new configurations are registered.
+     */
+    @Test
+    void testSelectAfterRegister() {
+        final Config defaultConfig = mock(Level1Config.class);
+        final Config testConfig = spy(new Level2ConfigImpl());
+        final ConfigProviderImpl provider = new ConfigProviderImpl(defaultConfig);
+        final PreferredConfig options = Level2NoDefaultTestBean.class.getAnnotation(
+                PreferredConfig.class);
+
+        assertNull(provider.selectConfig(options));
+        provider.registerConfig(testConfig);
+        assertSame(testConfig, provider.selectConfig(options));
+
+        then(defaultConfig).shouldHaveNoInteractions();
+        then(testConfig).shouldHaveNoInteractions();
+    }
+
     public static interface Level1Config
     extends Config {
         // Empty class
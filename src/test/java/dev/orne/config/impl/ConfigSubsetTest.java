@@ -28,6 +28,8 @@ import static org.awaitility.Awaitility.*;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.jspecify.annotations.Nullable;
 
 import dev.orne.config.Config;
+import dev.orne.config.ConfigKey;
 import dev.orne.config.MutableConfig;
 import dev.orne.config.WatchableConfig;
 
@@ -115,6 +118,86 @@ class ConfigSubsetTest {
         assertEquals("admin", dbSubConfig.getUser());
     }
 
+    /**
+     * Test method for {@link Config#getEntries()} of subset
+     * configurations.
+     */
+    @Test
+    void testSubsetEntries() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("service.name", "myService");
+        values.put("service.db.host", "localhost");
+        values.put("service.db.port", "5432");
+        values.put("other.db.host", "otherhost");
+        final Config config = Config.fromProperties()
+                .add(values)
+                .build();
+        final Config dbConfig = config.subset("service.").subset("db.");
+        assertEquals(
+                Map.of("host", "localhost", "port", "5432"),
+                dbConfig.getEntries().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        final Map<String, String> visited = new HashMap<>();
+        dbConfig.forEach(visited::put);
+        assertEquals(Map.of("host", "localhost", "port", "5432"), visited);
+    }
+
+    /**
+     * Test method for {@link Config#getChildNames(String)},
+     * {@link Config#hasChildren(String)} and
+     * {@link Config#getKeys(String, int)} of subset configurations.
+     */
+    @Test
+    void testSubsetNavigation() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("service.name", "myService");
+        values.put("service.db.host", "localhost");
+        values.put("service.db.port", "5432");
+        values.put("other.db.host", "otherhost");
+        final Config config = Config.fromProperties()
+                .add(values)
+                .build();
+        final Config serviceConfig = config.subset("service.");
+        assertEquals(
+                Set.of("name", "db"),
+                serviceConfig.getChildNames("").collect(Collectors.toSet()));
+        assertEquals(
+                Set.of("host", "port"),
+                serviceConfig.getChildNames("db.").collect(Collectors.toSet()));
+        assertTrue(serviceConfig.hasChildren("db."));
+        assertFalse(serviceConfig.hasChildren("name."));
+        assertEquals(
+                List.of("db.host", "db.port"),
+                serviceConfig.getKeys(null, 2).collect(Collectors.toList()));
+        assertEquals(
+                List.of("db.port", "name"),
+                serviceConfig.getKeys("db.host", 5).collect(Collectors.toList()));
+        assertEquals(
+                List.of(),
+                serviceConfig.getKeys("name", 5).collect(Collectors.toList()));
+    }
+
+    /**
+     * Test method for {@link Config#getList(String)} and
+     * {@link MutableConfig#setList(String, List)} of subset configurations.
+     */
+    @Test
+    void testSubsetList() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("service.hosts.0", "host0");
+        values.put("service.hosts.1", "host1");
+        values.put("other.hosts.0", "otherhost");
+        final MutableConfig config = Config.fromProperties()
+                .add(values)
+                .mutable()
+                .build();
+        final MutableConfig serviceConfig = config.subset("service.");
+        assertEquals(List.of("host0", "host1"), serviceConfig.getList("hosts"));
+        serviceConfig.setList("hosts", List.of("newhost"));
+        assertEquals(List.of("newhost"), config.getList("service.hosts"));
+        assertEquals(List.of("otherhost"), config.getList("other.hosts"));
+        assertFalse(config.contains("service.hosts.1"));
+    }
+
     /**
      * Test method for {@link MutableConfig#subset(String)}.
      */
@@ -347,6 +430,110 @@ class ConfigSubsetTest {
         assertNotEquals(proxy, altProxy);
     }
 
+    /**
+     * Test method for {@link Config#subset(String)} canonical instances.
+     */
+    @Test
+    void testSubsetCanonicalInstances() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("service.db.host", "localhost");
+        final Config config = Config.fromProperties()
+                .add(values)
+                .build();
+        final WatchableConfig mutableConfig = Config.fromProperties()
+                .add(values)
+                .mutable()
+                .build();
+        final Config serviceConfig = config.subset("service.");
+        assertInstanceOf(SubsetConfig.class, serviceConfig);
+        assertSame(serviceConfig, config.subset("service."));
+        assertNotSame(serviceConfig, config.subset("db."));
+        assertNotSame(serviceConfig, mutableConfig.subset("service."));
+        final Config dbConfig = serviceConfig.subset("db.");
+        assertSame(dbConfig, config.subset("service.db."));
+        assertEquals("localhost", dbConfig.get("host"));
+        final WatchableConfig mutableServiceConfig = mutableConfig.subset("service.");
+        assertInstanceOf(SubsetWatchableConfig.class, mutableServiceConfig);
+        assertSame(mutableServiceConfig, mutableConfig.subset("service."));
+        assertSame(mutableServiceConfig, ((Config) mutableConfig).subset("service."));
+        assertSame(
+                mutableConfig.subset("service.db."),
+                mutableServiceConfig.subset("db."));
+    }
+
+    /**
+     * Test method for {@link MutableConfig#subset(String)} removals.
+     */
+    @Test
+    void testMutableSubsetRemove() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("db.host", "localhost");
+        values.put("db.port", "5432");
+        values.put("db.user", "admin");
+        values.put("user", "other");
+        final WatchableConfig config = Config.fromProperties()
+                .add(values)
+                .mutable()
+                .build();
+        final MutableConfig dbConfig = config.subset("db.");
+        dbConfig.remove("host", "user");
+        assertFalse(config.contains("db.host"));
+        assertFalse(config.contains("db.user"));
+        assertTrue(config.contains("db.port"));
+        assertTrue(config.contains("user"));
+        dbConfig.set("port", 5433);
+        assertEquals(5433, config.getInteger("db.port"));
+        dbConfig.set("ssl", true);
+        assertEquals(true, config.getBoolean("db.ssl"));
+        dbConfig.set("timeout", 10L);
+        assertEquals(10L, config.getLong("db.timeout"));
+    }
+
+    /**
+     * Test method for {@link WatchabeConfig#subset(String)} events of
+     * properties outside the subset.
+     */
+    @Test
+    void testWatchabeSubsetOutsideChanges() {
+        final WatchableConfig config = Config.fromProperties()
+                .mutable()
+                .build();
+        final WatchableConfig serviceConfig = config.subset("service.");
+        final HashSet<Set<String>> events = new HashSet<>();
+        serviceConfig.addListener((cfg, props) -> events.add(props));
+        config.set("debug", true);
+        assertTrue(events.isEmpty());
+        config.set("service.debug", true);
+        assertEquals(Set.of(Set.of("debug")), events);
+    }
+
+    /**
+     * Test method for {@link Config#subset(String)} with precompiled keys.
+     */
+    @Test
+    void testSubsetConfigKey() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("db.host", "localhost");
+        values.put("db.timeout", "5s");
+        values.put("alt.host", "example.org");
+        final Config config = Config.fromJson()
+                .add(values)
+                .build();
+        final ConfigKey hostKey = ConfigKey.of("host");
+        final Config dbConfig = config.subset("db.");
+        final Config altConfig = config.subset("alt.");
+        for (int i = 0; i < 2; i++) {
+            assertTrue(dbConfig.containsKey(hostKey));
+            assertEquals("localhost", dbConfig.getValue(hostKey));
+            assertEquals("example.org", altConfig.getValue(hostKey));
+            assertFalse(dbConfig.containsKey(ConfigKey.of("port")));
+            assertEquals(
+                    Duration.ofSeconds(5),
+                    dbConfig.getValue(ConfigKey.of("timeout"), Duration.class));
+        }
+        assertEquals("localhost", config.getValue(ConfigKey.of("db.host")));
+    }
+
     interface DatabaseConfig extends Config {
         default String getHost() {
             return get("host");
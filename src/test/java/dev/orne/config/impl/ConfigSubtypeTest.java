@@ -278,6 +278,31 @@ class ConfigSubtypeTest {
         assertThrows(CustomError.class, configProxy::throwError);
     }
 
+    /**
+     * Test method for {@link Config#as(Config, Class)} with cached
+     * interface validation and method invokers.
+     */
+    @Test
+    void testRepeatedProxies() {
+        final Properties properties = new Properties();
+        properties.setProperty(VALUE_PROP, "testValue");
+        properties.setProperty(INT_VALUE_PROP, "5");
+        final Config config = Config.fromProperties()
+                .add(properties)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ConfigException.class, () -> {
+                Config.as(config, IncompleteConfigSubtype.class);
+            });
+            final ArgsConfigSubtype configProxy = Config.as(config, ArgsConfigSubtype.class);
+            assertEquals(8, configProxy.addToIntValue(3));
+            assertEquals("testValue", configProxy.getOrDefault(VALUE_PROP, "other"));
+            assertEquals("other", configProxy.getOrDefault("missing.prop", "other"));
+            assertEquals("default", configProxy.get("missing.prop", "default"));
+            configProxy.noop();
+        }
+    }
+
     /**
      * Test method for {@link Config#as(Config, Class)} when instance
      * is already of the requested type.
@@ -381,6 +406,18 @@ class ConfigSubtypeTest {
         }
     }
 
+    interface ArgsConfigSubtype extends Config {
+        default int addToIntValue(int value) {
+            return getInteger(INT_VALUE_PROP) + value;
+        }
+        default String getOrDefault(String key, String defaultValue) {
+            return get(key, defaultValue);
+        }
+        default void noop() {
+            // No operation
+        }
+    }
+
     interface LambdaConfigSubtype extends Config {
         default String getLambdaValue() {
             return get("missing.prop", () -> get(VALUE_PROP));
@@ -0,0 +1,412 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigException;
+import dev.orne.config.ConfigProvider;
+import dev.orne.config.ConfigurableConstructor;
+import dev.orne.config.ConfigurableProperty;
+import dev.orne.config.Configurer;
+
+/**
+ * Unit tests for {@code ConfigurerImpl.bind()}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see ConfigurableConstructorPlan
+ * @see ConfigurableComponentBinding
+ */
+@Tag("ut")
+class ConfigurerImplBindTest {
+
+    private static final String RECORD_SOURCE =
+            "package sample;\n"
+            + "public record Limits(int max, java.util.List<String> names) {}\n";
+
+    private @TempDir Path tempDir;
+
+    /**
+     * Creates a new configurer.
+     * 
+     * @param config The default configuration.
+     * @return The configurer.
+     */
+    private static ConfigurerImpl createConfigurer(
+            final Config config) {
+        return new ConfigurerImpl(ConfigProvider.builder(config).build());
+    }
+
+    /**
+     * Creates a configuration with the specified properties.
+     * 
+     * @param properties The configuration properties, as key value pairs.
+     * @return The configuration.
+     */
+    private static Config createConfig(
+            final String... properties) {
+        final Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            values.put(properties[i], properties[i + 1]);
+        }
+        return Config.fromProperties().add(values).build();
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)}.
+     */
+    @Test
+    void testBind() {
+        final Config config = createConfig(
+                "host", "localhost",
+                "port", "8080",
+                "timeout", "5s",
+                "tags", "a, b",
+                "limits.read", "10",
+                "limits.write", "20",
+                "primary.url", "http://primary",
+                "primary.weight", "3",
+                "replicas.0.url", "http://replica0",
+                "replicas.1.url", "http://replica1",
+                "replicas.1.weight", "2");
+        final ConfigurerImpl configurer = createConfigurer(config);
+        
+        final ServerSettings result = configurer.bind(config, ServerSettings.class);
+        
+        assertEquals("localhost", result.getHost());
+        assertEquals(8080, result.getPort());
+        assertEquals(Duration.ofSeconds(5), result.getTimeout());
+        assertEquals(Arrays.asList("a", "b"), result.getTags());
+        final Map<String, Integer> expectedLimits = new HashMap<>();
+        expectedLimits.put("read", 10);
+        expectedLimits.put("write", 20);
+        assertEquals(expectedLimits, result.getLimits());
+        assertNotNull(result.getPrimary());
+        assertEquals("http://primary", result.getPrimary().getUrl());
+        assertEquals(3, result.getPrimary().getWeight());
+        assertEquals(2, result.getReplicas().size());
+        assertEquals("http://replica0", result.getReplicas().get(0).getUrl());
+        assertEquals(0, result.getReplicas().get(0).getWeight());
+        assertEquals("http://replica1", result.getReplicas().get(1).getUrl());
+        assertEquals(2, result.getReplicas().get(1).getWeight());
+        assertThrows(UnsupportedOperationException.class, () -> result.getTags().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getLimits().clear());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)} with
+     * missing configuration properties.
+     */
+    @Test
+    void testBindMissing() {
+        final Config config = createConfig("other", "value");
+        final ConfigurerImpl configurer = createConfigurer(config);
+        
+        final ServerSettings result = configurer.bind(config, ServerSettings.class);
+        
+        assertNull(result.getHost());
+        assertEquals(0, result.getPort());
+        assertNull(result.getTimeout());
+        assertEquals(Collections.emptyList(), result.getTags());
+        assertEquals(Collections.emptyMap(), result.getLimits());
+        assertNull(result.getPrimary());
+        assertEquals(Collections.emptyList(), result.getReplicas());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)} with
+     * configuration subsets and indexed lists.
+     */
+    @Test
+    void testBindSubset() {
+        final Config config = createConfig(
+                "server.host", "localhost",
+                "server.tags.10", "c",
+                "server.tags.2", "b",
+                "server.tags.0", "a",
+                "server.tags.x", "ignored",
+                "other.host", "other");
+        final ConfigurerImpl configurer = createConfigurer(config);
+        
+        final ServerSettings result = configurer.bind(config.subset("server."), ServerSettings.class);
+        
+        assertEquals("localhost", result.getHost());
+        assertEquals(Arrays.asList("a", "b", "c"), result.getTags());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)} with
+     * configurations that cannot iterate over their keys.
+     */
+    @Test
+    void testBindNotIterable() {
+        final Map<String, String> values = new HashMap<>();
+        values.put("host", "localhost");
+        values.put("tags", "a,b");
+        values.put("limits.read", "10");
+        values.put("primary.url", "http://primary");
+        final Config config = values::get;
+        final ConfigurerImpl configurer = createConfigurer(config);
+        
+        final ServerSettings result = configurer.bind(config, ServerSettings.class);
+        
+        assertEquals("localhost", result.getHost());
+        assertEquals(Arrays.asList("a", "b"), result.getTags());
+        assertEquals(Collections.emptyMap(), result.getLimits());
+        assertEquals("http://primary", result.getPrimary().getUrl());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#getConstructorPlan(Class)}.
+     */
+    @Test
+    void testGetConstructorPlan() {
+        final ConfigurerImpl configurer = createConfigurer(createConfig());
+        
+        final ConfigurableConstructorPlan plan = configurer.getConstructorPlan(ServerSettings.class);
+        
+        assertSame(plan, configurer.getConstructorPlan(ServerSettings.class));
+        assertSame(ServerSettings.class, plan.getType());
+        assertTrue(plan.isKeysRequired());
+        assertEquals(7, plan.getComponents().size());
+        assertEquals("host", plan.getComponents().get(0).getKey());
+        assertEquals(ConfigurableComponentBinding.Kind.VALUE, plan.getComponents().get(0).getKind());
+        assertEquals(ConfigurableComponentBinding.Kind.LIST, plan.getComponents().get(3).getKind());
+        assertEquals(ConfigurableComponentBinding.Kind.MAP, plan.getComponents().get(4).getKind());
+        assertEquals(ConfigurableComponentBinding.Kind.NESTED, plan.getComponents().get(5).getKind());
+        assertSame(Endpoint.class, plan.getComponents().get(6).getNestedType());
+        assertFalse(configurer.getConstructorPlan(Endpoint.class).isKeysRequired());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)} with
+     * not supported types.
+     */
+    @Test
+    void testBindUnsupported() {
+        final Config config = createConfig();
+        final ConfigurerImpl configurer = createConfigurer(config);
+        
+        assertThrows(ConfigException.class, () -> configurer.bind(config, Object.class));
+        assertThrows(ConfigException.class, () -> configurer.bind(config, MultipleConstructors.class));
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)} with
+     * failing constructors.
+     */
+    @Test
+    void testBindConstructorError() {
+        final Config config = createConfig("url", "http://primary", "weight", "-1");
+        final ConfigurerImpl configurer = createConfigurer(config);
+        
+        final ConfigException result = assertThrows(ConfigException.class,
+                () -> configurer.bind(config, Endpoint.class));
+        assertInstanceOf(IllegalArgumentException.class, result.getCause());
+    }
+
+    /**
+     * Test method for {@link Configurer#bind(Config, Class)} default
+     * implementation.
+     */
+    @Test
+    void testBindDefault() {
+        final Configurer configurer = bean -> { };
+        final Config config = createConfig(
+                "url", "http://primary",
+                "weight", "3");
+        
+        final Endpoint result = configurer.bind(config, Endpoint.class);
+        
+        assertEquals("http://primary", result.getUrl());
+        assertEquals(3, result.getWeight());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#bind(Config, Class)} with
+     * records.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testBindRecord()
+    throws Exception {
+        assumeTrue(Runtime.version().feature() >= 16, "Records not supported");
+        final Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        final Path source = sources.resolve("Limits.java");
+        Files.write(source, RECORD_SOURCE.getBytes(StandardCharsets.UTF_8));
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler);
+        assertEquals(0, compiler.run(null, null, null,
+                "-d", classes.toString(),
+                source.toString()));
+        final Config config = createConfig("max", "5", "names", "a,b");
+        final ConfigurerImpl configurer = createConfigurer(config);
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { classes.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Class<?> type = loader.loadClass("sample.Limits");
+            assertTrue(ConfigurableConstructorPlan.isRecord(type));
+            
+            final Object result = configurer.bind(config, type);
+            
+            final Method max = type.getMethod("max");
+            final Method names = type.getMethod("names");
+            assertEquals(5, max.invoke(result));
+            assertEquals(Arrays.asList("a", "b"), names.invoke(result));
+        }
+    }
+
+    /**
+     * Test method for {@link ConfigurableConstructorPlan#isRecord(Class)}.
+     */
+    @Test
+    void testIsRecord() {
+        assertFalse(ConfigurableConstructorPlan.isRecord(Endpoint.class));
+        assertTrue(ConfigurableConstructorPlan.isBindable(Endpoint.class));
+        assertFalse(ConfigurableConstructorPlan.isBindable(Object.class));
+    }
+
+    public static class ServerSettings {
+
+        private final String host;
+        private final int port;
+        private final Duration timeout;
+        private final List<String> tags;
+        private final Map<String, Integer> limits;
+        private final Endpoint primary;
+        private final List<Endpoint> replicas;
+
+        @ConfigurableConstructor
+        public ServerSettings(
+                @ConfigurableProperty("host") final String host,
+                @ConfigurableProperty("port") final int port,
+                @ConfigurableProperty("timeout") final Duration timeout,
+                @ConfigurableProperty("tags") final List<String> tags,
+                @ConfigurableProperty("limits") final Map<String, Integer> limits,
+                @ConfigurableProperty("primary") final Endpoint primary,
+                @ConfigurableProperty("replicas") final List<Endpoint> replicas) {
+            this.host = host;
+            this.port = port;
+            this.timeout = timeout;
+            this.tags = tags;
+            this.limits = limits;
+            this.primary = primary;
+            this.replicas = replicas;
+        }
+
+        public String getHost() {
+            return this.host;
+        }
+
+        public int getPort() {
+            return this.port;
+        }
+
+        public Duration getTimeout() {
+            return this.timeout;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public Map<String, Integer> getLimits() {
+            return this.limits;
+        }
+
+        public Endpoint getPrimary() {
+            return this.primary;
+        }
+
+        public List<Endpoint> getReplicas() {
+            return this.replicas;
+        }
+    }
+
+    public static class Endpoint {
+
+        private final String url;
+        private final int weight;
+
+        @ConfigurableConstructor
+        public Endpoint(
+                @ConfigurableProperty("url") final String url,
+                @ConfigurableProperty("weight") final int weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight");
+            }
+            this.url = url;
+            this.weight = weight;
+        }
+
+        public String getUrl() {
+            return this.url;
+        }
+
+        public int getWeight() {
+            return this.weight;
+        }
+    }
+
+    public static class MultipleConstructors {
+
+        @ConfigurableConstructor
+        public MultipleConstructors(
+                @ConfigurableProperty("a") final String a) {
+            // No op
+        }
+
+        @ConfigurableConstructor
+        public MultipleConstructors(
+                @ConfigurableProperty("a") final int a) {
+            // No op
+        }
+    }
+}
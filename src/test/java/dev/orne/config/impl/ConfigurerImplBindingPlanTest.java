@@ -0,0 +1,550 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.jspecify.annotations.Nullable;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigProvider;
+import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurableBinder;
+import dev.orne.config.ConfigurableProperty;
+import dev.orne.config.ConfigurationOptions;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.PreferredConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code ConfigurerImpl} configuration plans.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see ConfigurableBindingPlan
+ * @see ConfigurablePropertyBinding
+ */
+@Tag("ut")
+class ConfigurerImplBindingPlanTest {
+
+    private static final String TEST_INT_KEY = "test.plan.int";
+    private static final String TEST_STRING_KEY = "test.plan.string";
+    private static final String TEST_PROTECTED_KEY = "test.plan.protected";
+    private static final String TEST_SUB_KEY = "test.plan.sub";
+    private static final String TEST_ARRAY_KEY = "test.plan.array";
+
+    protected @Mock ConfigProvider configProvider;
+    protected @Mock Config config;
+
+    /**
+     * Initializes the mocks used in the tests.
+     */
+    @BeforeEach
+    void initMocks() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#getBindingPlan(Class)}.
+     */
+    @Test
+    void testGetBindingPlan() {
+        final CountingConfigurer configurer = new CountingConfigurer(configProvider);
+        
+        final ConfigurableBindingPlan plan = configurer.getBindingPlan(PlanSubTestBean.class);
+        
+        assertSame(plan, configurer.getBindingPlan(PlanSubTestBean.class));
+        assertEquals(1, configurer.getCompiledPlans());
+        assertNotNull(plan.getPreferences());
+        assertArrayEquals(new Class<?>[] { Config.class }, plan.getPreferences().value());
+        assertNotNull(plan.getOptions());
+        assertTrue(plan.isConfigureProperties());
+        assertTrue(plan.isConfigureNestedBeans());
+        final Map<String, ConfigurablePropertyBinding> bindings = new HashMap<>();
+        for (final ConfigurablePropertyBinding binding : plan.getProperties()) {
+            bindings.put(binding.getKey(), binding);
+        }
+        assertEquals(4, bindings.size());
+        assertTrue(bindings.get(TEST_INT_KEY).hasSetter());
+        assertTrue(bindings.get(TEST_STRING_KEY).hasSetter());
+        assertFalse(bindings.get(TEST_PROTECTED_KEY).hasSetter());
+        assertTrue(bindings.get(TEST_SUB_KEY).hasSetter());
+        assertThrows(UnsupportedOperationException.class, () -> plan.getProperties().clear());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#getBindingPlan(Class)} for
+     * classes without annotations.
+     */
+    @Test
+    void testGetBindingPlanNoAnnotations() {
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        final ConfigurableBindingPlan plan = configurer.getBindingPlan(PlanEmptyTestBean.class);
+        
+        assertNull(plan.getPreferences());
+        assertNull(plan.getOptions());
+        assertTrue(plan.isConfigureProperties());
+        assertFalse(plan.isConfigureNestedBeans());
+        assertTrue(plan.getProperties().isEmpty());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#getBindingPlan(Class)} with
+     * different instances.
+     */
+    @Test
+    void testGetBindingPlanPerInstance() {
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final ConfigurerImpl other = new ConfigurerImpl(configProvider);
+        
+        assertNotSame(
+                configurer.getBindingPlan(PlanSubTestBean.class),
+                other.getBindingPlan(PlanSubTestBean.class));
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)}
+     * with cached plans.
+     */
+    @Test
+    void testConfigurePropertiesCachedPlan() {
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("10", "20");
+        given(config.contains(TEST_STRING_KEY)).willReturn(true);
+        given(config.get(TEST_STRING_KEY)).willReturn("a", "b");
+        given(config.contains(TEST_PROTECTED_KEY)).willReturn(true);
+        given(config.get(TEST_PROTECTED_KEY)).willReturn("30");
+        given(config.contains(TEST_SUB_KEY)).willReturn(true);
+        given(config.get(TEST_SUB_KEY)).willReturn("true", "false");
+        final CountingConfigurer configurer = new CountingConfigurer(configProvider);
+        final PlanSubTestBean bean1 = new PlanSubTestBean();
+        final PlanSubTestBean bean2 = new PlanSubTestBean();
+        
+        configurer.configureProperties(bean1, config);
+        configurer.configureProperties(bean2, config);
+        
+        assertEquals(10, bean1.getIntProp());
+        assertEquals("a", bean1.getStringProp());
+        assertEquals(-1, bean1.getProtectedProp());
+        assertTrue(bean1.isSubProp());
+        assertEquals(20, bean2.getIntProp());
+        assertEquals("b", bean2.getStringProp());
+        assertEquals(-1, bean2.getProtectedProp());
+        assertFalse(bean2.isSubProp());
+        assertEquals(1, configurer.getCompiledPlans());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#prepare(Class)}.
+     */
+    @Test
+    void testPrepare() {
+        given(configProvider.selectConfig(any())).willReturn(config);
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("10", "20");
+        given(config.contains(TEST_STRING_KEY)).willReturn(true);
+        given(config.get(TEST_STRING_KEY)).willReturn("a", "b");
+        given(config.contains(TEST_PROTECTED_KEY)).willReturn(false);
+        given(config.contains(TEST_SUB_KEY)).willReturn(true);
+        given(config.get(TEST_SUB_KEY)).willReturn("true", "false");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        configurer.prepareAll(Arrays.asList(
+                PlanSubTestBean.class,
+                PlanSubTestBean.class,
+                Object.class));
+        then(config).should(times(1)).get(TEST_INT_KEY);
+        then(config).should(times(1)).get(TEST_STRING_KEY);
+        then(config).should(times(1)).get(TEST_SUB_KEY);
+        final PlanSubTestBean bean1 = new PlanSubTestBean();
+        final PlanSubTestBean bean2 = new PlanSubTestBean();
+        configurer.configureProperties(bean1, config);
+        configurer.configureProperties(bean2, config);
+        then(config).should(times(1)).get(TEST_INT_KEY);
+        then(config).should(times(1)).get(TEST_STRING_KEY);
+        then(config).should(times(1)).get(TEST_SUB_KEY);
+        
+        assertEquals(10, bean1.getIntProp());
+        assertEquals("a", bean1.getStringProp());
+        assertEquals(-1, bean1.getProtectedProp());
+        assertTrue(bean1.isSubProp());
+        assertEquals(10, bean2.getIntProp());
+        assertEquals("a", bean2.getStringProp());
+        assertEquals(-1, bean2.getProtectedProp());
+        assertTrue(bean2.isSubProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#prepare(Class)} with values of
+     * mutable types.
+     */
+    @Test
+    void testPrepareMutableValues() {
+        given(configProvider.selectConfig(any())).willReturn(config);
+        given(config.contains(TEST_ARRAY_KEY)).willReturn(true);
+        given(config.get(TEST_ARRAY_KEY)).willReturn("a,b");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        configurer.prepare(PlanArrayTestBean.class);
+        final PlanArrayTestBean bean1 = new PlanArrayTestBean();
+        final PlanArrayTestBean bean2 = new PlanArrayTestBean();
+        configurer.configureProperties(bean1, config);
+        configurer.configureProperties(bean2, config);
+        then(config).should(times(3)).get(TEST_ARRAY_KEY);
+        
+        assertArrayEquals(new String[] { "a", "b" }, bean1.getArrayProp());
+        assertArrayEquals(new String[] { "a", "b" }, bean2.getArrayProp());
+        assertNotSame(bean1.getArrayProp(), bean2.getArrayProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#prepare(Class)} with watchable
+     * configuration changes.
+     */
+    @Test
+    void testPrepareWatchableConfig() {
+        final WatchableConfig watchableConfig = mock(WatchableConfig.class);
+        given(configProvider.selectConfig(any())).willReturn(watchableConfig);
+        given(watchableConfig.contains(TEST_INT_KEY)).willReturn(true);
+        given(watchableConfig.get(TEST_INT_KEY)).willReturn("10", "20", "30");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        configurer.prepare(PlanSubTestBean.class);
+        configurer.prepare(PlanSubTestBean.class);
+        final ArgumentCaptor<WatchableConfig.Listener> listener =
+                ArgumentCaptor.forClass(WatchableConfig.Listener.class);
+        then(watchableConfig).should(times(1)).addListener(listener.capture());
+        final PlanSubTestBean bean1 = new PlanSubTestBean();
+        configurer.configureProperties(bean1, watchableConfig);
+        then(watchableConfig).should(times(2)).get(TEST_INT_KEY);
+        listener.getValue().configurationChanged(
+                watchableConfig,
+                Collections.singleton(TEST_INT_KEY));
+        final PlanSubTestBean bean2 = new PlanSubTestBean();
+        configurer.configureProperties(bean2, watchableConfig);
+        then(watchableConfig).should(times(3)).get(TEST_INT_KEY);
+        
+        assertEquals(20, bean1.getIntProp());
+        assertEquals(30, bean2.getIntProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#prepare(Class)} with mutable
+     * configuration.
+     */
+    @Test
+    void testPrepareMutableConfig() {
+        final MutableConfig mutableConfig = mock(MutableConfig.class);
+        given(configProvider.selectConfig(any())).willReturn(mutableConfig);
+        given(mutableConfig.contains(TEST_INT_KEY)).willReturn(true);
+        given(mutableConfig.get(TEST_INT_KEY)).willReturn("10");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        configurer.prepare(PlanSubTestBean.class);
+        then(mutableConfig).should(never()).get(any());
+        final PlanSubTestBean bean = new PlanSubTestBean();
+        configurer.configureProperties(bean, mutableConfig);
+        
+        assertEquals(10, bean.getIntProp());
+        then(mutableConfig).should(times(1)).get(TEST_INT_KEY);
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#prepare(Class)} when the bean is
+     * configured with a different configuration.
+     */
+    @Test
+    void testPrepareOtherConfig() {
+        final Config other = mock(Config.class);
+        given(configProvider.selectConfig(any())).willReturn(config);
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("10");
+        given(other.contains(TEST_INT_KEY)).willReturn(true);
+        given(other.get(TEST_INT_KEY)).willReturn("20");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        configurer.prepare(PlanSubTestBean.class);
+        final PlanSubTestBean bean = new PlanSubTestBean();
+        configurer.configureProperties(bean, other);
+        
+        assertEquals(20, bean.getIntProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperty(Object, java.lang.reflect.Field, Config)}.
+     * @throws NoSuchFieldException Shouldn't happen
+     */
+    @Test
+    void testConfigureProperty()
+    throws NoSuchFieldException {
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("10");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final PlanSubTestBean bean = new PlanSubTestBean();
+        
+        configurer.configureProperty(bean, PlanTestBean.class.getDeclaredField("intProp"), config);
+        
+        assertEquals(10, bean.getIntProp());
+        assertNull(bean.getStringProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)}
+     * with registered binder.
+     */
+    @Test
+    void testConfigurePropertiesBinder() {
+        @SuppressWarnings("unchecked")
+        final ConfigurableBinder<PlanSubTestBean> binder = mock(ConfigurableBinder.class);
+        given(binder.getBeanType()).willReturn(PlanSubTestBean.class);
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider) {
+            @Override
+            protected Map<Class<?>, ConfigurableBinder<?>> loadBinders() {
+                return Collections.singletonMap(PlanSubTestBean.class, binder);
+            }
+        };
+        final PlanSubTestBean bean = new PlanSubTestBean();
+        final PlanTestBean superBean = new PlanTestBean();
+        
+        assertSame(binder, configurer.getBindingPlan(PlanSubTestBean.class).getBinder());
+        assertNull(configurer.getBindingPlan(PlanTestBean.class).getBinder());
+        configurer.configureProperties(bean, config);
+        configurer.configureProperties(superBean, config);
+        
+        then(binder).should(times(1)).bind(same(bean), same(config), notNull());
+        then(binder).should(times(1)).bind(any(), any(), any());
+        then(config).should(times(3)).contains(anyString());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)}
+     * with overridden property configuration hooks.
+     */
+    @Test
+    void testConfigurePropertiesOverriddenHooks() {
+        given(configProvider.selectConfig(any())).willReturn(config);
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("10");
+        given(config.contains(TEST_STRING_KEY)).willReturn(true);
+        given(config.get(TEST_STRING_KEY)).willReturn("a");
+        final List<String> setProperties = new ArrayList<>();
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider) {
+            @Override
+            protected Collection<Field> scanConfigurableProperties(
+                    final Class<?> targetClass) {
+                final Collection<Field> result = super.scanConfigurableProperties(targetClass);
+                result.removeIf(field -> field.getName().equals("subProp"));
+                return result;
+            }
+            @Override
+            protected <T> @Nullable T convertValue(
+                    final @Nullable String value,
+                    final Class<T> type) {
+                if (type == String.class) {
+                    return type.cast("Converted: " + value);
+                }
+                return super.convertValue(value, type);
+            }
+            @Override
+            protected void setPropertyValue(
+                    final Object bean,
+                    final Field field,
+                    final @Nullable Object value) {
+                setProperties.add(field.getName());
+                super.setPropertyValue(bean, field, value);
+            }
+        };
+        configurer.prepare(PlanSubTestBean.class);
+        then(config).should(never()).get(any());
+        final PlanSubTestBean bean = new PlanSubTestBean();
+        
+        configurer.configureProperties(bean, config);
+        
+        assertEquals(10, bean.getIntProp());
+        assertEquals("Converted: a", bean.getStringProp());
+        assertFalse(bean.isSubProp());
+        assertTrue(setProperties.containsAll(Arrays.asList("intProp", "stringProp")));
+        then(config).should(never()).contains(TEST_SUB_KEY);
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)}
+     * with overridden {@code configureProperty()}.
+     */
+    @Test
+    void testConfigurePropertiesOverriddenConfigureProperty() {
+        @SuppressWarnings("unchecked")
+        final ConfigurableBinder<PlanSubTestBean> binder = mock(ConfigurableBinder.class);
+        given(binder.getBeanType()).willReturn(PlanSubTestBean.class);
+        final List<String> configuredProperties = new ArrayList<>();
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider) {
+            @Override
+            protected Map<Class<?>, ConfigurableBinder<?>> loadBinders() {
+                return Collections.singletonMap(PlanSubTestBean.class, binder);
+            }
+            @Override
+            protected void configureProperty(
+                    final Object bean,
+                    final Field field,
+                    final Config config) {
+                configuredProperties.add(field.getName());
+            }
+        };
+        final PlanSubTestBean bean = new PlanSubTestBean();
+        
+        configurer.configureProperties(bean, config);
+        
+        assertEquals(4, configuredProperties.size());
+        assertTrue(configuredProperties.containsAll(Arrays.asList(
+                "intProp", "stringProp", "protectedProp", "subProp")));
+        then(binder).should(never()).bind(any(), any(), any());
+        then(config).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#loadBinders()}.
+     */
+    @Test
+    void testLoadBinders() {
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        
+        assertTrue(configurer.getBinders().isEmpty());
+        assertSame(configurer.getBinders(), configurer.getBinders());
+    }
+
+    public static class PlanEmptyTestBean
+    implements Configurable {
+        private boolean configured;
+        @Override
+        public void configure(Config config) {
+            this.configured = true;
+        }
+        @Override
+        public boolean isConfigured() {
+            return this.configured;
+        }
+    }
+
+    public static class PlanTestBean
+    implements Configurable {
+        @ConfigurableProperty(TEST_INT_KEY)
+        private int intProp = -1;
+        @ConfigurableProperty(TEST_STRING_KEY)
+        private String stringProp;
+        @ConfigurableProperty(TEST_PROTECTED_KEY)
+        private int protectedProp = -1;
+        private boolean configured;
+        @Override
+        public void configure(Config config) {
+            this.configured = true;
+        }
+        @Override
+        public boolean isConfigured() {
+            return this.configured;
+        }
+        public int getIntProp() {
+            return intProp;
+        }
+        public void setIntProp(int intProp) {
+            this.intProp = intProp;
+        }
+        public String getStringProp() {
+            return stringProp;
+        }
+        public void setStringProp(String stringProp) {
+            this.stringProp = stringProp;
+        }
+        protected int getProtectedProp() {
+            return protectedProp;
+        }
+        protected void setProtectedProp(int protectedProp) {
+            this.protectedProp = protectedProp;
+        }
+    }
+
+    @PreferredConfig(Config.class)
+    @ConfigurationOptions(configureNestedBeans=true)
+    public static class PlanSubTestBean
+    extends PlanTestBean {
+        @ConfigurableProperty(TEST_SUB_KEY)
+        private boolean subProp;
+        public boolean isSubProp() {
+            return subProp;
+        }
+        public void setSubProp(boolean subProp) {
+            this.subProp = subProp;
+        }
+    }
+
+    public static class PlanArrayTestBean
+    implements Configurable {
+        @ConfigurableProperty(TEST_ARRAY_KEY)
+        private String[] arrayProp;
+        @Override
+        public void configure(Config config) {
+            // No operation
+        }
+        public String[] getArrayProp() {
+            return arrayProp;
+        }
+        public void setArrayProp(String[] arrayProp) {
+            this.arrayProp = arrayProp;
+        }
+    }
+
+    private static class CountingConfigurer
+    extends ConfigurerImpl {
+        private int compiledPlans;
+        public CountingConfigurer(
+                final ConfigProvider configProvider) {
+            super(configProvider);
+        }
+        @Override
+        protected ConfigurableBindingPlan createBindingPlan(
+                final Class<?> targetClass) {
+            this.compiledPlans++;
+            return super.createBindingPlan(targetClass);
+        }
+        public int getCompiledPlans() {
+            return this.compiledPlans;
+        }
+    }
+}
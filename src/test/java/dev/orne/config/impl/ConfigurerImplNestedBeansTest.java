@@ -1,6 +1,6 @@
 package dev.orne.config.impl;
 
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.*;
 
 /*-
  * #%L
@@ -26,15 +26,22 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 import static org.mockito.BDDMockito.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigProvider;
 import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurationOptions;
 import dev.orne.config.Configurer;
 
 /**
@@ -152,6 +159,139 @@ class ConfigurerImplNestedBeansTest {
         then(configurer).should(times(1)).configure(nestedBean2);
     }
 
+    /**
+     * Test method for {@link ConfigurerImpl#canHoldConfigurable(Class)}.
+     */
+    @Test
+    void testCanHoldConfigurable() {
+        assertTrue(ConfigurerImpl.canHoldConfigurable(Configurable.class));
+        assertTrue(ConfigurerImpl.canHoldConfigurable(NestedBeansTestBean.class));
+        assertTrue(ConfigurerImpl.canHoldConfigurable(Object.class));
+        assertTrue(ConfigurerImpl.canHoldConfigurable(Runnable.class));
+        assertTrue(ConfigurerImpl.canHoldConfigurable(ArrayList.class));
+        assertFalse(ConfigurerImpl.canHoldConfigurable(int.class));
+        assertFalse(ConfigurerImpl.canHoldConfigurable(Integer.class));
+        assertFalse(ConfigurerImpl.canHoldConfigurable(String.class));
+        assertFalse(ConfigurerImpl.canHoldConfigurable(TimeUnit.class));
+        assertFalse(ConfigurerImpl.canHoldConfigurable(Configurable[].class));
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#scanNestedComponents(Object)}.
+     */
+    @Test
+    void testScanNestedComponents() {
+        final Configurable nestedBean1 = mock(Configurable.class, "bean1");
+        final Configurable nestedBean2 = mock(Configurable.class, "bean2");
+        final Configurable publicBean = mock(Configurable.class, "public");
+        final Configurable hiddenBean = mock(Configurable.class, "hidden");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final NestedBeansAccessTestBean bean = new NestedBeansAccessTestBean();
+        bean.setNestedBean1(nestedBean1);
+        bean.setNestedBean2(nestedBean2);
+        bean.publicBean = publicBean;
+        bean.hiddenBean = hiddenBean;
+        bean.object = nestedBean1;
+        
+        final Collection<Configurable> result = configurer.scanNestedComponents(bean);
+        
+        assertEquals(4, result.size());
+        assertTrue(result.contains(nestedBean1));
+        assertTrue(result.contains(nestedBean2));
+        assertTrue(result.contains(publicBean));
+        assertTrue(result.contains(hiddenBean));
+        final ConfigurableBindingPlan plan = configurer.getBindingPlan(NestedBeansAccessTestBean.class);
+        final List<String> names = new ArrayList<>();
+        for (final ConfigurableNestedBinding binding : plan.getNestedBeans()) {
+            names.add(binding.getField().getName());
+        }
+        assertEquals(5, names.size());
+        assertTrue(names.contains("object"));
+        assertTrue(names.contains("hiddenBean"));
+        assertTrue(names.contains("publicBean"));
+        assertTrue(names.contains("nestedBean1"));
+        assertTrue(names.contains("nestedBean2"));
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configure(Configurable)} for
+     * nested beans graphs with cycles.
+     */
+    @Test
+    void testConfigureNestedBeansCycle() {
+        given(configProvider.selectConfig(any())).willReturn(config);
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final NestedBeansNodeTestBean bean1 = new NestedBeansNodeTestBean();
+        final NestedBeansNodeTestBean bean2 = new NestedBeansNodeTestBean();
+        final NestedBeansNodeTestBean bean3 = new NestedBeansNodeTestBean();
+        bean1.setNext(bean2);
+        bean1.setOther(bean3);
+        bean2.setNext(bean3);
+        bean3.setNext(bean1);
+        
+        configurer.configure(bean1);
+        
+        assertEquals(1, bean1.getConfigurations());
+        assertEquals(1, bean2.getConfigurations());
+        assertEquals(1, bean3.getConfigurations());
+        
+        configurer.configure(bean2);
+        
+        assertEquals(2, bean1.getConfigurations());
+        assertEquals(2, bean2.getConfigurations());
+        assertEquals(2, bean3.getConfigurations());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configure(Configurable)} for
+     * the configuration order of nested beans.
+     */
+    @Test
+    void testConfigureNestedBeansOrder() {
+        given(configProvider.selectConfig(any())).willReturn(config);
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final Configurable deepBean = mock(Configurable.class, "deep");
+        final Configurable siblingBean = mock(Configurable.class, "sibling");
+        final NestedBeansOrderTestBean childBean = new NestedBeansOrderTestBean();
+        childBean.setNestedBean1(deepBean);
+        final NestedBeansOrderTestBean bean = new NestedBeansOrderTestBean();
+        bean.setNestedBean1(childBean);
+        bean.setNestedBean2(siblingBean);
+        
+        configurer.configure(bean);
+        
+        assertTrue(childBean.isConfigured());
+        final InOrder order = inOrder(deepBean, siblingBean);
+        then(deepBean).should(order).configure(config);
+        then(siblingBean).should(order).configure(config);
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configure(Configurable)} for
+     * deep nested beans graphs.
+     */
+    @Test
+    void testConfigureDeepNestedBeans() {
+        given(configProvider.selectConfig(any())).willReturn(config);
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final List<NestedBeansNodeTestBean> beans = new ArrayList<>();
+        final NestedBeansNodeTestBean root = new NestedBeansNodeTestBean();
+        beans.add(root);
+        NestedBeansNodeTestBean current = root;
+        for (int i = 0; i < 50000; i++) {
+            final NestedBeansNodeTestBean next = new NestedBeansNodeTestBean();
+            current.setNext(next);
+            beans.add(next);
+            current = next;
+        }
+        
+        configurer.configure(root);
+        
+        for (final NestedBeansNodeTestBean bean : beans) {
+            assertEquals(1, bean.getConfigurations());
+        }
+    }
+
     public static class NestedBeansTestBean
     implements Configurable {
         private Configurable nestedBean1;
@@ -178,4 +318,59 @@ class ConfigurerImplNestedBeansTest {
             this.nestedBean2 = nestedBean2;
         }
     }
+
+    public static class NestedBeansAccessTestBean
+    extends NestedBeansTestBean {
+        private Object object;
+        private Configurable hiddenBean;
+        public Configurable publicBean;
+        private String name = "name";
+        private int count;
+        public Object getObject() {
+            return object;
+        }
+        public String getName() {
+            return name;
+        }
+        public int getCount() {
+            return count;
+        }
+    }
+
+    @ConfigurationOptions(configureNestedBeans=true)
+    public static class NestedBeansOrderTestBean
+    extends NestedBeansTestBean {
+        // Empty class
+    }
+
+    @ConfigurationOptions(configureNestedBeans=true)
+    public static class NestedBeansNodeTestBean
+    implements Configurable {
+        private NestedBeansNodeTestBean next;
+        private NestedBeansNodeTestBean other;
+        private int configurations;
+        @Override
+        public void configure(Config config) {
+            this.configurations++;
+        }
+        @Override
+        public boolean isConfigured() {
+            return false;
+        }
+        public NestedBeansNodeTestBean getNext() {
+            return next;
+        }
+        public void setNext(NestedBeansNodeTestBean next) {
+            this.next = next;
+        }
+        public NestedBeansNodeTestBean getOther() {
+            return other;
+        }
+        public void setOther(NestedBeansNodeTestBean other) {
+            this.other = other;
+        }
+        public int getConfigurations() {
+            return configurations;
+        }
+    }
 }
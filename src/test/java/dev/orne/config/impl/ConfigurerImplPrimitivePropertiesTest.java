@@ -37,6 +37,7 @@ import dev.orne.config.ConfigProvider;
 import dev.orne.config.Configurable;
 import dev.orne.config.ConfigurableProperty;
 import dev.orne.config.Configurer;
+import dev.orne.config.ValueConverterRegistry;
 
 /**
  * Unit tests for {@code ConfigurerImpl.configureProperties()}
@@ -266,6 +267,59 @@ class ConfigurerImplPrimitivePropertiesTest {
         assertNull(bean.getDoubleProp());
     }
 
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
+     * configured invalid values for primitive wrappers with the default
+     * BeanUtils value converter.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testConfigureWrapperPropertiesInvalid()
+    throws ConfigException {
+        given(config.contains(TEST_BOOL_KEY)).willReturn(true);
+        given(config.get(TEST_BOOL_KEY)).willReturn("invalid");
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("invalid");
+        given(config.contains(TEST_LONG_KEY)).willReturn(true);
+        given(config.get(TEST_LONG_KEY)).willReturn("invalid");
+        
+        final ConfigurerImpl configurer = assertInstanceOf(
+                ConfigurerImpl.class,
+                Configurer.fromProvider(configProvider));
+        final ConfigurableWrappersTestBean bean = new ConfigurableWrappersTestBean();
+        configurer.configureProperties(bean, config);
+        assertNull(bean.isBoolProp());
+        assertNull(bean.getIntProp());
+        assertNull(bean.getLongProp());
+        assertEquals(DEFAULT_SHORT_VALUE, bean.getShortProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
+     * configured invalid values for primitive wrappers with typed value
+     * converters.
+     * @throws ConfigException Shouldn't happen
+     */
+    @Test
+    void testConfigureWrapperPropertiesInvalidTypedConverters()
+    throws ConfigException {
+        given(config.contains(TEST_BOOL_KEY)).willReturn(true);
+        given(config.get(TEST_BOOL_KEY)).willReturn("invalid");
+        given(config.contains(TEST_INT_KEY)).willReturn(true);
+        given(config.get(TEST_INT_KEY)).willReturn("invalid");
+        given(config.contains(TEST_LONG_KEY)).willReturn(true);
+        given(config.get(TEST_LONG_KEY)).willReturn("invalid");
+        
+        final ConfigurerImpl configurer = new ConfigurerImpl(
+                configProvider,
+                ValueConverterRegistry.defaults());
+        final ConfigurableWrappersTestBean bean = new ConfigurableWrappersTestBean();
+        configurer.configureProperties(bean, config);
+        assertEquals(DEFAULT_BOOL_VALUE, bean.isBoolProp());
+        assertEquals(DEFAULT_INT_VALUE, bean.getIntProp());
+        assertEquals(DEFAULT_LONG_VALUE, bean.getLongProp());
+    }
+
     /**
      * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
      * unconfigured values for primitive wrappers.
@@ -0,0 +1,264 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigProvider;
+import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurableProperty;
+import dev.orne.config.DataSize;
+import dev.orne.config.ValueConverterRegistry;
+
+/**
+ * Unit tests for {@code ConfigurerImpl.configureProperties()}
+ * with typed properties.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class ConfigurerImplTypedPropertiesTest {
+
+    private static final String TEST_DURATION_KEY = "test.typed.duration";
+    private static final String TEST_SIZE_KEY = "test.typed.size";
+    private static final String TEST_ENUM_KEY = "test.typed.enum";
+    private static final String TEST_LIST_KEY = "test.typed.list";
+    private static final String TEST_ARRAY_KEY = "test.typed.array";
+
+    protected @Mock ConfigProvider configProvider;
+    protected @Mock Config config;
+
+    /**
+     * Initializes the mocks used in the tests.
+     */
+    @BeforeEach
+    void initMocks() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
+     * configured values for typed properties.
+     */
+    @Test
+    void testConfigureTypedProperties() {
+        given(config.contains(TEST_DURATION_KEY)).willReturn(true);
+        given(config.get(TEST_DURATION_KEY)).willReturn("30s");
+        given(config.contains(TEST_SIZE_KEY)).willReturn(true);
+        given(config.get(TEST_SIZE_KEY)).willReturn("4MB");
+        given(config.contains(TEST_ENUM_KEY)).willReturn(true);
+        given(config.get(TEST_ENUM_KEY)).willReturn("minutes");
+        given(config.contains(TEST_LIST_KEY)).willReturn(true);
+        given(config.get(TEST_LIST_KEY)).willReturn("1, 2, 3");
+        given(config.contains(TEST_ARRAY_KEY)).willReturn(true);
+        given(config.get(TEST_ARRAY_KEY)).willReturn("a,b");
+        final ConfigurerImpl configurer = new ConfigurerImpl(
+                configProvider,
+                ValueConverterRegistry.defaults());
+        final TypedTestBean bean = new TypedTestBean();
+        
+        configurer.configureProperties(bean, config);
+        
+        assertEquals(Duration.ofSeconds(30), bean.getDurationProp());
+        assertEquals(DataSize.ofMegabytes(4), bean.getSizeProp());
+        assertSame(TimeUnit.MINUTES, bean.getEnumProp());
+        assertEquals(Arrays.asList(1, 2, 3), bean.getListProp());
+        assertArrayEquals(new String[] { "a", "b" }, bean.getArrayProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
+     * configured values for typed properties with a custom registry.
+     */
+    @Test
+    void testConfigureTypedPropertiesCustomRegistry() {
+        given(config.contains(TEST_DURATION_KEY)).willReturn(true);
+        given(config.get(TEST_DURATION_KEY)).willReturn("30");
+        final ConfigurerImpl configurer = new ConfigurerImpl(
+                configProvider,
+                ValueConverterRegistry.defaults().with(
+                        Duration.class,
+                        value -> Duration.ofSeconds(Long.parseLong(value))));
+        final TypedTestBean bean = new TypedTestBean();
+        
+        configurer.configureProperties(bean, config);
+        
+        assertEquals(Duration.ofSeconds(30), bean.getDurationProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
+     * configured values for typed properties with the default BeanUtils
+     * value converter.
+     */
+    @Test
+    void testConfigureTypedPropertiesDefault() {
+        given(config.contains(TEST_DURATION_KEY)).willReturn(true);
+        given(config.get(TEST_DURATION_KEY)).willReturn("30s");
+        given(config.contains(TEST_ARRAY_KEY)).willReturn(true);
+        given(config.get(TEST_ARRAY_KEY)).willReturn("a,b");
+        final ConfigurerImpl configurer = new ConfigurerImpl(configProvider);
+        final TypedTestBean bean = new TypedTestBean();
+        
+        configurer.configureProperties(bean, config);
+        
+        assertNull(bean.getDurationProp());
+        assertArrayEquals(new String[] { "a", "b" }, bean.getArrayProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#configureProperties(Configurable, Config)} for
+     * configured {@code null} values for array properties.
+     */
+    @Test
+    void testConfigureNullArrayProperty() {
+        given(config.contains(TEST_ARRAY_KEY)).willReturn(true);
+        given(config.get(TEST_ARRAY_KEY)).willReturn(null);
+        final TypedTestBean bean = new TypedTestBean();
+        
+        new ConfigurerImpl(configProvider).configureProperties(bean, config);
+        
+        assertArrayEquals(new String[0], bean.getArrayProp());
+        
+        new ConfigurerImpl(configProvider, ValueConverterRegistry.defaults())
+                .configureProperties(bean, config);
+        
+        assertNull(bean.getArrayProp());
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#getValueConverter(Class)}.
+     */
+    @Test
+    void testGetValueConverter() {
+        final ConfigurerImpl configurer = new ConfigurerImpl(
+                configProvider,
+                ValueConverterRegistry.defaults());
+        
+        assertSame(configurer.getValueConverter(Duration.class), configurer.getValueConverter(Duration.class));
+        assertEquals(Integer.valueOf(5), configurer.getValueConverter(int.class).convert("5"));
+        assertEquals(
+                java.sql.Date.valueOf("2020-01-02"),
+                configurer.getValueConverter(java.sql.Date.class).convert("2020-01-02"));
+        assertNull(configurer.getValueConverter(StringBuilder.class).convert("a"));
+        assertNull(configurer.convertValue(null, Duration.class));
+        assertEquals(Duration.ofMillis(5), configurer.convertValue("5", Duration.class));
+    }
+
+    /**
+     * Test method for {@link ConfigurerImpl#getValueConverter(Class)} with
+     * custom BeanUtils value converter.
+     */
+    @Test
+    void testGetValueConverterBeanUtils() {
+        final ConfigurerImpl configurer = new ConfigurerImpl(
+                configProvider,
+                ConfigurerImpl.defaultConverter());
+        
+        assertEquals(Integer.valueOf(5), configurer.getValueConverter(int.class).convert("5"));
+        assertNull(configurer.getValueConverter(Duration.class).convert("5"));
+        assertNull(configurer.convertValue("invalid", Integer.class));
+        assertArrayEquals(new String[0], configurer.convertValue(null, String[].class));
+        assertNull(configurer.convertValue(null, Integer.class));
+    }
+
+    public static class TypedTestBean
+    implements Configurable {
+
+        @ConfigurableProperty(TEST_DURATION_KEY)
+        private Duration durationProp;
+        @ConfigurableProperty(TEST_SIZE_KEY)
+        private DataSize sizeProp;
+        @ConfigurableProperty(TEST_ENUM_KEY)
+        private TimeUnit enumProp;
+        @ConfigurableProperty(TEST_LIST_KEY)
+        private List<Integer> listProp;
+        @ConfigurableProperty(TEST_ARRAY_KEY)
+        private String[] arrayProp;
+
+        @Override
+        public void configure(final Config config) {
+            // No op
+        }
+
+        @Override
+        public boolean isConfigured() {
+            return false;
+        }
+
+        public Duration getDurationProp() {
+            return this.durationProp;
+        }
+
+        public void setDurationProp(final Duration durationProp) {
+            this.durationProp = durationProp;
+        }
+
+        public DataSize getSizeProp() {
+            return this.sizeProp;
+        }
+
+        public void setSizeProp(final DataSize sizeProp) {
+            this.sizeProp = sizeProp;
+        }
+
+        public TimeUnit getEnumProp() {
+            return this.enumProp;
+        }
+
+        public void setEnumProp(final TimeUnit enumProp) {
+            this.enumProp = enumProp;
+        }
+
+        public List<Integer> getListProp() {
+            return this.listProp;
+        }
+
+        public void setListProp(final List<Integer> listProp) {
+            this.listProp = listProp;
+        }
+
+        public String[] getArrayProp() {
+            return this.arrayProp;
+        }
+
+        public void setArrayProp(final String[] arrayProp) {
+            this.arrayProp = arrayProp;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code CryptoUtils}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see CryptoUtils
+ */
+@Tag("ut")
+class CryptoUtilsTest {
+
+    /**
+     * Test for {@link CryptoUtils#decodeBase64(CharSequence, ByteBuffer)}.
+     */
+    @Test
+    void testDecodeBase64() {
+        final byte[] data = new byte[64];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 37);
+        }
+        for (int length = 0; length <= data.length; length++) {
+            final byte[] expected = Arrays.copyOf(data, length);
+            final String padded = Base64.getEncoder().encodeToString(expected);
+            final String unpadded = Base64.getEncoder().withoutPadding().encodeToString(expected);
+            assertEquals(length, CryptoUtils.base64DecodedLength(padded));
+            assertEquals(length, CryptoUtils.base64DecodedLength(unpadded));
+            assertArrayEquals(expected, decode(padded));
+            assertArrayEquals(expected, decode(unpadded));
+        }
+    }
+
+    /**
+     * Test for {@link CryptoUtils#decodeBase64(CharSequence, ByteBuffer)}
+     * with invalid values.
+     */
+    @Test
+    void testDecodeBase64Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> decode("a"));
+        assertThrows(IllegalArgumentException.class, () -> decode("ab c"));
+        assertThrows(IllegalArgumentException.class, () -> decode("ab-_"));
+        assertThrows(IllegalArgumentException.class, () -> decode("a\u00e1bc"));
+        assertThrows(IllegalArgumentException.class, () -> decode("ab="));
+        assertThrows(IllegalArgumentException.class, () -> decode("a==="));
+        assertThrows(BufferOverflowException.class,
+                () -> CryptoUtils.decodeBase64("YWJjZA==", ByteBuffer.allocate(3)));
+    }
+
+    /**
+     * Test for {@link CryptoUtils#decodeBase64(CharSequence)}.
+     */
+    @Test
+    void testDecodeBase64Reusable() {
+        final ByteBuffer first = CryptoUtils.decodeBase64("YWJj");
+        assertEquals(3, first.remaining());
+        final ByteBuffer second = CryptoUtils.decodeBase64(new StringBuilder("YWJjZA"));
+        assertSame(first, second);
+        assertEquals("abcd", StandardCharsets.UTF_8.decode(second).toString());
+        final String big = Base64.getEncoder().encodeToString(new byte[10000]);
+        assertNotSame(first, CryptoUtils.decodeBase64(big));
+    }
+
+    /**
+     * Test for {@link CryptoUtils#encodeUtf8(char[], ByteBuffer)} and
+     * {@link CryptoUtils#decodeUtf8(ByteBuffer)}.
+     */
+    @Test
+    void testUtf8() {
+        final String value = "pl\u00e1in \u20ac \ud834\udd1e";
+        final ByteBuffer buffer = CryptoUtils.plainBuffer(
+                CryptoUtils.utf8EncodedLength(value.length()));
+        CryptoUtils.encodeUtf8(value.toCharArray(), buffer);
+        buffer.flip();
+        assertEquals(value.getBytes(StandardCharsets.UTF_8).length, buffer.remaining());
+        assertArrayEquals(value.toCharArray(), CryptoUtils.decodeUtf8(buffer));
+        CryptoUtils.wipe(buffer);
+        assertEquals(0, buffer.position());
+        assertEquals(buffer.capacity(), buffer.limit());
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertEquals(0, buffer.get(i));
+        }
+    }
+
+    private static byte[] decode(
+            final CharSequence value) {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        CryptoUtils.decodeBase64(value, buffer);
+        buffer.flip();
+        final byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+}
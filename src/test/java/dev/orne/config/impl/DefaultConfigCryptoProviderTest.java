@@ -25,13 +25,20 @@ package dev.orne.config.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
@@ -43,6 +50,7 @@ import org.junit.jupiter.api.Test;
 import dev.orne.config.ConfigCryptoEngine;
 import dev.orne.config.ConfigCryptoProvider;
 import dev.orne.config.ConfigCryptoProviderException;
+import dev.orne.config.ConfigCryptoWrongKeyException;
 
 /**
  * Unit tests for {@code DefaultConfigCryptoProvider}.
@@ -143,6 +151,118 @@ class DefaultConfigCryptoProviderTest {
         assertFalse(provider.isDestroyed());
     }
 
+    /**
+     * Test for {@link ConfigCryptoProvider#builder()}.
+     */
+    @Test
+    void testBuilderAsyncKey()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final SecretKey key = mock(SecretKey.class);
+        final Executor executor = mock(Executor.class);
+        final CompletableFuture<SecretKey> futureKey = new CompletableFuture<>();
+        willReturn(futureKey).given(engine).createSecretKeyAsync(MOCK_PASS, executor);
+        DefaultConfigCryptoProvider provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKeyAsync(MOCK_PASS, executor)
+                    .build());
+        assertSame(engine, provider.getEngine());
+        assertFalse(provider.isSecretKeyReady());
+        futureKey.complete(key);
+        assertTrue(provider.isSecretKeyReady());
+        assertSame(key, provider.getSecretKey());
+        then(engine).should().createSecretKeyAsync(MOCK_PASS, executor);
+        then(engine).shouldHaveNoMoreInteractions();
+        provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(CompletableFuture.completedFuture(key))
+                    .build());
+        assertTrue(provider.isSecretKeyReady());
+        assertSame(key, provider.getSecretKey());
+        then(key).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Test for {@link ConfigCryptoProvider#builder()}.
+     */
+    @Test
+    void testBuilderAsyncKeyNewEngine()
+    throws ConfigCryptoProviderException {
+        final DefaultConfigCryptoProvider provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withAesGcmEngine(SALT)
+                    .withSecretKeyAsync(MOCK_PASS)
+                    .build());
+        assertInstanceOf(ConfigCryptoAesGcmEngine.class, provider.getEngine());
+        assertEquals(provider.getEngine().createSecretKey(MOCK_PASS), provider.getSecretKey());
+        assertTrue(provider.isSecretKeyReady());
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decrypt(String)}.
+     */
+    @Test
+    void testDecryptPendingKey()
+    throws Exception {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final String plainText = "mock plain text";
+        final String cryptText = "mock encrypted text";
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        final CompletableFuture<SecretKey> futureKey = new CompletableFuture<>();
+        willReturn(cipher).given(engine).createCipher();
+        willReturn(plainText).given(engine).decrypt(cryptText, key, cipher);
+        final DefaultConfigCryptoProvider provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(futureKey)
+                    .build());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> result = executor.submit(() -> provider.decrypt(cryptText));
+            then(engine).should(never()).decrypt(any(), any(), any());
+            assertFalse(result.isDone());
+            futureKey.complete(key);
+            assertSame(plainText, result.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        then(engine).should().decrypt(cryptText, key, cipher);
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decrypt(String)}.
+     */
+    @Test
+    void testDecryptFailedKey()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final ConfigCryptoProviderException keyError = new ConfigCryptoProviderException();
+        final CompletableFuture<SecretKey> futureKey = new CompletableFuture<>();
+        futureKey.completeExceptionally(keyError);
+        final DefaultConfigCryptoProvider provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(futureKey)
+                    .build());
+        assertSame(keyError, assertThrows(
+                ConfigCryptoProviderException.class,
+                () -> provider.decrypt("Mock text")));
+        assertSame(keyError, assertThrows(
+                ConfigCryptoProviderException.class,
+                () -> provider.encrypt("Mock text")));
+        then(engine).should(never()).decrypt(any(), any(), any());
+        then(engine).should(never()).encrypt(any(), any(), any());
+        assertDoesNotThrow(provider::destroy);
+    }
+
     /**
      * Test for {@link DefaultConfigCryptoProvider#getCipher()}.
      */
@@ -354,6 +474,199 @@ class DefaultConfigCryptoProviderTest {
         assertEquals(Collections.emptyList(), exceptions);
     }
 
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#encryptChars(char[])}.
+     */
+    @Test
+    void testEncryptChars()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final String plainText = "mock pl\u00e1in text";
+        final String cryptText = "mock encrypted text";
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        willAnswer(invocation -> {
+            final ByteBuffer value = invocation.getArgument(0);
+            return plainText.equals(StandardCharsets.UTF_8.decode(value).toString()) ? cryptText : null;
+        }).given(engine).encryptBytes(any(ByteBuffer.class), same(key), same(cipher));
+        final DefaultConfigCryptoProvider provider = spy(assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(key)
+                    .build()));
+        willReturn(cipher).given(provider).getCipher();
+        
+        final String result = provider.encryptChars(plainText.toCharArray());
+        
+        assertSame(cryptText, result);
+        assertNull(provider.encryptChars(null));
+        then(provider).should().getCipher();
+        then(engine).should().encryptBytes(any(ByteBuffer.class), same(key), same(cipher));
+        then(engine).should(never()).encrypt(any(String.class), any(), any());
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decrypt(CharSequence, ByteBuffer)}.
+     */
+    @Test
+    void testDecryptBuffer()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final String plainText = "mock plain text";
+        final String cryptText = "mock encrypted text";
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        final ByteBuffer output = ByteBuffer.allocate(32);
+        willAnswer(invocation -> {
+            invocation.<ByteBuffer>getArgument(3).put(plainText.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(engine).decryptInto(eq(cryptText), same(key), same(cipher), same(output));
+        final DefaultConfigCryptoProvider provider = spy(assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(key)
+                    .build()));
+        willReturn(cipher).given(provider).getCipher();
+        
+        provider.decrypt(cryptText, output);
+        
+        output.flip();
+        assertEquals(plainText, StandardCharsets.UTF_8.decode(output).toString());
+        then(provider).should().getCipher();
+        then(engine).should(never()).decrypt(any(String.class), any(), any());
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decryptChars(CharSequence)}.
+     */
+    @Test
+    void testDecryptChars()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final String plainText = "mock pl\u00e1in text";
+        final String cryptText = "mock encrypted text";
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        willAnswer(invocation -> {
+            invocation.<ByteBuffer>getArgument(3).put(plainText.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(engine).decryptInto(eq(cryptText), same(key), same(cipher), any(ByteBuffer.class));
+        final DefaultConfigCryptoProvider provider = spy(assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(key)
+                    .build()));
+        willReturn(cipher).given(provider).getCipher();
+        
+        final char[] result = provider.decryptChars(cryptText);
+        
+        assertArrayEquals(plainText.toCharArray(), result);
+        assertNull(provider.decryptChars(null));
+        then(provider).should().getCipher();
+        then(engine).should(never()).decrypt(any(String.class), any(), any());
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decryptAll(Map)}.
+     */
+    @Test
+    void testDecryptAll()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        willReturn(cipher).given(engine).createCipher();
+        final Map<String, String> values = new HashMap<>();
+        final Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.put("key." + i, "mock encrypted text " + i);
+            expected.put("key." + i, "mock plain text " + i);
+            willReturn("mock plain text " + i).given(engine).decrypt("mock encrypted text " + i, key, cipher);
+        }
+        values.put("key.null", null);
+        final DefaultConfigCryptoProvider provider = spy(assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(key)
+                    .build()));
+        
+        final Map<String, String> result = provider.decryptAll(values);
+        
+        assertEquals(expected, result);
+        then(provider).should(never()).decrypt(any());
+        then(provider).should(never()).getCipher();
+        then(engine).should(atLeastOnce()).createCipher();
+        then(engine).should(times(100)).decrypt(any(), same(key), same(cipher));
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decryptAll(Map)}.
+     */
+    @Test
+    void testDecryptAllWrongKey()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        willReturn(cipher).given(engine).createCipher();
+        final ConfigCryptoWrongKeyException error1 = new ConfigCryptoWrongKeyException();
+        final ConfigCryptoWrongKeyException error2 = new ConfigCryptoWrongKeyException();
+        willReturn("mock plain text").given(engine).decrypt("mock encrypted text", key, cipher);
+        willThrow(error1).given(engine).decrypt("mock wrong text 1", key, cipher);
+        willThrow(error2).given(engine).decrypt("mock wrong text 2", key, cipher);
+        final Map<String, String> values = new HashMap<>();
+        values.put("key.ok", "mock encrypted text");
+        values.put("key.wrong.1", "mock wrong text 1");
+        values.put("key.wrong.2", "mock wrong text 2");
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.builder()
+                .withEngine(engine)
+                .withSecretKey(key)
+                .build();
+        
+        final ConfigCryptoWrongKeyException result = assertThrows(
+                ConfigCryptoWrongKeyException.class,
+                () -> provider.decryptAll(values));
+        
+        assertTrue(result.getMessage().contains("[key.wrong.1, key.wrong.2]"));
+        assertTrue(result.getCause() == error1 || result.getCause() == error2);
+        assertEquals(1, result.getSuppressed().length);
+        assertNotSame(result.getCause(), result.getSuppressed()[0]);
+    }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#decryptAll(Map)}.
+     */
+    @Test
+    void testDecryptAllError()
+    throws ConfigCryptoProviderException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final SecretKey key = mock(SecretKey.class);
+        final Cipher cipher = mock(Cipher.class);
+        willReturn(cipher).given(engine).createCipher();
+        willThrow(ConfigCryptoWrongKeyException.class).given(engine).decrypt("mock wrong text", key, cipher);
+        willThrow(IllegalArgumentException.class).given(engine).decrypt("mock invalid text", key, cipher);
+        final Map<String, String> values = new HashMap<>();
+        values.put("key.wrong", "mock wrong text");
+        values.put("key.invalid", "mock invalid text");
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.builder()
+                .withEngine(engine)
+                .withSecretKey(key)
+                .build();
+        
+        final ConfigCryptoProviderException result = assertThrows(
+                ConfigCryptoProviderException.class,
+                () -> provider.decryptAll(values));
+        
+        assertFalse(result instanceof ConfigCryptoWrongKeyException);
+        assertTrue(result.getMessage().contains("[key.invalid, key.wrong]"));
+        assertNotNull(result.getCause());
+        assertEquals(1, result.getSuppressed().length);
+    }
+
     /**
      * Test for {@link DefaultConfigCryptoProvider#destroy()}.
      */
@@ -420,4 +733,27 @@ class DefaultConfigCryptoProviderTest {
         assertThrows(IllegalStateException.class, () -> provider.encrypt("Mock text"));
         assertThrows(IllegalStateException.class, () -> provider.decrypt("Mock text"));
     }
+
+    /**
+     * Test for {@link DefaultConfigCryptoProvider#destroy()}.
+     */
+    @Test
+    void testDestroyPendingKey()
+    throws ConfigCryptoProviderException, DestroyFailedException {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final SecretKey key = mock(SecretKey.class);
+        final CompletableFuture<SecretKey> futureKey = new CompletableFuture<>();
+        final DefaultConfigCryptoProvider provider = assertInstanceOf(
+                DefaultConfigCryptoProvider.class,
+                ConfigCryptoProvider.builder()
+                    .withEngine(engine)
+                    .withSecretKey(futureKey)
+                    .build());
+        provider.destroy();
+        assertTrue(provider.isDestroyed());
+        then(key).shouldHaveNoInteractions();
+        futureKey.complete(key);
+        then(key).should().destroy();
+        assertThrows(IllegalStateException.class, () -> provider.decrypt("Mock text"));
+    }
 }
@@ -25,7 +25,9 @@ package dev.orne.config.impl;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -77,6 +79,23 @@ extends AbstractConfigTest {
         assertSame(System.getenv(), config.getEnvironmentVariables());
     }
 
+    /**
+     * Test method for {@link EnvironmentConfigImpl#getEntries()} and
+     * {@link EnvironmentConfigImpl#forEach(java.util.function.BiConsumer)}.
+     */
+    @Test
+    void testEntries() {
+        final Map<String, String> values = Map.of(
+                "TEST_KEY", "testValue",
+                "OTHER_KEY", "otherValue");
+        final EnvironmentConfigImpl config = new MockBuilder(values).build();
+        assertEquals(values, config.getEntries()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        final Map<String, String> visited = new HashMap<>();
+        config.forEach(visited::put);
+        assertEquals(values, visited);
+    }
+
     /**
      * Extension of {@link EnvironmentConfigImpl} to mock the environment
      * variables, as cannot be modified in the test environment.
@@ -133,7 +152,7 @@ extends AbstractConfigTest {
          */
         @Override
         public EnvironmentConfigImpl build() {
-            return new MockConfig(this.options, this.mockValues);
+            return initialize(new MockConfig(this.options, this.mockValues));
         }
     }
 }
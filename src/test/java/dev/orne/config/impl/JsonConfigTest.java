@@ -31,7 +31,9 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -437,4 +439,50 @@ extends AbstractConfigTest {
         assertTrue(config.contains(customSeparatorKey));
         assertEquals(customSeparatorValue, config.get(customSeparatorKey));
     }
+
+    /**
+     * Tests list configuration property values stored as JSON arrays.
+     */
+    @Test
+    void testArrayList() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("test.list.0", "value0");
+        values.put("test.list.1", "value1");
+        values.put("test.list.2", "value2");
+        final JsonConfigImpl config = assertInstanceOf(
+                JsonConfigImpl.class,
+                Config.fromJson()
+                    .add(values)
+                    .build());
+        assertTrue(config.getJsonObject().at("/test/list").isArray());
+        assertEquals(List.of("value0", "value1", "value2"), config.getList("test.list"));
+        assertEquals(List.of("value1"), config.getList("test.list.1"));
+        assertTrue(config.getList("test").isEmpty());
+    }
+
+    /**
+     * Tests configuration property entries of nested JSON objects and
+     * arrays.
+     */
+    @Test
+    void testNestedEntries() {
+        final HashMap<String, String> values = new HashMap<>();
+        values.put("test.list.0", "value0");
+        values.put("test.list.1", "value1");
+        values.put("test.nested.key", "nestedValue");
+        values.put("other", "otherValue");
+        final JsonConfigImpl config = assertInstanceOf(
+                JsonConfigImpl.class,
+                Config.fromJson()
+                    .add(values)
+                    .build());
+        assertTrue(config.getJsonObject().at("/test/list").isArray());
+        assertEquals(values, config.getEntries()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        final Map<String, String> visited = new HashMap<>();
+        config.forEach(visited::put);
+        assertEquals(values, visited);
+        assertEquals(values.keySet(), config.getKeys().collect(Collectors.toSet()));
+        values.forEach((key, value) -> assertEquals(value, config.get(key)));
+    }
 }
@@ -0,0 +1,401 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.jspecify.annotations.Nullable;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigProvider;
+import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurableBinder;
+import dev.orne.config.ConfigurableProperty;
+import dev.orne.config.Configurer;
+import dev.orne.config.LiveConfigurer;
+import dev.orne.config.RefreshableConfigurable;
+import dev.orne.config.ValueConverterRegistry;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code LiveConfigurerImpl}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see LiveConfigurerImpl
+ * @see ConfigurableRefreshIndex
+ */
+@Tag("ut")
+class LiveConfigurerImplTest {
+
+    private static final String TEST_SIZE_KEY = "test.live.size";
+    private static final String TEST_TIMEOUT_KEY = "test.live.timeout";
+    private static final String TEST_OTHER_KEY = "test.live.other";
+
+    /**
+     * Creates a watchable configuration with the test values.
+     * 
+     * @return The watchable configuration.
+     */
+    private static WatchableConfig createConfig() {
+        final Map<String, String> values = new HashMap<>();
+        values.put(TEST_SIZE_KEY, "4");
+        values.put(TEST_TIMEOUT_KEY, "5s");
+        return Config.fromProperties()
+                .mutable()
+                .add(values)
+                .build();
+    }
+
+    /**
+     * Test method for {@link Configurer#liveFromProvider(ConfigProvider)}.
+     */
+    @Test
+    void testLiveFromProvider() {
+        final WatchableConfig config = createConfig();
+        final LiveTestBean bean = new LiveTestBean();
+        try (LiveConfigurer configurer = Configurer.liveFromProvider(
+                ConfigProvider.builder(config).build())) {
+            assertInstanceOf(LiveConfigurerImpl.class, configurer);
+            configurer.configure(bean);
+        }
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(4, bean.getSize());
+        assertTrue(bean.getRefreshed().isEmpty());
+    }
+
+    /**
+     * Test method for {@link LiveConfigurerImpl#configure(Configurable)}
+     * with configuration changes.
+     */
+    @Test
+    void testRefresh() {
+        final WatchableConfig config = createConfig();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults());
+        final LiveTestBean bean = new LiveTestBean();
+        configurer.configure(bean);
+        assertEquals(4, bean.getSize());
+        assertEquals(Duration.ofSeconds(5), bean.getTimeout());
+        assertEquals(1, bean.getConfigurations());
+        assertTrue(bean.getRefreshed().isEmpty());
+        
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(8, bean.getSize());
+        assertEquals(Duration.ofSeconds(5), bean.getTimeout());
+        assertEquals(1, bean.getConfigurations());
+        assertEquals(Collections.singletonList(Collections.singleton(TEST_SIZE_KEY)), bean.getRefreshed());
+        
+        config.set(TEST_OTHER_KEY, "value");
+        
+        assertEquals(1, bean.getRefreshed().size());
+        
+        config.set(TEST_TIMEOUT_KEY, "2m");
+        
+        assertEquals(Duration.ofMinutes(2), bean.getTimeout());
+        assertEquals(2, bean.getRefreshed().size());
+        
+        config.remove(TEST_SIZE_KEY);
+        
+        assertEquals(8, bean.getSize());
+        assertEquals(3, bean.getRefreshed().size());
+    }
+
+    /**
+     * Test method for {@link LiveConfigurerImpl#configure(Configurable)}
+     * with beans configured multiple times.
+     */
+    @Test
+    void testRefreshReconfigured() {
+        final WatchableConfig config = createConfig();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults());
+        final LiveTestBean bean = new LiveTestBean();
+        final LiveTestBean other = new LiveTestBean();
+        configurer.configure(bean);
+        configurer.configure(bean);
+        configurer.configure(other);
+        final ConfigurableRefreshIndex index = configurer.getRefreshIndex(config);
+        assertEquals(4, index.size());
+        
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(8, bean.getSize());
+        assertEquals(8, other.getSize());
+        assertEquals(1, bean.getRefreshed().size());
+        assertEquals(1, other.getRefreshed().size());
+    }
+
+    /**
+     * Test method for {@link LiveConfigurerImpl#close()}.
+     */
+    @Test
+    void testClose() {
+        final WatchableConfig config = createConfig();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults());
+        final LiveTestBean bean = new LiveTestBean();
+        configurer.configure(bean);
+        
+        configurer.close();
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(4, bean.getSize());
+        assertTrue(bean.getRefreshed().isEmpty());
+    }
+
+    /**
+     * Test method for {@link ConfigurableRefreshIndex} with collected beans.
+     */
+    @Test
+    void testCollectedBeans() {
+        final WatchableConfig config = createConfig();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults());
+        configurer.configure(new LiveTestBean());
+        final ConfigurableRefreshIndex index = configurer.getRefreshIndex(config);
+        assertEquals(2, index.size());
+        
+        index.clear();
+        
+        assertEquals(0, index.size());
+        assertDoesNotThrow(() -> config.set(TEST_SIZE_KEY, "8"));
+    }
+
+    /**
+     * Test method for {@link ConfigurableRefreshIndex#configurationChanged(dev.orne.config.MutableConfig, Set)}
+     * with failing refresh callbacks.
+     */
+    @Test
+    void testRefreshCallbackError() {
+        final WatchableConfig config = createConfig();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults());
+        final LiveTestBean bean = new LiveTestBean() {
+            @Override
+            public void propertiesRefreshed(
+                    final Config config,
+                    final Set<String> keys) {
+                throw new IllegalStateException("Mock error");
+            }
+        };
+        final LiveTestBean other = new LiveTestBean();
+        configurer.configure(bean);
+        configurer.configure(other);
+        
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(8, bean.getSize());
+        assertEquals(8, other.getSize());
+        assertEquals(1, other.getRefreshed().size());
+    }
+
+    /**
+     * Test method for {@link LiveConfigurerImpl#refreshProperties(Configurable, Config, java.util.Collection)}
+     * with overridden property value hooks.
+     */
+    @Test
+    void testRefreshValueHooks() {
+        final WatchableConfig config = createConfig();
+        final List<String> properties = new ArrayList<>();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build()) {
+            @Override
+            protected void setPropertyValue(
+                    final Object bean,
+                    final Field field,
+                    final @Nullable Object value) {
+                properties.add(field.getName());
+                super.setPropertyValue(bean, field, value);
+            }
+        };
+        final LiveTestBean bean = new LiveTestBean();
+        configurer.configure(bean);
+        assertEquals(Arrays.asList("size", "timeout"), properties);
+        properties.clear();
+        
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(8, bean.getSize());
+        assertEquals(Collections.singletonList("size"), properties);
+        assertEquals(Collections.singletonList(Collections.singleton(TEST_SIZE_KEY)), bean.getRefreshed());
+    }
+
+    /**
+     * Test method for {@link LiveConfigurerImpl#refreshProperties(Configurable, Config, java.util.Collection)}
+     * with overridden properties configuration method.
+     */
+    @Test
+    void testRefreshConfigureHook() {
+        final WatchableConfig config = createConfig();
+        final List<Configurable> configured = new ArrayList<>();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults()) {
+            @Override
+            protected void configureProperties(
+                    final Configurable bean,
+                    final Config config) {
+                configured.add(bean);
+                super.configureProperties(bean, config);
+            }
+        };
+        final LiveTestBean bean = new LiveTestBean();
+        configurer.configure(bean);
+        assertEquals(1, configured.size());
+        
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(8, bean.getSize());
+        assertEquals(2, configured.size());
+        assertSame(bean, configured.get(1));
+        assertEquals(2, configurer.getRefreshIndex(config).size());
+        assertEquals(Collections.singletonList(Collections.singleton(TEST_SIZE_KEY)), bean.getRefreshed());
+    }
+
+    /**
+     * Test method for {@link LiveConfigurerImpl#refreshProperties(Configurable, Config, java.util.Collection)}
+     * with registered binders.
+     */
+    @Test
+    void testRefreshBinder() {
+        final WatchableConfig config = createConfig();
+        final LiveTestBeanBinder binder = new LiveTestBeanBinder();
+        final LiveConfigurerImpl configurer = new LiveConfigurerImpl(
+                ConfigProvider.builder(config).build(),
+                ValueConverterRegistry.defaults()) {
+            @Override
+            protected Map<Class<?>, ConfigurableBinder<?>> getBinders() {
+                return Collections.singletonMap(LiveTestBean.class, binder);
+            }
+        };
+        final LiveTestBean bean = new LiveTestBean();
+        configurer.configure(bean);
+        assertEquals(1, binder.getBindings());
+        assertEquals(4, bean.getSize());
+        
+        config.set(TEST_SIZE_KEY, "8");
+        
+        assertEquals(2, binder.getBindings());
+        assertEquals(8, bean.getSize());
+        assertEquals(Collections.singletonList(Collections.singleton(TEST_SIZE_KEY)), bean.getRefreshed());
+    }
+
+    public static class LiveTestBeanBinder
+    implements ConfigurableBinder<LiveTestBean> {
+
+        private int bindings;
+
+        @Override
+        public Class<LiveTestBean> getBeanType() {
+            return LiveTestBean.class;
+        }
+
+        @Override
+        public void bind(
+                final LiveTestBean bean,
+                final Config config,
+                final Context context) {
+            this.bindings++;
+            if (config.contains(TEST_SIZE_KEY)) {
+                bean.setSize(context.convert(config.get(TEST_SIZE_KEY), Integer.class));
+            }
+            if (config.contains(TEST_TIMEOUT_KEY)) {
+                bean.setTimeout(context.convert(config.get(TEST_TIMEOUT_KEY), Duration.class));
+            }
+        }
+
+        public int getBindings() {
+            return this.bindings;
+        }
+    }
+
+    public static class LiveTestBean
+    implements RefreshableConfigurable {
+
+        @ConfigurableProperty(TEST_SIZE_KEY)
+        private volatile int size;
+        @ConfigurableProperty(TEST_TIMEOUT_KEY)
+        private volatile Duration timeout;
+        private int configurations;
+        private final List<Set<String>> refreshed = new ArrayList<>();
+
+        @Override
+        public void configure(
+                final Config config) {
+            this.configurations++;
+        }
+
+        @Override
+        public void propertiesRefreshed(
+                final Config config,
+                final Set<String> keys) {
+            this.refreshed.add(new HashSet<>(keys));
+        }
+
+        public int getSize() {
+            return this.size;
+        }
+
+        public void setSize(final int size) {
+            this.size = size;
+        }
+
+        public Duration getTimeout() {
+            return this.timeout;
+        }
+
+        public void setTimeout(final Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getConfigurations() {
+            return this.configurations;
+        }
+
+        public List<Set<String>> getRefreshed() {
+            return this.refreshed;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoProviderException;
+import dev.orne.config.ConfigCryptoWrongKeyException;
+import dev.orne.config.FileMutableConfig;
+
+/**
+ * Unit tests for {@code MultiKeyConfigCryptoProvider}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see MultiKeyConfigCryptoProvider
+ */
+@Tag("ut")
+class MultiKeyConfigCryptoProviderTest {
+
+    private static final byte[] SALT = "mock salt bytes".getBytes(StandardCharsets.UTF_8);
+
+    private static ConfigCryptoProvider oldCrypto;
+    private static ConfigCryptoProvider newCrypto;
+
+    @BeforeAll
+    static void createProviders() {
+        oldCrypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine(SALT)
+                .withSecretKey("old pass".toCharArray())
+                .build();
+        newCrypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine(SALT)
+                .withSecretKey("new pass".toCharArray())
+                .build();
+    }
+
+    /**
+     * Test for {@link ConfigCryptoProvider#multiKey()}.
+     */
+    @Test
+    void testBuilder() {
+        final MultiKeyConfigCryptoProvider provider = assertInstanceOf(
+                MultiKeyConfigCryptoProvider.class,
+                ConfigCryptoProvider.multiKey()
+                    .withKey("old", oldCrypto)
+                    .withPrimaryKey("new", newCrypto)
+                    .build());
+        assertEquals("new", provider.getPrimaryKey());
+        final Map<String, ConfigCryptoProvider> expected = new HashMap<>();
+        expected.put("old", oldCrypto);
+        expected.put("new", newCrypto);
+        assertEquals(expected, provider.getProviders());
+        assertFalse(provider.isDestroyed());
+    }
+
+    /**
+     * Test for {@link ConfigCryptoProvider#multiKey()} with invalid
+     * parameters.
+     */
+    @Test
+    void testBuilderInvalid() {
+        assertThrows(IllegalStateException.class,
+                () -> ConfigCryptoProvider.multiKey()
+                    .withKey("old", oldCrypto)
+                    .build());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConfigCryptoProvider.multiKey()
+                    .withKey("old", oldCrypto)
+                    .withPrimaryKey("old", newCrypto));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConfigCryptoProvider.multiKey()
+                    .withPrimaryKey("", newCrypto));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConfigCryptoProvider.multiKey()
+                    .withPrimaryKey("k}1", newCrypto));
+        assertThrows(NullPointerException.class,
+                () -> ConfigCryptoProvider.multiKey()
+                    .withPrimaryKey(null, newCrypto));
+        assertThrows(NullPointerException.class,
+                () -> ConfigCryptoProvider.multiKey()
+                    .withPrimaryKey("new", null));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#encrypt(String)}.
+     */
+    @Test
+    void testEncrypt() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final String result = provider.encrypt("plain value");
+        assertTrue(result.startsWith("{new}"));
+        assertEquals("plain value", newCrypto.decrypt(result.substring(5)));
+        assertEquals("plain value", provider.decrypt(result));
+        assertNull(provider.encrypt(null));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#encryptChars(char[])}
+     * and {@link MultiKeyConfigCryptoProvider#decryptChars(CharSequence)}.
+     */
+    @Test
+    void testChars() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final String result = provider.encryptChars("plain value".toCharArray());
+        assertTrue(result.startsWith("{new}"));
+        assertEquals("plain value", newCrypto.decrypt(result.substring(5)));
+        assertArrayEquals("plain value".toCharArray(), provider.decryptChars(result));
+        assertArrayEquals("old value".toCharArray(), provider.decryptChars(
+                "{old}" + oldCrypto.encrypt("old value")));
+        assertArrayEquals("untagged value".toCharArray(), provider.decryptChars(
+                oldCrypto.encrypt("untagged value")));
+        assertThrows(ConfigCryptoWrongKeyException.class,
+                () -> provider.decryptChars("{other}" + oldCrypto.encrypt("old value")));
+        assertNull(provider.encryptChars(null));
+        assertNull(provider.decryptChars(null));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decrypt(CharSequence, ByteBuffer)}.
+     */
+    @Test
+    void testDecryptBuffer() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final ByteBuffer output = ByteBuffer.allocate(64);
+        
+        provider.decrypt(provider.encrypt("tagged "), output);
+        provider.decrypt(oldCrypto.encrypt("untagged"), output);
+        
+        output.flip();
+        assertEquals("tagged untagged", StandardCharsets.UTF_8.decode(output).toString());
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decrypt(String)}.
+     */
+    @Test
+    void testDecryptTagged() {
+        final ConfigCryptoProvider old = spy(oldCrypto);
+        final ConfigCryptoProvider current = spy(newCrypto);
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", current)
+                .withKey("old", old)
+                .build();
+        final String encrypted = oldCrypto.encrypt("plain value");
+        
+        assertEquals("plain value", provider.decrypt("{old}" + encrypted));
+        
+        then(old).should().decrypt(encrypted);
+        then(current).should(never()).decrypt(any());
+        assertNull(provider.decrypt(null));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decrypt(String)}.
+     */
+    @Test
+    void testDecryptUnknownKey() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .build();
+        final String encrypted = "{other}" + oldCrypto.encrypt("plain value");
+        
+        final ConfigCryptoWrongKeyException result = assertThrows(
+                ConfigCryptoWrongKeyException.class,
+                () -> provider.decrypt(encrypted));
+        assertTrue(result.getMessage().contains("other"));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decrypt(String)}.
+     */
+    @Test
+    void testDecryptLegacy() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withKey("old", oldCrypto)
+                .withPrimaryKey("new", newCrypto)
+                .build();
+        
+        assertEquals("old value", provider.decrypt(oldCrypto.encrypt("old value")));
+        assertEquals("new value", provider.decrypt(newCrypto.encrypt("new value")));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decrypt(String)}.
+     */
+    @Test
+    void testDecryptLegacyWrongKey() {
+        final ConfigCryptoProvider other = ConfigCryptoProvider.builder()
+                .withAesGcmEngine(SALT)
+                .withSecretKey("other pass".toCharArray())
+                .build();
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withKey("old", oldCrypto)
+                .withPrimaryKey("new", newCrypto)
+                .build();
+        final String encrypted = other.encrypt("plain value");
+        
+        final ConfigCryptoWrongKeyException result = assertThrows(
+                ConfigCryptoWrongKeyException.class,
+                () -> provider.decrypt(encrypted));
+        assertEquals(1, result.getSuppressed().length);
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decryptAll(Map)}.
+     */
+    @Test
+    void testDecryptAll() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final Map<String, String> values = new HashMap<>();
+        final Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            expected.put("key." + i, "value " + i);
+            if (i % 3 == 0) {
+                values.put("key." + i, oldCrypto.encrypt("value " + i));
+            } else if (i % 3 == 1) {
+                values.put("key." + i, "{old}" + oldCrypto.encrypt("value " + i));
+            } else {
+                values.put("key." + i, provider.encrypt("value " + i));
+            }
+        }
+        
+        assertEquals(expected, provider.decryptAll(values));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decryptAll(Map)} delegated
+     * to the bulk operation of each secret key provider.
+     */
+    @Test
+    void testDecryptAllGrouped() {
+        final ConfigCryptoProvider old = mock(ConfigCryptoProvider.class);
+        final ConfigCryptoProvider current = mock(ConfigCryptoProvider.class);
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", current)
+                .withKey("old", old)
+                .build();
+        final Map<String, String> values = new HashMap<>();
+        values.put("key.a", "{old}a");
+        values.put("key.b", "{old}b");
+        values.put("key.c", "{new}c");
+        values.put("key.d", "d");
+        final Map<String, String> oldValues = new HashMap<>();
+        oldValues.put("key.a", "a");
+        oldValues.put("key.b", "b");
+        given(old.decryptAll(oldValues)).willReturn(Map.of("key.a", "plain a", "key.b", "plain b"));
+        given(current.decryptAll(Map.of("key.c", "c"))).willReturn(Map.of("key.c", "plain c"));
+        given(current.decryptAll(Map.of("key.d", "d"))).willThrow(ConfigCryptoWrongKeyException.class);
+        given(old.decryptAll(Map.of("key.d", "d"))).willReturn(Map.of("key.d", "plain d"));
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("key.a", "plain a");
+        expected.put("key.b", "plain b");
+        expected.put("key.c", "plain c");
+        expected.put("key.d", "plain d");
+        
+        assertEquals(expected, provider.decryptAll(values));
+        
+        then(old).should().decryptAll(oldValues);
+        then(old).should().decryptAll(Map.of("key.d", "d"));
+        then(old).should(never()).decrypt(any());
+        then(current).should().decryptAll(Map.of("key.c", "c"));
+        then(current).should().decryptAll(Map.of("key.d", "d"));
+        then(current).should(never()).decrypt(any());
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decryptAll(Map)} with
+     * values without key identifier header encrypted with different
+     * secret keys.
+     */
+    @Test
+    void testDecryptAllMixedLegacy() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final Map<String, String> values = new HashMap<>();
+        values.put("key.old", oldCrypto.encrypt("old value"));
+        values.put("key.new", newCrypto.encrypt("new value"));
+        values.put("key.tagged", "{old}" + oldCrypto.encrypt("tagged value"));
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("key.old", "old value");
+        expected.put("key.new", "new value");
+        expected.put("key.tagged", "tagged value");
+        
+        assertEquals(expected, provider.decryptAll(values));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#decryptAll(Map)} with
+     * values that cannot be decrypted.
+     */
+    @Test
+    void testDecryptAllFailed() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final Map<String, String> values = new HashMap<>();
+        values.put("key.ok", "{old}" + oldCrypto.encrypt("value"));
+        values.put("key.wrong", "{old}" + newCrypto.encrypt("value"));
+        values.put("key.unknown", "{other}" + newCrypto.encrypt("value"));
+        
+        final ConfigCryptoProviderException result = assertThrows(
+                ConfigCryptoProviderException.class,
+                () -> provider.decryptAll(values));
+        assertTrue(result.getMessage().contains("key.wrong"));
+        assertTrue(result.getMessage().contains("key.unknown"));
+        assertFalse(result.getMessage().contains("key.ok"));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#encryptAll(Map)}.
+     */
+    @Test
+    void testEncryptAll() {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            values.put("key." + i, "value " + i);
+        }
+        
+        final Map<String, String> result = provider.encryptAll(values);
+        
+        assertEquals(values.keySet(), result.keySet());
+        result.forEach((key, value) -> {
+            assertTrue(value.startsWith("{new}"));
+            assertEquals(values.get(key), newCrypto.decrypt(value.substring(5)));
+        });
+        assertEquals(values, provider.decryptAll(result));
+    }
+
+    /**
+     * Test for {@link MultiKeyConfigCryptoProvider#destroy()}.
+     */
+    @Test
+    void testDestroy() {
+        final ConfigCryptoProvider old = mock(ConfigCryptoProvider.class);
+        final ConfigCryptoProvider current = mock(ConfigCryptoProvider.class);
+        final MultiKeyConfigCryptoProvider provider = assertInstanceOf(
+                MultiKeyConfigCryptoProvider.class,
+                ConfigCryptoProvider.multiKey()
+                    .withPrimaryKey("new", current)
+                    .withKey("old", old)
+                    .build());
+        
+        provider.destroy();
+        
+        assertTrue(provider.isDestroyed());
+        then(old).should().destroy();
+        then(current).should().destroy();
+        assertThrows(IllegalStateException.class, () -> provider.encrypt("value"));
+        assertThrows(IllegalStateException.class, () -> provider.decrypt("value"));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoProvider#reencrypt(FileMutableConfig, ConfigCryptoProvider, ConfigCryptoProvider, Path)}.
+     */
+    @Test
+    void testReencrypt(
+            final @TempDir Path tempDir)
+    throws IOException {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .withKey("old", oldCrypto)
+                .build();
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put("key.legacy", oldCrypto.encrypt("legacy value"));
+        values.put("key.old", "{old}" + oldCrypto.encrypt("old value"));
+        values.put("key.new", provider.encrypt("new value"));
+        final FileMutableConfig config = Config.fromProperties()
+                .add(values)
+                .mutable()
+                .build();
+        final Path destination = Files.createFile(tempDir.resolve("config.properties"));
+        
+        ConfigCryptoProvider.reencrypt(config, provider, provider, destination);
+        
+        final Properties saved = new Properties();
+        saved.load(new StringReader(Files.readString(destination)));
+        assertEquals(3, saved.size());
+        for (final String key : saved.stringPropertyNames()) {
+            final String value = saved.getProperty(key);
+            assertTrue(value.startsWith("{new}"));
+            assertEquals(value, config.get(key));
+        }
+        assertEquals("legacy value", newCrypto.decrypt(saved.getProperty("key.legacy").substring(5)));
+        assertEquals("old value", newCrypto.decrypt(saved.getProperty("key.old").substring(5)));
+        assertEquals("new value", newCrypto.decrypt(saved.getProperty("key.new").substring(5)));
+    }
+
+    /**
+     * Test for {@link ConfigCryptoProvider#reencrypt(FileMutableConfig, ConfigCryptoProvider, ConfigCryptoProvider, Path)}.
+     */
+    @Test
+    void testReencryptWrongKey(
+            final @TempDir Path tempDir)
+    throws IOException {
+        final ConfigCryptoProvider provider = ConfigCryptoProvider.multiKey()
+                .withPrimaryKey("new", newCrypto)
+                .build();
+        final String oldValue = oldCrypto.encrypt("old value");
+        final String newValue = provider.encrypt("new value");
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put("key.old", oldValue);
+        values.put("key.new", newValue);
+        final FileMutableConfig config = Config.fromProperties()
+                .add(values)
+                .mutable()
+                .build();
+        final Path destination = Files.createFile(tempDir.resolve("config.properties"));
+        
+        final ConfigCryptoProviderException result = assertThrows(
+                ConfigCryptoWrongKeyException.class,
+                () -> ConfigCryptoProvider.reencrypt(config, provider, provider, destination));
+        
+        assertTrue(result.getMessage().contains("[key.old]"));
+        assertEquals(oldValue, config.get("key.old"));
+        assertEquals(newValue, config.get("key.new"));
+        assertEquals(0, Files.size(destination));
+    }
+}
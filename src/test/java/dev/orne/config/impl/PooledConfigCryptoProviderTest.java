@@ -25,6 +25,7 @@ package dev.orne.config.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.NoSuchElementException;
 
@@ -556,6 +557,74 @@ class PooledConfigCryptoProviderTest {
         inOrder.verifyNoMoreInteractions();
     }
 
+    /**
+     * Test for {@link PooledConfigCryptoProvider#encryptChars(char[])}.
+     */
+    @Test
+    void testEncryptChars()
+    throws Exception {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final String plainText = "mock plain text";
+        final String cryptText = "mock encrypted text";
+        final SecretKey key = mock(SecretKey.class);
+        @SuppressWarnings("unchecked")
+        final ObjectPool<Cipher> pool = mock(ObjectPool.class);
+        final Cipher cipher = mock(Cipher.class);
+        willAnswer(invocation -> {
+            final ByteBuffer value = invocation.getArgument(0);
+            return plainText.equals(StandardCharsets.UTF_8.decode(value).toString()) ? cryptText : null;
+        }).given(engine).encryptBytes(any(ByteBuffer.class), same(key), same(cipher));
+        final PooledConfigCryptoProvider provider = new PooledConfigCryptoProvider(
+                engine,
+                false,
+                key,
+                pool);
+        willReturn(cipher).given(pool).borrowObject();
+        
+        final String result = provider.encryptChars(plainText.toCharArray());
+        
+        assertSame(cryptText, result);
+        final InOrder inOrder = inOrder(pool, engine);
+        inOrder.verify(pool, times(1)).borrowObject();
+        inOrder.verify(engine, times(1)).encryptBytes(any(ByteBuffer.class), same(key), same(cipher));
+        inOrder.verify(pool, times(1)).returnObject(cipher);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    /**
+     * Test for {@link PooledConfigCryptoProvider#decryptChars(CharSequence)}.
+     */
+    @Test
+    void testDecryptChars()
+    throws Exception {
+        final ConfigCryptoEngine engine = mock(ConfigCryptoEngine.class);
+        final String plainText = "mock plain text";
+        final String cryptText = "mock encrypted text";
+        final SecretKey key = mock(SecretKey.class);
+        @SuppressWarnings("unchecked")
+        final ObjectPool<Cipher> pool = mock(ObjectPool.class);
+        final Cipher cipher = mock(Cipher.class);
+        willAnswer(invocation -> {
+            invocation.<ByteBuffer>getArgument(3).put(plainText.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(engine).decryptInto(eq(cryptText), same(key), same(cipher), any(ByteBuffer.class));
+        final PooledConfigCryptoProvider provider = new PooledConfigCryptoProvider(
+                engine,
+                false,
+                key,
+                pool);
+        willReturn(cipher).given(pool).borrowObject();
+        
+        final char[] result = provider.decryptChars(cryptText);
+        
+        assertArrayEquals(plainText.toCharArray(), result);
+        final InOrder inOrder = inOrder(pool, engine);
+        inOrder.verify(pool, times(1)).borrowObject();
+        inOrder.verify(engine, times(1)).decryptInto(eq(cryptText), same(key), same(cipher), any(ByteBuffer.class));
+        inOrder.verify(pool, times(1)).returnObject(cipher);
+        inOrder.verifyNoMoreInteractions();
+    }
+
     /**
      * Test for {@link PooledConfigCryptoProvider#decrypt(String)}.
      */
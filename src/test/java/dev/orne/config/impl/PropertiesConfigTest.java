@@ -31,6 +31,7 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -425,4 +426,23 @@ extends AbstractConfigTest {
         assertNotNull(properties);
         assertTrue(properties.isEmpty());
     }
+
+    /**
+     * Tests list configuration property values stored with indexed keys.
+     */
+    @Test
+    void testIndexedList() {
+        final Properties properties = new Properties();
+        properties.setProperty("test.list.0", "value0");
+        properties.setProperty("test.list.1", "value1");
+        properties.setProperty("test.list.3", "value3");
+        final PropertiesConfigImpl config = assertInstanceOf(
+                PropertiesConfigImpl.class,
+                Config.fromProperties()
+                    .add(properties)
+                    .build());
+        assertEquals(List.of("value0", "value1"), config.getList("test.list"));
+        assertEquals(List.of("value1"), config.getList("test.list.1"));
+        assertFalse(config.contains("test.list"));
+    }
 }
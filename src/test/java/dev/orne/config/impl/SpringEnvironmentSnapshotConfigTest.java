@@ -0,0 +1,261 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.env.AbstractEnvironment;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigBuilder;
+import dev.orne.config.ConfigException;
+import dev.orne.config.SpringEnvironmentConfigBuilder;
+import dev.orne.config.SpringEnvironmentSnapshotConfig;
+import dev.orne.config.WatchableConfig;
+
+/**
+ * Unit tests for {@code SpringEnvironmentSnapshotConfigBuilderImpl} and
+ * {@code SpringEnvironmentSnapshotConfigImpl}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class SpringEnvironmentSnapshotConfigTest
+extends AbstractConfigTest {
+
+    /**
+     * Creates a Spring environment with the specified properties.
+     * 
+     * @param properties The environment properties.
+     * @return The Spring environment.
+     */
+    private static ConfigurableEnvironment createEnvironment(
+            final Map<String, ?> properties) {
+        final ConfigurableEnvironment environment = new AbstractEnvironment() {};
+        environment.getPropertySources().addFirst(new MapPropertySource(
+                "test",
+                new HashMap<>(properties)));
+        return environment;
+    }
+
+    /**
+     * Creates a Spring environment with the specified properties that
+     * does not resolve property placeholders, as the mocked environment
+     * of {@code SpringEnvironmentConfigTest}.
+     * 
+     * @param properties The environment properties.
+     * @return The Spring environment.
+     */
+    private static ConfigurableEnvironment createUnresolvedEnvironment(
+            final Map<String, ?> properties) {
+        final MapPropertySource source = new MapPropertySource(
+                "test",
+                new HashMap<>(properties));
+        final ConfigurableEnvironment environment = new AbstractEnvironment() {
+            @Override
+            public String getProperty(
+                    final String key) {
+                final Object value = source.getProperty(key);
+                return value == null ? null : value.toString();
+            }
+        };
+        environment.getPropertySources().addFirst(source);
+        return environment;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ConfigBuilder<?> createBuilder(
+            final Map<String, String> properties) {
+        return Config.fromSpringEnvironment()
+                .ofEnvironment(createUnresolvedEnvironment(properties))
+                .withSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isIterable() {
+        return true;
+    }
+
+    /**
+     * Tests instance building from Spring environment.
+     */
+    @Test
+    void testSnapshotBuilder() {
+        final ConfigurableEnvironment environment = createEnvironment(Map.of());
+        final SpringEnvironmentSnapshotConfigImpl config = assertInstanceOf(
+                SpringEnvironmentSnapshotConfigImpl.class,
+                Config.fromSpringEnvironment()
+                    .ofEnvironment(environment)
+                    .withSnapshot()
+                    .build());
+        assertSame(environment, config.getEnvironment());
+        assertInstanceOf(WatchableConfig.class, config);
+    }
+
+    /**
+     * Test for exception when trying to enable snapshot mode
+     * with a non {@code ConfigurableEnvironment} environment.
+     */
+    @Test
+    void givenNonConfigurableEnvironment_whenWithSnapshot_thenThrowsException() {
+        final Environment env = mock(Environment.class);
+        final SpringEnvironmentConfigBuilder builder = Config.fromSpringEnvironment()
+                    .ofEnvironment(env);
+        assertThrows(ConfigException.class, builder::withSnapshot);
+    }
+
+    /**
+     * Tests that property keys and values are cached until refreshed,
+     * notifying listeners of changed properties.
+     */
+    @Test
+    void testRefresh() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("a", "1");
+        properties.put("b", "${a}");
+        properties.put("c", "3");
+        final ConfigurableEnvironment environment = new AbstractEnvironment() {};
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        final SpringEnvironmentSnapshotConfig config = Config.fromSpringEnvironment()
+                .ofEnvironment(environment)
+                .withSnapshot()
+                .build();
+        final WatchableConfig.Listener listener = mock(WatchableConfig.Listener.class);
+        config.addListener(listener);
+        assertEquals("1", config.get("b"));
+        assertNull(config.get("missing"));
+        properties.put("a", "2");
+        properties.put("d", "4");
+        assertEquals("1", config.get("a"));
+        assertEquals(
+                Set.of("a", "b", "c"),
+                config.getKeys().collect(Collectors.toSet()));
+        config.refresh();
+        assertEquals("2", config.get("a"));
+        assertEquals("2", config.get("b"));
+        assertEquals("4", config.get("d"));
+        assertEquals(
+                Set.of("a", "b", "c", "d"),
+                config.getKeys().collect(Collectors.toSet()));
+        then(listener).should().configurationChanged(config, Set.of("a", "b", "d"));
+        then(listener).shouldHaveNoMoreInteractions();
+    }
+
+    /**
+     * Tests that property entries are read from the snapshot until
+     * refreshed.
+     */
+    @Test
+    void testSnapshotEntries() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("a", "1");
+        properties.put("b", "${a}");
+        final ConfigurableEnvironment environment = createEnvironment(Map.of());
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        final SpringEnvironmentSnapshotConfig config = Config.fromSpringEnvironment()
+                .ofEnvironment(environment)
+                .withSnapshot()
+                .build();
+        assertEquals(
+                Map.of("a", "1", "b", "1"),
+                config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        properties.put("a", "2");
+        properties.put("c", "3");
+        final Map<String, String> visited = new HashMap<>();
+        config.forEach(visited::put);
+        assertEquals(Map.of("a", "1", "b", "1"), visited);
+        config.refresh();
+        assertEquals(
+                Map.of("a", "2", "b", "2", "c", "3"),
+                config.getEntries()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    /**
+     * Tests that application events rebuild the snapshot only if the
+     * property sources of the environment changed.
+     */
+    @Test
+    void testApplicationEvents() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("a", "1");
+        final ConfigurableEnvironment environment = new AbstractEnvironment() {};
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        final SpringEnvironmentSnapshotConfigImpl config = assertInstanceOf(
+                SpringEnvironmentSnapshotConfigImpl.class,
+                Config.fromSpringEnvironment()
+                    .ofEnvironment(environment)
+                    .withSnapshot()
+                    .build());
+        final WatchableConfig.Listener listener = mock(WatchableConfig.Listener.class);
+        config.addListener(listener);
+        final ApplicationEvent event = new ApplicationEvent(this) {
+            private static final long serialVersionUID = 1L;
+        };
+        properties.put("a", "2");
+        config.onApplicationEvent(event);
+        assertEquals("1", config.get("a"));
+        then(listener).shouldHaveNoInteractions();
+        environment.getPropertySources().addFirst(new MapPropertySource(
+                "override",
+                Map.of("b", "3")));
+        config.onApplicationEvent(event);
+        assertEquals("2", config.get("a"));
+        assertEquals("3", config.get("b"));
+        then(listener).should().configurationChanged(config, Set.of("a", "b"));
+    }
+
+    /**
+     * Tests that properties cannot be modified through the snapshot.
+     */
+    @Test
+    void testReadOnly() {
+        final SpringEnvironmentSnapshotConfig config = Config.fromSpringEnvironment()
+                .ofEnvironment(createEnvironment(Map.of("a", "1")))
+                .withSnapshot()
+                .build();
+        assertThrows(UnsupportedOperationException.class, () -> config.set("a", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> config.remove("a"));
+    }
+}
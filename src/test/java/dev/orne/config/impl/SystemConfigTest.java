@@ -22,15 +22,22 @@ package dev.orne.config.impl;
  * #L%
  */
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigBuilder;
+import dev.orne.config.ConfigCryptoProvider;
+import dev.orne.config.ConfigCryptoProviderException;
 import dev.orne.config.ValueDecoder;
 import dev.orne.config.ValueDecorator;
 
@@ -70,4 +77,63 @@ extends AbstractConfigTest {
         System.getProperties().putAll(properties);
         return Config.fromSystemProperties();
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * System properties mix plain values of the JVM with the encrypted
+     * test value, so the eager decryption of all the property values fails.
+     */
+    @Override
+    @Test
+    void testEagerDecryption() {
+        final ConfigCryptoProvider crypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("secretKey".toCharArray())
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, crypto.encrypt("testValue"));
+        final ConfigBuilder<?> builder = createBuilder(properties)
+                .withEncryption(crypto)
+                .withEagerDecryption();
+        final ConfigCryptoProviderException result = assertThrows(
+                ConfigCryptoProviderException.class,
+                builder::build);
+        assertFalse(result.getMessage().contains(TEST_KEY));
+        assertEquals("testValue", createBuilder(properties)
+                .withEncryption(crypto)
+                .build()
+                .get(TEST_KEY));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * System properties mix plain values of the JVM with the encrypted
+     * test values, so the eager decryption fails with a generic
+     * cryptography exception that includes the wrong key property.
+     */
+    @Override
+    @Test
+    void testEagerDecryptionWrongKey() {
+        final ConfigCryptoProvider crypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("secretKey".toCharArray())
+                .build();
+        final ConfigCryptoProvider otherCrypto = ConfigCryptoProvider.builder()
+                .withAesGcmEngine("secretSalt".getBytes(StandardCharsets.UTF_8))
+                .withSecretKey("otherSecretKey".toCharArray())
+                .build();
+        final HashMap<String, String> properties = new HashMap<>();
+        properties.put(TEST_KEY, otherCrypto.encrypt("testValue"));
+        properties.put(TEST_DERIVED_KEY, crypto.encrypt("testDerivedValue"));
+        final ConfigBuilder<?> builder = createBuilder(properties)
+                .withEncryption(crypto)
+                .withEagerDecryption();
+        final ConfigCryptoProviderException result = assertThrows(
+                ConfigCryptoProviderException.class,
+                builder::build);
+        assertTrue(result.getMessage().contains(TEST_KEY));
+        assertFalse(result.getMessage().contains(TEST_DERIVED_KEY));
+    }
 }
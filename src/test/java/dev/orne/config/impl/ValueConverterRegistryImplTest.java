@@ -0,0 +1,240 @@
+package dev.orne.config.impl;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.config.ConfigException;
+import dev.orne.config.DataSize;
+import dev.orne.config.ValueConverter;
+import dev.orne.config.ValueConverterRegistry;
+
+/**
+ * Unit tests for {@code ValueConverterRegistryImpl}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see ValueConverterRegistryImpl
+ */
+@Tag("ut")
+class ValueConverterRegistryImplTest {
+
+    /** Generic types holder. */
+    @SuppressWarnings("unused")
+    private List<Integer> listField;
+    /** Generic types holder. */
+    @SuppressWarnings("unused")
+    private Set<? extends TimeUnit> setField;
+    /** Generic types holder. */
+    @SuppressWarnings("unused")
+    private NavigableSet<String> navigableSetField;
+    /** Generic types holder. */
+    @SuppressWarnings("unused")
+    private List<Object> unsupportedField;
+
+    /**
+     * Test method for {@link ValueConverterRegistry#defaults()}.
+     */
+    @Test
+    void testDefaults() {
+        assertSame(ValueConverterRegistryImpl.DEFAULT, ValueConverterRegistry.defaults());
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Class)} with
+     * built-in types.
+     */
+    @Test
+    void testBuiltinConverters() {
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults();
+        assertEquals("value", registry.get(String.class).convert("value"));
+        assertEquals(Boolean.TRUE, registry.get(Boolean.class).convert(" On "));
+        assertEquals(Boolean.FALSE, registry.get(boolean.class).convert("no"));
+        assertEquals(Character.valueOf('v'), registry.get(Character.class).convert("value"));
+        assertEquals(Byte.valueOf((byte) 12), registry.get(byte.class).convert(" 12 "));
+        assertEquals(Short.valueOf((short) 12), registry.get(Short.class).convert("12"));
+        assertEquals(Integer.valueOf(12), registry.get(int.class).convert("12"));
+        assertEquals(Long.valueOf(12), registry.get(Long.class).convert("12"));
+        assertEquals(Float.valueOf(1.5f), registry.get(float.class).convert("1.5"));
+        assertEquals(Double.valueOf(1.5), registry.get(Double.class).convert("1.5"));
+        assertEquals(new BigDecimal("1.50"), registry.get(BigDecimal.class).convert("1.50"));
+        assertEquals(Duration.ofSeconds(30), registry.get(Duration.class).convert("PT30S"));
+        assertEquals(DataSize.ofMegabytes(2), registry.get(DataSize.class).convert("2MB"));
+        assertEquals(URI.create("https://example.org"), registry.get(URI.class).convert("https://example.org"));
+        assertEquals(Paths.get("a", "b"), registry.get(java.nio.file.Path.class).convert("a/b"));
+        assertEquals(new File("a"), registry.get(File.class).convert("a"));
+        assertEquals(StandardCharsets.UTF_8, registry.get(java.nio.charset.Charset.class).convert("UTF-8"));
+        assertEquals(Locale.forLanguageTag("es-ES"), registry.get(Locale.class).convert("es_ES"));
+        final UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, registry.get(UUID.class).convert(uuid.toString()));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Class)} with
+     * the same type.
+     */
+    @Test
+    void testFindCached() {
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults();
+        assertSame(registry.find(Integer.class), registry.find(Integer.class));
+        assertSame(registry.find(TimeUnit.class), registry.find(TimeUnit.class));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Class)} with
+     * not supported types.
+     */
+    @Test
+    void testUnsupported() {
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults();
+        assertNull(registry.find(Object.class));
+        assertNull(registry.find(Object[].class));
+        assertThrows(ConfigException.class, () -> registry.get(Object.class));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Class)} with
+     * invalid values.
+     */
+    @Test
+    void testConversionErrors() {
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults();
+        assertThrows(ConfigException.class, () -> registry.get(Integer.class).convert("a"));
+        assertThrows(ConfigException.class, () -> registry.get(Boolean.class).convert("maybe"));
+        assertThrows(ConfigException.class, () -> registry.get(Duration.class).convert("5w"));
+        assertThrows(ConfigException.class, () -> registry.get(DataSize.class).convert("5PB"));
+        assertThrows(ConfigException.class, () -> registry.get(TimeUnit.class).convert("WEEKS"));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Class)} with
+     * enumeration types.
+     */
+    @Test
+    void testEnumConverter() {
+        final ValueConverter<TimeUnit> converter = ValueConverterRegistry.defaults().get(TimeUnit.class);
+        assertSame(TimeUnit.SECONDS, converter.convert("SECONDS"));
+        assertSame(TimeUnit.SECONDS, converter.convert(" seconds "));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Class)} with
+     * array types.
+     */
+    @Test
+    void testArrayConverter() {
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults();
+        assertArrayEquals(new int[] { 1, 2, 3 }, registry.get(int[].class).convert("1, 2,3"));
+        assertArrayEquals(new String[] { "a", "b" }, registry.get(String[].class).convert("a , b"));
+        assertArrayEquals(new long[0], registry.get(long[].class).convert(" "));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#find(Type)} with
+     * collection types.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testCollectionConverter()
+    throws Exception {
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults();
+        final Type listType = getClass().getDeclaredField("listField").getGenericType();
+        final Collection<?> list = (Collection<?>) registry.find(listType).convert("3, 1, 3");
+        assertEquals(Arrays.asList(3, 1, 3), list);
+        assertThrows(UnsupportedOperationException.class, () -> list.clear());
+        final Type setType = getClass().getDeclaredField("setField").getGenericType();
+        assertEquals(
+                Arrays.asList(TimeUnit.SECONDS, TimeUnit.DAYS),
+                Arrays.asList(((Set<?>) registry.find(setType).convert("SECONDS, DAYS, SECONDS")).toArray()));
+        final Type navigableSetType = getClass().getDeclaredField("navigableSetField").getGenericType();
+        final NavigableSet<?> navigableSet = (NavigableSet<?>) registry.find(navigableSetType).convert("b, a");
+        assertEquals("a", navigableSet.first());
+        assertSame(registry.find(listType), registry.find(listType));
+        assertNull(registry.find(getClass().getDeclaredField("unsupportedField").getGenericType()));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#with(Class, ValueConverter)}.
+     */
+    @Test
+    void testWith() {
+        final ValueConverter<Integer> custom = value -> 42;
+        final ValueConverterRegistry registry = ValueConverterRegistry.defaults()
+                .with(Integer.class, custom);
+        assertNotSame(ValueConverterRegistry.defaults(), registry);
+        assertEquals(Integer.valueOf(42), registry.get(Integer.class).convert("1"));
+        assertEquals(Integer.valueOf(42), registry.get(int.class).convert("1"));
+        assertArrayEquals(new Integer[] { 42, 42 }, registry.get(Integer[].class).convert("1, 2"));
+        assertEquals(Integer.valueOf(1), ValueConverterRegistry.defaults().get(Integer.class).convert("1"));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#parseDuration(String)}.
+     */
+    @Test
+    void testParseDuration() {
+        assertEquals(Duration.ofMillis(250), ValueConverterRegistryImpl.parseDuration("250"));
+        assertEquals(Duration.ofMillis(250), ValueConverterRegistryImpl.parseDuration("250ms"));
+        assertEquals(Duration.ofNanos(5), ValueConverterRegistryImpl.parseDuration("5ns"));
+        assertEquals(Duration.ofNanos(5000), ValueConverterRegistryImpl.parseDuration("5us"));
+        assertEquals(Duration.ofSeconds(5), ValueConverterRegistryImpl.parseDuration(" 5 s "));
+        assertEquals(Duration.ofMinutes(5), ValueConverterRegistryImpl.parseDuration("5m"));
+        assertEquals(Duration.ofHours(5), ValueConverterRegistryImpl.parseDuration("5H"));
+        assertEquals(Duration.ofDays(5), ValueConverterRegistryImpl.parseDuration("5d"));
+        assertEquals(Duration.ofSeconds(-5), ValueConverterRegistryImpl.parseDuration("-5s"));
+        assertEquals(Duration.ofMinutes(2), ValueConverterRegistryImpl.parseDuration("pt2m"));
+        assertThrows(IllegalArgumentException.class, () -> ValueConverterRegistryImpl.parseDuration("5w"));
+        assertThrows(IllegalArgumentException.class, () -> ValueConverterRegistryImpl.parseDuration("s"));
+    }
+
+    /**
+     * Test method for {@link ValueConverterRegistryImpl#split(String)}.
+     */
+    @Test
+    void testSplit() {
+        assertEquals(Arrays.asList(), ValueConverterRegistryImpl.split(""));
+        assertEquals(Arrays.asList("a"), ValueConverterRegistryImpl.split(" a "));
+        assertEquals(Arrays.asList("a", "", "b"), ValueConverterRegistryImpl.split("a,,b "));
+    }
+}
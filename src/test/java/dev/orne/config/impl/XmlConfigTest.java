@@ -32,7 +32,9 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -49,6 +51,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigBuilder;
@@ -465,4 +468,69 @@ extends AbstractConfigTest {
         assertTrue(config.contains(customSeparatorKey));
         assertEquals(customSeparatorValue, config.get(customSeparatorKey));
     }
+
+    /**
+     * Tests list configuration property values stored as repeated
+     * XML elements.
+     */
+    @Test
+    void testRepeatedElementsList() {
+        final Document document = docBuilder.newDocument();
+        final Element root = document.createElement("config");
+        document.appendChild(root);
+        final Element test = document.createElement("test");
+        test.setAttribute("type", TEST_VALUES_TYPE);
+        root.appendChild(test);
+        for (final String value : List.of("value0", "value1")) {
+            final Element element = document.createElement("list");
+            element.setTextContent(value);
+            test.appendChild(element);
+        }
+        test.appendChild(document.createElement("other"));
+        final Element last = document.createElement("list");
+        last.setTextContent("value2");
+        test.appendChild(last);
+        final XmlConfigImpl config = assertInstanceOf(
+                XmlConfigImpl.class,
+                Config.fromXml()
+                    .add(document)
+                    .build());
+        assertEquals(List.of("value0", "value1", "value2"), config.getList("test.list"));
+        assertEquals(List.of(TEST_VALUES_TYPE), config.getList("test.@type"));
+        assertTrue(config.getList("test.missing").isEmpty());
+    }
+
+    /**
+     * Tests configuration property keys and entries of XML attributes
+     * created without namespace support, whose local name is
+     * {@code null}.
+     */
+    @Test
+    void testAttributeEntries() {
+        final Document document = docBuilder.newDocument();
+        final Element root = document.createElement("config");
+        document.appendChild(root);
+        final Element test = document.createElement("test");
+        test.setAttribute("type", TEST_VALUES_TYPE);
+        root.appendChild(test);
+        final Element nested = document.createElement("nested");
+        nested.setTextContent("nestedValue");
+        test.appendChild(nested);
+        assertNull(test.getAttributeNode("type").getLocalName());
+        final XmlConfigImpl config = assertInstanceOf(
+                XmlConfigImpl.class,
+                Config.fromXml()
+                    .add(document)
+                    .build());
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("test.@type", TEST_VALUES_TYPE);
+        expected.put("test.nested", "nestedValue");
+        assertEquals(expected.keySet(), config.getKeys().collect(Collectors.toSet()));
+        assertEquals(expected, config.getEntries()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        final Map<String, String> visited = new HashMap<>();
+        config.forEach(visited::put);
+        assertEquals(expected, visited);
+        expected.forEach((key, value) -> assertEquals(value, config.get(key)));
+    }
 }
@@ -0,0 +1,200 @@
+package dev.orne.config.processor;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.orne.config.Config;
+import dev.orne.config.ConfigProvider;
+import dev.orne.config.Configurable;
+import dev.orne.config.ConfigurableBinder;
+import dev.orne.config.impl.ConfigurerImpl;
+
+/**
+ * Unit tests for {@code ConfigurableBinderProcessor}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ * @see ConfigurableBinderProcessor
+ */
+@Tag("ut")
+class ConfigurableBinderProcessorTest {
+
+    private static final String BEAN_SOURCE = String.join("\n",
+            "package sample;",
+            "import dev.orne.config.*;",
+            "public class Bean implements Configurable {",
+            "    @ConfigurableProperty(\"test.int\") private int intProp = -1;",
+            "    @ConfigurableProperty(\"test.string\") private String stringProp;",
+            "    @ConfigurableProperty(\"test.protected\") private int protectedProp = -1;",
+            "    @ConfigurableProperty(\"test.error\") private Integer errorProp;",
+            "    private boolean configured;",
+            "    public void configure(Config config) { this.configured = true; }",
+            "    public boolean isConfigured() { return this.configured; }",
+            "    public int getIntProp() { return this.intProp; }",
+            "    public void setIntProp(int value) { this.intProp = value; }",
+            "    public String getStringProp() { return this.stringProp; }",
+            "    public void setStringProp(String value) { this.stringProp = value; }",
+            "    public int getProtectedProp() { return this.protectedProp; }",
+            "    protected void setProtectedProp(int value) { this.protectedProp = value; }",
+            "    public void setErrorProp(Integer value) { throw new IllegalStateException(); }",
+            "    public static class Sub extends Bean {",
+            "        @ConfigurableProperty(\"test.sub\") private boolean subProp;",
+            "        public boolean isSubProp() { return this.subProp; }",
+            "        public void setSubProp(boolean value) { this.subProp = value; }",
+            "    }",
+            "    public static class Inherited extends Sub {}",
+            "    public abstract static class Abstract extends Bean {}",
+            "    private static class Hidden extends Bean {}",
+            "}",
+            "");
+
+    private @TempDir Path tempDir;
+
+    /**
+     * Test method for {@link ConfigurableBinderProcessor#decapitalize(String)}.
+     */
+    @Test
+    void testDecapitalize() {
+        assertEquals("", ConfigurableBinderProcessor.decapitalize(""));
+        assertEquals("a", ConfigurableBinderProcessor.decapitalize("A"));
+        assertEquals("value", ConfigurableBinderProcessor.decapitalize("Value"));
+        assertEquals("xValue", ConfigurableBinderProcessor.decapitalize("xValue"));
+        assertEquals("URL", ConfigurableBinderProcessor.decapitalize("URL"));
+    }
+
+    /**
+     * Test generation of binders.
+     * 
+     * @throws Exception Shouldn't happen
+     */
+    @Test
+    void testGenerateBinders()
+    throws Exception {
+        final Path classes = compile();
+        
+        final Path services = classes.resolve(ConfigurableBinderProcessor.SERVICES_FILE);
+        assertTrue(Files.exists(services));
+        final List<String> binders = Files.readAllLines(services, StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList(
+                "sample.Bean_ConfigurableBinder",
+                "sample.Bean_Inherited_ConfigurableBinder",
+                "sample.Bean_Sub_ConfigurableBinder"),
+                binders);
+        for (final String binder : binders) {
+            assertTrue(Files.exists(classes.resolve(binder.replace('.', '/') + ".class")));
+        }
+        assertFalse(Files.exists(classes.resolve("sample/Bean_Abstract_ConfigurableBinder.class")));
+        assertFalse(Files.exists(classes.resolve("sample/Bean_Hidden_ConfigurableBinder.class")));
+    }
+
+    /**
+     * Test usage of generated binders.
+     * 
+     * @throws Exception Shouldn't happen
+     */
+    @Test
+    void testGeneratedBinders()
+    throws Exception {
+        final Path classes = compile();
+        final Map<String, String> values = new HashMap<>();
+        values.put("test.int", "10");
+        values.put("test.string", "value");
+        values.put("test.protected", "20");
+        values.put("test.error", "30");
+        values.put("test.sub", "true");
+        final Config config = Config.fromProperties().add(values).build();
+        final ConfigProvider provider = mock(ConfigProvider.class);
+        given(provider.selectConfig(any())).willReturn(config);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { classes.toUri().toURL() },
+                getClass().getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            final ConfigurerImpl configurer = new ConfigurerImpl(provider);
+            final Class<?> beanType = loader.loadClass("sample.Bean$Inherited");
+            final Configurable bean = (Configurable) beanType.getConstructor().newInstance();
+            
+            configurer.configure(bean);
+            
+            assertTrue(bean.isConfigured());
+            assertEquals(10, beanType.getMethod("getIntProp").invoke(bean));
+            assertEquals("value", beanType.getMethod("getStringProp").invoke(bean));
+            assertEquals(-1, beanType.getMethod("getProtectedProp").invoke(bean));
+            assertEquals(true, beanType.getMethod("isSubProp").invoke(bean));
+            final Map<Class<?>, ConfigurableBinder<?>> binders = new HashMap<>();
+            for (final ConfigurableBinder<?> binder : ServiceLoader.load(ConfigurableBinder.class, loader)) {
+                binders.put(binder.getBeanType(), binder);
+            }
+            assertEquals(3, binders.size());
+            assertTrue(binders.containsKey(beanType));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    /**
+     * Compiles the test bean sources with the processor.
+     * 
+     * @return The compiled classes directory
+     * @throws IOException If an I/O error occurs
+     */
+    private Path compile()
+    throws IOException {
+        final Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        final Path source = sources.resolve("Bean.java");
+        Files.write(source, BEAN_SOURCE.getBytes(StandardCharsets.UTF_8));
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler);
+        final int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", ConfigurableBinderProcessor.class.getName(),
+                "-d", classes.toString(),
+                source.toString());
+        assertEquals(0, result);
+        return classes;
+    }
+}
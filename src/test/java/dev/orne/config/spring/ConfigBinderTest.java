@@ -0,0 +1,112 @@
+package dev.orne.config.spring;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import dev.orne.config.Config;
+
+/**
+ * Unit tests for {@link ConfigBinder}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class ConfigBinderTest {
+
+    private static final String BEAN_NAME = "testConfig";
+
+    /**
+     * Creates a Spring environment with a {@code Config} based property
+     * source on top of a map based property source.
+     * 
+     * @param config The configuration bean.
+     * @return The Spring environment.
+     */
+    private static StandardEnvironment createEnvironment(
+            final Config config) {
+        final BeanFactory beanFactory = mock(BeanFactory.class);
+        given(beanFactory.getBean(BEAN_NAME, Config.class)).willReturn(config);
+        final StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource(
+                "testMap",
+                Map.of(
+                        "app.name", "from map",
+                        "app.other", "other value")));
+        environment.getPropertySources().addFirst(new ConfigLazyPropertySource(
+                ConfigPropertySource.SOURCE_PREFIX + BEAN_NAME,
+                beanFactory,
+                BEAN_NAME));
+        return environment;
+    }
+
+    /**
+     * Tests that {@code Config} based property sources are adapted
+     * with native adapters.
+     */
+    @Test
+    void testConfigurationPropertySources() {
+        final Config config = Config.fromProperties()
+                .add(Map.of("app.name", "from config"))
+                .build();
+        final ConfigBinder binder = new ConfigBinder(createEnvironment(config));
+        final List<ConfigurationPropertySource> sources =
+                binder.getConfigurationPropertySources();
+        assertInstanceOf(ConfigIterableConfigurationPropertySource.class, sources.get(0));
+        assertSame(config, sources.get(0).getUnderlyingSource());
+        assertSame(sources.get(0), binder.getConfigurationPropertySources().get(0));
+    }
+
+    /**
+     * Tests that properties are bound with the precedence of the property
+     * sources of the environment.
+     */
+    @Test
+    void testBind() {
+        final Config config = Config.fromProperties()
+                .add(Map.of(
+                        "app.name", "from config",
+                        "app.server.maxSize", "10",
+                        "app.description", "${app.other}"))
+                .build();
+        final ConfigBinder binder = new ConfigBinder(createEnvironment(config));
+        assertEquals("from config", binder.bind("app.name", String.class).get());
+        assertEquals(10, binder.bind("app.server.max-size", Integer.class).get());
+        assertEquals("other value", binder.bind("app.other", String.class).get());
+        assertEquals("other value", binder.bind("app.description", String.class).get());
+        assertFalse(binder.bind("app.missing", String.class).isBound());
+    }
+}
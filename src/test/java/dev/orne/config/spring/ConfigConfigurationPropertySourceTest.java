@@ -0,0 +1,163 @@
+package dev.orne.config.spring;
+
+/*-
+ * #%L
+ * Orne Config
+ * %%
+ * Copyright (C) 2019 - 2025 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+
+import dev.orne.config.Config;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.NonIterableConfigException;
+
+/**
+ * Unit tests for {@link ConfigConfigurationPropertySource} and
+ * {@link ConfigIterableConfigurationPropertySource}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0
+ * @since 1.2
+ */
+@Tag("ut")
+class ConfigConfigurationPropertySourceTest {
+
+    /**
+     * Tests that iterable configurations are adapted with indexed
+     * property names.
+     */
+    @Test
+    void givenIterableConfig_whenFrom_thenIterableAdapter() {
+        final Config config = Config.fromProperties()
+                .add(Map.of(
+                        "app.server.maxSize", "10",
+                        "app.name", "test"))
+                .build();
+        final ConfigConfigurationPropertySource source =
+                ConfigConfigurationPropertySource.from(config);
+        final ConfigIterableConfigurationPropertySource iterable = assertInstanceOf(
+                ConfigIterableConfigurationPropertySource.class,
+                source);
+        assertSame(config, source.getUnderlyingSource());
+        assertEquals(
+                Set.of(
+                        ConfigurationPropertyName.of("app.server.max-size"),
+                        ConfigurationPropertyName.of("app.name")),
+                iterable.stream().collect(Collectors.toSet()));
+        final ConfigurationProperty property = source.getConfigurationProperty(
+                ConfigurationPropertyName.of("app.server.max-size"));
+        assertNotNull(property);
+        assertEquals("10", property.getValue());
+        assertNull(source.getConfigurationProperty(
+                ConfigurationPropertyName.of("app.missing")));
+        assertEquals(
+                ConfigurationPropertyState.PRESENT,
+                source.containsDescendantOf(ConfigurationPropertyName.of("app")));
+        assertEquals(
+                ConfigurationPropertyState.PRESENT,
+                source.containsDescendantOf(ConfigurationPropertyName.of("app.server")));
+        assertEquals(
+                ConfigurationPropertyState.ABSENT,
+                source.containsDescendantOf(ConfigurationPropertyName.of("app.name")));
+        assertEquals(
+                ConfigurationPropertyState.ABSENT,
+                source.containsDescendantOf(ConfigurationPropertyName.of("other")));
+        assertEquals(
+                ConfigurationPropertyState.PRESENT,
+                source.containsDescendantOf(ConfigurationPropertyName.EMPTY));
+    }
+
+    /**
+     * Tests that the index of watchable configurations is rebuilt after
+     * configuration changes.
+     */
+    @Test
+    void givenWatchableConfig_whenConfigChanges_thenIndexRebuilt() {
+        final MutableConfig config = Config.fromProperties()
+                .add(Map.of("app.name", "test"))
+                .mutable()
+                .build();
+        final ConfigConfigurationPropertySource source =
+                ConfigConfigurationPropertySource.from(config);
+        assertInstanceOf(ConfigIterableConfigurationPropertySource.class, source);
+        final ConfigurationPropertyName other = ConfigurationPropertyName.of("other");
+        assertEquals(
+                ConfigurationPropertyState.ABSENT,
+                source.containsDescendantOf(other));
+        config.set("other.key", "value");
+        assertEquals(
+                ConfigurationPropertyState.PRESENT,
+                source.containsDescendantOf(other));
+        config.remove("app.name");
+        assertNull(source.getConfigurationProperty(
+                ConfigurationPropertyName.of("app.name")));
+    }
+
+    /**
+     * Tests that non iterable configurations are adapted without index.
+     */
+    @Test
+    void givenNonIterableConfig_whenFrom_thenNonIterableAdapter() {
+        final Config config = mock(Config.class);
+        given(config.getKeys()).willThrow(new NonIterableConfigException());
+        given(config.getUndecored("app.name")).willReturn("test");
+        final ConfigConfigurationPropertySource source =
+                ConfigConfigurationPropertySource.from(config);
+        assertEquals(ConfigConfigurationPropertySource.class, source.getClass());
+        final ConfigurationProperty property = source.getConfigurationProperty(
+                ConfigurationPropertyName.of("app.name"));
+        assertNotNull(property);
+        assertEquals("test", property.getValue());
+        assertNull(source.getConfigurationProperty(
+                ConfigurationPropertyName.of("app.missing")));
+        assertEquals(
+                ConfigurationPropertyState.UNKNOWN,
+                source.containsDescendantOf(ConfigurationPropertyName.of("app")));
+    }
+
+    /**
+     * Tests {@code equals()} and {@code hashCode()} methods implementations.
+     */
+    @Test
+    void testEqualsAndHashCode() {
+        final Config config = mock(Config.class);
+        final ConfigConfigurationPropertySource source =
+                new ConfigConfigurationPropertySource(config);
+        assertEquals(source, source);
+        assertNotEquals(source, (Object) null);
+        assertNotEquals(source, new Object());
+        assertNotEquals(source, new ConfigConfigurationPropertySource(mock(Config.class)));
+        final ConfigConfigurationPropertySource other =
+                new ConfigConfigurationPropertySource(config);
+        assertEquals(source, other);
+        assertEquals(source.hashCode(), other.hashCode());
+    }
+}
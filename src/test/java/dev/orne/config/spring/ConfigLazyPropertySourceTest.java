@@ -25,6 +25,9 @@ package dev.orne.config.spring;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -36,6 +39,8 @@ import org.springframework.core.env.PropertySource;
 
 import dev.orne.config.Config;
 import dev.orne.config.ConfigException;
+import dev.orne.config.MutableConfig;
+import dev.orne.config.NonIterableConfigException;
 
 /**
  * Unit tests for {@link ConfigLazyPropertySource}.
@@ -125,6 +130,82 @@ class ConfigLazyPropertySourceTest {
         then(beanFactory).should(times(1)).getBean(beanName, Config.class);
     }
 
+    /**
+     * Tests that iterable configurations property names are enumerated.
+     */
+    @Test
+    void givenIterableConfig_whenGetPropertyNames_thenReturnsConfigKeys() {
+        final Config parent = Config.fromProperties()
+                .add(Map.of("parent.key", "parent.value"))
+                .build();
+        final Config real = Config.fromProperties()
+                .withParent(parent)
+                .add(Map.of("key", "value"))
+                .build();
+        when(beanFactory.getBean(beanName, Config.class)).thenReturn(real);
+        assertEquals(
+                Set.of("key", "parent.key"),
+                Set.of(propertySource.getPropertyNames()));
+    }
+
+    /**
+     * Tests that after a missing property lookup following lookups of
+     * missing properties are not delegated to the configuration.
+     */
+    @Test
+    void givenIterableConfig_whenMissingProperty_thenIndexesKeys() {
+        final Config real = spy(Config.fromProperties()
+                .add(Map.of("key", "value"))
+                .build());
+        when(beanFactory.getBean(beanName, Config.class)).thenReturn(real);
+        assertFalse(propertySource.containsProperty("missing"));
+        assertNull(propertySource.getProperty("missing"));
+        assertNull(propertySource.getProperty("other"));
+        assertTrue(propertySource.containsProperty("key"));
+        assertEquals("value", propertySource.getProperty("key"));
+        then(real).should(times(1)).contains("missing");
+        then(real).should(never()).getUndecored("missing");
+        then(real).should(never()).getUndecored("other");
+        then(real).should(times(1)).getKeys();
+    }
+
+    /**
+     * Tests that the property keys index is rebuilt after changes of
+     * watchable configurations.
+     */
+    @Test
+    void givenWatchableConfig_whenConfigChanges_thenRebuildsIndex() {
+        final MutableConfig real = Config.fromProperties()
+                .add(Map.of("key", "value"))
+                .mutable()
+                .build();
+        when(beanFactory.getBean(beanName, Config.class)).thenReturn(real);
+        assertFalse(propertySource.containsProperty("added"));
+        real.set("added", "added value");
+        assertTrue(propertySource.containsProperty("added"));
+        assertEquals("added value", propertySource.getProperty("added"));
+        real.remove("key");
+        assertFalse(propertySource.containsProperty("key"));
+        assertNull(propertySource.getProperty("key"));
+        assertArrayEquals(new String[] { "added" }, propertySource.getPropertyNames());
+    }
+
+    /**
+     * Tests that lookups of non iterable configurations are delegated
+     * to the configuration and no property names are enumerated.
+     */
+    @Test
+    void givenNonIterableConfig_whenMissingProperty_thenDelegatesToConfigBean() {
+        when(beanFactory.getBean(beanName, Config.class)).thenReturn(config);
+        given(config.getKeys()).willThrow(new NonIterableConfigException());
+        given(config.getUndecored("key")).willReturn("value");
+        assertFalse(propertySource.containsProperty("missing"));
+        assertFalse(propertySource.containsProperty("missing"));
+        assertEquals("value", propertySource.getProperty("key"));
+        assertEquals(0, propertySource.getPropertyNames().length);
+        then(config).should(times(2)).contains("missing");
+    }
+
     /**
      * Tests {@code equals()} and {@code hashCode()} methods implementations.
      */
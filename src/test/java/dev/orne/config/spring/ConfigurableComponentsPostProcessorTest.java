@@ -25,10 +25,18 @@ package dev.orne.config.spring;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Collection;
+
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import dev.orne.config.Config;
 import dev.orne.config.Configurer;
 import dev.orne.config.Configurable;
+import dev.orne.config.impl.ConfigurerImpl;
 
 /**
  * Unit tests for {@link ConfigurableComponentsPostProcessor}.
@@ -70,4 +78,53 @@ class ConfigurableComponentsPostProcessorTest {
         then(configurer).should(never()).configure(any());
         assertSame(bean, result);
     }
+
+    /**
+     * Test that when parallel initialization is enabled the configurable
+     * properties of the {@code Configurable} beans defined in the bean
+     * factory are prepared.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenParallelInitialization_thenSetBeanFactory_thenPrepareConfigurableTypes() {
+        final ConfigurerImpl configurer = mock(ConfigurerImpl.class);
+        final ConfigurableComponentsPostProcessor postProcessor = new ConfigurableComponentsPostProcessor(configurer, true);
+        assertTrue(postProcessor.isParallelInitialization());
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("configurable", new RootBeanDefinition(TestConfigurable.class));
+        beanFactory.registerBeanDefinition("other", new RootBeanDefinition(Object.class));
+        postProcessor.setBeanFactory(beanFactory);
+        final ArgumentCaptor<Collection<Class<?>>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(configurer).should().prepareAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertTrue(captor.getValue().contains(TestConfigurable.class));
+    }
+
+    /**
+     * Test that when parallel initialization is disabled the configurable
+     * properties of the beans are not prepared.
+     */
+    @Test
+    void givenNoParallelInitialization_thenSetBeanFactory_thenNoPreparation() {
+        final ConfigurerImpl configurer = mock(ConfigurerImpl.class);
+        final ConfigurableComponentsPostProcessor postProcessor = new ConfigurableComponentsPostProcessor(configurer);
+        assertFalse(postProcessor.isParallelInitialization());
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("configurable", new RootBeanDefinition(TestConfigurable.class));
+        postProcessor.setBeanFactory(beanFactory);
+        then(configurer).should(never()).prepareAll(any());
+    }
+
+    public static class TestConfigurable
+    implements Configurable {
+        private boolean configured;
+        @Override
+        public void configure(Config config) {
+            this.configured = true;
+        }
+        @Override
+        public boolean isConfigured() {
+            return this.configured;
+        }
+    }
 }
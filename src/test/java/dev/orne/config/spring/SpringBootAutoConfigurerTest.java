@@ -75,6 +75,7 @@ class SpringBootAutoConfigurerTest {
         contextRunner.run(context -> {
             assertNotNull(context.getBean(ConfigAutowireCandidateResolverConfigurer.class));
             assertNotNull(context.getBean(ConfigurableComponentsConfigurer.class));
+            assertNotNull(context.getBean(ConfigBinder.class));
         });
     }
 
@@ -91,6 +92,9 @@ class SpringBootAutoConfigurerTest {
             assertThrows(
                     NoSuchBeanDefinitionException.class,
                     () -> context.getBean(ConfigurableComponentsConfigurer.class));
+            assertThrows(
+                    NoSuchBeanDefinitionException.class,
+                    () -> context.getBean(ConfigBinder.class));
         });
     }
 
@@ -121,4 +125,19 @@ class SpringBootAutoConfigurerTest {
                     () -> context.getBean(ConfigurableComponentsConfigurer.class));
         });
     }
+
+    /**
+     * Tests that disabling configuration properties binder works.
+     */
+    @Test
+    void testDisableBinder() {
+        contextRunner.withPropertyValues(
+                SpringBootAutoConfigurer.BINDER_ENABLED + "=false").run(context -> {
+            assertNotNull(context.getBean(ConfigAutowireCandidateResolverConfigurer.class));
+            assertNotNull(context.getBean(ConfigurableComponentsConfigurer.class));
+            assertThrows(
+                    NoSuchBeanDefinitionException.class,
+                    () -> context.getBean(ConfigBinder.class));
+        });
+    }
 }